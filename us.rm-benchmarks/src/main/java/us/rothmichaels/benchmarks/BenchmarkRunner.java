@@ -0,0 +1,87 @@
+/*
+ * BenchmarkRunner.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ * 
+ * <p>
+ * Accepts the standard JMH command line (e.g. a benchmark regex,
+ * {@code -p size=1000}, {@code -f 1}) and always attaches the
+ * {@link GCProfiler} so every run reports allocation rates
+ * ({@code gc.alloc.rate.norm}) next to throughput.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * Run the benchmarks.
+	 * 
+	 * @param args
+	 *            JMH command line options
+	 * 
+	 * @throws CommandLineOptionException
+	 *             if {@code args} can not be parsed
+	 * @throws RunnerException
+	 *             if a benchmark run fails
+	 */
+	public static void main(String[] args) throws CommandLineOptionException,
+			RunnerException {
+		new Runner(new OptionsBuilder().parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private BenchmarkRunner() {
+		throw new AssertionError();
+	}
+}
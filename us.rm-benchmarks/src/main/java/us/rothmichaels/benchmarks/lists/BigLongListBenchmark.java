@@ -0,0 +1,129 @@
+/*
+ * BigLongListBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.BigLongList;
+import us.rothmichaels.lists.LongArrayList;
+
+/**
+ * Benchmarks for {@link BigLongList} with {@link LongArrayList} as the
+ * baseline: appending (page allocation against copy-on-grow) and indexed
+ * reads (the extra shift and mask per access).
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigLongListBenchmark {
+
+	@Param({ "1000", "1000000" })
+	int size;
+
+	BigLongList list;
+	LongArrayList baseline;
+
+	@Setup
+	public void setUp() {
+		list = new BigLongList();
+		baseline = new LongArrayList();
+		for (int i = 0; i < size; ++i) {
+			list.add(i);
+			baseline.add(i);
+		}
+	}
+
+	@Benchmark
+	public BigLongList append() {
+		final BigLongList l = new BigLongList();
+		for (int i = 0; i < size; ++i) {
+			l.add(i);
+		}
+		return l;
+	}
+
+	@Benchmark
+	public LongArrayList appendBaseline() {
+		final LongArrayList l = new LongArrayList();
+		for (int i = 0; i < size; ++i) {
+			l.add(i);
+		}
+		return l;
+	}
+
+	@Benchmark
+	public long get() {
+		long sum = 0;
+		for (long i = 0; i < size; ++i) {
+			sum += list.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getBaseline() {
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += baseline.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long parallelSum() {
+		return list.parallelStream().sum();
+	}
+}
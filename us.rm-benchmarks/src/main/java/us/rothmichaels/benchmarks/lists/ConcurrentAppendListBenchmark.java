@@ -0,0 +1,140 @@
+/*
+ * ConcurrentAppendListBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.ConcurrentIntAppendList;
+import us.rothmichaels.lists.IntArrayList;
+import us.rothmichaels.lists.StripedIntListBuilder;
+
+/**
+ * Benchmarks for {@link ConcurrentIntAppendList} and
+ * {@link StripedIntListBuilder} under contention, with an
+ * {@link IntArrayList} guarded by a lock as the baseline.
+ * 
+ * <p>
+ * The lists are shared by every benchmark thread and replaced each
+ * iteration, so their memory stays bounded by one iteration's adds.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ConcurrentAppendListBenchmark {
+
+	/**
+	 * Elements in each {@code addAll} batch.
+	 */
+	static final int BATCH = 64;
+
+	ConcurrentIntAppendList list;
+	StripedIntListBuilder striped;
+	IntArrayList baseline;
+	int[] batch;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		list = new ConcurrentIntAppendList();
+		striped = new StripedIntListBuilder();
+		baseline = new IntArrayList();
+		batch = new int[BATCH];
+		for (int i = 0; i < BATCH; ++i) {
+			batch[i] = i;
+		}
+	}
+
+	@Benchmark
+	public ConcurrentIntAppendList add() {
+		list.add(42);
+		return list;
+	}
+
+	@Benchmark
+	public StripedIntListBuilder addStriped() {
+		striped.add(42);
+		return striped;
+	}
+
+	@Benchmark
+	public IntArrayList addBaseline() {
+		synchronized (baseline) {
+			baseline.add(42);
+		}
+		return baseline;
+	}
+
+	@Benchmark
+	public ConcurrentIntAppendList addAll() {
+		list.addAll(batch, 0, BATCH);
+		return list;
+	}
+
+	@Benchmark
+	public StripedIntListBuilder addAllStriped() {
+		striped.addAll(batch, 0, BATCH);
+		return striped;
+	}
+
+	@Benchmark
+	public IntArrayList addAllBaseline() {
+		synchronized (baseline) {
+			baseline.addAll(batch, 0, BATCH);
+		}
+		return baseline;
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * DoubleArrayListBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.DoubleArrayList;
+import us.rothmichaels.lists.IPrimativeDoubleList;
+
+/**
+ * Benchmarks for {@link DoubleArrayList} with {@code ArrayList<Double>} as the
+ * baseline. The reduction and kernel benchmarks ({@code sum}, {@code dot},
+ * {@code axpy}) are compared with the same loop written over
+ * {@code get(int)} instead.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleArrayListBenchmark {
+
+	/**
+	 * Length of the windows taken by the sub list benchmarks.
+	 */
+	static final int SUB_LIST_SIZE = 8;
+
+	@Param({ "1000", "100000" })
+	int size;
+
+	DoubleArrayList list;
+	DoubleArrayList source;
+	List<Double> baseline;
+	List<Double> baselineSource;
+
+	int middle;
+	double hit;
+	double miss;
+
+	@Setup
+	public void setUp() {
+		list = new DoubleArrayList();
+		source = new DoubleArrayList();
+		baseline = new ArrayList<Double>();
+		baselineSource = new ArrayList<Double>();
+		for (int i = 0; i < size; ++i) {
+			list.add(i);
+			source.add(i);
+			baseline.add((double) i);
+			baselineSource.add((double) i);
+		}
+		middle = size / 2;
+		hit = middle;
+		miss = -1;
+	}
+
+	@Benchmark
+	public DoubleArrayList add() {
+		final DoubleArrayList out = new DoubleArrayList();
+		for (int i = 0; i < size; ++i) {
+			out.add(i);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public List<Double> addBaseline() {
+		final List<Double> out = new ArrayList<Double>();
+		for (int i = 0; i < size; ++i) {
+			out.add((double) i);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public boolean insertRemove() {
+		list.add(middle, 42d);
+		return list.remove(middle);
+	}
+
+	@Benchmark
+	public Double insertRemoveBaseline() {
+		baseline.add(middle, 42d);
+		return baseline.remove(middle);
+	}
+
+	@Benchmark
+	public double get() {
+		double sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += list.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double getBaseline() {
+		double sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += baseline.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double sum() {
+		return list.sum();
+	}
+
+	@Benchmark
+	public double kahanSum() {
+		return list.kahanSum();
+	}
+
+	@Benchmark
+	public double dot() {
+		return list.dot(source);
+	}
+
+	@Benchmark
+	public double dotBaseline() {
+		double sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += list.get(i) * source.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public DoubleArrayList axpy() {
+		list.axpy(1e-9, source);
+		return list;
+	}
+
+	@Benchmark
+	public DoubleArrayList axpyBaseline() {
+		for (int i = 0; i < size; ++i) {
+			list.set(i, list.get(i) + 1e-9 * source.get(i));
+		}
+		return list;
+	}
+
+	@Benchmark
+	public boolean containsHit() {
+		return list.contains(hit);
+	}
+
+	@Benchmark
+	public boolean containsHitBaseline() {
+		return baseline.contains(hit);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return list.contains(miss);
+	}
+
+	@Benchmark
+	public boolean containsMissBaseline() {
+		return baseline.contains(miss);
+	}
+
+	@Benchmark
+	public DoubleArrayList addAll() {
+		final DoubleArrayList out = new DoubleArrayList();
+		out.addAll(source);
+		return out;
+	}
+
+	@Benchmark
+	public List<Double> addAllBaseline() {
+		final List<Double> out = new ArrayList<Double>();
+		out.addAll(baselineSource);
+		return out;
+	}
+
+	@Benchmark
+	public IPrimativeDoubleList subList() {
+		return list.subList(middle, middle + SUB_LIST_SIZE);
+	}
+
+	@Benchmark
+	public List<Double> subListBaseline() {
+		return new ArrayList<Double>(baseline.subList(middle, middle
+				+ SUB_LIST_SIZE));
+	}
+}
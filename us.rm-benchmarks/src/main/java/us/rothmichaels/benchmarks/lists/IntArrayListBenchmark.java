@@ -0,0 +1,423 @@
+/*
+ * IntArrayListBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.IPrimativeIntList;
+import us.rothmichaels.lists.ImmutableIntList;
+import us.rothmichaels.lists.IntArrayList;
+import us.rothmichaels.lists.IntCursor;
+
+/**
+ * Benchmarks for {@link IntArrayList} with {@code ArrayList<Integer>} as the
+ * baseline.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntArrayListBenchmark {
+
+	/**
+	 * Length of the windows taken by the sub list benchmarks.
+	 */
+	static final int SUB_LIST_SIZE = 8;
+
+	/**
+	 * Number of elements written to the reused buffer between clears.
+	 */
+	static final int BUFFER_USE = 16;
+
+	/**
+	 * Number of buckets counted by the histogram benchmarks.
+	 */
+	static final int BUCKETS = 64;
+
+	@Param({ "1000", "100000" })
+	int size;
+
+	IntArrayList list;
+	IntArrayList source;
+	IntArrayList buffer;
+	ImmutableIntList immutable;
+	List<Integer> baseline;
+	List<Integer> baselineSource;
+
+	int middle;
+	int hit;
+	int miss;
+	int[] candidates;
+	int[] positions;
+	IntArrayList evens;
+	int[] values;
+	int[] counts;
+	long bucketWidth;
+
+	@Setup
+	public void setUp() {
+		list = new IntArrayList();
+		source = new IntArrayList();
+		buffer = new IntArrayList();
+		buffer.ensureCapacity(size);
+		baseline = new ArrayList<Integer>();
+		baselineSource = new ArrayList<Integer>();
+		for (int i = 0; i < size; ++i) {
+			list.add(i);
+			source.add(i);
+			baseline.add(i);
+			baselineSource.add(i);
+		}
+		immutable = source.toImmutable();
+		middle = size / 2;
+		hit = middle;
+		miss = -1;
+		candidates = new int[] { miss, -2, -3, hit };
+		evens = new IntArrayList();
+		for (int i = 0; i < size; i += 2) {
+			evens.add(i);
+		}
+		positions = new int[SUB_LIST_SIZE];
+		values = new int[SUB_LIST_SIZE];
+		for (int k = 0; k < SUB_LIST_SIZE; ++k) {
+			positions[k] = k * (size / SUB_LIST_SIZE);
+			values[k] = -k;
+		}
+		counts = new int[BUCKETS];
+		bucketWidth = size / BUCKETS + 1;
+	}
+
+	@Benchmark
+	public IntArrayList add() {
+		final IntArrayList out = new IntArrayList();
+		for (int i = 0; i < size; ++i) {
+			out.add(i);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public List<Integer> addBaseline() {
+		final List<Integer> out = new ArrayList<Integer>();
+		for (int i = 0; i < size; ++i) {
+			out.add(i);
+		}
+		return out;
+	}
+
+	/**
+	 * A buffer sized for the worst case but mostly lightly used; clearing
+	 * should cost the elements written, not the capacity.
+	 */
+	@Benchmark
+	public IntArrayList clearReused() {
+		for (int i = 0; i < BUFFER_USE; ++i) {
+			buffer.add(i);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	@Benchmark
+	public boolean insertRemove() {
+		list.add(middle, 42);
+		return list.remove(middle);
+	}
+
+	@Benchmark
+	public Integer insertRemoveBaseline() {
+		baseline.add(middle, 42);
+		return baseline.remove(middle);
+	}
+
+	@Benchmark
+	public long get() {
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += list.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long cursor() {
+		long sum = 0;
+		final IntCursor c = list.cursor();
+		while (c.next()) {
+			sum += c.value();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long forEach() {
+		final long[] sum = new long[1];
+		list.forEach(v -> sum[0] += v);
+		return sum[0];
+	}
+
+	@Benchmark
+	public long iterator() {
+		long sum = 0;
+		for (final PrimitiveIterator.OfInt it = list.iterator(); it.hasNext();) {
+			sum += it.nextInt();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getImmutable() {
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += immutable.get(i);
+		}
+		return sum;
+	}
+
+	/**
+	 * Publishing a list by handing over its array, against the defensive
+	 * {@code toArray()} copy it replaces.
+	 */
+	@Benchmark
+	public ImmutableIntList freeze() {
+		final IntArrayList out = new IntArrayList(size);
+		out.addAll(source);
+		return out.freeze();
+	}
+
+	@Benchmark
+	public int[] freezeBaseline() {
+		final IntArrayList out = new IntArrayList(size);
+		out.addAll(source);
+		return out.toArray();
+	}
+
+	@Benchmark
+	public long getBaseline() {
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += baseline.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public boolean containsHit() {
+		return list.contains(hit);
+	}
+
+	@Benchmark
+	public boolean containsHitBaseline() {
+		return baseline.contains(hit);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return list.contains(miss);
+	}
+
+	@Benchmark
+	public boolean containsMissBaseline() {
+		return baseline.contains(miss);
+	}
+
+	@Benchmark
+	public boolean containsAny() {
+		return list.containsAny(candidates);
+	}
+
+	@Benchmark
+	public IPrimativeIntList indexOfAll() {
+		return list.indexOfAll(hit);
+	}
+
+	@Benchmark
+	public IntArrayList addAll() {
+		final IntArrayList out = new IntArrayList();
+		out.addAll(source);
+		return out;
+	}
+
+	@Benchmark
+	public List<Integer> addAllBaseline() {
+		final List<Integer> out = new ArrayList<Integer>();
+		out.addAll(baselineSource);
+		return out;
+	}
+
+	@Benchmark
+	public IntArrayList addAllMiddle() {
+		final IntArrayList out = new IntArrayList(size);
+		out.addAll(list);
+		out.addAll(middle, source);
+		return out;
+	}
+
+	@Benchmark
+	public List<Integer> addAllMiddleBaseline() {
+		final List<Integer> out = new ArrayList<Integer>(size);
+		out.addAll(baseline);
+		out.addAll(middle, baselineSource);
+		return out;
+	}
+
+	@Benchmark
+	public IntArrayList insertAll() {
+		final IntArrayList out = new IntArrayList(size);
+		out.addAll(list);
+		out.insertAll(positions, values);
+		return out;
+	}
+
+	@Benchmark
+	public IntArrayList insertAllRepeatedAdd() {
+		final IntArrayList out = new IntArrayList(size);
+		out.addAll(list);
+		for (int k = 0; k < SUB_LIST_SIZE; ++k) {
+			out.add(positions[k] + k, values[k]);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public IntArrayList removeIf() {
+		final IntArrayList out = new IntArrayList(size);
+		out.addAll(list);
+		out.removeIf(v -> (v & 1) == 0);
+		return out;
+	}
+
+	@Benchmark
+	public List<Integer> removeIfBaseline() {
+		final List<Integer> out = new ArrayList<Integer>(baseline);
+		out.removeIf(v -> (v & 1) == 0);
+		return out;
+	}
+
+	@Benchmark
+	public IntArrayList retainAllList() {
+		final IntArrayList out = new IntArrayList(size);
+		out.addAll(list);
+		out.retainAll(evens);
+		return out;
+	}
+
+	@Benchmark
+	public IPrimativeIntList subList() {
+		return list.subList(middle, middle + SUB_LIST_SIZE);
+	}
+
+	@Benchmark
+	public long subListSum() {
+		final long[] sum = new long[1];
+		list.subList(middle, middle + SUB_LIST_SIZE).forEach(v -> sum[0] += v);
+		return sum[0];
+	}
+
+	@Benchmark
+	public IntArrayList subListCopyOf() {
+		return IntArrayList.copyOf(list.subList(middle, middle
+				+ SUB_LIST_SIZE));
+	}
+
+	@Benchmark
+	public List<Integer> subListBaseline() {
+		return new ArrayList<Integer>(baseline.subList(middle, middle
+				+ SUB_LIST_SIZE));
+	}
+
+	@Benchmark
+	public long sum() {
+		return list.sum();
+	}
+
+	@Benchmark
+	public int countInRange() {
+		return list.countInRange(hit, hit + size / 4);
+	}
+
+	@Benchmark
+	public int countInRangeBaseline() {
+		final int lo = hit;
+		final int hi = hit + size / 4;
+		int n = 0;
+		for (int i = 0; i < size; ++i) {
+			final int v = list.get(i);
+			if (v >= lo && v <= hi) {
+				++n;
+			}
+		}
+		return n;
+	}
+
+	@Benchmark
+	public int[] histogram() {
+		Arrays.fill(counts, 0);
+		return list.histogram(0, bucketWidth, counts);
+	}
+
+	@Benchmark
+	public int[] histogramBaseline() {
+		Arrays.fill(counts, 0);
+		for (int i = 0; i < size; ++i) {
+			++counts[(int) Math.min(list.get(i) / bucketWidth, BUCKETS - 1)];
+		}
+		return counts;
+	}
+}
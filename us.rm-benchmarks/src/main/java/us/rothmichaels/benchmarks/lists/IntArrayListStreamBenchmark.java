@@ -0,0 +1,151 @@
+/*
+ * IntArrayListStreamBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.IntArrayList;
+import us.rothmichaels.lists.IntCursor;
+
+/**
+ * Benchmarks for the streams and parallel bulk operations of
+ * {@link IntArrayList}, against a sequential loop and against streams over
+ * {@code ArrayList<Integer>}.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntArrayListStreamBenchmark {
+
+	@Param({ "1000", "100000", "10000000" })
+	int size;
+
+	IntArrayList list;
+	List<Integer> baseline;
+	int[] unsorted;
+
+	@Setup
+	public void setUp() {
+		list = new IntArrayList();
+		baseline = new ArrayList<Integer>();
+		unsorted = new int[size];
+		int seed = 0x2545F491;
+		for (int i = 0; i < size; ++i) {
+			seed ^= seed << 13;
+			seed ^= seed >>> 17;
+			seed ^= seed << 5;
+			list.add(i);
+			baseline.add(i);
+			unsorted[i] = seed;
+		}
+	}
+
+	@Benchmark
+	public long sumLoop() {
+		long sum = 0;
+		final IntCursor c = list.cursor();
+		while (c.next()) {
+			sum += c.value();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long streamSum() {
+		return list.stream().asLongStream().sum();
+	}
+
+	@Benchmark
+	public long parallelSum() {
+		return list.parallelSum();
+	}
+
+	@Benchmark
+	public long parallelSumBaseline() {
+		return baseline.parallelStream().mapToLong(Integer::longValue).sum();
+	}
+
+	@Benchmark
+	public int parallelMax() {
+		return list.parallelMax();
+	}
+
+	@Benchmark
+	public IntArrayList parallelReplaceAll() {
+		list.parallelReplaceAll(v -> v ^ 1);
+		return list;
+	}
+
+	@Benchmark
+	public IntArrayList parallelSort() {
+		final IntArrayList out = new IntArrayList(size);
+		for (final int v : unsorted) {
+			out.add(v);
+		}
+		out.parallelSort();
+		return out;
+	}
+
+	@Benchmark
+	public int[] sortBaseline() {
+		final int[] out = unsorted.clone();
+		Arrays.sort(out);
+		return out;
+	}
+}
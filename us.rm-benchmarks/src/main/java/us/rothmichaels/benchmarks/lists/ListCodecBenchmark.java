@@ -0,0 +1,140 @@
+/*
+ * ListCodecBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.IntArrayList;
+
+/**
+ * Benchmarks for the binary list codec of {@link IntArrayList}, with
+ * element-by-element {@link DataOutputStream}/{@link DataInputStream} as the
+ * baseline.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListCodecBenchmark {
+
+	@Param({ "1000", "100000" })
+	int size;
+
+	IntArrayList list;
+	ByteArrayOutputStream out;
+	byte[] encoded;
+	byte[] baselineEncoded;
+
+	@Setup
+	public void setUp() throws IOException {
+		list = new IntArrayList();
+		for (int i = 0; i < size; ++i) {
+			list.add(i * 31);
+		}
+		out = new ByteArrayOutputStream(size * 4 + 64);
+		list.writeTo(Channels.newChannel(out));
+		encoded = out.toByteArray();
+		out.reset();
+		final DataOutputStream data = new DataOutputStream(out);
+		writeBaseline(data);
+		baselineEncoded = out.toByteArray();
+	}
+
+	@Benchmark
+	public int write() throws IOException {
+		out.reset();
+		list.writeTo(Channels.newChannel(out));
+		return out.size();
+	}
+
+	@Benchmark
+	public int writeBaseline() throws IOException {
+		out.reset();
+		writeBaseline(new DataOutputStream(out));
+		return out.size();
+	}
+
+	@Benchmark
+	public IntArrayList read() throws IOException {
+		return IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(
+				encoded)));
+	}
+
+	@Benchmark
+	public IntArrayList readBaseline() throws IOException {
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+				baselineEncoded));
+		final int n = in.readInt();
+		final IntArrayList read = new IntArrayList(Math.max(n, 1));
+		for (int i = 0; i < n; ++i) {
+			read.add(in.readInt());
+		}
+		return read;
+	}
+
+	private void writeBaseline(DataOutputStream data) throws IOException {
+		data.writeInt(list.size());
+		for (int i = 0; i < list.size(); ++i) {
+			data.writeInt(list.get(i));
+		}
+		data.flush();
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * PackedBooleanListBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.BooleanArrayList;
+import us.rothmichaels.lists.PackedBooleanList;
+
+/**
+ * Benchmarks for {@link PackedBooleanList} with {@link BooleanArrayList} as
+ * the baseline.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedBooleanListBenchmark {
+
+	@Param({ "1000", "1000000" })
+	int size;
+
+	PackedBooleanList list;
+	PackedBooleanList mask;
+	PackedBooleanList allFalse;
+	BooleanArrayList baseline;
+	BooleanArrayList baselineMask;
+	BooleanArrayList baselineAllFalse;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		list = new PackedBooleanList();
+		mask = new PackedBooleanList();
+		allFalse = new PackedBooleanList();
+		baseline = new BooleanArrayList();
+		baselineMask = new BooleanArrayList();
+		baselineAllFalse = new BooleanArrayList();
+		for (int i = 0; i < size; ++i) {
+			final boolean value = random.nextInt(4) == 0;
+			final boolean m = random.nextBoolean();
+			list.add(value);
+			mask.add(m);
+			allFalse.add(false);
+			baseline.add(value);
+			baselineMask.add(m);
+			baselineAllFalse.add(false);
+		}
+	}
+
+	@Benchmark
+	public int countTrue() {
+		return list.countTrue();
+	}
+
+	@Benchmark
+	public int countTrueBaseline() {
+		int count = 0;
+		for (int i = 0; i < size; ++i) {
+			if (baseline.get(i)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return allFalse.contains(true);
+	}
+
+	@Benchmark
+	public boolean containsMissBaseline() {
+		return baselineAllFalse.contains(true);
+	}
+
+	@Benchmark
+	public int scanSetBits() {
+		int sum = 0;
+		for (int i = list.nextSetBit(0); i >= 0; i = list.nextSetBit(i + 1)) {
+			sum += i;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int scanSetBitsBaseline() {
+		int sum = 0;
+		for (int i = 0; i < size; ++i) {
+			if (baseline.get(i)) {
+				sum += i;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public PackedBooleanList and() {
+		list.and(mask);
+		list.or(mask);
+		return list;
+	}
+
+	@Benchmark
+	public BooleanArrayList andBaseline() {
+		for (int i = 0; i < size; ++i) {
+			baseline.set(i, baseline.get(i) & baselineMask.get(i));
+		}
+		for (int i = 0; i < size; ++i) {
+			baseline.set(i, baseline.get(i) | baselineMask.get(i));
+		}
+		return baseline;
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * PrimitiveListBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.BooleanArrayList;
+import us.rothmichaels.lists.ByteArrayList;
+import us.rothmichaels.lists.CharArrayList;
+import us.rothmichaels.lists.FloatArrayList;
+import us.rothmichaels.lists.ShortArrayList;
+
+/**
+ * Append, get and contains benchmarks for the narrow primitive lists
+ * ({@link ByteArrayList}, {@link ShortArrayList}, {@link CharArrayList},
+ * {@link FloatArrayList} and {@link BooleanArrayList}).
+ * 
+ * <p>
+ * Every {@code contains} benchmark searches for a value that is not in the
+ * list so the whole list is scanned.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveListBenchmark {
+
+	@Param({ "1000", "100000" })
+	int size;
+
+	ByteArrayList byteList;
+	ShortArrayList shortList;
+	CharArrayList charList;
+	FloatArrayList floatList;
+	BooleanArrayList booleanList;
+
+	@Setup
+	public void setUp() {
+		byteList = new ByteArrayList();
+		shortList = new ShortArrayList();
+		charList = new CharArrayList();
+		floatList = new FloatArrayList();
+		booleanList = new BooleanArrayList();
+		for (int i = 0; i < size; ++i) {
+			byteList.add((byte) (i % 100));
+			shortList.add((short) (i % 10000));
+			charList.add((char) (i % 10000));
+			floatList.add(i);
+			booleanList.add(false);
+		}
+	}
+
+	@Benchmark
+	public ByteArrayList addByte() {
+		final ByteArrayList out = new ByteArrayList();
+		for (int i = 0; i < size; ++i) {
+			out.add((byte) i);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public ShortArrayList addShort() {
+		final ShortArrayList out = new ShortArrayList();
+		for (int i = 0; i < size; ++i) {
+			out.add((short) i);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public CharArrayList addChar() {
+		final CharArrayList out = new CharArrayList();
+		for (int i = 0; i < size; ++i) {
+			out.add((char) i);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public FloatArrayList addFloat() {
+		final FloatArrayList out = new FloatArrayList();
+		for (int i = 0; i < size; ++i) {
+			out.add(i);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public BooleanArrayList addBoolean() {
+		final BooleanArrayList out = new BooleanArrayList();
+		for (int i = 0; i < size; ++i) {
+			out.add((i & 1) == 0);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public long getByte() {
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += byteList.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getShort() {
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += shortList.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getChar() {
+		long sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += charList.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double getFloat() {
+		double sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += floatList.get(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int getBoolean() {
+		int count = 0;
+		for (int i = 0; i < size; ++i) {
+			if (booleanList.get(i)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public boolean containsByte() {
+		return byteList.contains((byte) -1);
+	}
+
+	@Benchmark
+	public boolean containsShort() {
+		return shortList.contains((short) -1);
+	}
+
+	@Benchmark
+	public boolean containsChar() {
+		return charList.contains(Character.MAX_VALUE);
+	}
+
+	@Benchmark
+	public boolean containsFloat() {
+		return floatList.contains(-1f);
+	}
+
+	@Benchmark
+	public boolean containsBoolean() {
+		return booleanList.contains(true);
+	}
+}
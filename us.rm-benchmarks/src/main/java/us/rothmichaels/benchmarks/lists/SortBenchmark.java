@@ -0,0 +1,167 @@
+/*
+ * SortBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.DoubleSort;
+import us.rothmichaels.lists.IntArrayList;
+import us.rothmichaels.lists.IntSort;
+import us.rothmichaels.lists.LongSort;
+
+/**
+ * Benchmarks for {@link IntSort}, {@link LongSort} and {@link DoubleSort}
+ * with {@link Arrays#sort} as the baseline, over uniformly random values.
+ * Every benchmark sorts a fresh copy, so the copy is part of each score.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+	@Param({ "1000", "1000000" })
+	int size;
+
+	int[] ints;
+	long[] longs;
+	double[] doubles;
+	IntArrayList list;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		ints = new int[size];
+		longs = new long[size];
+		doubles = new double[size];
+		list = new IntArrayList(size);
+		for (int i = 0; i < size; ++i) {
+			ints[i] = random.nextInt();
+			longs[i] = random.nextLong();
+			doubles[i] = random.nextGaussian();
+			list.add(ints[i]);
+		}
+	}
+
+	@Benchmark
+	public int[] radixSortInt() {
+		final int[] a = ints.clone();
+		IntSort.radixSort(a, 0, a.length);
+		return a;
+	}
+
+	@Benchmark
+	public int[] sortIntBaseline() {
+		final int[] a = ints.clone();
+		Arrays.sort(a);
+		return a;
+	}
+
+	@Benchmark
+	public long[] radixSortLong() {
+		final long[] a = longs.clone();
+		LongSort.radixSort(a, 0, a.length);
+		return a;
+	}
+
+	@Benchmark
+	public long[] sortLongBaseline() {
+		final long[] a = longs.clone();
+		Arrays.sort(a);
+		return a;
+	}
+
+	@Benchmark
+	public double[] radixSortDouble() {
+		final double[] a = doubles.clone();
+		DoubleSort.radixSort(a, 0, a.length);
+		return a;
+	}
+
+	@Benchmark
+	public double[] sortDoubleBaseline() {
+		final double[] a = doubles.clone();
+		Arrays.sort(a);
+		return a;
+	}
+
+	@Benchmark
+	public int[] parallelSortIntBaseline() {
+		final int[] a = ints.clone();
+		Arrays.parallelSort(a);
+		return a;
+	}
+
+	@Benchmark
+	public IntArrayList sortIndices() {
+		return list.sortIndices();
+	}
+
+	@Benchmark
+	public int[] sortIndicesBaseline() {
+		final Integer[] boxed = new Integer[size];
+		for (int i = 0; i < size; ++i) {
+			boxed[i] = i;
+		}
+		Arrays.sort(boxed, (x, y) -> Integer.compare(ints[x], ints[y]));
+		final int[] out = new int[size];
+		for (int i = 0; i < size; ++i) {
+			out[i] = boxed[i];
+		}
+		return out;
+	}
+}
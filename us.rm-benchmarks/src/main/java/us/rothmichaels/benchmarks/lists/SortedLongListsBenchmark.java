@@ -0,0 +1,167 @@
+/*
+ * SortedLongListsBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.lists;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.LongArrayList;
+import us.rothmichaels.lists.SortedLongLists;
+
+/**
+ * Benchmarks for {@link SortedLongLists} over posting-list style sorted
+ * ids, with {@code HashSet<Long>} joins as the baseline: intersecting two
+ * lists of similar size, intersecting a short list with a long one
+ * (galloping), and a k-way merge of 16 lists compared with concatenating
+ * and sorting.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedLongListsBenchmark {
+
+	private static final int SOURCES = 16;
+
+	@Param({ "1000", "1000000" })
+	int size;
+
+	LongArrayList a;
+	LongArrayList b;
+	LongArrayList rare;
+	List<LongArrayList> sources;
+	Set<Long> aSet;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		a = sortedIds(random, size, 4L * size);
+		b = sortedIds(random, size, 4L * size);
+		rare = sortedIds(random, Math.max(1, size / 1000), 4L * size);
+		sources = new ArrayList<LongArrayList>();
+		for (int i = 0; i < SOURCES; ++i) {
+			sources.add(sortedIds(random, size / SOURCES, 4L * size));
+		}
+		aSet = new HashSet<Long>();
+		for (int i = 0; i < a.size(); ++i) {
+			aSet.add(a.get(i));
+		}
+	}
+
+	@Benchmark
+	public LongArrayList intersect() {
+		return SortedLongLists.intersect(a, b, new LongArrayList());
+	}
+
+	@Benchmark
+	public int intersectBaseline() {
+		int hits = 0;
+		for (int i = 0; i < b.size(); ++i) {
+			if (aSet.contains(b.get(i))) {
+				++hits;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	public LongArrayList intersectSkewed() {
+		return SortedLongLists.intersect(rare, a, new LongArrayList());
+	}
+
+	@Benchmark
+	public int intersectSkewedBaseline() {
+		int hits = 0;
+		for (int i = 0; i < rare.size(); ++i) {
+			if (aSet.contains(rare.get(i))) {
+				++hits;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	public LongArrayList union() {
+		return SortedLongLists.union(a, b, new LongArrayList());
+	}
+
+	@Benchmark
+	public LongArrayList merge() {
+		return SortedLongLists.merge(sources, new LongArrayList());
+	}
+
+	@Benchmark
+	public LongArrayList mergeBaseline() {
+		final LongArrayList out = new LongArrayList();
+		for (final LongArrayList source : sources) {
+			out.addAll(source);
+		}
+		out.sort();
+		return out;
+	}
+
+	private static LongArrayList sortedIds(Random random, int n, long bound) {
+		final LongArrayList list = new LongArrayList(Math.max(n, 1));
+		for (int i = 0; i < n; ++i) {
+			list.add((random.nextLong() >>> 1) % bound);
+		}
+		list.sort();
+		return list;
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * EasyEnumMapBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.maps;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.maps.EasyEnumMap;
+
+/**
+ * Benchmarks for {@link EasyEnumMap} with {@link EnumMap} as the baseline.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EasyEnumMapBenchmark {
+
+	/**
+	 * Keys for the benchmarked maps.
+	 */
+	enum Key {
+		A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P
+	}
+
+	static final Key[] KEYS = Key.values();
+
+	EasyEnumMap<Key, String> map;
+	Map<Key, String> baseline;
+
+	@Setup
+	public void setUp() {
+		map = new EasyEnumMap<Key, String>(Key.class);
+		baseline = new EnumMap<Key, String>(Key.class);
+		for (final Key key : KEYS) {
+			map.put(key, key.name());
+			baseline.put(key, key.name());
+		}
+	}
+
+	@Benchmark
+	public EasyEnumMap<Key, String> build() {
+		return new EasyEnumMap<Key, String>(Key.class).p(Key.A, "a")
+				.p(Key.B, "b").p(Key.C, "c").p(Key.D, "d");
+	}
+
+	@Benchmark
+	public Map<Key, String> buildBaseline() {
+		final Map<Key, String> out = new EnumMap<Key, String>(Key.class);
+		out.put(Key.A, "a");
+		out.put(Key.B, "b");
+		out.put(Key.C, "c");
+		out.put(Key.D, "d");
+		return out;
+	}
+
+	@Benchmark
+	public EasyEnumMap<Key, String> put() {
+		for (final Key key : KEYS) {
+			map.p(key, key.name());
+		}
+		return map;
+	}
+
+	@Benchmark
+	public Map<Key, String> putBaseline() {
+		for (final Key key : KEYS) {
+			baseline.put(key, key.name());
+		}
+		return baseline;
+	}
+
+	@Benchmark
+	public int get() {
+		int h = 0;
+		for (final Key key : KEYS) {
+			h += map.get(key).length();
+		}
+		return h;
+	}
+
+	@Benchmark
+	public int getBaseline() {
+		int h = 0;
+		for (final Key key : KEYS) {
+			h += baseline.get(key).length();
+		}
+		return h;
+	}
+
+	@Benchmark
+	public EasyEnumMap<Key, String> copy() {
+		return new EasyEnumMap<Key, String>(map);
+	}
+
+	@Benchmark
+	public Map<Key, String> copyBaseline() {
+		return new EnumMap<Key, String>(baseline);
+	}
+}
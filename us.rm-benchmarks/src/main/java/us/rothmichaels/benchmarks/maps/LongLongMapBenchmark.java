@@ -0,0 +1,131 @@
+/*
+ * LongLongMapBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.maps;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.maps.LongLongMap;
+
+/**
+ * Benchmarks for {@link LongLongMap} with {@code HashMap<Long, Long>} as the
+ * baseline: counting keys that repeat about four times each, and lookups
+ * that hit about half the time.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongLongMapBenchmark {
+
+	@Param({ "1000", "1000000" })
+	int size;
+
+	long[] keys;
+	long[] probes;
+	LongLongMap map;
+	Map<Long, Long> baseline;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		keys = new long[size];
+		probes = new long[size];
+		for (int i = 0; i < size; ++i) {
+			keys[i] = random.nextInt(size / 4) * 0x100000001L;
+			probes[i] = random.nextInt(size / 2) * 0x100000001L;
+		}
+		map = count();
+		baseline = countBaseline();
+	}
+
+	@Benchmark
+	public LongLongMap count() {
+		final LongLongMap out = new LongLongMap();
+		for (final long key : keys) {
+			out.addTo(key, 1);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public Map<Long, Long> countBaseline() {
+		final Map<Long, Long> out = new HashMap<Long, Long>();
+		for (final long key : keys) {
+			out.merge(key, 1L, Long::sum);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public long get() {
+		long sum = 0;
+		for (final long probe : probes) {
+			sum += map.getOrDefault(probe, 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getBaseline() {
+		long sum = 0;
+		for (final long probe : probes) {
+			sum += baseline.getOrDefault(probe, 0L);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * EasyReflectionBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.reflect;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.reflect.EasyReflection;
+
+/**
+ * Benchmarks for {@link EasyReflection} field access with a cached, accessible
+ * {@link Field} as the baseline.
+ * 
+ * <p>
+ * {@link EasyReflection#getFieldValue(Object, String)} and
+ * {@link EasyReflection#setFieldValue(Class, String, Object)} clear the
+ * {@code final} modifier through {@code Field.modifiers}, which is hidden
+ * from reflection starting with Java 12; those benchmarks only run on older
+ * JVMs.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EasyReflectionBenchmark {
+
+	/**
+	 * Holder of the fields read and written by the benchmarks.
+	 */
+	static class Target {
+		@SuppressWarnings("unused")
+		private static String staticField = "static";
+
+		@SuppressWarnings("unused")
+		private String field = "instance";
+	}
+
+	Target target;
+	Field staticField;
+	Field field;
+
+	@Setup
+	public void setUp() throws NoSuchFieldException {
+		target = new Target();
+		staticField = Target.class.getDeclaredField("staticField");
+		staticField.setAccessible(true);
+		field = Target.class.getDeclaredField("field");
+		field.setAccessible(true);
+	}
+
+	@Benchmark
+	public Object getStatic() throws IllegalAccessException {
+		return EasyReflection.getFieldValue(Target.class, "staticField");
+	}
+
+	@Benchmark
+	public Object getStaticBaseline() throws IllegalAccessException {
+		return staticField.get(null);
+	}
+
+	@Benchmark
+	public void setStatic() throws IllegalAccessException {
+		EasyReflection.setFieldValue(Target.class, "staticField", "static");
+	}
+
+	@Benchmark
+	public void setStaticBaseline() throws IllegalAccessException {
+		staticField.set(null, "static");
+	}
+
+	@Benchmark
+	public Object getInstance() throws IllegalAccessException {
+		return EasyReflection.getFieldValue(target, "field");
+	}
+
+	@Benchmark
+	public Object getInstanceBaseline() throws IllegalAccessException {
+		return field.get(target);
+	}
+
+	@Benchmark
+	public void setInstance() throws IllegalAccessException {
+		EasyReflection.setFieldValue(target, "field", "instance");
+	}
+
+	@Benchmark
+	public void setInstanceBaseline() throws IllegalAccessException {
+		field.set(target, "instance");
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * IntHashSetBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.sets;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.lists.IntArrayList;
+import us.rothmichaels.sets.IntHashSet;
+
+/**
+ * Benchmarks for {@link IntHashSet} with {@code HashSet<Integer>} as the
+ * baseline: building a set from a list with duplicates (dedup) and
+ * membership tests that hit about half the time.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntHashSetBenchmark {
+
+	@Param({ "1000", "1000000" })
+	int size;
+
+	IntArrayList values;
+	int[] probes;
+	IntHashSet set;
+	Set<Integer> baseline;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		values = new IntArrayList(size);
+		probes = new int[size];
+		for (int i = 0; i < size; ++i) {
+			values.add(random.nextInt(size));
+			probes[i] = random.nextInt(2 * size);
+		}
+		set = new IntHashSet();
+		set.addAll(values);
+		baseline = new HashSet<Integer>();
+		for (int i = 0; i < size; ++i) {
+			baseline.add(values.get(i));
+		}
+	}
+
+	@Benchmark
+	public IntHashSet dedup() {
+		final IntHashSet out = new IntHashSet();
+		out.addAll(values);
+		return out;
+	}
+
+	@Benchmark
+	public Set<Integer> dedupBaseline() {
+		final Set<Integer> out = new HashSet<Integer>();
+		for (int i = 0; i < size; ++i) {
+			out.add(values.get(i));
+		}
+		return out;
+	}
+
+	@Benchmark
+	public int contains() {
+		int hits = 0;
+		for (final int probe : probes) {
+			if (set.contains(probe)) {
+				++hits;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	public int containsBaseline() {
+		int hits = 0;
+		for (final int probe : probes) {
+			if (baseline.contains(probe)) {
+				++hits;
+			}
+		}
+		return hits;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * WeakHashSetBenchmark.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.benchmarks.sets;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.rothmichaels.sets.WeakHashSet;
+
+/**
+ * Benchmarks for {@link WeakHashSet} with {@link HashSet} as the baseline.
+ * 
+ * <p>
+ * The keys are held strongly by the benchmark state so nothing is cleared by
+ * the garbage collector while measuring.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeakHashSetBenchmark {
+
+	@Param({ "1000", "100000" })
+	int size;
+
+	String[] keys;
+	String hit;
+	String miss;
+
+	Set<String> set;
+	Set<String> baseline;
+
+	@Setup
+	public void setUp() {
+		keys = new String[size];
+		set = new WeakHashSet<String>();
+		baseline = new HashSet<String>();
+		for (int i = 0; i < size; ++i) {
+			keys[i] = String.valueOf(i);
+			set.add(keys[i]);
+			baseline.add(keys[i]);
+		}
+		hit = keys[size / 2];
+		miss = "miss";
+	}
+
+	@Benchmark
+	public Set<String> add() {
+		final Set<String> out = new WeakHashSet<String>();
+		for (final String key : keys) {
+			out.add(key);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public Set<String> addBaseline() {
+		final Set<String> out = new HashSet<String>();
+		for (final String key : keys) {
+			out.add(key);
+		}
+		return out;
+	}
+
+	@Benchmark
+	public boolean containsHit() {
+		return set.contains(hit);
+	}
+
+	@Benchmark
+	public boolean containsHitBaseline() {
+		return baseline.contains(hit);
+	}
+
+	@Benchmark
+	public boolean containsMiss() {
+		return set.contains(miss);
+	}
+
+	@Benchmark
+	public boolean containsMissBaseline() {
+		return baseline.contains(miss);
+	}
+
+	@Benchmark
+	public boolean addRemove() {
+		set.remove(hit);
+		return set.add(hit);
+	}
+
+	@Benchmark
+	public boolean addRemoveBaseline() {
+		baseline.remove(hit);
+		return baseline.add(hit);
+	}
+
+	@Benchmark
+	public int iterate() {
+		int h = 0;
+		for (final String key : set) {
+			h += key.length();
+		}
+		return h;
+	}
+
+	@Benchmark
+	public int iterateBaseline() {
+		int h = 0;
+		for (final String key : baseline) {
+			h += key.length();
+		}
+		return h;
+	}
+}
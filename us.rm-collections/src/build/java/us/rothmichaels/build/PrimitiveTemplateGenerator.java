@@ -0,0 +1,553 @@
+/*
+ * PrimitiveTemplateGenerator.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.build;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Expands primitive type templates into one Java source file per primitive
+ * type.
+ * 
+ * <p>
+ * Every file below the template directory whose name contains
+ * {@code $Type$} (e.g. {@code IPrimative$Type$List.java}) is expanded once for
+ * each of the eight primitive types and written to the same relative path in
+ * the output directory with {@code $Type$} replaced by the type name. Files
+ * whose content did not change are not rewritten.
+ * 
+ * <p>
+ * Templates may use the following tokens:
+ * <dl>
+ * <dt>{@code $Type$}, {@code $type$}, {@code $Boxed$}</dt>
+ * <dd>{@code Int}, {@code int} and {@code Integer} for the int expansion</dd>
+ * <dt>{@code $Wide$}, {@code $wide$}</dt>
+ * <dd>the {@code java.util.function}/{@code java.util.stream} type a numeric
+ * type widens to: {@code Int}/{@code int} for byte, char, short and int,
+ * {@code Long}/{@code long} for long and {@code Double}/{@code double} for
+ * float and double</dd>
+ * <dt>{@code $cast$}</dt>
+ * <dd>{@code "(byte) "} etc. for types narrower than their {@code $wide$}
+ * type, otherwise empty; narrows a {@code $wide$} expression back to the
+ * type</dd>
+ * <dt>{@code $zero$}</dt>
+ * <dd>the default value of the type as a literal</dd>
+ * <dt>{@code $desc$}</dt>
+ * <dd>the JVM type descriptor of the type: {@code Z}, {@code B}, {@code C},
+ * {@code S}, {@code I}, {@code J}, {@code F} or {@code D}</dd>
+ * <dt>{@code $lit:N$}</dt>
+ * <dd>the integer {@code N} as a literal of the type (odd is {@code true} for
+ * booleans)</dd>
+ * <dt>{@code $delta$}</dt>
+ * <dd>{@code ", 0f"}/{@code ", 0d"} for floating point types, otherwise
+ * empty; used for JUnit's floating point {@code assert*Equals}</dd>
+ * <dt>{@code $template$}</dt>
+ * <dd>the template file name</dd>
+ * </dl>
+ * 
+ * <p>
+ * Lines of the form {@code //#if CONDITION}, {@code //#else} and
+ * {@code //#endif} (which may nest) include or drop the lines they enclose.
+ * A condition is a {@code |} separated list of type names (e.g.
+ * {@code Int|Long}) and type groups ({@code numeric}, {@code integral},
+ * {@code floating}), each optionally negated with {@code !}; the condition
+ * holds if any of them does.
+ * 
+ * <p>
+ * A template whose first line is {@code //#types CONDITION} is only expanded
+ * for the types the condition holds for.
+ * 
+ * <p>
+ * A template whose name contains {@code $Key$} and {@code $Value$} (e.g.
+ * {@code $Key$$Value$Map.java}) is expanded once for each key and value type
+ * pair listed on its first line, {@code //#pairs Int:Int Int:Long}, with both
+ * markers replaced in the output path. Such a template uses the tokens
+ * {@code $Key$}, {@code $key$}, {@code $KeyBoxed$}, {@code $Value$},
+ * {@code $value$} and {@code $ValueBoxed$} in place of the single type ones,
+ * and its conditions name the type they test: {@code key:Long},
+ * {@code value:floating}.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public final class PrimitiveTemplateGenerator {
+
+	/**
+	 * Marker in template file names replaced by the type name.
+	 */
+	static final String TYPE_MARKER = "$Type$";
+
+	/**
+	 * Markers in pair template file names replaced by the key and value type
+	 * names.
+	 */
+	static final String KEY_MARKER = "$Key$";
+	static final String VALUE_MARKER = "$Value$";
+
+	private static final String CHARSET = "UTF-8";
+
+	private static final Pattern TOKEN = Pattern
+			.compile("\\$([A-Za-z]+)(?::(-?[0-9]+))?\\$");
+
+	private static final Pattern DIRECTIVE = Pattern
+			.compile("^\\s*//#(if|else|endif)\\b\\s*(.*?)\\s*$");
+
+	private static final Pattern TYPES_HEADER = Pattern
+			.compile("^//#types\\s+(.*?)\\s*(\r?\n|$)");
+
+	private static final Pattern PAIRS_HEADER = Pattern
+			.compile("^//#pairs\\s+(.*?)\\s*(\r?\n|$)");
+
+	/**
+	 * A primitive type to expand templates for.
+	 */
+	static final class Type {
+		final String name;
+		final String primitive;
+		final String boxed;
+		final String zero;
+		final String wide;
+		final Set<String> groups;
+
+		Type(String name, String primitive, String boxed, String zero,
+				String wide, String... groups) {
+			this.name = name;
+			this.primitive = primitive;
+			this.boxed = boxed;
+			this.zero = zero;
+			this.wide = wide;
+			this.groups = new HashSet<String>(Arrays.asList(groups));
+		}
+
+		/**
+		 * Returns the JVM type descriptor of this type.
+		 */
+		String descriptor() {
+			if ("boolean".equals(primitive)) {
+				return "Z";
+			} else if ("long".equals(primitive)) {
+				return "J";
+			}
+			return primitive.substring(0, 1).toUpperCase(Locale.ROOT);
+		}
+
+		/**
+		 * Returns {@code value} as a literal of this type.
+		 */
+		String literal(int value) {
+			if ("boolean".equals(primitive)) {
+				return String.valueOf(value % 2 != 0);
+			} else if ("int".equals(primitive)) {
+				return String.valueOf(value);
+			} else if ("long".equals(primitive)) {
+				return value + "L";
+			} else if ("float".equals(primitive)) {
+				return value + "f";
+			} else if ("double".equals(primitive)) {
+				return value + "d";
+			} else {
+				return "(" + primitive + ") " + value;
+			}
+		}
+
+		boolean is(String term) {
+			return name.equals(term) || groups.contains(term);
+		}
+	}
+
+	/**
+	 * The types every template is expanded for.
+	 */
+	static final Type[] TYPES = {
+			new Type("Boolean", "boolean", "Boolean", "false", null),
+			new Type("Byte", "byte", "Byte", "(byte) 0", "Int", "numeric",
+					"integral"),
+			new Type("Char", "char", "Character", "(char) 0", "Int",
+					"numeric", "integral"),
+			new Type("Short", "short", "Short", "(short) 0", "Int", "numeric",
+					"integral"),
+			new Type("Int", "int", "Integer", "0", "Int", "numeric",
+					"integral"),
+			new Type("Long", "long", "Long", "0L", "Long", "numeric",
+					"integral"),
+			new Type("Float", "float", "Float", "0f", "Double", "numeric",
+					"floating"),
+			new Type("Double", "double", "Double", "0d", "Double", "numeric",
+					"floating") };
+
+	/**
+	 * Expand all templates.
+	 * 
+	 * @param args
+	 *            template directory and output directory
+	 * 
+	 * @throws IOException
+	 *             if a template can not be read or an output file can not be
+	 *             written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("usage: PrimitiveTemplateGenerator"
+					+ " <template dir> <output dir>");
+			System.exit(1);
+		}
+		final File templates = new File(args[0]);
+		final File output = new File(args[1]);
+		final List<String> paths = new ArrayList<String>();
+		collect(templates, "", paths);
+
+		int written = 0;
+		for (final String path : paths) {
+			String template = read(new File(templates, path));
+			final String fileName = new File(path).getName();
+			if (path.contains(KEY_MARKER)) {
+				final Matcher pairs = PAIRS_HEADER.matcher(template);
+				if (!pairs.find()) {
+					throw new IllegalArgumentException(fileName
+							+ ": no //#pairs header");
+				}
+				template = template.substring(pairs.end());
+				for (final String pair : pairs.group(1).split("\\s+")) {
+					final String[] names = pair.split(":", -1);
+					if (names.length != 2) {
+						throw new IllegalArgumentException(fileName
+								+ ": bad pair " + pair);
+					}
+					final Type key = type(fileName, names[0]);
+					final Type value = type(fileName, names[1]);
+					final File out = new File(output, path.replace(
+							KEY_MARKER, key.name).replace(VALUE_MARKER,
+							value.name));
+					if (write(out, expand(template, fileName, null, key, value))) {
+						++written;
+					}
+				}
+				continue;
+			}
+			String types = null;
+			final Matcher header = TYPES_HEADER.matcher(template);
+			if (header.find()) {
+				types = header.group(1);
+				template = template.substring(header.end());
+			}
+			for (final Type type : TYPES) {
+				if (types != null && !holds(types, type)) {
+					continue;
+				}
+				final File out = new File(output, path.replace(TYPE_MARKER,
+						type.name));
+				final String source = expand(template, fileName, type);
+				if (write(out, source)) {
+					++written;
+				}
+			}
+		}
+		System.out.println("PrimitiveTemplateGenerator: " + paths.size()
+				+ " templates, " + written + " files written to " + output);
+	}
+
+	/**
+	 * Expand a template for one type.
+	 * 
+	 * @param template
+	 *            template contents
+	 * @param fileName
+	 *            template file name, for {@code $template$} and errors
+	 * @param type
+	 *            type to expand for
+	 * 
+	 * @return the expanded source
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the template has an unknown token or unbalanced
+	 *             directives
+	 */
+	static String expand(String template, String fileName, Type type) {
+		return expand(template, fileName, type, null, null);
+	}
+
+	/**
+	 * Expand a template for one type, or for one key and value type pair.
+	 * 
+	 * @param template
+	 *            template contents
+	 * @param fileName
+	 *            template file name, for {@code $template$} and errors
+	 * @param type
+	 *            type to expand for, or {@code null} for a pair template
+	 * @param key
+	 *            key type of a pair template, otherwise {@code null}
+	 * @param value
+	 *            value type of a pair template, otherwise {@code null}
+	 * 
+	 * @return the expanded source
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the template has an unknown token or unbalanced
+	 *             directives
+	 */
+	static String expand(String template, String fileName, Type type,
+			Type key, Type value) {
+		final StringBuilder out = new StringBuilder(template.length());
+		// one entry per open #if: is that branch being emitted
+		final List<Boolean> stack = new ArrayList<Boolean>();
+		boolean emit = true;
+		int lineNumber = 0;
+
+		for (final String line : template.split("\n", -1)) {
+			++lineNumber;
+			final Matcher directive = DIRECTIVE.matcher(line);
+			if (directive.matches()) {
+				final String keyword = directive.group(1);
+				if ("if".equals(keyword)) {
+					stack.add(emit);
+					emit = emit
+							&& holds(directive.group(2), fileName, lineNumber,
+									type, key, value);
+				} else if (stack.isEmpty()) {
+					throw new IllegalArgumentException(fileName + ":"
+							+ lineNumber + ": #" + keyword + " without #if");
+				} else if ("else".equals(keyword)) {
+					emit = stack.get(stack.size() - 1) && !emit;
+				} else {
+					emit = stack.remove(stack.size() - 1);
+				}
+				continue;
+			}
+			if (emit) {
+				out.append(
+						replaceTokens(line, fileName, lineNumber, type, key,
+								value)).append('\n');
+			}
+		}
+		if (!stack.isEmpty()) {
+			throw new IllegalArgumentException(fileName + ": unclosed #if");
+		}
+
+		// split() kept the text after the final newline as its own line
+		out.setLength(out.length() - 1);
+		return out.toString();
+	}
+
+	private static boolean holds(String condition, Type type) {
+		return holds(condition, "", 0, type, null, null);
+	}
+
+	private static boolean holds(String condition, String fileName,
+			int lineNumber, Type type, Type key, Type value) {
+		for (String term : condition.split("\\|")) {
+			term = term.trim();
+			final boolean negate = term.startsWith("!");
+			if (negate) {
+				term = term.substring(1).trim();
+			}
+			Type subject = type;
+			if (term.startsWith("key:")) {
+				subject = key;
+				term = term.substring(4).trim();
+			} else if (term.startsWith("value:")) {
+				subject = value;
+				term = term.substring(6).trim();
+			}
+			if (subject == null) {
+				throw new IllegalArgumentException(fileName + ":"
+						+ lineNumber + ": condition " + condition
+						+ " does not apply to this template");
+			}
+			if (subject.is(term) != negate) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the type called {@code name}.
+	 */
+	private static Type type(String fileName, String name) {
+		for (final Type type : TYPES) {
+			if (type.name.equals(name)) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException(fileName + ": unknown type "
+				+ name);
+	}
+
+	private static String replaceTokens(String line, String fileName,
+			int lineNumber, Type type, Type keyType, Type valueType) {
+		final Matcher m = TOKEN.matcher(line);
+		final StringBuffer out = new StringBuffer(line.length());
+		while (m.find()) {
+			final String token = m.group(1);
+			final String value;
+			if (keyType != null && token.matches("Key|key|KeyBoxed")) {
+				value = pairToken(keyType, token, "Key");
+			} else if (valueType != null
+					&& token.matches("Value|value|ValueBoxed")) {
+				value = pairToken(valueType, token, "Value");
+			} else if ("template".equals(token)) {
+				value = fileName;
+			} else if (type == null) {
+				throw new IllegalArgumentException(fileName + ":" + lineNumber
+						+ ": unknown token " + m.group());
+			} else if ("Type".equals(token)) {
+				value = type.name;
+			} else if ("type".equals(token)) {
+				value = type.primitive;
+			} else if ("Boxed".equals(token)) {
+				value = type.boxed;
+			} else if (("Wide".equals(token) || "wide".equals(token))
+					&& type.wide != null) {
+				value = "Wide".equals(token) ? type.wide : type.wide
+						.toLowerCase(Locale.ROOT);
+			} else if ("cast".equals(token)) {
+				value = type.wide == null
+						|| type.wide.equalsIgnoreCase(type.primitive) ? ""
+						: "(" + type.primitive + ") ";
+			} else if ("zero".equals(token)) {
+				value = type.zero;
+			} else if ("desc".equals(token)) {
+				value = type.descriptor();
+			} else if ("lit".equals(token) && m.group(2) != null) {
+				value = type.literal(Integer.parseInt(m.group(2)));
+			} else if ("delta".equals(token)) {
+				value = type.is("floating") ? ", 0" + type.primitive.charAt(0)
+						: "";
+			} else {
+				throw new IllegalArgumentException(fileName + ":" + lineNumber
+						+ ": unknown token " + m.group());
+			}
+			m.appendReplacement(out, Matcher.quoteReplacement(value));
+		}
+		m.appendTail(out);
+		return out.toString();
+	}
+
+	/**
+	 * Returns the value of a {@code $Key$}, {@code $key$} or
+	 * {@code $KeyBoxed$} style token, where {@code role} is {@code Key} or
+	 * {@code Value}.
+	 */
+	private static String pairToken(Type type, String token, String role) {
+		if (token.equals(role)) {
+			return type.name;
+		} else if (token.equalsIgnoreCase(role)) {
+			return type.primitive;
+		}
+		return type.boxed;
+	}
+
+	private static void collect(File dir, String prefix, List<String> paths) {
+		final File[] files = dir.listFiles();
+		if (files == null) {
+			throw new IllegalArgumentException("not a directory: " + dir);
+		}
+		Arrays.sort(files);
+		for (final File file : files) {
+			final String path = prefix + file.getName();
+			if (file.isDirectory()) {
+				collect(file, path + File.separator, paths);
+			} else if (file.getName().contains(TYPE_MARKER)
+					|| file.getName().contains(KEY_MARKER)) {
+				paths.add(path);
+			}
+		}
+	}
+
+	private static String read(File file) throws IOException {
+		final InputStream in = new FileInputStream(file);
+		try {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[8192];
+			int n;
+			while ((n = in.read(buffer)) != -1) {
+				bytes.write(buffer, 0, n);
+			}
+			return bytes.toString(CHARSET);
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Write {@code source} to {@code file} unless it already has that content,
+	 * so unchanged sources keep their timestamps.
+	 * 
+	 * @return {@code true} if the file was written
+	 */
+	private static boolean write(File file, String source) throws IOException {
+		if (file.isFile() && read(file).equals(source)) {
+			return false;
+		}
+		final File dir = file.getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("could not create " + dir);
+		}
+		final OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(source.getBytes(CHARSET));
+		} finally {
+			out.close();
+		}
+		return true;
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private PrimitiveTemplateGenerator() {
+		throw new AssertionError();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * DirectBuffers.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Allocation and eager release of direct {@link ByteBuffer}s for the
+ * off-heap and memory-mapped lists.
+ * 
+ * <p>
+ * The platform only frees a direct buffer's memory once the buffer has been
+ * garbage collected. {@link #free(ByteBuffer)} runs the buffer's cleaner
+ * immediately instead, through {@code sun.misc.Unsafe.invokeCleaner} on Java
+ * 9 and later or the buffer's {@code cleaner()} on Java 8, and falls back to
+ * leaving the memory to the collector if neither is accessible.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class DirectBuffers {
+
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			final Class<?> c = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = c.getMethod("invokeCleaner", ByteBuffer.class);
+			final Field f = c.getDeclaredField("theUnsafe");
+			f.setAccessible(true);
+			unsafe = f.get(null);
+		} catch (final Exception e) {
+			// pre-Java 9, fall back to the buffer's cleaner
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	/**
+	 * Allocates a zeroed direct buffer in native byte order.
+	 * 
+	 * @param bytes
+	 *            capacity of the buffer in bytes
+	 * 
+	 * @return the buffer
+	 */
+	static ByteBuffer allocate(int bytes) {
+		return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Releases the memory of a direct buffer returned by
+	 * {@link #allocate(int)}, or unmaps a {@link java.nio.MappedByteBuffer}.
+	 * The buffer and every view of it must not be used afterwards.
+	 * 
+	 * @param buffer
+	 *            the buffer to release
+	 */
+	static void free(ByteBuffer buffer) {
+		try {
+			if (INVOKE_CLEANER != null) {
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+			} else {
+				final Method cleaner = buffer.getClass().getMethod("cleaner");
+				cleaner.setAccessible(true);
+				final Object c = cleaner.invoke(buffer);
+				if (c != null) {
+					c.getClass().getMethod("clean").invoke(c);
+				}
+			}
+		} catch (final Exception e) {
+			// left for the garbage collector
+		}
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private DirectBuffers() {
+		throw new AssertionError();
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * GrowthPolicy.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+/**
+ * Decides how far the {@code *ArrayList} classes grow their backing array
+ * when it is full.
+ * 
+ * <p>
+ * Policies are stateless and can be shared between lists. The factories
+ * return the basic strategies; {@link #capped(int)} and
+ * {@link #alignedTo(int)} wrap any policy.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public interface GrowthPolicy {
+
+	/**
+	 * Largest capacity a policy returns; some VMs reserve header words in an
+	 * array, so larger requests can fail even with free heap.
+	 */
+	int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Doubles the capacity; the policy the lists use unless told otherwise.
+	 */
+	GrowthPolicy DOUBLING = factor(2.0);
+
+	/**
+	 * Returns the new capacity for a backing array of {@code capacity}
+	 * elements that must hold at least {@code minCapacity}.
+	 * 
+	 * @param capacity
+	 *            current capacity
+	 * @param minCapacity
+	 *            capacity required, greater than {@code capacity}
+	 * 
+	 * @return the new capacity, at least {@code minCapacity} and at most
+	 *         {@link #MAX_CAPACITY}
+	 * 
+	 * @throws OutOfMemoryError
+	 *             if {@code minCapacity} is larger than {@link #MAX_CAPACITY}
+	 */
+	int grow(int capacity, int minCapacity);
+
+	/**
+	 * Returns this policy with each step limited to {@code maxIncrement}
+	 * elements, so a large list grows linearly instead of reserving up to
+	 * its own size again.
+	 * 
+	 * @param maxIncrement
+	 *            largest number of elements added in one step
+	 * 
+	 * @return the capped policy
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code maxIncrement} is not positive
+	 */
+	default GrowthPolicy capped(final int maxIncrement) {
+		if (maxIncrement <= 0) {
+			throw new IllegalArgumentException("" + maxIncrement);
+		}
+		final GrowthPolicy policy = this;
+		return (capacity, minCapacity) -> {
+			final int grown = policy.grow(capacity, minCapacity);
+			return clamp(Math.min(grown, (long) capacity + maxIncrement),
+					minCapacity);
+		};
+	}
+
+	/**
+	 * Returns this policy with each capacity rounded up to a multiple of
+	 * {@code elements}. Passing the number of elements in a page (for
+	 * example {@code 4096 / Integer.BYTES}) keeps large arrays a whole
+	 * number of pages long.
+	 * 
+	 * @param elements
+	 *            capacities are rounded up to a multiple of this
+	 * 
+	 * @return the aligned policy
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code elements} is not positive
+	 */
+	default GrowthPolicy alignedTo(final int elements) {
+		if (elements <= 0) {
+			throw new IllegalArgumentException("" + elements);
+		}
+		final GrowthPolicy policy = this;
+		return (capacity, minCapacity) -> {
+			final long grown = policy.grow(capacity, minCapacity);
+			final long aligned = (grown + elements - 1) / elements * elements;
+			return clamp(aligned, minCapacity);
+		};
+	}
+
+	/**
+	 * Returns a policy that multiplies the capacity by {@code factor}.
+	 * 
+	 * @param factor
+	 *            growth factor, greater than {@code 1}
+	 * 
+	 * @return the policy
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code factor} is not greater than {@code 1}
+	 */
+	static GrowthPolicy factor(final double factor) {
+		if (!(factor > 1.0)) {
+			throw new IllegalArgumentException("" + factor);
+		}
+		return (capacity, minCapacity) -> clamp((long) (capacity * factor),
+				minCapacity);
+	}
+
+	/**
+	 * Returns a policy that adds {@code increment} elements each step.
+	 * 
+	 * @param increment
+	 *            number of elements added in one step
+	 * 
+	 * @return the policy
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code increment} is not positive
+	 */
+	static GrowthPolicy additive(final int increment) {
+		if (increment <= 0) {
+			throw new IllegalArgumentException("" + increment);
+		}
+		return (capacity, minCapacity) -> clamp((long) capacity + increment,
+				minCapacity);
+	}
+
+	/**
+	 * Returns {@code capacity} limited to {@link #MAX_CAPACITY} and raised to
+	 * {@code minCapacity}; custom policies can finish with it too.
+	 * 
+	 * @param capacity
+	 *            capacity proposed by a policy
+	 * @param minCapacity
+	 *            capacity required
+	 * 
+	 * @return the capacity to allocate
+	 * 
+	 * @throws OutOfMemoryError
+	 *             if {@code minCapacity} is larger than {@link #MAX_CAPACITY}
+	 *             or negative (an overflowed size)
+	 */
+	static int clamp(long capacity, int minCapacity) {
+		if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+			throw new OutOfMemoryError("required capacity "
+					+ (minCapacity & 0xFFFFFFFFL));
+		}
+		return (int) Math.max(Math.min(capacity, MAX_CAPACITY), minCapacity);
+	}
+}
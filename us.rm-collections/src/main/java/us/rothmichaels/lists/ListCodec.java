@@ -0,0 +1,210 @@
+/*
+ * ListCodec.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The binary format shared by the primitive list codecs.
+ * 
+ * <p>
+ * A list is written as a {@value #HEADER_BYTES} byte little-endian header
+ * followed by its elements, also little-endian, with nothing between them:
+ * 
+ * <pre>
+ * int   magic    "RMPA"
+ * short version  {@value #VERSION}
+ * short type     JVM type descriptor of the elements ('Z', 'B', 'C', 'S',
+ *                'I', 'J', 'F' or 'D')
+ * long  length   number of elements
+ * </pre>
+ * 
+ * Booleans take one byte each, {@code 0} or {@code 1}. A reader consumes
+ * exactly the header and the payload, so lists can be written back to back
+ * on one channel.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class ListCodec {
+
+	/**
+	 * First four bytes of every list, {@code "RMPA"}.
+	 */
+	static final int MAGIC = 0x41504D52;
+
+	/**
+	 * Version of the format written by this class.
+	 */
+	static final short VERSION = 1;
+
+	/**
+	 * Length of the header in bytes.
+	 */
+	static final int HEADER_BYTES = 16;
+
+	/**
+	 * Size of the buffers elements are copied through, a multiple of every
+	 * element size.
+	 */
+	static final int CHUNK_BYTES = 1 << 16;
+
+	/**
+	 * Returns a new little-endian buffer of {@link #CHUNK_BYTES} bytes.
+	 * 
+	 * @return the buffer
+	 */
+	static ByteBuffer chunk() {
+		return ByteBuffer.allocate(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Writes a header.
+	 * 
+	 * @param channel
+	 *            channel to write to
+	 * @param type
+	 *            type descriptor of the elements
+	 * @param length
+	 *            number of elements that will follow
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be written
+	 */
+	static void writeHeader(WritableByteChannel channel, char type,
+			long length) throws IOException {
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(
+				ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC).putShort(VERSION).putShort((short) type)
+				.putLong(length).flip();
+		writeFully(channel, header);
+	}
+
+	/**
+	 * Reads and checks a header.
+	 * 
+	 * @param channel
+	 *            channel to read from
+	 * @param type
+	 *            expected type descriptor of the elements
+	 * 
+	 * @return the number of elements that follow
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be read or does not start with a
+	 *             list of {@code type}
+	 */
+	static long readHeader(ReadableByteChannel channel, char type)
+			throws IOException {
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(
+				ByteOrder.LITTLE_ENDIAN);
+		readFully(channel, header);
+		header.flip();
+		if (header.getInt() != MAGIC) {
+			throw new IOException("not a primitive list");
+		}
+		final short version = header.getShort();
+		if (version != VERSION) {
+			throw new IOException("unsupported version " + version);
+		}
+		final char actual = (char) header.getShort();
+		if (actual != type) {
+			throw new IOException("list of type " + actual + ", not " + type);
+		}
+		final long length = header.getLong();
+		if (length < 0) {
+			throw new IOException("negative length " + length);
+		}
+		return length;
+	}
+
+	/**
+	 * Writes all of {@code buffer}'s remaining bytes.
+	 * 
+	 * @param channel
+	 *            channel to write to
+	 * @param buffer
+	 *            bytes to write
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be written
+	 */
+	static void writeFully(WritableByteChannel channel, ByteBuffer buffer)
+			throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Fills {@code buffer}'s remaining bytes.
+	 * 
+	 * @param channel
+	 *            channel to read from
+	 * @param buffer
+	 *            buffer to fill
+	 * 
+	 * @throws EOFException
+	 *             if the channel ends first
+	 * @throws IOException
+	 *             if the channel cannot be read
+	 */
+	static void readFully(ReadableByteChannel channel, ByteBuffer buffer)
+			throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException();
+			}
+		}
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private ListCodec() {
+		throw new AssertionError();
+	}
+}
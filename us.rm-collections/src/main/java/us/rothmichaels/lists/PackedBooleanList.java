@@ -0,0 +1,462 @@
+/*
+ * PackedBooleanList.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.Arrays;
+
+/**
+ * An {@link IPrimativeBooleanList} that packs its elements 64 to a
+ * {@code long}, taking an eighth of the memory of a {@link BooleanArrayList}.
+ * 
+ * <p>
+ * Searches, counting and the bulk {@link #and and}, {@link #or or},
+ * {@link #xor xor} and {@link #andNot andNot} operations work a word at a
+ * time. Bits past the end of the list are always zero, which lets them
+ * ignore the partial last word.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class PackedBooleanList extends AbstractPrimativeBooleanList {
+
+	private long[] words;
+	private int size;
+
+	/**
+	 * Create an empty PackedBooleanList with room for 64 elements.
+	 */
+	public PackedBooleanList() {
+		this(64);
+	}
+
+	/**
+	 * Create an empty PackedBooleanList with arbitrary capacity.
+	 * 
+	 * @param initialCapacity
+	 *            number of elements to make room for
+	 */
+	public PackedBooleanList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("" + initialCapacity);
+		}
+		words = new long[Math.max(1, wordsFor(initialCapacity))];
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#add(boolean)
+	 */
+	@Override
+	public boolean add(boolean e) {
+		ensureCapacity(size + 1);
+		if (e) {
+			words[size >>> 6] |= 1L << size;
+		}
+		++size;
+
+		return true;
+	}
+
+	/**
+	 * Shifts the following elements up a word at a time.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#add(int, boolean)
+	 */
+	@Override
+	public void add(int index, boolean element) {
+		checkPosition(index);
+		ensureCapacity(size + 1);
+		final long[] w = words;
+		final int first = index >>> 6;
+		final long low = (1L << index) - 1;
+		long carry = w[first] >>> 63;
+		w[first] = (w[first] & low) | ((w[first] & ~low) << 1);
+		for (int i = first + 1, last = size >>> 6; i <= last; ++i) {
+			final long next = w[i] >>> 63;
+			w[i] = (w[i] << 1) | carry;
+			carry = next;
+		}
+		if (element) {
+			w[first] |= 1L << index;
+		}
+		++size;
+	}
+
+	/**
+	 * Sets each element to itself AND the element at the same index of
+	 * {@code other}. Elements past the end of {@code other} count as
+	 * {@code false}; the size of this list does not change.
+	 * 
+	 * @param other
+	 *            the list to combine with
+	 */
+	public void and(PackedBooleanList other) {
+		final int n = wordsFor(size);
+		final int m = Math.min(n, wordsFor(other.size));
+		final long[] w = words;
+		final long[] o = other.words;
+		for (int i = 0; i < m; ++i) {
+			w[i] &= o[i];
+		}
+		Arrays.fill(w, m, n, 0L);
+	}
+
+	/**
+	 * Sets each element to itself AND NOT the element at the same index of
+	 * {@code other}. Elements past the end of {@code other} count as
+	 * {@code false}; the size of this list does not change.
+	 * 
+	 * @param other
+	 *            the list to combine with
+	 */
+	public void andNot(PackedBooleanList other) {
+		final int m = Math.min(wordsFor(size), wordsFor(other.size));
+		final long[] w = words;
+		final long[] o = other.words;
+		for (int i = 0; i < m; ++i) {
+			w[i] &= ~o[i];
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#clear()
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(words, 0, wordsFor(size), 0L);
+		size = 0;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#contains(boolean)
+	 */
+	@Override
+	public boolean contains(boolean value) {
+		return (value ? nextSetBit(0) : nextClearBit(0)) >= 0;
+	}
+
+	/**
+	 * Returns the number of {@code true} elements.
+	 * 
+	 * @return the number of elements that are {@code true}
+	 */
+	public int countTrue() {
+		final long[] w = words;
+		int count = 0;
+		for (int i = 0, n = wordsFor(size); i < n; ++i) {
+			count += Long.bitCount(w[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#get(int)
+	 */
+	@Override
+	public boolean get(int index) {
+		checkIndex(index);
+
+		return (words[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimativeBooleanList#indexOfRange(boolean,
+	 *      int, int)
+	 */
+	@Override
+	protected int indexOfRange(boolean value, int from, int to) {
+		final int i = value ? nextSetBit(from) : nextClearBit(from);
+
+		return i < to ? i : -1;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimativeBooleanList#lastIndexOfRange(boolean,
+	 *      int, int)
+	 */
+	@Override
+	protected int lastIndexOfRange(boolean value, int from, int to) {
+		final int i = value ? previousSetBit(to - 1) : previousClearBit(to - 1);
+
+		return i >= from ? i : -1;
+	}
+
+	/**
+	 * Returns the index of the first {@code false} element at or after
+	 * {@code from}.
+	 * 
+	 * @param from
+	 *            index to start searching at (inclusive)
+	 * 
+	 * @return the index of the next {@code false} element, or {@code -1} if
+	 *         there is none
+	 */
+	public int nextClearBit(int from) {
+		if (from < 0) {
+			throw new IndexOutOfBoundsException("" + from);
+		}
+		if (from >= size) {
+			return -1;
+		}
+		final long[] w = words;
+		final int last = (size - 1) >>> 6;
+		int u = from >>> 6;
+		long word = ~w[u] & (-1L << from);
+		while (word == 0) {
+			if (++u > last) {
+				return -1;
+			}
+			word = ~w[u];
+		}
+		final int i = (u << 6) + Long.numberOfTrailingZeros(word);
+
+		return i < size ? i : -1;
+	}
+
+	/**
+	 * Returns the index of the first {@code true} element at or after
+	 * {@code from}.
+	 * 
+	 * @param from
+	 *            index to start searching at (inclusive)
+	 * 
+	 * @return the index of the next {@code true} element, or {@code -1} if
+	 *         there is none
+	 */
+	public int nextSetBit(int from) {
+		if (from < 0) {
+			throw new IndexOutOfBoundsException("" + from);
+		}
+		if (from >= size) {
+			return -1;
+		}
+		final long[] w = words;
+		final int last = (size - 1) >>> 6;
+		int u = from >>> 6;
+		long word = w[u] & (-1L << from);
+		while (word == 0) {
+			if (++u > last) {
+				return -1;
+			}
+			word = w[u];
+		}
+
+		return (u << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	/**
+	 * Sets each element to itself OR the element at the same index of
+	 * {@code other}. Elements past the end of {@code other} count as
+	 * {@code false}; the size of this list does not change.
+	 * 
+	 * @param other
+	 *            the list to combine with
+	 */
+	public void or(PackedBooleanList other) {
+		final int m = Math.min(wordsFor(size), wordsFor(other.size));
+		final long[] w = words;
+		final long[] o = other.words;
+		for (int i = 0; i < m; ++i) {
+			w[i] |= o[i];
+		}
+		clearTail();
+	}
+
+	/**
+	 * Returns the index of the last {@code false} element at or before
+	 * {@code from}.
+	 * 
+	 * @param from
+	 *            index to start searching at (inclusive)
+	 * 
+	 * @return the index of the previous {@code false} element, or {@code -1}
+	 *         if there is none
+	 */
+	public int previousClearBit(int from) {
+		if (from < 0) {
+			return -1;
+		}
+		if (from >= size) {
+			from = size - 1;
+			if (from < 0) {
+				return -1;
+			}
+		}
+		final long[] w = words;
+		int u = from >>> 6;
+		long word = ~w[u] & (-1L >>> -(from + 1));
+		while (word == 0) {
+			if (--u < 0) {
+				return -1;
+			}
+			word = ~w[u];
+		}
+
+		return (u << 6) + 63 - Long.numberOfLeadingZeros(word);
+	}
+
+	/**
+	 * Returns the index of the last {@code true} element at or before
+	 * {@code from}.
+	 * 
+	 * @param from
+	 *            index to start searching at (inclusive)
+	 * 
+	 * @return the index of the previous {@code true} element, or {@code -1}
+	 *         if there is none
+	 */
+	public int previousSetBit(int from) {
+		if (from < 0) {
+			return -1;
+		}
+		if (from >= size) {
+			from = size - 1;
+			if (from < 0) {
+				return -1;
+			}
+		}
+		final long[] w = words;
+		int u = from >>> 6;
+		long word = w[u] & (-1L >>> -(from + 1));
+		while (word == 0) {
+			if (--u < 0) {
+				return -1;
+			}
+			word = w[u];
+		}
+
+		return (u << 6) + 63 - Long.numberOfLeadingZeros(word);
+	}
+
+	/**
+	 * Shifts the following elements down a word at a time.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#remove(int)
+	 */
+	@Override
+	public boolean remove(int index) {
+		checkIndex(index);
+		final long[] w = words;
+		final int first = index >>> 6;
+		final long low = (1L << index) - 1;
+		w[first] = (w[first] & low) | ((w[first] >>> 1) & ~low);
+		for (int i = first + 1, last = (size - 1) >>> 6; i <= last; ++i) {
+			w[i - 1] |= w[i] << 63;
+			w[i] >>>= 1;
+		}
+		--size;
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#set(int, boolean)
+	 */
+	@Override
+	public boolean set(int index, boolean element) {
+		checkIndex(index);
+		final long bit = 1L << index;
+		final int u = index >>> 6;
+		final boolean old = (words[u] & bit) != 0;
+		if (element) {
+			words[u] |= bit;
+		} else {
+			words[u] &= ~bit;
+		}
+
+		return old;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#size()
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimativeBooleanList#toArray()
+	 */
+	@Override
+	public boolean[] toArray() {
+		final long[] w = words;
+		final boolean[] out = new boolean[size];
+		for (int i = 0; i < out.length; ++i) {
+			out[i] = (w[i >>> 6] & (1L << i)) != 0;
+		}
+		return out;
+	}
+
+	/**
+	 * Sets each element to itself XOR the element at the same index of
+	 * {@code other}. Elements past the end of {@code other} count as
+	 * {@code false}; the size of this list does not change.
+	 * 
+	 * @param other
+	 *            the list to combine with
+	 */
+	public void xor(PackedBooleanList other) {
+		final int m = Math.min(wordsFor(size), wordsFor(other.size));
+		final long[] w = words;
+		final long[] o = other.words;
+		for (int i = 0; i < m; ++i) {
+			w[i] ^= o[i];
+		}
+		clearTail();
+	}
+
+	/**
+	 * Zeroes the bits of the last word past the end of the list.
+	 */
+	private void clearTail() {
+		if ((size & 63) != 0) {
+			words[size >>> 6] &= (1L << size) - 1;
+		}
+	}
+
+	private void ensureCapacity(int bits) {
+		final int needed = wordsFor(bits);
+		if (needed > words.length) {
+			words = Arrays.copyOf(words, Math.max(needed, words.length * 2));
+		}
+	}
+
+	private static int wordsFor(int bits) {
+		return (int) ((bits + 63L) >>> 6);
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * VarintEncoding.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+/**
+ * Variable length encodings of {@code int} and {@code long} lists, used by
+ * {@link IntVarintCodec} and {@link LongVarintCodec}.
+ * 
+ * <p>
+ * Every encoding writes each (transformed) element as an unsigned LEB128
+ * varint: seven bits per byte, least significant group first, with the high
+ * bit set on every byte but the last. Small values take one byte; an
+ * {@code int} takes at most five and a {@code long} at most ten.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public enum VarintEncoding {
+
+	/**
+	 * Each element as an unsigned varint. Best for small non-negative values;
+	 * every negative value takes the maximum length.
+	 */
+	VARINT(0),
+
+	/**
+	 * Each element zigzag encoded ({@code 0, -1, 1, -2, ...} become
+	 * {@code 0, 1, 2, 3, ...}), so values of small magnitude of either sign
+	 * are short.
+	 */
+	ZIGZAG(1),
+
+	/**
+	 * The zigzag encoded difference between each element and the one before
+	 * it (the first element is taken as is). Best for sorted or slowly
+	 * changing values such as IDs.
+	 */
+	DELTA(2),
+
+	/**
+	 * The zigzag encoded change in the difference between consecutive
+	 * elements. Values that increase at a nearly constant rate, such as
+	 * regular timestamps, encode to about one byte each.
+	 */
+	DELTA_OF_DELTA(3);
+
+	private final int id;
+
+	private VarintEncoding(int id) {
+		this.id = id;
+	}
+
+	/**
+	 * Returns the stable identifier written in front of encoded lists.
+	 * 
+	 * @return the identifier of this encoding
+	 */
+	public int id() {
+		return id;
+	}
+
+	/**
+	 * Returns the encoding with identifier {@code id}.
+	 * 
+	 * @param id
+	 *            an identifier returned by {@link #id()}
+	 * 
+	 * @return the encoding
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if no encoding has identifier {@code id}
+	 */
+	public static VarintEncoding of(int id) {
+		for (final VarintEncoding e : values()) {
+			if (e.id == id) {
+				return e;
+			}
+		}
+		throw new IllegalArgumentException("unknown encoding " + id);
+	}
+}
@@ -38,6 +38,33 @@
 /**
  * {@link java.util.List} style implmentations for primative types.
  *
+ * <p>
+ * The {@code *ArrayList} classes, their {@code IPrimative*List} interfaces
+ * and their tests are generated at build time from the templates in
+ * {@code src/main/templates} and {@code src/test/templates}; change the
+ * templates rather than the generated sources.
+ *
+ * <p>
+ * {@code AbstractPrimative*List} provides the rest of the interface for a new
+ * implementation from {@code get}, {@code set}, {@code add}, {@code remove}
+ * and {@code size}. The {@code OffHeap*List} classes keep their elements in
+ * direct memory, and the {@code Mapped*List} classes in a memory-mapped
+ * file that can be reopened without reading it; both must be
+ * {@code close()}d. {@link us.rothmichaels.lists.PackedBooleanList} stores
+ * booleans one bit each. The {@code Big*List} classes take {@code long}
+ * indices and store their elements in fixed-size pages, so they can grow
+ * past {@code Integer.MAX_VALUE} elements without copying. The
+ * {@code Immutable*List} classes never change and can be shared between
+ * threads without locking, and many threads can append to the
+ * {@code Concurrent*AppendList} classes at once without locking. The
+ * {@code Striped*ListBuilder} classes give each thread its own array list
+ * and concatenate them once the threads are done.
+ *
+ * <p>
+ * The {@code *Sort} classes hold the radix sorts behind the lists'
+ * {@code sort()}, and the {@code Sorted*Lists} classes search, intersect,
+ * union and merge array lists that are already sorted.
+ *
  * @author Roth Michaels (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
  *
  */
@@ -0,0 +1,475 @@
+/*
+ * LongObjectMap.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.maps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+/**
+ * A map from primative long keys to object values using open addressing
+ * with linear probing.
+ * 
+ * <p>
+ * Keys and values are stored in two parallel power-of-two arrays, so there
+ * is no entry object or boxed key per mapping. The zero key marks an empty
+ * slot and its mapping is kept in separate fields. Removal shifts the
+ * following keys of the probe run back instead of leaving tombstones.
+ * {@link #computeIfAbsent(long, LongFunction)} finds or creates a value with
+ * a single probe. Values may be {@code null}, but then {@link #get(long)}
+ * cannot tell them from missing keys.
+ * 
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @param <V>
+ *            value type
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class LongObjectMap<V> {
+
+	/**
+	 * Iterates over the mappings of a map, in no particular order, without
+	 * allocating an entry per mapping. The map must not be structurally
+	 * modified while a cursor is in use.
+	 * 
+	 * @param <V>
+	 *            value type
+	 */
+	public interface Cursor<V> {
+		/**
+		 * Moves to the next mapping.
+		 * 
+		 * @return {@code true} if there is one
+		 */
+		boolean next();
+
+		/**
+		 * Returns the key of the current mapping.
+		 * 
+		 * @return the key
+		 */
+		long key();
+
+		/**
+		 * Returns the value of the current mapping.
+		 * 
+		 * @return the value
+		 */
+		V value();
+
+		/**
+		 * Replaces the value of the current mapping.
+		 * 
+		 * @param value
+		 *            the new value
+		 */
+		void setValue(V value);
+	}
+
+	private final float loadFactor;
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int maxFill;
+	private boolean hasZero;
+	private V zeroValue;
+	private int size;
+
+	/**
+	 * Create an empty map with the default expected size and load factor.
+	 */
+	public LongObjectMap() {
+		this(MapTables.DEFAULT_EXPECTED_SIZE, MapTables.DEFAULT_LOAD_FACTOR);
+	}
+
+	/**
+	 * Create an empty map that holds {@code expectedSize} mappings without
+	 * growing.
+	 * 
+	 * @param expectedSize
+	 *            number of mappings expected
+	 */
+	public LongObjectMap(int expectedSize) {
+		this(expectedSize, MapTables.DEFAULT_LOAD_FACTOR);
+	}
+
+	/**
+	 * Create an empty map that holds {@code expectedSize} mappings without
+	 * growing, and grows when more than {@code loadFactor} of its slots are
+	 * used.
+	 * 
+	 * @param expectedSize
+	 *            number of mappings expected
+	 * @param loadFactor
+	 *            largest fraction of slots used before the table doubles
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code expectedSize} is negative or {@code loadFactor}
+	 *             is not in {@code (0, 1)}
+	 */
+	public LongObjectMap(int expectedSize, float loadFactor) {
+		MapTables.checkArguments(expectedSize, loadFactor);
+		this.loadFactor = loadFactor;
+		allocate(MapTables.tableSize(expectedSize, loadFactor));
+	}
+
+	/**
+	 * Returns the value of {@code key}, first mapping it to
+	 * {@code mappingFunction.apply(key)} if it is not in the map.
+	 * 
+	 * @param key
+	 *            key to look up
+	 * @param mappingFunction
+	 *            creates the value of a missing key
+	 * 
+	 * @return the existing or new value
+	 */
+	public V computeIfAbsent(long key,
+			LongFunction<? extends V> mappingFunction) {
+		if (key == 0) {
+			if (!hasZero) {
+				zeroValue = mappingFunction.apply(key);
+				hasZero = true;
+				++size;
+			}
+			return zeroValue;
+		}
+		final int i = slot(key);
+		if (keys[i] == key) {
+			return valueAt(i);
+		}
+		final V value = mappingFunction.apply(key);
+		insert(i, key, value);
+		return value;
+	}
+
+	/**
+	 * Removes every mapping.
+	 */
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(keys, 0);
+			Arrays.fill(values, null);
+			hasZero = false;
+			zeroValue = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if {@code key} is in the map.
+	 * 
+	 * @param key
+	 *            key to look up
+	 * 
+	 * @return {@code true} if {@code key} is in the map
+	 */
+	public boolean containsKey(long key) {
+		return key == 0 ? hasZero : keys[slot(key)] == key;
+	}
+
+	/**
+	 * Returns a cursor over the mappings.
+	 * 
+	 * @return a cursor positioned before the first mapping
+	 */
+	public Cursor<V> cursor() {
+		return new MapCursor();
+	}
+
+	/**
+	 * Grows the table, if needed, so it holds {@code expectedSize} mappings
+	 * without growing again.
+	 * 
+	 * @param expectedSize
+	 *            number of mappings the map must hold
+	 */
+	public void ensureCapacity(int expectedSize) {
+		final int capacity = MapTables.tableSize(expectedSize, loadFactor);
+		if (capacity > keys.length) {
+			rehash(capacity);
+		}
+	}
+
+	/**
+	 * Returns the value of {@code key}, or {@code null} if {@code key} is not
+	 * in the map.
+	 * 
+	 * @param key
+	 *            key to look up
+	 * 
+	 * @return the value of {@code key}, or {@code null}
+	 */
+	public V get(long key) {
+		return getOrDefault(key, null);
+	}
+
+	/**
+	 * Returns the value of {@code key}, or {@code defaultValue} if
+	 * {@code key} is not in the map.
+	 * 
+	 * @param key
+	 *            key to look up
+	 * @param defaultValue
+	 *            value to return if {@code key} is not in the map
+	 * 
+	 * @return the value of {@code key}, or {@code defaultValue}
+	 */
+	public V getOrDefault(long key, V defaultValue) {
+		if (key == 0) {
+			return hasZero ? zeroValue : defaultValue;
+		}
+		final int i = slot(key);
+		return keys[i] == key ? valueAt(i) : defaultValue;
+	}
+
+	/**
+	 * Returns {@code true} if the map is empty.
+	 * 
+	 * @return {@code true} if the map is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Maps {@code key} to {@code value}.
+	 * 
+	 * @param key
+	 *            key to set
+	 * @param value
+	 *            value to set
+	 * 
+	 * @return the previous value of {@code key}, or {@code null} if it was
+	 *         not in the map
+	 */
+	public V put(long key, V value) {
+		if (key == 0) {
+			final V old = zeroValue;
+			if (!hasZero) {
+				hasZero = true;
+				++size;
+			}
+			zeroValue = value;
+			return old;
+		}
+		final int i = slot(key);
+		if (keys[i] == key) {
+			final V old = valueAt(i);
+			values[i] = value;
+			return old;
+		}
+		insert(i, key, value);
+		return null;
+	}
+
+	/**
+	 * Removes the mapping of {@code key}.
+	 * 
+	 * @param key
+	 *            key to remove
+	 * 
+	 * @return the value {@code key} had, or {@code null} if it was not in
+	 *         the map
+	 */
+	public V remove(long key) {
+		if (key == 0) {
+			if (!hasZero) {
+				return null;
+			}
+			final V old = zeroValue;
+			hasZero = false;
+			zeroValue = null;
+			--size;
+			return old;
+		}
+		final int i = slot(key);
+		if (keys[i] != key) {
+			return null;
+		}
+		final V old = valueAt(i);
+		shiftKeys(i);
+		--size;
+		return old;
+	}
+
+	/**
+	 * Returns the number of mappings in the map.
+	 * 
+	 * @return the number of mappings
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the slot holding {@code key}, or the empty slot that ends its
+	 * probe run. {@code key} must not be zero.
+	 */
+	private int slot(long key) {
+		final long[] k = keys;
+		int i = MapTables.mix(key) & mask;
+		for (long cur; (cur = k[i]) != 0 && cur != key; i = (i + 1) & mask) {
+		}
+		return i;
+	}
+
+	/**
+	 * Stores a new mapping in the empty slot {@code i}.
+	 */
+	private void insert(int i, long key, V value) {
+		keys[i] = key;
+		values[i] = value;
+		if (++size > maxFill) {
+			rehash(MapTables.grow(keys.length));
+		}
+	}
+
+	/**
+	 * Removes the mapping at {@code pos} by moving back each following
+	 * mapping of the probe run that may occupy the freed slot.
+	 */
+	private void shiftKeys(int pos) {
+		final long[] k = keys;
+		final Object[] v = values;
+		for (;;) {
+			final int last = pos;
+			long cur;
+			for (pos = (pos + 1) & mask;; pos = (pos + 1) & mask) {
+				cur = k[pos];
+				if (cur == 0) {
+					k[last] = 0;
+					v[last] = null;
+					return;
+				}
+				final int slot = MapTables.mix(cur) & mask;
+				// cur may move to last unless its home slot lies in (last, pos]
+				if (last <= pos ? (last >= slot || slot > pos)
+						: (last >= slot && slot > pos)) {
+					break;
+				}
+			}
+			k[last] = cur;
+			v[last] = v[pos];
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int i) {
+		return (V) values[i];
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		maxFill = MapTables.maxFill(capacity, loadFactor);
+	}
+
+	private void rehash(int capacity) {
+		final long[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate(capacity);
+		final long[] k = keys;
+		for (int j = 0; j < oldKeys.length; ++j) {
+			final long key = oldKeys[j];
+			if (key != 0) {
+				int i = MapTables.mix(key) & mask;
+				while (k[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				k[i] = key;
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+	/**
+	 * {@link Cursor} over the zero mapping and then the table.
+	 */
+	private final class MapCursor implements Cursor<V> {
+		private int index = hasZero ? -2 : -1;
+
+		@Override
+		public boolean next() {
+			final long[] k = keys;
+			if (index < -1) {
+				index = -1;
+				return true;
+			}
+			while (++index < k.length) {
+				if (k[index] != 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public long key() {
+			check();
+			return index < 0 ? 0 : keys[index];
+		}
+
+		@Override
+		public V value() {
+			check();
+			return index < 0 ? zeroValue : valueAt(index);
+		}
+
+		@Override
+		public void setValue(V value) {
+			check();
+			if (index < 0) {
+				zeroValue = value;
+			} else {
+				values[index] = value;
+			}
+		}
+
+		private void check() {
+			if (index < -1 || index >= keys.length
+					|| (index == -1 && !hasZero)) {
+				throw new NoSuchElementException();
+			}
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * MapTables.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.maps;
+
+/**
+ * Sizing and hashing shared by the open-addressing maps.
+ * 
+ * <p>
+ * Each map keeps its keys and values in parallel power-of-two arrays and
+ * resolves collisions by linear probing, starting from the slot given by
+ * {@link #mix(int)} or {@link #mix(long)} of the key.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class MapTables {
+
+	/**
+	 * Load factor used when none is given.
+	 */
+	static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * Expected size used when none is given.
+	 */
+	static final int DEFAULT_EXPECTED_SIZE = 16;
+
+	static final int MIN_CAPACITY = 4;
+	static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * Returns the power-of-two table size that holds {@code expectedSize}
+	 * keys at {@code loadFactor}.
+	 * 
+	 * @param expectedSize
+	 *            number of keys expected
+	 * @param loadFactor
+	 *            largest fraction of slots used
+	 * 
+	 * @return the table size
+	 */
+	static int tableSize(int expectedSize, float loadFactor) {
+		final long needed = (long) Math.ceil(expectedSize
+				/ (double) loadFactor);
+		if (needed >= MAX_CAPACITY) {
+			return MAX_CAPACITY;
+		}
+		return Math.max(MIN_CAPACITY,
+				Integer.highestOneBit((int) needed - 1) << 1);
+	}
+
+	/**
+	 * Returns the number of keys a table of {@code capacity} slots holds
+	 * before it grows; at least one slot is always left empty so probes
+	 * terminate.
+	 * 
+	 * @param capacity
+	 *            table size
+	 * @param loadFactor
+	 *            largest fraction of slots used
+	 * 
+	 * @return the largest size before growing
+	 */
+	static int maxFill(int capacity, float loadFactor) {
+		return Math.min((int) (capacity * loadFactor), capacity - 1);
+	}
+
+	/**
+	 * Checks the constructor arguments shared by the maps.
+	 * 
+	 * @param expectedSize
+	 *            number of keys expected
+	 * @param loadFactor
+	 *            largest fraction of slots used
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code expectedSize} is negative or {@code loadFactor}
+	 *             is not in {@code (0, 1)}
+	 */
+	static void checkArguments(int expectedSize, float loadFactor) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("" + expectedSize);
+		}
+		if (!(loadFactor > 0 && loadFactor < 1)) {
+			throw new IllegalArgumentException("" + loadFactor);
+		}
+	}
+
+	/**
+	 * Returns the capacity to grow a full table of {@code capacity} slots
+	 * to.
+	 * 
+	 * @param capacity
+	 *            current table size
+	 * 
+	 * @return the new table size
+	 * 
+	 * @throws IllegalStateException
+	 *             if the table cannot grow
+	 */
+	static int grow(int capacity) {
+		if (capacity >= MAX_CAPACITY) {
+			throw new IllegalStateException("map is full");
+		}
+		return capacity * 2;
+	}
+
+	/**
+	 * Spreads the bits of {@code x} so keys that differ only in their high
+	 * bits land in different slots.
+	 * 
+	 * @param x
+	 *            key or key hash code
+	 * 
+	 * @return the mixed hash
+	 */
+	static int mix(int x) {
+		final int h = x * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Spreads the bits of {@code x} so keys that differ only in their high
+	 * bits land in different slots.
+	 * 
+	 * @param x
+	 *            key
+	 * 
+	 * @return the mixed hash
+	 */
+	static int mix(long x) {
+		final long h = x * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private MapTables() {
+		throw new AssertionError();
+	}
+}
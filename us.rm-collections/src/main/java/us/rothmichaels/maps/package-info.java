@@ -38,6 +38,13 @@
 /**
  * Convience wrappers around Java maps.
  *
+ * <p>
+ * {@link us.rothmichaels.maps.IntIntMap}, {@link us.rothmichaels.maps.LongLongMap}
+ * and the other primative maps keep keys and values in parallel
+ * open-addressing arrays, without an entry object or boxing per mapping.
+ * The primitive to primitive maps are generated from
+ * {@code src/main/templates/us/rothmichaels/maps/$Key$$Value$Map.java}.
+ *
  * @author Roth Michaels (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
  *
  */
@@ -38,6 +38,11 @@
 /**
  * Set implementations.
  *
+ * <p>
+ * The {@code *HashSet} classes hold primative keys in an open-addressing
+ * table, without boxing; they are generated from the templates in
+ * {@code src/main/templates}.
+ *
  * @author Roth Michaels (<i><a href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
  *
  */
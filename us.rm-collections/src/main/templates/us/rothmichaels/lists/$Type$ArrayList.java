@@ -0,0 +1,1551 @@
+/*
+ * $Type$ArrayList.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2011 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 28, 2011 
+ */
+package us.rothmichaels.lists;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+//#if Int|Long|Double
+import java.util.PrimitiveIterator;
+//#endif
+//#if numeric
+import java.util.function.$Wide$Consumer;
+import java.util.function.$Wide$Predicate;
+//#if Long
+import java.util.function.LongToIntFunction;
+//#endif
+import java.util.function.$Wide$UnaryOperator;
+import java.util.stream.IntStream;
+//#if Long|Double|Float
+import java.util.stream.$Wide$Stream;
+//#endif
+import java.util.stream.StreamSupport;
+
+import us.rothmichaels.sets.$Type$HashSet;
+//#endif
+
+/**
+ * An {@link java.util.ArrayList}-like structure for storing primative $type$s.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ * 
+ */
+public class $Type$ArrayList implements IPrimative$Type$List {
+
+//#if numeric
+	/**
+	 * Lists smaller than this run their parallel bulk operations
+	 * sequentially, since forking would cost more than it saves.
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 13;
+
+//#endif
+	/**
+	 * The most elements {@link #readFrom} reads before growing, which bounds
+	 * what a corrupt or truncated header can make it allocate.
+	 */
+	static final int READ_CHUNK = 1 << 16;
+
+	$type$ data[];
+	int addPointer;
+
+	/**
+	 * Number of structural modifications, checked by the sub list views.
+	 */
+	private int modCount;
+
+	private final int initialSize;
+	private GrowthPolicy growthPolicy;
+	private int shrinkThreshold = Integer.MAX_VALUE;
+
+	/**
+	 * Create an empty $Type$ArrayList with size 10.
+	 */
+	public $Type$ArrayList() {
+		this(10);
+	}
+
+	/**
+	 * Create an empty $Type$ArrayList with arbitrary size
+	 * 
+	 * @param initialSize
+	 *            Initial size
+	 */
+	public $Type$ArrayList(int initialSize) {
+		this(initialSize, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * Create an empty $Type$ArrayList with arbitrary size that grows by
+	 * {@code growthPolicy}.
+	 * 
+	 * @param initialSize
+	 *            Initial size
+	 * @param growthPolicy
+	 *            how to grow the backing array when it is full
+	 */
+	public $Type$ArrayList(int initialSize, GrowthPolicy growthPolicy) {
+		if (growthPolicy == null) {
+			throw new NullPointerException("growthPolicy");
+		}
+		data = new $type$[initialSize];
+		this.initialSize = initialSize;
+		this.growthPolicy = growthPolicy;
+	}
+
+	/**
+	 * Returns a new list holding the elements of {@code l}, detached from it.
+	 * Use this to keep a {@link #subList(int, int)} view after the list it
+	 * came from changes.
+	 * 
+	 * @param l
+	 *            list to copy
+	 * 
+	 * @return a new list with the same elements
+	 */
+	public static $Type$ArrayList copyOf(IPrimative$Type$List l) {
+		final $type$[] a = l.toArray();
+		final $Type$ArrayList out = new $Type$ArrayList(0);
+		out.data = a;
+		out.addPointer = a.length;
+
+		return out;
+	}
+
+	/**
+	 * Reads a list written by {@link IPrimative$Type$List#writeTo}. Use a
+	 * {@link $Type$ListReader} to read a list too large to hold in memory.
+	 * 
+	 * @param channel
+	 *            channel positioned at the start of a list; it is not closed
+	 * 
+	 * @return a new list holding the elements read
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be read, ends early or does not hold
+	 *             a list of {@code $type$}s that fits in a $Type$ArrayList
+	 */
+	public static $Type$ArrayList readFrom(ReadableByteChannel channel)
+			throws IOException {
+		final $Type$ListReader reader = new $Type$ListReader(channel);
+		if (reader.length() > Integer.MAX_VALUE - 8) {
+			throw new IOException("length " + reader.length()
+					+ " is too large");
+		}
+		// the header is untrusted, so grow as the payload arrives rather
+		// than allocating its claimed length up front
+		final int n = (int) reader.length();
+		final $Type$ArrayList out = new $Type$ArrayList(Math.min(n,
+				READ_CHUNK));
+		while (out.addPointer < n) {
+			final int m = Math.min(n - out.addPointer, READ_CHUNK);
+			if (out.addPointer + m > out.data.length) {
+				out.grow(out.addPointer + m);
+			}
+			out.addPointer += reader.read(out.data, out.addPointer, m);
+		}
+
+		return out;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add($type$)
+	 */
+	@Override
+	public boolean add($type$ f) {
+		if (addPointer >= data.length) {
+			grow(addPointer + 1);
+		}
+		data[addPointer++] = f;
+		++modCount;
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add(int, $type$)
+	 */
+	@Override
+	public void add(int index, $type$ f) {
+		checkPosition(index);
+		if (addPointer >= data.length) {
+			grow(addPointer + 1);
+		}
+		System.arraycopy(data, index, data, index + 1, addPointer - index);
+		data[index] = f;
+		++addPointer;
+		++modCount;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#size()
+	 */
+	@Override
+	public int size() {
+		return addPointer;
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sort()
+	 */
+	@Override
+	public void sort() {
+		$Type$Sort.sort(data, 0, addPointer);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sort(int, int)
+	 */
+	@Override
+	public void sort(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex, addPointer);
+		$Type$Sort.sort(data, fromIndex, toIndex);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sortIndices()
+	 */
+	@Override
+	public IntArrayList sortIndices() {
+		return $Type$Sort.sortIndexList(data, 0, addPointer);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#stream()
+	 */
+	@Override
+	public $Wide$Stream stream() {
+		return StreamSupport.$wide$Stream(spliterator(), false);
+	}
+//#endif
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#clear()
+	 */
+	@Override
+	public void clear() {
+		if (data.length > shrinkThreshold) {
+			data = new $type$[initialSize];
+		} else {
+			// only the used prefix can be non-zero
+			Arrays.fill(data, 0, addPointer, $zero$);
+		}
+		addPointer = 0;
+		++modCount;
+	}
+
+	/**
+	 * Hands the elements over to a new immutable list without copying them.
+	 * The immutable list takes the backing array, so this list is left
+	 * empty with a new array of its initial size; views of it become
+	 * invalid. Call {@link #trimToSize()} first if the unused capacity should
+	 * not be kept alive by the immutable list.
+	 * 
+	 * @return an immutable list of the elements
+	 */
+	public Immutable$Type$List freeze() {
+		final Immutable$Type$List out = addPointer == 0 ? Immutable$Type$List
+				.of() : new Immutable$Type$List(data, 0, addPointer);
+		if (addPointer > 0) {
+			data = new $type$[initialSize];
+			addPointer = 0;
+		}
+		++modCount;
+
+		return out;
+	}
+
+	/**
+	 * Returns an immutable copy of the list, which stays as it is. Use
+	 * {@link #freeze()} to avoid the copy when the list is no longer needed.
+	 * 
+	 * @return an immutable list of the elements
+	 */
+	public Immutable$Type$List toImmutable() {
+		return addPointer == 0 ? Immutable$Type$List.of()
+				: new Immutable$Type$List(Arrays.copyOf(data, addPointer), 0,
+						addPointer);
+	}
+
+	/**
+	 * Returns the length of the backing array.
+	 * 
+	 * @return the number of elements the list can hold without growing
+	 */
+	public int capacity() {
+		return data.length;
+	}
+
+	/**
+	 * Grows the backing array, if needed, so it holds at least
+	 * {@code minCapacity} elements. The array grows by the
+	 * {@link GrowthPolicy}, so a series of calls with increasing sizes does
+	 * not copy on every call.
+	 * 
+	 * @param minCapacity
+	 *            number of elements the list must be able to hold
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > data.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array to the size of the list.
+	 */
+	public void trimToSize() {
+		if (addPointer < data.length) {
+			data = Arrays.copyOf(data, addPointer);
+		}
+	}
+
+	/**
+	 * Returns the policy used to grow the backing array.
+	 * 
+	 * @return the growth policy
+	 */
+	public GrowthPolicy getGrowthPolicy() {
+		return growthPolicy;
+	}
+
+	/**
+	 * Sets the policy used to grow the backing array.
+	 * 
+	 * @param growthPolicy
+	 *            how to grow the backing array when it is full
+	 */
+	public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+		if (growthPolicy == null) {
+			throw new NullPointerException("growthPolicy");
+		}
+		this.growthPolicy = growthPolicy;
+	}
+
+	/**
+	 * Makes {@link #clear()} replace a backing array longer than
+	 * {@code threshold} with one of the initial size, so a list that was
+	 * once large does not keep its memory. By default the array is kept.
+	 * 
+	 * @param threshold
+	 *            largest capacity kept by {@code clear()}, or
+	 *            {@code Integer.MAX_VALUE} to always keep it
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code threshold} is negative
+	 */
+	public void setShrinkOnClear(int threshold) {
+		if (threshold < 0) {
+			throw new IllegalArgumentException("" + threshold);
+		}
+		shrinkThreshold = threshold;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#toArray()
+	 */
+	@Override
+	public final $type$[] toArray() {
+		final $type$ out[] = new $type$[addPointer];
+		System.arraycopy(data, 0, out, 0, addPointer);
+		return out;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(java.util.Collection)
+	 */
+	@Override
+	public boolean addAll(Collection<$Boxed$> c) {
+		return addAll(addPointer, c);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(int,
+	 *      java.util.Collection)
+	 */
+	@Override
+	public boolean addAll(int index, Collection<$Boxed$> c) {
+		checkPosition(index);
+		final int n = c.size();
+		openGap(index, n);
+		int i = index;
+		for (final $type$ value : c) {
+			data[i++] = value;
+		}
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean addAll(IPrimative$Type$List l) {
+		return addAll(addPointer, l);
+	}
+
+	/**
+	 * Inserts the elements of {@code l} at {@code index}. The tail is moved
+	 * once, and the elements of another $Type$ArrayList are copied straight
+	 * from its backing array.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(int,
+	 *      us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean addAll(int index, IPrimative$Type$List l) {
+		checkPosition(index);
+		if (l instanceof $Type$ArrayList && l != this) {
+			final $Type$ArrayList other = ($Type$ArrayList) l;
+			final int n = other.addPointer;
+			openGap(index, n);
+			System.arraycopy(other.data, 0, data, index, n);
+		} else {
+			final $type$[] a = l.toArray();
+			openGap(index, a.length);
+			System.arraycopy(a, 0, data, index, a.length);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Appends {@code a[from, to)} to the list.
+	 * 
+	 * @param a
+	 *            array holding the elements to append
+	 * @param from
+	 *            first index to copy (inclusive)
+	 * @param to
+	 *            last index to copy (exclusive)
+	 * 
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code [from, to)} is not a range of {@code a}
+	 */
+	public void addAll($type$[] a, int from, int to) {
+		if (from < 0 || to > a.length || from > to) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					from, to));
+		}
+		final int n = to - from;
+		openGap(addPointer, n);
+		System.arraycopy(a, from, data, addPointer - n, n);
+	}
+
+	/**
+	 * Inserts {@code values[k]} before the element at {@code positions[k]}
+	 * for every {@code k}, in one pass over the list.
+	 * 
+	 * <p>
+	 * Positions refer to the list as it was before the call, so they are
+	 * not shifted by the earlier insertions, and must be in ascending
+	 * order; values with the same position are inserted in order. A
+	 * position equal to {@code size()} appends. This costs
+	 * {@code O(size() + values.length)}, where repeated {@link #add(int, $type$)}
+	 * calls cost {@code O(size() * values.length)}.
+	 * 
+	 * @param positions
+	 *            insertion points, ascending, each in {@code [0, size()]}
+	 * @param values
+	 *            values to insert, one per position
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the arrays differ in length or {@code positions} is not
+	 *             ascending
+	 * @throws IndexOutOfBoundsException
+	 *             if a position is outside {@code [0, size()]}
+	 */
+	public void insertAll(int[] positions, $type$[] values) {
+		final int m = positions.length;
+		if (values.length != m) {
+			throw new IllegalArgumentException(m + " positions for "
+					+ values.length + " values");
+		}
+		for (int k = 0; k < m; ++k) {
+			checkPosition(positions[k]);
+			if (k > 0 && positions[k] < positions[k - 1]) {
+				throw new IllegalArgumentException("positions not ascending at "
+						+ k);
+			}
+		}
+		if (addPointer + m > data.length) {
+			grow(addPointer + m);
+		}
+
+		// fill from the back so each old element moves once
+		int end = addPointer;
+		for (int k = m - 1; k >= 0; --k) {
+			final int p = positions[k];
+			System.arraycopy(data, p, data, p + k + 1, end - p);
+			data[p + k] = values[k];
+			end = p;
+		}
+		addPointer += m;
+		++modCount;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#contains($type$)
+	 */
+	@Override
+	public boolean contains($type$ value) {
+		return $Type$Search.indexOf(data, 0, addPointer, value) >= 0;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#containsAny($type$[])
+	 */
+	@Override
+	public boolean containsAny($type$[] values) {
+		return $Type$Search.containsAny(data, 0, addPointer, values);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#containsAll(java.util.Collection)
+	 */
+	@Override
+	public boolean containsAll(Collection<$Boxed$> c) {
+		for (final $type$ value : c) {
+			if ($Type$Search.indexOf(data, 0, addPointer, value) < 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#containsAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean containsAll(IPrimative$Type$List c) {
+		final $type$[] a = c.toArray();
+
+		for (final $type$ value : a) {
+			if ($Type$Search.indexOf(data, 0, addPointer, value) < 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#cursor()
+	 */
+	@Override
+	public $Type$Cursor cursor() {
+		return new Cursor();
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#forEach(java.util.function.$Wide$Consumer)
+	 */
+	@Override
+	public void forEach($Wide$Consumer action) {
+		final $type$[] a = data;
+		final int size = addPointer;
+		for (int i = 0; i < size; ++i) {
+			action.accept(a[i]);
+		}
+	}
+//#endif
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#get(int)
+	 */
+	@Override
+	public $type$ get(int index) {
+		if (index < 0 || index >= addPointer) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+
+		return data[index];
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#indexOf($type$)
+	 * @throws IllegalArgumentException
+	 *             if input does not exist in list
+	 */
+	@Override
+	public int indexOf($type$ i) throws IllegalArgumentException {
+		final int j = $Type$Search.indexOf(data, 0, addPointer, i);
+		if (j < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		return j;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#indexOfAll($type$)
+	 */
+	@Override
+	public IPrimativeIntList indexOfAll($type$ value) {
+		return $Type$Search.indexOfAll(data, 0, addPointer, value,
+				new IntArrayList());
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (addPointer == 0);
+	}
+
+//#if Int|Long|Double
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#iterator()
+	 */
+	@Override
+	public PrimitiveIterator.Of$Type$ iterator() {
+		return new Itr();
+	}
+
+//#endif
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#lastIndexOf($type$)
+	 * @throws IllegalArgumentException
+	 *             if input does not exist in list
+	 */
+	@Override
+	public int lastIndexOf($type$ value) throws IllegalArgumentException {
+		final int j = $Type$Search.lastIndexOf(data, 0, addPointer, value);
+		if (j < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		return j;
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelMax()
+	 */
+	@Override
+	public $type$ parallelMax() {
+		return $cast$bulkStream().max().getAs$Wide$();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelMin()
+	 */
+	@Override
+	public $type$ parallelMin() {
+		return $cast$bulkStream().min().getAs$Wide$();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelReplaceAll(java.util.function.$Wide$UnaryOperator)
+	 */
+	@Override
+	public void parallelReplaceAll(final $Wide$UnaryOperator operator) {
+		final $type$[] a = data;
+		final int size = addPointer;
+		if (size < PARALLEL_THRESHOLD) {
+			for (int i = 0; i < size; ++i) {
+				a[i] = $cast$operator.applyAs$Wide$(a[i]);
+			}
+		} else {
+			IntStream.range(0, size).parallel()
+					.forEach(i -> a[i] = $cast$operator.applyAs$Wide$(a[i]));
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelSort()
+	 */
+	@Override
+	public void parallelSort() {
+		Arrays.parallelSort(data, 0, addPointer);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelStream()
+	 */
+	@Override
+	public $Wide$Stream parallelStream() {
+		return StreamSupport.$wide$Stream(spliterator(), true);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelSum()
+	 */
+	@Override
+//#if Long
+	public long parallelSum() {
+		return bulkStream().sum();
+	}
+//#else
+//#if integral
+	public long parallelSum() {
+		return bulkStream().asLongStream().sum();
+	}
+//#else
+	public double parallelSum() {
+		return bulkStream().sum();
+	}
+//#endif
+//#endif
+//#endif
+//#if integral
+
+	/**
+	 * Returns the sum of the elements, accumulated in {@code long}.
+//#if Long
+	 * Overflow wraps around, as in {@link #parallelSum()}.
+//#else
+	 * The sum cannot overflow.
+//#endif
+	 * 
+	 * @return the sum, {@code 0} for an empty list
+	 */
+	public long sum() {
+		return $Type$Kernels.sum(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns the smallest element.
+	 * 
+	 * @return the smallest element
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public $type$ min() {
+		if (addPointer == 0) {
+			throw new NoSuchElementException();
+		}
+		return $Type$Kernels.min(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns the largest element.
+	 * 
+	 * @return the largest element
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public $type$ max() {
+		if (addPointer == 0) {
+			throw new NoSuchElementException();
+		}
+		return $Type$Kernels.max(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns the number of elements equal to {@code value}.
+	 * 
+	 * @param value
+	 *            value to count
+	 * 
+	 * @return the number of occurrences
+	 */
+	public int count($type$ value) {
+		return $Type$Kernels.count(data, 0, addPointer, value);
+	}
+
+	/**
+	 * Returns the number of elements from {@code lo} to {@code hi},
+	 * inclusive.
+	 * 
+	 * @param lo
+	 *            smallest value to count
+	 * @param hi
+	 *            largest value to count
+	 * 
+	 * @return the number of elements in {@code [lo, hi]}
+	 */
+	public int countInRange($type$ lo, $type$ hi) {
+		return $Type$Kernels.countInRange(data, 0, addPointer, lo, hi);
+	}
+
+	/**
+	 * Counts the elements into {@code counts.length} buckets of
+	 * {@code width} values each, the first starting at {@code origin}.
+	 * Elements below the first bucket are counted in it, and elements past
+	 * the last bucket in the last one. The counts are added to
+	 * {@code counts}, so several lists can be counted into one histogram.
+	 * 
+	 * @param origin
+	 *            smallest value of the first bucket
+	 * @param width
+	 *            number of values per bucket
+	 * @param counts
+	 *            counts to add to, one per bucket
+	 * 
+	 * @return {@code counts}
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code width} is not positive or {@code counts} is
+	 *             empty
+	 */
+	public int[] histogram(long origin, long width, int[] counts) {
+		if (width <= 0) {
+			throw new IllegalArgumentException("width " + width);
+		}
+		if (counts.length == 0) {
+			throw new IllegalArgumentException("no buckets");
+		}
+		$Type$Kernels.histogram(data, 0, addPointer, origin, width, counts);
+		return counts;
+	}
+
+	/**
+	 * Counts each element into the bucket {@code bucketing} returns for it.
+	 * The counts are added to {@code counts}.
+	 * 
+	 * @param bucketing
+	 *            maps an element to its index in {@code counts}
+	 * @param counts
+	 *            counts to add to, one per bucket
+	 * 
+	 * @return {@code counts}
+	 * 
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if {@code bucketing} returns an index outside
+	 *             {@code counts}
+	 */
+//#if Long
+	public int[] histogram(LongToIntFunction bucketing, int[] counts) {
+//#else
+	public int[] histogram(IntUnaryOperator bucketing, int[] counts) {
+//#endif
+		$Type$Kernels.histogram(data, 0, addPointer, bucketing, counts);
+		return counts;
+	}
+//#endif
+//#if floating
+
+	/**
+	 * Returns the sum of the elements, accumulated in {@code double} by
+	 * pairwise summation: the list is halved recursively down to blocks of
+	 * {@value $Type$Kernels#PAIRWISE_BLOCK}, so the rounding error grows with
+	 * the log of the size rather than the size. See {@link #kahanSum()} for
+	 * a tighter bound.
+	 * 
+	 * @return the sum, {@code 0} for an empty list
+	 */
+	public double sum() {
+		return $Type$Kernels.sum(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns the sum of the elements with compensated (Kahan-Neumaier)
+	 * summation, whose error does not grow with the size of the list. Each
+	 * addition depends on the last, so it is slower than {@link #sum()}.
+	 * 
+	 * @return the sum, {@code 0} for an empty list
+	 */
+	public double kahanSum() {
+		return $Type$Kernels.compensatedSum(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns the arithmetic mean of the elements.
+	 * 
+	 * @return the mean, {@code NaN} for an empty list
+	 */
+	public double mean() {
+		return sum() / addPointer;
+	}
+
+	/**
+	 * Returns the population variance of the elements, computed in two
+	 * passes: the mean, then the pairwise sum of squared deviations from
+	 * it.
+	 * 
+	 * @return the variance, {@code NaN} for an empty list
+	 */
+	public double variance() {
+		final double mean = mean();
+		return $Type$Kernels.sumOfSquares(data, 0, addPointer, mean)
+				/ addPointer;
+	}
+
+	/**
+	 * Returns the smallest element, by {@link Math#min($type$, $type$)}: the
+	 * result is {@code NaN} if any element is.
+	 * 
+	 * @return the smallest element
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public $type$ min() {
+		if (addPointer == 0) {
+			throw new NoSuchElementException();
+		}
+		return $Type$Kernels.min(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns the largest element, by {@link Math#max($type$, $type$)}: the
+	 * result is {@code NaN} if any element is.
+	 * 
+	 * @return the largest element
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public $type$ max() {
+		if (addPointer == 0) {
+			throw new NoSuchElementException();
+		}
+		return $Type$Kernels.max(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns the dot product of this list and {@code other}, accumulated
+	 * in {@code double}.
+	 * 
+	 * @param other
+	 *            list of the same size
+	 * 
+	 * @return the sum of the element-wise products
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the sizes differ
+	 */
+	public double dot($Type$ArrayList other) {
+		checkSameSize(other);
+		return $Type$Kernels.dot(data, 0, other.data, 0, addPointer);
+	}
+
+	/**
+	 * Adds {@code alpha} times each element of {@code x} to the matching
+	 * element of this list (BLAS {@code axpy}).
+	 * 
+	 * @param alpha
+	 *            factor for {@code x}
+	 * @param x
+	 *            list of the same size
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the sizes differ
+	 */
+	public void axpy($type$ alpha, $Type$ArrayList x) {
+		checkSameSize(x);
+		$Type$Kernels.axpy(alpha, x.data, 0, data, 0, addPointer);
+	}
+
+	/**
+	 * Multiplies every element by {@code factor}.
+	 * 
+	 * @param factor
+	 *            factor to multiply by
+	 */
+	public void scale($type$ factor) {
+		$Type$Kernels.scale(data, 0, addPointer, factor);
+	}
+
+	/**
+	 * Adds each element of {@code other} to the matching element of this
+	 * list. Unlike {@link #addAll(IPrimative$Type$List)}, the size does not
+	 * change.
+	 * 
+	 * @param other
+	 *            list of the same size
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the sizes differ
+	 */
+	public void add($Type$ArrayList other) {
+		checkSameSize(other);
+		$Type$Kernels.add(other.data, 0, data, 0, addPointer);
+	}
+
+	private void checkSameSize($Type$ArrayList other) {
+		if (other.addPointer != addPointer) {
+			throw new IllegalArgumentException("sizes differ: " + addPointer
+					+ " != " + other.addPointer);
+		}
+	}
+//#endif
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeValue($type$)
+	 */
+	@Override
+	public boolean removeValue($type$ value) {
+		final int i = $Type$Search.indexOf(data, 0, addPointer, value);
+
+		return (i >= 0) && remove(i);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#remove(int)
+	 */
+	@Override
+	public boolean remove(int index) {
+		if (index < 0 || index >= addPointer) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+		System.arraycopy(data, index + 1, data, index, addPointer - index - 1);
+		data[--addPointer] = $zero$;
+		++modCount;
+
+		return true;
+	}
+
+	/**
+	 * Removes every occurrence of each value in {@code c}, in one pass.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeAll(java.util.Collection)
+	 */
+	@Override
+	public boolean removeAll(Collection<$Boxed$> c) {
+		return removeMatching(c::contains);
+	}
+
+	/**
+	 * Removes every value not in {@code c}, in one pass.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#retainAll(java.util.Collection)
+	 */
+	@Override
+	public boolean retainAll(Collection<$Boxed$> c) {
+		return removeMatching(v -> !c.contains(v));
+	}
+
+	/**
+	 * Removes every occurrence of each value in {@code l}, in one pass.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean removeAll(IPrimative$Type$List l) {
+		return removeMatching($Type$Membership.of(l)::contains);
+	}
+
+	/**
+	 * Removes every value not in {@code l}, in one pass.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#retainAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean retainAll(IPrimative$Type$List l) {
+		final $Type$Membership m = $Type$Membership.of(l);
+
+		return removeMatching(v -> !m.contains(v));
+	}
+//#if numeric
+
+	/**
+	 * Removes every value in {@code s}, in one pass with one hash lookup per
+	 * element. Membership follows the set, see {@link $Type$HashSet}.
+	 * 
+	 * @param s
+	 *            values to remove
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	public boolean removeAll($Type$HashSet s) {
+		return removeMatching(s::contains);
+	}
+
+	/**
+	 * Removes every value not in {@code s}, in one pass with one hash lookup
+	 * per element. Membership follows the set, see {@link $Type$HashSet}.
+	 * 
+	 * @param s
+	 *            values to keep
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	public boolean retainAll($Type$HashSet s) {
+		return removeMatching(v -> !s.contains(v));
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeIf(java.util.function.$Wide$Predicate)
+	 */
+	@Override
+	public boolean removeIf($Wide$Predicate filter) {
+		return removeMatching(filter::test);
+	}
+//#endif
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#set(int, $type$)
+	 */
+	@Override
+	public $type$ set(int index, $type$ element) {
+		if (index < 0 || index >= addPointer) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+		final $type$ old = data[index];
+		data[index] = element;
+
+		return old;
+	}
+
+	/**
+	 * Returns a view of {@code [fromIndex, toIndex)} backed by this list's
+	 * array, so nothing is copied. Writes through the view change this list
+	 * and changes to the elements of this list are seen by the view. Once
+	 * this list is structurally modified other than through the view (or a
+	 * view of it), using the view throws
+	 * {@link ConcurrentModificationException}. Use {@link #copyOf} for a
+	 * detached copy.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#subList(int, int)
+	 */
+	@Override
+	public IPrimative$Type$List subList(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex, addPointer);
+
+		return new SubList(null, fromIndex, toIndex - fromIndex);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#writeTo(java.nio.channels.WritableByteChannel)
+	 */
+	@Override
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		$Type$ListCodec.write(data, 0, addPointer, channel);
+	}
+
+	/**
+	 * Throws unless {@code index} is a valid insertion point,
+	 * {@code [0, size()]}.
+	 */
+	private void checkPosition(int index) {
+		if (index < 0 || index > addPointer) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+	}
+
+	/**
+	 * Throws unless {@code [fromIndex, toIndex)} is a range of a list of
+	 * {@code size} elements.
+	 */
+	private static void checkRange(int fromIndex, int toIndex, int size) {
+		if (fromIndex < 0 || toIndex > size || toIndex < fromIndex) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					fromIndex, toIndex));
+		}
+	}
+
+	/**
+	 * Removes {@code [fromIndex, toIndex)} with one move of the tail.
+	 */
+	private void removeRange(int fromIndex, int toIndex) {
+		System.arraycopy(data, toIndex, data, fromIndex, addPointer - toIndex);
+		truncate(addPointer - (toIndex - fromIndex));
+	}
+
+	/**
+	 * Tests elements for {@link #removeMatching}.
+	 */
+	private interface Matcher {
+		boolean matches($type$ value);
+	}
+
+	/**
+	 * Removes every element {@code matcher} matches. Every element is tested
+	 * before any is moved, so if {@code matcher} throws the list is left
+	 * unchanged, as {@link java.util.ArrayList#removeIf} leaves it.
+	 */
+	private boolean removeMatching(Matcher matcher) {
+		final $type$[] a = data;
+		final int size = addPointer;
+		int first = 0;
+		while (first < size && !matcher.matches(a[first])) {
+			++first;
+		}
+		if (first == size) {
+			return false;
+		}
+		// bit i - first is set when a[i] is to be removed
+		final long[] removed = new long[((size - first - 1) >> 6) + 1];
+		removed[0] = 1L;
+		for (int i = first + 1; i < size; ++i) {
+			if (matcher.matches(a[i])) {
+				removed[(i - first) >> 6] |= 1L << (i - first);
+			}
+		}
+		int kept = first;
+		for (int i = first + 1; i < size; ++i) {
+			if ((removed[(i - first) >> 6] & 1L << (i - first)) == 0) {
+				a[kept++] = a[i];
+			}
+		}
+
+		return truncate(kept);
+	}
+
+	/**
+	 * Shrinks the list to {@code newSize}, zeroing the dropped elements.
+	 * 
+	 * @return {@code true} if any element was dropped
+	 */
+	private boolean truncate(int newSize) {
+		if (newSize == addPointer) {
+			return false;
+		}
+		Arrays.fill(data, newSize, addPointer, $zero$);
+		addPointer = newSize;
+		++modCount;
+
+		return true;
+	}
+
+	/**
+	 * Grows the list by {@code n} elements, moving the tail from
+	 * {@code index} up to leave {@code [index, index + n)} to be written.
+	 */
+	private void openGap(int index, int n) {
+		if (n > data.length - addPointer) {
+			grow(addPointer + n);
+		}
+		System.arraycopy(data, index, data, index + n, addPointer - index);
+		addPointer += n;
+		++modCount;
+	}
+
+	/**
+	 * Replaces the backing array with one of at least {@code minCapacity}
+	 * elements chosen by the growth policy. The choice is clamped, since a
+	 * custom policy that returns too little would otherwise surface as an
+	 * {@link ArrayIndexOutOfBoundsException} far from its cause.
+	 */
+	private void grow(int minCapacity) {
+		data = Arrays.copyOf(data, GrowthPolicy.clamp(
+				growthPolicy.grow(data.length, minCapacity), minCapacity));
+	}
+
+//#if numeric
+	/**
+	 * Returns a spliterator over the current contents of the backing array.
+	 */
+	private $Type$ArraySpliterator spliterator() {
+		return new $Type$ArraySpliterator(data, 0, addPointer);
+	}
+
+	/**
+	 * Returns a parallel stream over the list, or a sequential one if the
+	 * list is below {@link #PARALLEL_THRESHOLD}.
+	 */
+	private $Wide$Stream bulkStream() {
+		return StreamSupport.$wide$Stream(spliterator(),
+				addPointer >= PARALLEL_THRESHOLD);
+	}
+
+//#endif
+	/**
+	 * Live view of a range of the backing array; see {@link #subList}.
+	 * Structural changes go through the enclosing list and are applied to
+	 * the sizes of this view and the views it was taken from.
+	 */
+	private final class SubList extends AbstractPrimative$Type$List {
+		private final SubList parent;
+		private final int offset;
+		private int size;
+		private int expectedModCount;
+
+		SubList(SubList parent, int offset, int size) {
+			this.parent = parent;
+			this.offset = offset;
+			this.size = size;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public int size() {
+			checkForComodification();
+			return size;
+		}
+
+		@Override
+		public $type$ get(int index) {
+			checkIndex(index);
+			return data[offset + index];
+		}
+
+		@Override
+		public $type$ set(int index, $type$ element) {
+			checkIndex(index);
+			final $type$ old = data[offset + index];
+			data[offset + index] = element;
+
+			return old;
+		}
+
+		@Override
+		public void add(int index, $type$ element) {
+			checkPosition(index);
+			$Type$ArrayList.this.add(offset + index, element);
+			updateSize(1);
+		}
+
+		@Override
+		public boolean addAll(Collection<$Boxed$> c) {
+			return addAll(size(), c);
+		}
+
+		@Override
+		public boolean addAll(IPrimative$Type$List l) {
+			return addAll(size(), l);
+		}
+
+		@Override
+		public boolean addAll(int index, Collection<$Boxed$> c) {
+			checkPosition(index);
+			final int before = addPointer;
+			$Type$ArrayList.this.addAll(offset + index, c);
+			updateSize(addPointer - before);
+
+			return addPointer > before;
+		}
+
+		@Override
+		public boolean addAll(int index, IPrimative$Type$List l) {
+			checkPosition(index);
+			final int before = addPointer;
+			$Type$ArrayList.this.addAll(offset + index, l);
+			updateSize(addPointer - before);
+
+			return addPointer > before;
+		}
+
+		@Override
+		public boolean remove(int index) {
+			checkIndex(index);
+			$Type$ArrayList.this.remove(offset + index);
+			updateSize(-1);
+
+			return true;
+		}
+
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			checkForComodification();
+			$Type$ArrayList.this.removeRange(offset + fromIndex, offset
+					+ toIndex);
+			updateSize(fromIndex - toIndex);
+		}
+
+		@Override
+		protected int indexOfRange($type$ value, int from, int to) {
+			checkForComodification();
+			final int i = $Type$Search.indexOf(data, offset + from, offset
+					+ to, value);
+
+			return i < 0 ? -1 : i - offset;
+		}
+
+		@Override
+		protected int lastIndexOfRange($type$ value, int from, int to) {
+			checkForComodification();
+			final int i = $Type$Search.lastIndexOf(data, offset + from, offset
+					+ to, value);
+
+			return i < 0 ? -1 : i - offset;
+		}
+//#if numeric
+
+		@Override
+		public void forEach($Wide$Consumer action) {
+			checkForComodification();
+			final $type$[] a = data;
+			for (int i = offset, end = offset + size; i < end; ++i) {
+				action.accept(a[i]);
+			}
+		}
+
+		@Override
+		public void parallelSort() {
+			checkForComodification();
+			Arrays.parallelSort(data, offset, offset + size);
+		}
+
+		@Override
+		public void sort(int fromIndex, int toIndex) {
+			checkForComodification();
+			checkRange(fromIndex, toIndex, size);
+			$Type$Sort.sort(data, offset + fromIndex, offset + toIndex);
+		}
+
+		@Override
+		public IntArrayList sortIndices() {
+			checkForComodification();
+			return $Type$Sort.sortIndexList(data, offset, offset + size);
+		}
+//#endif
+
+		@Override
+		public IPrimative$Type$List subList(int fromIndex, int toIndex) {
+			checkRange(fromIndex, toIndex, size());
+
+			return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+		}
+
+		@Override
+		public $type$[] toArray() {
+			checkForComodification();
+			return Arrays.copyOfRange(data, offset, offset + size);
+		}
+
+		@Override
+		public void writeTo(WritableByteChannel channel) throws IOException {
+			checkForComodification();
+			$Type$ListCodec.write(data, offset, offset + size, channel);
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		/**
+		 * Adds {@code delta} to the size of this view and its parents and
+		 * accepts the enclosing list's modification count.
+		 */
+		private void updateSize(int delta) {
+			for (SubList s = this; s != null; s = s.parent) {
+				s.size += delta;
+				s.expectedModCount = modCount;
+			}
+		}
+	}
+
+	/**
+	 * {@link $Type$Cursor} over the backing array.
+	 */
+	private final class Cursor implements $Type$Cursor {
+		private $type$[] array;
+		private int size;
+		private int index;
+
+		Cursor() {
+			reset();
+		}
+
+		@Override
+		public boolean next() {
+			if (index < size) {
+				++index;
+			}
+			return index < size;
+		}
+
+		@Override
+		public $type$ value() {
+			if (index < 0 || index >= size) {
+				throw new NoSuchElementException();
+			}
+			return array[index];
+		}
+
+		@Override
+		public int index() {
+			return index;
+		}
+
+		@Override
+		public void reset() {
+			array = data;
+			size = addPointer;
+			index = -1;
+		}
+	}
+//#if Int|Long|Double
+
+	/**
+	 * {@link PrimitiveIterator.Of$Type$} over the list that supports
+	 * {@link #remove()}.
+	 */
+	private final class Itr implements PrimitiveIterator.Of$Type$ {
+		private int next;
+		private int last = -1;
+
+		@Override
+		public boolean hasNext() {
+			return next < addPointer;
+		}
+
+		@Override
+		public $type$ next$Type$() {
+			if (next >= addPointer) {
+				throw new NoSuchElementException();
+			}
+			last = next++;
+			return data[last];
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			$Type$ArrayList.this.remove(last);
+			next = last;
+			last = -1;
+		}
+
+		@Override
+		public void forEachRemaining($Type$Consumer action) {
+			final $type$[] a = data;
+			final int size = addPointer;
+			for (int i = next; i < size; ++i) {
+				action.accept(a[i]);
+			}
+			if (next < size) {
+				next = size;
+				last = size - 1;
+			}
+		}
+	}
+//#endif
+}
@@ -0,0 +1,149 @@
+//#types numeric
+/*
+ * $Type$ArraySpliterator.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.Spliterator;
+import java.util.function.$Wide$Consumer;
+
+/**
+ * {@link Spliterator.Of$Wide$} over a range of a {@code $type$[]}.
+//#if Byte|Char|Short|Float
+ * Elements are widened to {@code $wide$}.
+//#endif
+ * 
+ * <p>
+ * Splits halve the remaining range, so every split is exactly sized and the
+ * fork-join framework can balance the work without estimating.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class $Type$ArraySpliterator implements Spliterator.Of$Wide$ {
+
+	/**
+	 * Characteristics reported by every {@code $Type$ArraySpliterator}.
+	 */
+	static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+	private final $type$[] array;
+	private int index;
+	private final int fence;
+
+	/**
+	 * Create a spliterator over {@code array[origin, fence)}.
+	 * 
+	 * @param array
+	 *            the array to traverse
+	 * @param origin
+	 *            first index to traverse (inclusive)
+	 * @param fence
+	 *            last index to traverse (exclusive)
+	 */
+	$Type$ArraySpliterator($type$[] array, int origin, int fence) {
+		this.array = array;
+		this.index = origin;
+		this.fence = fence;
+	}
+
+	/**
+	 * @see java.util.Spliterator.Of$Wide$#trySplit()
+	 */
+	@Override
+	public Spliterator.Of$Wide$ trySplit() {
+		final int lo = index;
+		final int mid = (lo + fence) >>> 1;
+		if (lo >= mid) {
+			return null;
+		}
+		index = mid;
+		return new $Type$ArraySpliterator(array, lo, mid);
+	}
+
+	/**
+	 * @see java.util.Spliterator.Of$Wide$#tryAdvance(java.util.function.$Wide$Consumer)
+	 */
+	@Override
+	public boolean tryAdvance($Wide$Consumer action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		if (index < fence) {
+			action.accept(array[index++]);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @see java.util.Spliterator.Of$Wide$#forEachRemaining(java.util.function.$Wide$Consumer)
+	 */
+	@Override
+	public void forEachRemaining($Wide$Consumer action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		final $type$[] a = array;
+		final int hi = fence;
+		int i = index;
+		index = hi;
+		for (; i < hi; ++i) {
+			action.accept(a[i]);
+		}
+	}
+
+	/**
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		return fence - index;
+	}
+
+	/**
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+}
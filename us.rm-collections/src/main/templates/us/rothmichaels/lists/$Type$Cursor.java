@@ -0,0 +1,98 @@
+/*
+ * $Type$Cursor.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+/**
+ * A reusable, allocation free cursor over the elements of a list of primative
+ * {@code $type$}s.
+ * 
+ * <p>
+ * A cursor starts before the first element:
+ * 
+ * <pre>
+ * final $Type$Cursor c = list.cursor();
+ * while (c.next()) {
+ * 	use(c.value());
+ * }
+ * c.reset(); // ready for the next pass
+ * </pre>
+ * 
+ * <p>
+ * A cursor sees the list as it was when the cursor was created or last
+ * {@link #reset() reset}; reset it after modifying the list.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public interface $Type$Cursor {
+
+	/**
+	 * Moves the cursor to the next element.
+	 * 
+	 * @return {@code true} if the cursor is on an element, {@code false} if it
+	 *         moved past the last element
+	 */
+	boolean next();
+
+	/**
+	 * Returns the element under the cursor.
+	 * 
+	 * @return the element under the cursor
+	 * 
+	 * @throws java.util.NoSuchElementException
+	 *             if the cursor is not on an element
+	 */
+	$type$ value();
+
+	/**
+	 * Returns the index of the element under the cursor.
+	 * 
+	 * @return index of the element under the cursor, {@code -1} before the
+	 *         first call to {@link #next()}
+	 */
+	int index();
+
+	/**
+	 * Moves the cursor back before the first element.
+	 */
+	void reset();
+}
@@ -0,0 +1,389 @@
+//#types numeric
+/*
+ * $Type$Kernels.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+//#if Long
+import java.util.function.LongToIntFunction;
+//#else
+//#if integral
+import java.util.function.IntUnaryOperator;
+//#endif
+//#endif
+
+/**
+ * Arithmetic kernels over ranges of {@code $type$[]}s.
+ * 
+ * <p>
+ * The reductions keep independent accumulators, so consecutive additions
+ * do not wait on each other and the loop runs at the throughput of the
+ * adder rather than its latency. The counting and element-wise kernels are
+ * plain counted loops over arrays without data-dependent branches, the
+ * shape the JIT compiles to SIMD instructions.
+//#if floating
+ * Sums and products are accumulated in {@code double}.
+//#else
+ * Sums are accumulated in {@code long}.
+//#endif
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class $Type$Kernels {
+
+//#if integral
+	/**
+	 * Returns the sum of {@code a[from, to)}.
+//#if Long
+	 * Overflow wraps around, as in {@link java.util.stream.LongStream#sum()}.
+//#else
+	 * Accumulated in {@code long}, which cannot overflow for any array
+	 * length.
+//#endif
+	 */
+	static long sum($type$[] a, int from, int to) {
+		long s0 = 0;
+		long s1 = 0;
+		long s2 = 0;
+		long s3 = 0;
+		int i = from;
+		for (final int end = to - 3; i < end; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < to; ++i) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/**
+	 * Returns the smallest of {@code a[from, to)}, which must not be empty.
+	 */
+	static $type$ min($type$[] a, int from, int to) {
+		$type$ m0 = a[from];
+		$type$ m1 = m0;
+		int i = from + 1;
+		for (final int end = to - 1; i < end; i += 2) {
+			final $type$ v0 = a[i];
+			final $type$ v1 = a[i + 1];
+			m0 = v0 < m0 ? v0 : m0;
+			m1 = v1 < m1 ? v1 : m1;
+		}
+		if (i < to && a[i] < m0) {
+			m0 = a[i];
+		}
+		return m1 < m0 ? m1 : m0;
+	}
+
+	/**
+	 * Returns the largest of {@code a[from, to)}, which must not be empty.
+	 */
+	static $type$ max($type$[] a, int from, int to) {
+		$type$ m0 = a[from];
+		$type$ m1 = m0;
+		int i = from + 1;
+		for (final int end = to - 1; i < end; i += 2) {
+			final $type$ v0 = a[i];
+			final $type$ v1 = a[i + 1];
+			m0 = v0 > m0 ? v0 : m0;
+			m1 = v1 > m1 ? v1 : m1;
+		}
+		if (i < to && a[i] > m0) {
+			m0 = a[i];
+		}
+		return m1 > m0 ? m1 : m0;
+	}
+
+	/**
+	 * Returns the number of elements of {@code a[from, to)} equal to
+	 * {@code value}.
+	 */
+	static int count($type$[] a, int from, int to, $type$ value) {
+		int n = 0;
+		for (int i = from; i < to; ++i) {
+			n += a[i] == value ? 1 : 0;
+		}
+		return n;
+	}
+
+	/**
+	 * Returns the number of elements of {@code a[from, to)} in
+	 * {@code [lo, hi]}.
+	 */
+	static int countInRange($type$[] a, int from, int to, $type$ lo, $type$ hi) {
+		int n = 0;
+		for (int i = from; i < to; ++i) {
+			final $type$ v = a[i];
+			n += (v >= lo) & (v <= hi) ? 1 : 0;
+		}
+		return n;
+	}
+
+	/**
+	 * Adds each element of {@code a[from, to)} to {@code counts}, in
+	 * buckets of {@code width} values starting at {@code origin}; values
+	 * outside the buckets are counted in the first or last one.
+	 */
+	static void histogram($type$[] a, int from, int to, long origin,
+			long width, int[] counts) {
+		final int last = counts.length - 1;
+		for (int i = from; i < to; ++i) {
+			final $type$ v = a[i];
+			int b;
+			if (v < origin) {
+				b = 0;
+			} else {
+				final long offset = v - origin;
+//#if Long
+				// v - origin above Long.MAX_VALUE wraps negative
+				final long q = offset >= 0 ? offset / width : Long
+						.divideUnsigned(offset, width);
+//#else
+				final long q = offset / width;
+//#endif
+				b = q < last ? (int) q : last;
+			}
+			++counts[b];
+		}
+	}
+
+	/**
+	 * Adds each element of {@code a[from, to)} to the bucket of
+	 * {@code counts} chosen by {@code bucketing}.
+	 */
+//#if Long
+	static void histogram($type$[] a, int from, int to,
+			LongToIntFunction bucketing, int[] counts) {
+//#else
+	static void histogram($type$[] a, int from, int to,
+			IntUnaryOperator bucketing, int[] counts) {
+//#endif
+		for (int i = from; i < to; ++i) {
+			++counts[bucketing.applyAsInt(a[i])];
+		}
+	}
+//#else
+	/**
+	 * Ranges up to this long are summed directly; longer ones are split in
+	 * half and the halves summed recursively, so the rounding error grows
+	 * with the log of the length instead of the length.
+	 */
+	static final int PAIRWISE_BLOCK = 128;
+
+	/**
+	 * Returns the pairwise sum of {@code a[from, to)}.
+	 */
+	static double sum($type$[] a, int from, int to) {
+		if (to - from > PAIRWISE_BLOCK) {
+			final int mid = (from + to) >>> 1;
+			return sum(a, from, mid) + sum(a, mid, to);
+		}
+		double s0 = 0;
+		double s1 = 0;
+		double s2 = 0;
+		double s3 = 0;
+		int i = from;
+		for (final int end = to - 3; i < end; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < to; ++i) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/**
+	 * Returns the pairwise sum of {@code (a[i] - mean)^2} over
+	 * {@code a[from, to)}.
+	 */
+	static double sumOfSquares($type$[] a, int from, int to, double mean) {
+		if (to - from > PAIRWISE_BLOCK) {
+			final int mid = (from + to) >>> 1;
+			return sumOfSquares(a, from, mid, mean)
+					+ sumOfSquares(a, mid, to, mean);
+		}
+		double s0 = 0;
+		double s1 = 0;
+		int i = from;
+		for (final int end = to - 1; i < end; i += 2) {
+			final double d0 = a[i] - mean;
+			final double d1 = a[i + 1] - mean;
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+		}
+		if (i < to) {
+			final double d = a[i] - mean;
+			s0 += d * d;
+		}
+		return s0 + s1;
+	}
+
+	/**
+	 * Returns the sum of {@code a[from, to)} with Neumaier's variant of
+	 * Kahan summation: the low-order bits lost by each addition are
+	 * collected in a second accumulator and added back at the end.
+	 */
+	static double compensatedSum($type$[] a, int from, int to) {
+		double sum = 0;
+		double c = 0;
+		for (int i = from; i < to; ++i) {
+			final double v = a[i];
+			final double t = sum + v;
+			if (Math.abs(sum) >= Math.abs(v)) {
+				c += (sum - t) + v;
+			} else {
+				c += (v - t) + sum;
+			}
+			sum = t;
+		}
+		return sum + c;
+	}
+
+	/**
+	 * Returns the smallest of {@code a[from, to)}, which must not be empty,
+	 * by {@link Math#min($type$, $type$)}.
+	 */
+	static $type$ min($type$[] a, int from, int to) {
+		$type$ m0 = a[from];
+		$type$ m1 = m0;
+		int i = from + 1;
+		for (final int end = to - 1; i < end; i += 2) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+		}
+		if (i < to) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(m0, m1);
+	}
+
+	/**
+	 * Returns the largest of {@code a[from, to)}, which must not be empty,
+	 * by {@link Math#max($type$, $type$)}.
+	 */
+	static $type$ max($type$[] a, int from, int to) {
+		$type$ m0 = a[from];
+		$type$ m1 = m0;
+		int i = from + 1;
+		for (final int end = to - 1; i < end; i += 2) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+		}
+		if (i < to) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(m0, m1);
+	}
+
+	/**
+	 * Returns the sum of {@code x[xFrom + i] * y[yFrom + i]} for
+	 * {@code i < n}.
+	 */
+	static double dot($type$[] x, int xFrom, $type$[] y, int yFrom, int n) {
+		double s0 = 0;
+		double s1 = 0;
+		double s2 = 0;
+		double s3 = 0;
+		int i = 0;
+		for (final int end = n - 3; i < end; i += 4) {
+			final double x0 = x[xFrom + i];
+			final double x1 = x[xFrom + i + 1];
+			final double x2 = x[xFrom + i + 2];
+			final double x3 = x[xFrom + i + 3];
+			s0 += x0 * y[yFrom + i];
+			s1 += x1 * y[yFrom + i + 1];
+			s2 += x2 * y[yFrom + i + 2];
+			s3 += x3 * y[yFrom + i + 3];
+		}
+		for (; i < n; ++i) {
+			final double xi = x[xFrom + i];
+			s0 += xi * y[yFrom + i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/**
+	 * Adds {@code alpha * x[xFrom + i]} to {@code y[yFrom + i]} for
+	 * {@code i < n}.
+	 */
+	static void axpy($type$ alpha, $type$[] x, int xFrom, $type$[] y,
+			int yFrom, int n) {
+		for (int i = 0; i < n; ++i) {
+			y[yFrom + i] += alpha * x[xFrom + i];
+		}
+	}
+
+	/**
+	 * Adds {@code x[xFrom + i]} to {@code y[yFrom + i]} for {@code i < n}.
+	 */
+	static void add($type$[] x, int xFrom, $type$[] y, int yFrom, int n) {
+		for (int i = 0; i < n; ++i) {
+			y[yFrom + i] += x[xFrom + i];
+		}
+	}
+
+	/**
+	 * Multiplies {@code a[from, to)} by {@code factor}.
+	 */
+	static void scale($type$[] a, int from, int to, $type$ factor) {
+		for (int i = from; i < to; ++i) {
+			a[i] *= factor;
+		}
+	}
+//#endif
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private $Type$Kernels() {
+		throw new AssertionError();
+	}
+}
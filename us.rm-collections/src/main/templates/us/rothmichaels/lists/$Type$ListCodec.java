@@ -0,0 +1,147 @@
+/*
+ * $Type$ListCodec.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encodes and decodes {@code $type$} elements in the {@link ListCodec}
+ * format.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class $Type$ListCodec {
+
+	/**
+	 * Type descriptor written in the header.
+	 */
+	static final char TYPE = '$desc$';
+
+	/**
+	 * Bytes per encoded element.
+	 */
+//#if Boolean
+	static final int BYTES = 1;
+//#else
+	static final int BYTES = $Boxed$.BYTES;
+//#endif
+
+	/**
+	 * Writes {@code a[from, to)} as a list.
+	 * 
+	 * @param a
+	 *            the elements
+	 * @param from
+	 *            first index to write (inclusive)
+	 * @param to
+	 *            last index to write (exclusive)
+	 * @param channel
+	 *            channel to write to
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be written
+	 */
+	static void write($type$[] a, int from, int to, WritableByteChannel channel)
+			throws IOException {
+		ListCodec.writeHeader(channel, TYPE, to - from);
+		final ByteBuffer chunk = ListCodec.chunk();
+		for (int i = from; i < to;) {
+			final int n = Math.min(to - i, ListCodec.CHUNK_BYTES / BYTES);
+			chunk.clear();
+			encode(a, i, n, chunk);
+			chunk.flip();
+			ListCodec.writeFully(channel, chunk);
+			i += n;
+		}
+	}
+
+	/**
+	 * Encodes {@code a[off, off + n)} at {@code chunk}'s position, advancing
+	 * it.
+	 */
+	static void encode($type$[] a, int off, int n, ByteBuffer chunk) {
+//#if Boolean
+		for (int i = off, end = off + n; i < end; ++i) {
+			chunk.put((byte) (a[i] ? 1 : 0));
+		}
+//#else
+//#if Byte
+		chunk.put(a, off, n);
+//#else
+		chunk.as$Type$Buffer().put(a, off, n);
+		chunk.position(chunk.position() + n * BYTES);
+//#endif
+//#endif
+	}
+
+	/**
+	 * Decodes {@code n} elements at {@code chunk}'s position into
+	 * {@code a[off, off + n)}, advancing it.
+	 */
+	static void decode(ByteBuffer chunk, $type$[] a, int off, int n) {
+//#if Boolean
+		for (int i = off, end = off + n; i < end; ++i) {
+			a[i] = chunk.get() != 0;
+		}
+//#else
+//#if Byte
+		chunk.get(a, off, n);
+//#else
+		chunk.as$Type$Buffer().get(a, off, n);
+		chunk.position(chunk.position() + n * BYTES);
+//#endif
+//#endif
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private $Type$ListCodec() {
+		throw new AssertionError();
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * $Type$ListReader.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Reads a list written by {@link IPrimative$Type$List#writeTo} a chunk at a
+ * time, so a list larger than memory can be processed as it streams in.
+ * 
+ * <p>
+ * The reader consumes only the list's header and elements from the channel,
+ * leaving anything written after them, and does not close the channel.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$ListReader {
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer chunk;
+	private final long length;
+	private long remaining;
+	private long unread;
+
+	/**
+	 * Reads the list header from {@code channel}.
+	 * 
+	 * @param channel
+	 *            channel positioned at the start of a list
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be read or does not hold a list of
+	 *             {@code $type$}s
+	 */
+	public $Type$ListReader(ReadableByteChannel channel) throws IOException {
+		this.channel = channel;
+		length = ListCodec.readHeader(channel, $Type$ListCodec.TYPE);
+		if (length > Long.MAX_VALUE / $Type$ListCodec.BYTES) {
+			throw new IOException("length " + length + " is too large");
+		}
+		remaining = length;
+		unread = length * $Type$ListCodec.BYTES;
+		chunk = ListCodec.chunk();
+		chunk.limit(0);
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 * 
+	 * @return the length from the list header
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * Returns the number of elements not yet read.
+	 * 
+	 * @return the number of elements left
+	 */
+	public long remaining() {
+		return remaining;
+	}
+
+	/**
+	 * Reads up to {@code dst.length} elements into {@code dst}.
+	 * 
+	 * @param dst
+	 *            array to read into
+	 * 
+	 * @return the number of elements read, or {@code -1} if the list has been
+	 *         read to the end
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be read or ends early
+	 */
+	public int read($type$[] dst) throws IOException {
+		return read(dst, 0, dst.length);
+	}
+
+	/**
+	 * Reads up to {@code len} elements into {@code dst[off, off + len)}. Reads
+	 * {@code len} elements unless fewer than {@code len} remain.
+	 * 
+	 * @param dst
+	 *            array to read into
+	 * @param off
+	 *            first index of {@code dst} to fill
+	 * @param len
+	 *            largest number of elements to read
+	 * 
+	 * @return the number of elements read, or {@code -1} if the list has been
+	 *         read to the end
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be read or ends early
+	 */
+	public int read($type$[] dst, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > dst.length - off) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)", off,
+					off + len));
+		}
+		if (len == 0) {
+			return 0;
+		}
+		if (remaining == 0) {
+			return -1;
+		}
+		final int count = (int) Math.min(len, remaining);
+		for (int done = 0; done < count;) {
+			if (!chunk.hasRemaining()) {
+				refill();
+			}
+			final int n = Math.min(count - done, chunk.remaining()
+					/ $Type$ListCodec.BYTES);
+			$Type$ListCodec.decode(chunk, dst, off + done, n);
+			done += n;
+		}
+		remaining -= count;
+
+		return count;
+	}
+
+	/**
+	 * Reads the next chunk of the payload. Chunks are a multiple of the
+	 * element size, so elements never straddle two chunks.
+	 */
+	private void refill() throws IOException {
+		chunk.clear();
+		chunk.limit((int) Math.min(chunk.capacity(), unread));
+		ListCodec.readFully(channel, chunk);
+		unread -= chunk.limit();
+		chunk.flip();
+	}
+}
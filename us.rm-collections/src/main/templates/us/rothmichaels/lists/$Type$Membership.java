@@ -0,0 +1,135 @@
+/*
+ * $Type$Membership.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+//#if numeric
+import java.util.Arrays;
+
+//#endif
+/**
+ * Answers whether a value is in a snapshot of a list, for the bulk removals.
+ * 
+ * <p>
+ * Membership matches {@code ==}, as {@link IPrimative$Type$List#contains($type$)}
+ * does. A short list is scanned; a longer one is copied and sorted once so
+ * each lookup is a binary search, which keeps a bulk removal near linear.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class $Type$Membership {
+//#if Boolean
+
+	private final boolean hasTrue;
+	private final boolean hasFalse;
+
+	private $Type$Membership(IPrimative$Type$List l) {
+		hasTrue = l.contains(true);
+		hasFalse = l.contains(false);
+	}
+
+	/**
+	 * Returns {@code true} if {@code value} was in the list.
+	 */
+	boolean contains(boolean value) {
+		return value ? hasTrue : hasFalse;
+	}
+//#else
+
+	/**
+	 * Lists no longer than this are scanned instead of sorted.
+	 */
+	static final int SCAN_LIMIT = 16;
+
+	private final $type$[] values;
+	private final boolean sorted;
+
+	private $Type$Membership(IPrimative$Type$List l) {
+		final $type$[] a = l.toArray();
+		sorted = a.length > SCAN_LIMIT;
+		if (sorted) {
+//#if floating
+			// NaN never matches; -0.0 must match 0.0
+			int n = 0;
+			for (final $type$ v : a) {
+				if (v == v) {
+					a[n++] = v == 0 ? 0 : v;
+				}
+			}
+			values = Arrays.copyOf(a, n);
+//#else
+			values = a;
+//#endif
+			Arrays.sort(values);
+		} else {
+			values = a;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if {@code value} was in the list.
+	 */
+	boolean contains($type$ value) {
+		if (sorted) {
+//#if floating
+			return value == value
+					&& Arrays.binarySearch(values, value == 0 ? 0 : value) >= 0;
+//#else
+			return Arrays.binarySearch(values, value) >= 0;
+//#endif
+		}
+		return $Type$Search.indexOf(values, 0, values.length, value) >= 0;
+	}
+//#endif
+
+	/**
+	 * Returns the membership of a snapshot of {@code l}.
+	 * 
+	 * @param l
+	 *            list to test against; later changes to it are not seen
+	 * 
+	 * @return the membership
+	 */
+	static $Type$Membership of(IPrimative$Type$List l) {
+		return new $Type$Membership(l);
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * $Type$Search.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+/**
+ * Linear search kernels over a range of a {@code $type$[]}.
+ * 
+ * <p>
+ * The forward searches test eight elements per step with non-short-circuit
+ * comparisons, so the common case (no match in the block) is a single
+ * well-predicted branch and the JIT can schedule the loads independently.
+ * Only a block that contains a match is rescanned element by element.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+final class $Type$Search {
+
+	/**
+	 * Number of elements tested per step of the blocked searches.
+	 */
+	static final int BLOCK = 8;
+
+	/**
+	 * Returns the index of the first {@code value} in {@code a[from, to)}.
+	 * 
+	 * @param a
+	 *            the array to search
+	 * @param from
+	 *            first index to search (inclusive)
+	 * @param to
+	 *            last index to search (exclusive)
+	 * @param value
+	 *            value to find
+	 * 
+	 * @return index of the first match, or {@code -1} if there is none
+	 */
+	static int indexOf($type$[] a, int from, int to, $type$ value) {
+		int i = from;
+		for (final int end = to - BLOCK; i <= end; i += BLOCK) {
+			if ((a[i] == value) | (a[i + 1] == value) | (a[i + 2] == value)
+					| (a[i + 3] == value) | (a[i + 4] == value)
+					| (a[i + 5] == value) | (a[i + 6] == value)
+					| (a[i + 7] == value)) {
+				break;
+			}
+		}
+		for (; i < to; ++i) {
+			if (a[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last {@code value} in {@code a[from, to)}.
+	 * 
+	 * @param a
+	 *            the array to search
+	 * @param from
+	 *            first index to search (inclusive)
+	 * @param to
+	 *            last index to search (exclusive)
+	 * @param value
+	 *            value to find
+	 * 
+	 * @return index of the last match, or {@code -1} if there is none
+	 */
+	static int lastIndexOf($type$[] a, int from, int to, $type$ value) {
+		int i = to;
+		for (final int end = from + BLOCK; i >= end; i -= BLOCK) {
+			if ((a[i - 1] == value) | (a[i - 2] == value)
+					| (a[i - 3] == value) | (a[i - 4] == value)
+					| (a[i - 5] == value) | (a[i - 6] == value)
+					| (a[i - 7] == value) | (a[i - 8] == value)) {
+				break;
+			}
+		}
+		while (--i >= from) {
+			if (a[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if any of {@code values} is in {@code a[from, to)}.
+	 * 
+	 * <p>
+	 * {@code a} is traversed once; each element is compared with every
+	 * candidate, so this is meant for a small number of candidates.
+	 * 
+	 * @param a
+	 *            the array to search
+	 * @param from
+	 *            first index to search (inclusive)
+	 * @param to
+	 *            last index to search (exclusive)
+	 * @param values
+	 *            values to find
+	 * 
+	 * @return {@code true} if at least one of {@code values} was found
+	 */
+	static boolean containsAny($type$[] a, int from, int to, $type$[] values) {
+		if (values.length == 1) {
+			return indexOf(a, from, to, values[0]) >= 0;
+		}
+		for (int i = from; i < to; ++i) {
+			final $type$ element = a[i];
+			for (final $type$ value : values) {
+				if (element == value) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Appends the index of every {@code value} in {@code a[from, to)},
+	 * relative to {@code from}, to {@code out}.
+	 * 
+	 * @param a
+	 *            the array to search
+	 * @param from
+	 *            first index to search (inclusive)
+	 * @param to
+	 *            last index to search (exclusive)
+	 * @param value
+	 *            value to find
+	 * @param out
+	 *            list the hit positions are appended to
+	 * 
+	 * @return {@code out}
+	 */
+	static IntArrayList indexOfAll($type$[] a, int from, int to,
+			$type$ value, IntArrayList out) {
+		for (int i = from; (i = indexOf(a, i, to, value)) >= 0; ++i) {
+			out.add(i - from);
+		}
+		return out;
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private $Type$Search() {
+		throw new AssertionError();
+	}
+}
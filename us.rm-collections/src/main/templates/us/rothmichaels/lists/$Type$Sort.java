@@ -0,0 +1,352 @@
+//#types numeric
+/*
+ * $Type$Sort.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.Arrays;
+
+/**
+ * Sorting kernels over a range of a {@code $type$[]}.
+ * 
+ * <p>
+ * {@link #radixSort($type$[], int, int)} is a least-significant-digit radix
+ * sort with 8-bit digits. Each element is mapped to an unsigned key with
+ * the same order
+//#if Byte|Short|Int|Long
+ * (the sign bit flipped),
+//#endif
+//#if Char
+ * (the value itself),
+//#endif
+//#if floating
+ * (the IEEE 754 bits with the sign bit flipped for positive values and
+ * every bit flipped for negative ones),
+//#endif
+ * one pass builds the histograms of every digit, and each remaining pass is
+ * a stable scatter into a scratch array. A digit that is the same for every
+ * element is skipped, so narrow value ranges take fewer passes.
+//#if floating
+ * The order matches {@link Arrays#sort($type$[])}: {@code -0.0} before
+ * {@code 0.0} and {@code NaN} last.
+//#endif
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public final class $Type$Sort {
+
+//#if Int|Long|Float|Double
+	/**
+	 * {@link #sort($type$[], int, int)} radix sorts ranges at least this
+	 * long; shorter ones are left to {@link Arrays#sort($type$[], int, int)}.
+	 */
+	static final int RADIX_THRESHOLD = 1 << 12;
+
+//#endif
+	/**
+	 * Ranges shorter than this are sorted by comparison, since clearing and
+	 * summing the histograms would cost more than it saves.
+	 */
+	static final int INSERTION_THRESHOLD = 64;
+
+	private static final int DIGIT_BITS = 8;
+	private static final int RADIX = 1 << DIGIT_BITS;
+//#if Byte
+	private static final int DIGITS = 1;
+//#endif
+//#if Char|Short
+	private static final int DIGITS = 2;
+//#endif
+//#if Int|Float
+	private static final int DIGITS = 4;
+//#endif
+//#if Long|Double
+	private static final int DIGITS = 8;
+//#endif
+
+	/**
+	 * Sorts {@code a[from, to)} into ascending order, picking the faster of
+	 * {@link #radixSort($type$[], int, int)} and
+	 * {@link Arrays#sort($type$[], int, int)} for the length of the range.
+	 * 
+	 * @param a
+	 *            the array to sort
+	 * @param from
+	 *            first index to sort (inclusive)
+	 * @param to
+	 *            last index to sort (exclusive)
+	 */
+	public static void sort($type$[] a, int from, int to) {
+//#if Int|Long|Float|Double
+		if (to - from >= RADIX_THRESHOLD) {
+			radixSort(a, from, to);
+		} else {
+			Arrays.sort(a, from, to);
+		}
+//#else
+		// Arrays.sort already counting sorts large $type$ ranges
+		Arrays.sort(a, from, to);
+//#endif
+	}
+
+	/**
+	 * Sorts {@code a[from, to)} into ascending order with an LSD radix sort.
+	 * Needs a scratch array as long as the range.
+	 * 
+	 * @param a
+	 *            the array to sort
+	 * @param from
+	 *            first index to sort (inclusive)
+	 * @param to
+	 *            last index to sort (exclusive)
+	 */
+	public static void radixSort($type$[] a, int from, int to) {
+		checkRange(a.length, from, to);
+		final int n = to - from;
+		if (n < INSERTION_THRESHOLD) {
+			Arrays.sort(a, from, to);
+			return;
+		}
+		final int[][] counts = histograms(a, from, to);
+		$type$[] src = a;
+		$type$[] dst = new $type$[n];
+		int srcOffset = from;
+		int dstOffset = 0;
+		for (int d = 0; d < DIGITS; ++d) {
+			final int shift = d * DIGIT_BITS;
+			final int[] offsets = counts[d];
+			if (offsets[digit(src[srcOffset], shift)] == n) {
+				continue;
+			}
+			toOffsets(offsets, dstOffset);
+			for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+				final $type$ v = src[i];
+				dst[offsets[digit(v, shift)]++] = v;
+			}
+			final $type$[] t = src;
+			src = dst;
+			dst = t;
+			final int o = srcOffset;
+			srcOffset = dstOffset;
+			dstOffset = o;
+		}
+		if (src != a) {
+			System.arraycopy(src, srcOffset, a, from, n);
+		}
+	}
+
+	/**
+	 * Returns the permutation that sorts {@code a[from, to)}, leaving
+	 * {@code a} unchanged: {@code a[from + p[0]] <= a[from + p[1]] <= ...}.
+	 * Equal elements keep their relative order.
+	 * 
+	 * @param a
+	 *            the array to sort
+	 * @param from
+	 *            first index to sort (inclusive)
+	 * @param to
+	 *            last index to sort (exclusive)
+	 * 
+	 * @return indices relative to {@code from}
+	 */
+	public static int[] sortIndices($type$[] a, int from, int to) {
+		checkRange(a.length, from, to);
+		final int n = to - from;
+		int[] src = new int[n];
+		for (int i = 0; i < n; ++i) {
+			src[i] = i;
+		}
+		if (n < INSERTION_THRESHOLD) {
+			for (int i = 1; i < n; ++i) {
+				final int p = src[i];
+				final $type$ v = a[from + p];
+				int j = i;
+				for (; j > 0 && greater(a[from + src[j - 1]], v); --j) {
+					src[j] = src[j - 1];
+				}
+				src[j] = p;
+			}
+			return src;
+		}
+		final int[][] counts = histograms(a, from, to);
+		int[] dst = new int[n];
+		for (int d = 0; d < DIGITS; ++d) {
+			final int shift = d * DIGIT_BITS;
+			final int[] offsets = counts[d];
+			if (offsets[digit(a[from], shift)] == n) {
+				continue;
+			}
+			toOffsets(offsets, 0);
+			for (int i = 0; i < n; ++i) {
+				final int p = src[i];
+				dst[offsets[digit(a[from + p], shift)]++] = p;
+			}
+			final int[] t = src;
+			src = dst;
+			dst = t;
+		}
+		return src;
+	}
+
+	/**
+	 * Returns {@link #sortIndices($type$[], int, int)} as a list.
+	 */
+	static IntArrayList sortIndexList($type$[] a, int from, int to) {
+		final int[] indices = sortIndices(a, from, to);
+		final IntArrayList out = new IntArrayList(0);
+		out.data = indices;
+		out.addPointer = indices.length;
+		return out;
+	}
+
+	/**
+	 * Counts the digits of every element of {@code a[from, to)}, one
+	 * histogram per digit position.
+	 */
+	private static int[][] histograms($type$[] a, int from, int to) {
+		final int[][] counts = new int[DIGITS][RADIX];
+		for (int i = from; i < to; ++i) {
+//#if Long|Double
+			final long k = key(a[i]);
+			for (int d = 0; d < DIGITS; ++d) {
+				++counts[d][(int) (k >>> (d * DIGIT_BITS)) & (RADIX - 1)];
+			}
+//#else
+			final int k = key(a[i]);
+			for (int d = 0; d < DIGITS; ++d) {
+				++counts[d][(k >>> (d * DIGIT_BITS)) & (RADIX - 1)];
+			}
+//#endif
+		}
+		return counts;
+	}
+
+	/**
+	 * Turns the counts of one digit into the start offset of each bucket.
+	 */
+	private static void toOffsets(int[] counts, int base) {
+		int sum = base;
+		for (int r = 0; r < RADIX; ++r) {
+			final int c = counts[r];
+			counts[r] = sum;
+			sum += c;
+		}
+	}
+
+	private static int digit($type$ v, int shift) {
+//#if Long|Double
+		return (int) (key(v) >>> shift) & (RADIX - 1);
+//#else
+		return (key(v) >>> shift) & (RADIX - 1);
+//#endif
+	}
+
+	/**
+	 * Maps {@code v} to a key whose unsigned order is the order of the
+	 * values.
+	 */
+//#if Byte
+	private static int key(byte v) {
+		return (v & 0xFF) ^ 0x80;
+	}
+//#endif
+//#if Char
+	private static int key(char v) {
+		return v;
+	}
+//#endif
+//#if Short
+	private static int key(short v) {
+		return (v & 0xFFFF) ^ 0x8000;
+	}
+//#endif
+//#if Int
+	private static int key(int v) {
+		return v ^ Integer.MIN_VALUE;
+	}
+//#endif
+//#if Long
+	private static long key(long v) {
+		return v ^ Long.MIN_VALUE;
+	}
+//#endif
+//#if Float
+	private static int key(float v) {
+		final int bits = Float.floatToIntBits(v);
+		return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+	}
+//#endif
+//#if Double
+	private static long key(double v) {
+		final long bits = Double.doubleToLongBits(v);
+		return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+//#endif
+
+	/**
+	 * Returns {@code true} if {@code a} sorts after {@code b}.
+	 */
+	private static boolean greater($type$ a, $type$ b) {
+//#if floating
+		return $Boxed$.compare(a, b) > 0;
+//#else
+		return a > b;
+//#endif
+	}
+
+	private static void checkRange(int length, int from, int to) {
+		if (from < 0 || to > length || to < from) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					from, to));
+		}
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private $Type$Sort() {
+		throw new AssertionError();
+	}
+}
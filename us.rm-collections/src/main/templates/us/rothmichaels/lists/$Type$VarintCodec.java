@@ -0,0 +1,347 @@
+//#types Int|Long
+/*
+ * $Type$VarintCodec.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.Arrays;
+
+/**
+ * Encodes {@code $type$} lists with the variable length
+ * {@link VarintEncoding}s.
+ * 
+ * <p>
+ * {@link #encode(IPrimative$Type$List, VarintEncoding)} produces a
+ * self-describing array: one byte holding the encoding's
+ * {@link VarintEncoding#id() id}, the element count as a four byte
+ * little-endian {@code int}, then the encoded elements.
+ * {@link #encode($type$[], int, int, VarintEncoding, byte[], int)} and
+ * {@link #decode(byte[], int, VarintEncoding, $type$[], int, int)} work on
+ * bare element runs for callers with their own framing.
+ * 
+ * <p>
+ * Each encoding is a separate loop over the array, so there is no
+ * per-element dispatch; decoding reads every varint in one pass and then
+ * undoes the zigzag and delta transforms in place.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public final class $Type$VarintCodec {
+
+	/**
+	 * Most bytes a single encoded element can take.
+	 */
+//#if Int
+	public static final int MAX_BYTES = 5;
+//#else
+	public static final int MAX_BYTES = 10;
+//#endif
+
+	/**
+	 * Length of the header written by
+	 * {@link #encode(IPrimative$Type$List, VarintEncoding)}.
+	 */
+	public static final int HEADER_BYTES = 5;
+
+	/**
+	 * Encodes a list into a new, self-describing array.
+	 * 
+	 * @param list
+	 *            the list to encode
+	 * @param encoding
+	 *            the encoding to use
+	 * 
+	 * @return the encoded list
+	 */
+	public static byte[] encode(IPrimative$Type$List list,
+			VarintEncoding encoding) {
+		final $type$[] a;
+		final int n;
+		if (list instanceof $Type$ArrayList) {
+			a = (($Type$ArrayList) list).data;
+			n = (($Type$ArrayList) list).addPointer;
+		} else {
+			a = list.toArray();
+			n = a.length;
+		}
+		final byte[] out = new byte[maxEncodedLength(n)];
+		out[0] = (byte) encoding.id();
+		out[1] = (byte) n;
+		out[2] = (byte) (n >>> 8);
+		out[3] = (byte) (n >>> 16);
+		out[4] = (byte) (n >>> 24);
+		final int end = encode(a, 0, n, encoding, out, HEADER_BYTES);
+
+		return Arrays.copyOf(out, end);
+	}
+
+	/**
+	 * Decodes an array produced by
+	 * {@link #encode(IPrimative$Type$List, VarintEncoding)}.
+	 * 
+	 * @param in
+	 *            the encoded list
+	 * 
+	 * @return a new list holding the decoded elements
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code in} is not a complete encoded list
+	 */
+	public static $Type$ArrayList decode(byte[] in) {
+		if (in.length < HEADER_BYTES) {
+			throw new IllegalArgumentException("truncated");
+		}
+		final VarintEncoding encoding = VarintEncoding.of(in[0] & 0xFF);
+		final int n = (in[1] & 0xFF) | (in[2] & 0xFF) << 8
+				| (in[3] & 0xFF) << 16 | (in[4] & 0xFF) << 24;
+		if (n < 0 || n > in.length - HEADER_BYTES) {
+			throw new IllegalArgumentException("bad element count " + n);
+		}
+		final $Type$ArrayList out = new $Type$ArrayList(Math.max(n, 1));
+		final int end = decode(in, HEADER_BYTES, encoding, out.data, 0, n);
+		if (end != in.length) {
+			throw new IllegalArgumentException((in.length - end)
+					+ " trailing bytes");
+		}
+		out.addPointer = n;
+
+		return out;
+	}
+
+	/**
+	 * Returns the most bytes
+	 * {@link #encode(IPrimative$Type$List, VarintEncoding)} can need for
+	 * {@code count} elements.
+	 * 
+	 * @param count
+	 *            number of elements
+	 * 
+	 * @return {@link #HEADER_BYTES} plus {@link #MAX_BYTES} per element
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the bound does not fit in an array
+	 */
+	public static int maxEncodedLength(int count) {
+		final long length = HEADER_BYTES + (long) count * MAX_BYTES;
+		if (count < 0 || length > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("" + count);
+		}
+		return (int) length;
+	}
+
+	/**
+	 * Encodes {@code a[from, to)} into {@code out} starting at {@code off}.
+	 * {@code out} must have room for {@link #MAX_BYTES} per element.
+	 * 
+	 * @param a
+	 *            the elements to encode
+	 * @param from
+	 *            first index to encode (inclusive)
+	 * @param to
+	 *            last index to encode (exclusive)
+	 * @param encoding
+	 *            the encoding to use
+	 * @param out
+	 *            array to encode into
+	 * @param off
+	 *            first index of {@code out} to write
+	 * 
+	 * @return index of {@code out} after the last byte written
+	 */
+	public static int encode($type$[] a, int from, int to,
+			VarintEncoding encoding, byte[] out, int off) {
+		switch (encoding) {
+		case VARINT:
+			for (int i = from; i < to; ++i) {
+				off = write(a[i], out, off);
+			}
+			break;
+		case ZIGZAG:
+			for (int i = from; i < to; ++i) {
+				off = write(zigzag(a[i]), out, off);
+			}
+			break;
+		case DELTA: {
+			$type$ previous = 0;
+			for (int i = from; i < to; ++i) {
+				off = write(zigzag(a[i] - previous), out, off);
+				previous = a[i];
+			}
+			break;
+		}
+		case DELTA_OF_DELTA: {
+			$type$ previous = 0;
+			$type$ previousDelta = 0;
+			for (int i = from; i < to; ++i) {
+				final $type$ delta = a[i] - previous;
+				off = write(zigzag(delta - previousDelta), out, off);
+				previous = a[i];
+				previousDelta = delta;
+			}
+			break;
+		}
+		default:
+			throw new AssertionError(encoding);
+		}
+
+		return off;
+	}
+
+	/**
+	 * Decodes {@code to - from} elements from {@code in} starting at
+	 * {@code off} into {@code out[from, to)}.
+	 * 
+	 * @param in
+	 *            the encoded elements
+	 * @param off
+	 *            index of the first encoded byte
+	 * @param encoding
+	 *            the encoding {@code in} was written with
+	 * @param out
+	 *            array to decode into
+	 * @param from
+	 *            first index of {@code out} to fill (inclusive)
+	 * @param to
+	 *            last index of {@code out} to fill (exclusive)
+	 * 
+	 * @return index of {@code in} after the last byte read
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code in} ends early or holds a varint longer than
+	 *             {@link #MAX_BYTES}
+	 */
+	public static int decode(byte[] in, int off, VarintEncoding encoding,
+			$type$[] out, int from, int to) {
+		if (from < 0 || to > out.length || from > to) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					from, to));
+		}
+		int pos = off;
+		try {
+			for (int i = from; i < to; ++i) {
+				int b = in[pos++];
+				$type$ v = b & 0x7F;
+				for (int shift = 7; b < 0; shift += 7) {
+					if (shift >= MAX_BYTES * 7) {
+						throw new IllegalArgumentException(
+								"malformed varint at " + pos);
+					}
+					b = in[pos++];
+//#if Int
+					v |= (b & 0x7F) << shift;
+//#else
+					v |= (long) (b & 0x7F) << shift;
+//#endif
+				}
+				out[i] = v;
+			}
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("truncated", e);
+		}
+
+		switch (encoding) {
+		case VARINT:
+			break;
+		case ZIGZAG:
+			for (int i = from; i < to; ++i) {
+				out[i] = unzigzag(out[i]);
+			}
+			break;
+		case DELTA: {
+			$type$ value = 0;
+			for (int i = from; i < to; ++i) {
+				value += unzigzag(out[i]);
+				out[i] = value;
+			}
+			break;
+		}
+		case DELTA_OF_DELTA: {
+			$type$ value = 0;
+			$type$ delta = 0;
+			for (int i = from; i < to; ++i) {
+				delta += unzigzag(out[i]);
+				value += delta;
+				out[i] = value;
+			}
+			break;
+		}
+		default:
+			throw new AssertionError(encoding);
+		}
+
+		return pos;
+	}
+
+	/**
+	 * Writes {@code v} as an unsigned varint.
+	 */
+	private static int write($type$ v, byte[] out, int off) {
+		while ((v & ~0x7F) != 0) {
+			out[off++] = (byte) (v | 0x80);
+			v >>>= 7;
+		}
+		out[off++] = (byte) v;
+		return off;
+	}
+
+	private static $type$ zigzag($type$ v) {
+//#if Int
+		return (v << 1) ^ (v >> 31);
+//#else
+		return (v << 1) ^ (v >> 63);
+//#endif
+	}
+
+	private static $type$ unzigzag($type$ z) {
+		return (z >>> 1) ^ -(z & 1);
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private $Type$VarintCodec() {
+		throw new AssertionError();
+	}
+}
@@ -0,0 +1,783 @@
+/*
+ * AbstractPrimative$Type$List.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+//#if numeric
+import java.util.Arrays;
+//#endif
+import java.util.Collection;
+import java.util.NoSuchElementException;
+//#if Int|Long|Double
+import java.util.PrimitiveIterator;
+//#endif
+//#if numeric
+import java.util.function.$Wide$Consumer;
+import java.util.function.$Wide$Predicate;
+import java.util.function.$Wide$UnaryOperator;
+import java.util.stream.IntStream;
+//#if Long|Double|Float
+import java.util.stream.$Wide$Stream;
+//#endif
+//#endif
+
+/**
+ * Skeletal implementation of {@link IPrimative$Type$List}, in the manner of
+ * {@link java.util.AbstractList}.
+ * 
+ * <p>
+ * A read-only list only needs to implement {@link #get(int)} and
+ * {@link #size()}. A modifiable list must also override
+ * {@link #set(int, $type$)}, {@link #add(int, $type$)} and
+ * {@link #remove(int)}, which otherwise throw
+ * {@link UnsupportedOperationException}. Every other operation is built on
+ * those five and should be overridden where the storage allows something
+ * faster; the searches can be sped up by overriding
+ * {@link #indexOfRange($type$, int, int)} and
+ * {@link #lastIndexOfRange($type$, int, int)} alone.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public abstract class AbstractPrimative$Type$List implements
+		IPrimative$Type$List {
+
+	/**
+	 * Sole constructor, for use by subclasses.
+	 */
+	protected AbstractPrimative$Type$List() {
+	}
+
+	/**
+	 * Appends {@code e} with {@code add(size(), e)}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add($type$)
+	 */
+	@Override
+	public boolean add($type$ e) {
+		add(size(), e);
+		return true;
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add(int, $type$)
+	 */
+	@Override
+	public void add(int index, $type$ element) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(java.util.Collection)
+	 */
+	@Override
+	public boolean addAll(Collection<$Boxed$> c) {
+		for (final $type$ value : c) {
+			add(value);
+		}
+		return !c.isEmpty();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(int,
+	 *      java.util.Collection)
+	 */
+	@Override
+	public boolean addAll(int index, Collection<$Boxed$> c) {
+		checkPosition(index);
+		for (final $type$ value : c) {
+			add(index++, value);
+		}
+		return !c.isEmpty();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean addAll(IPrimative$Type$List l) {
+		final $type$[] a = l.toArray();
+		for (final $type$ value : a) {
+			add(value);
+		}
+		return a.length > 0;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(int,
+	 *      us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean addAll(int index, IPrimative$Type$List l) {
+		checkPosition(index);
+		final $type$[] a = l.toArray();
+		for (final $type$ value : a) {
+			add(index++, value);
+		}
+		return a.length > 0;
+	}
+
+	/**
+	 * Removes every element with {@link #removeRange(int, int)}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#clear()
+	 */
+	@Override
+	public void clear() {
+		removeRange(0, size());
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#contains($type$)
+	 */
+	@Override
+	public boolean contains($type$ value) {
+		return indexOfRange(value, 0, size()) >= 0;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#containsAny($type$[])
+	 */
+	@Override
+	public boolean containsAny($type$[] values) {
+		final int size = size();
+		for (final $type$ value : values) {
+			if (indexOfRange(value, 0, size) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#containsAll(java.util.Collection)
+	 */
+	@Override
+	public boolean containsAll(Collection<$Boxed$> c) {
+		final int size = size();
+		for (final $type$ value : c) {
+			if (indexOfRange(value, 0, size) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#containsAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean containsAll(IPrimative$Type$List c) {
+		final int size = size();
+		for (final $type$ value : c.toArray()) {
+			if (indexOfRange(value, 0, size) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#cursor()
+	 */
+	@Override
+	public $Type$Cursor cursor() {
+		return new Cursor();
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#forEach(java.util.function.$Wide$Consumer)
+	 */
+	@Override
+	public void forEach($Wide$Consumer action) {
+		final int size = size();
+		for (int i = 0; i < size; ++i) {
+			action.accept(get(i));
+		}
+	}
+//#endif
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#indexOf($type$)
+	 * @throws IllegalArgumentException
+	 *             if input does not exist in list
+	 */
+	@Override
+	public int indexOf($type$ i) throws IllegalArgumentException {
+		final int j = indexOfRange(i, 0, size());
+		if (j < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		return j;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#indexOfAll($type$)
+	 */
+	@Override
+	public IPrimativeIntList indexOfAll($type$ value) {
+		final IntArrayList out = new IntArrayList();
+		final int size = size();
+		for (int i = indexOfRange(value, 0, size); i >= 0; i = indexOfRange(
+				value, i + 1, size)) {
+			out.add(i);
+		}
+		return out;
+	}
+
+	/**
+	 * Returns the index of the first {@code value} in {@code [from, to)}.
+	 * 
+	 * @param value
+	 *            value to find
+	 * @param from
+	 *            first index to search (inclusive)
+	 * @param to
+	 *            last index to search (exclusive)
+	 * 
+	 * @return index of the first match, or {@code -1} if there is none
+	 */
+	protected int indexOfRange($type$ value, int from, int to) {
+		for (int i = from; i < to; ++i) {
+			if (get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+//#if Int|Long|Double
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#iterator()
+	 */
+	@Override
+	public PrimitiveIterator.Of$Type$ iterator() {
+		return new Itr();
+	}
+
+//#endif
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#lastIndexOf($type$)
+	 * @throws IllegalArgumentException
+	 *             if input does not exist in list
+	 */
+	@Override
+	public int lastIndexOf($type$ value) throws IllegalArgumentException {
+		final int j = lastIndexOfRange(value, 0, size());
+		if (j < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		return j;
+	}
+
+	/**
+	 * Returns the index of the last {@code value} in {@code [from, to)}.
+	 * 
+	 * @param value
+	 *            value to find
+	 * @param from
+	 *            first index to search (inclusive)
+	 * @param to
+	 *            last index to search (exclusive)
+	 * 
+	 * @return index of the last match, or {@code -1} if there is none
+	 */
+	protected int lastIndexOfRange($type$ value, int from, int to) {
+		for (int i = to - 1; i >= from; --i) {
+			if (get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelMax()
+	 */
+	@Override
+	public $type$ parallelMax() {
+		return $cast$parallelStream().max().getAs$Wide$();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelMin()
+	 */
+	@Override
+	public $type$ parallelMin() {
+		return $cast$parallelStream().min().getAs$Wide$();
+	}
+
+	/**
+	 * Replaces the elements with {@link #set(int, $type$)} from parallel
+	 * tasks, so {@code set} must be safe for distinct indices.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelReplaceAll(java.util.function.$Wide$UnaryOperator)
+	 */
+	@Override
+	public void parallelReplaceAll(final $Wide$UnaryOperator operator) {
+		IntStream.range(0, size()).parallel()
+				.forEach(i -> set(i, $cast$operator.applyAs$Wide$(get(i))));
+	}
+
+	/**
+	 * Sorts a copy of the list and writes it back with
+	 * {@link #set(int, $type$)}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelSort()
+	 */
+	@Override
+	public void parallelSort() {
+		final $type$[] a = toArray();
+		Arrays.parallelSort(a);
+		for (int i = 0; i < a.length; ++i) {
+			set(i, a[i]);
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelStream()
+	 */
+	@Override
+	public $Wide$Stream parallelStream() {
+		return stream().parallel();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelSum()
+	 */
+	@Override
+//#if Long
+	public long parallelSum() {
+		return parallelStream().sum();
+	}
+//#else
+//#if integral
+	public long parallelSum() {
+		return parallelStream().asLongStream().sum();
+	}
+//#else
+	public double parallelSum() {
+		return parallelStream().sum();
+	}
+//#endif
+//#endif
+//#endif
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeValue($type$)
+	 */
+	@Override
+	public boolean removeValue($type$ value) {
+		final int i = indexOfRange(value, 0, size());
+
+		return (i >= 0) && remove(i);
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#remove(int)
+	 */
+	@Override
+	public boolean remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Removes every occurrence of each value in {@code c}. The kept elements
+	 * are moved down with {@code set} and the tail is removed from the end,
+	 * so this is linear when those are constant time.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeAll(java.util.Collection)
+	 */
+	@Override
+	public boolean removeAll(Collection<$Boxed$> c) {
+		final int size = size();
+		int kept = 0;
+		for (int i = 0; i < size; ++i) {
+			final $type$ value = get(i);
+			if (!c.contains(value)) {
+				if (kept != i) {
+					set(kept, value);
+				}
+				++kept;
+			}
+		}
+
+		return truncate(kept);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#retainAll(java.util.Collection)
+	 */
+	@Override
+	public boolean retainAll(Collection<$Boxed$> c) {
+		final int size = size();
+		int kept = 0;
+		for (int i = 0; i < size; ++i) {
+			final $type$ value = get(i);
+			if (c.contains(value)) {
+				if (kept != i) {
+					set(kept, value);
+				}
+				++kept;
+			}
+		}
+
+		return truncate(kept);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean removeAll(IPrimative$Type$List l) {
+		final $Type$Membership m = $Type$Membership.of(l);
+		final int size = size();
+		int kept = 0;
+		for (int i = 0; i < size; ++i) {
+			final $type$ value = get(i);
+			if (!m.contains(value)) {
+				if (kept != i) {
+					set(kept, value);
+				}
+				++kept;
+			}
+		}
+
+		return truncate(kept);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#retainAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean retainAll(IPrimative$Type$List l) {
+		final $Type$Membership m = $Type$Membership.of(l);
+		final int size = size();
+		int kept = 0;
+		for (int i = 0; i < size; ++i) {
+			final $type$ value = get(i);
+			if (m.contains(value)) {
+				if (kept != i) {
+					set(kept, value);
+				}
+				++kept;
+			}
+		}
+
+		return truncate(kept);
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeIf(java.util.function.$Wide$Predicate)
+	 */
+	@Override
+	public boolean removeIf($Wide$Predicate filter) {
+		final int size = size();
+		int kept = 0;
+		for (int i = 0; i < size; ++i) {
+			final $type$ value = get(i);
+			if (!filter.test(value)) {
+				if (kept != i) {
+					set(kept, value);
+				}
+				++kept;
+			}
+		}
+
+		return truncate(kept);
+	}
+//#endif
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#set(int, $type$)
+	 */
+	@Override
+	public $type$ set(int index, $type$ element) {
+		throw new UnsupportedOperationException();
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sort()
+	 */
+	@Override
+	public void sort() {
+		sort(0, size());
+	}
+
+	/**
+	 * Sorts a copy of the range and writes it back with
+	 * {@link #set(int, $type$)}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sort(int, int)
+	 */
+	@Override
+	public void sort(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size() || toIndex < fromIndex) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					fromIndex, toIndex));
+		}
+		final $type$[] a = new $type$[toIndex - fromIndex];
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = get(fromIndex + i);
+		}
+		$Type$Sort.sort(a, 0, a.length);
+		for (int i = 0; i < a.length; ++i) {
+			set(fromIndex + i, a[i]);
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sortIndices()
+	 */
+	@Override
+	public IntArrayList sortIndices() {
+		final $type$[] a = toArray();
+		return $Type$Sort.sortIndexList(a, 0, a.length);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#stream()
+	 */
+	@Override
+	public $Wide$Stream stream() {
+//#if Byte|Char|Short|Int
+		return IntStream.range(0, size()).map(i -> get(i));
+//#else
+		return IntStream.range(0, size()).mapTo$Wide$(i -> get(i));
+//#endif
+	}
+//#endif
+
+	/**
+	 * Copies {@code [fromIndex, toIndex)} into a new {@link $Type$ArrayList}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#subList(int, int)
+	 */
+	@Override
+	public IPrimative$Type$List subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size() || toIndex < fromIndex) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					fromIndex, toIndex));
+		}
+		final $Type$ArrayList out = new $Type$ArrayList(Math.max(1, toIndex
+				- fromIndex));
+		for (int i = fromIndex; i < toIndex; ++i) {
+			out.add(get(i));
+		}
+
+		return out;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#toArray()
+	 */
+	@Override
+	public $type$[] toArray() {
+		final $type$[] out = new $type$[size()];
+		for (int i = 0; i < out.length; ++i) {
+			out[i] = get(i);
+		}
+		return out;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#writeTo(java.nio.channels.WritableByteChannel)
+	 */
+	@Override
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		final $type$[] a = toArray();
+		$Type$ListCodec.write(a, 0, a.length, channel);
+	}
+
+	/**
+	 * Removes the elements in {@code [fromIndex, toIndex)}, which the caller
+	 * has checked. The default removes them one by one, last first, with
+	 * {@link #remove(int)}; override it where a range can be removed in one
+	 * step.
+	 * 
+	 * @param fromIndex
+	 *            first index to remove (inclusive)
+	 * @param toIndex
+	 *            last index to remove (exclusive)
+	 */
+	protected void removeRange(int fromIndex, int toIndex) {
+		for (int i = toIndex - 1; i >= fromIndex; --i) {
+			remove(i);
+		}
+	}
+
+	/**
+	 * Removes the elements from {@code newSize} on.
+	 * 
+	 * @return {@code true} if any element was removed
+	 */
+	private boolean truncate(int newSize) {
+		final int size = size();
+		if (newSize == size) {
+			return false;
+		}
+		removeRange(newSize, size);
+
+		return true;
+	}
+
+	/**
+	 * Throws {@link IndexOutOfBoundsException} unless {@code index} is a
+	 * valid insertion point, {@code [0, size()]}.
+	 * 
+	 * @param index
+	 *            the index to check
+	 */
+	protected final void checkPosition(int index) {
+		if (index < 0 || index > size()) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+	}
+
+	/**
+	 * Throws {@link IndexOutOfBoundsException} unless {@code index} is an
+	 * element of the list, {@code [0, size())}.
+	 * 
+	 * @param index
+	 *            the index to check
+	 */
+	protected final void checkIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+	}
+
+	/**
+	 * {@link $Type$Cursor} built on {@link #get(int)}.
+	 */
+	private final class Cursor implements $Type$Cursor {
+		private int size;
+		private int index;
+
+		Cursor() {
+			reset();
+		}
+
+		@Override
+		public boolean next() {
+			if (index < size) {
+				++index;
+			}
+			return index < size;
+		}
+
+		@Override
+		public $type$ value() {
+			if (index < 0 || index >= size) {
+				throw new NoSuchElementException();
+			}
+			return get(index);
+		}
+
+		@Override
+		public int index() {
+			return index;
+		}
+
+		@Override
+		public void reset() {
+			size = size();
+			index = -1;
+		}
+	}
+//#if Int|Long|Double
+
+	/**
+	 * {@link PrimitiveIterator.Of$Type$} built on {@link #get(int)} and
+	 * {@link #remove(int)}.
+	 */
+	private final class Itr implements PrimitiveIterator.Of$Type$ {
+		private int next;
+		private int last = -1;
+
+		@Override
+		public boolean hasNext() {
+			return next < size();
+		}
+
+		@Override
+		public $type$ next$Type$() {
+			if (next >= size()) {
+				throw new NoSuchElementException();
+			}
+			last = next++;
+			return get(last);
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			AbstractPrimative$Type$List.this.remove(last);
+			next = last;
+			last = -1;
+		}
+	}
+//#endif
+}
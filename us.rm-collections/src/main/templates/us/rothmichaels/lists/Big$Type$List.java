@@ -0,0 +1,457 @@
+//#types numeric
+/*
+ * Big$Type$List.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.$Wide$Consumer;
+//#if Long|Double|Float
+import java.util.stream.$Wide$Stream;
+//#else
+import java.util.stream.IntStream;
+//#endif
+import java.util.stream.StreamSupport;
+
+/**
+ * A list of {@code $type$}s with {@code long} indices, stored in fixed-size
+ * pages instead of one array.
+ * 
+ * <p>
+ * A {@link $Type$ArrayList} is limited to {@code Integer.MAX_VALUE} elements
+ * and briefly needs three times its size in memory while it doubles its
+ * array. A Big$Type$List grows by allocating one more page, never copies its
+ * elements, and can hold as many elements as memory allows. The pages are
+ * kept small enough ({@link #DEFAULT_PAGE_SHIFT}) that the garbage collector
+ * can allocate and move them like ordinary objects.
+ * 
+ * <p>
+ * Because its indices are {@code long}s the list does not implement
+ * {@link IPrimative$Type$List}; it supports appending, random access,
+ * searching and streaming.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Big$Type$List {
+
+	/**
+	 * Base two logarithm of the default number of elements per page; pages
+	 * are at most 256 KiB.
+	 */
+	public static final int DEFAULT_PAGE_SHIFT = 15;
+
+	/**
+	 * Largest page shift accepted by {@link #Big$Type$List(int)}.
+	 */
+	public static final int MAX_PAGE_SHIFT = 27;
+
+	private final int shift;
+	private final int mask;
+	private $type$[][] pages;
+	private int pageCount;
+	private long size;
+
+	/**
+	 * Create an empty Big$Type$List with pages of
+	 * {@code 1 << DEFAULT_PAGE_SHIFT} elements.
+	 */
+	public Big$Type$List() {
+		this(DEFAULT_PAGE_SHIFT);
+	}
+
+	/**
+	 * Create an empty Big$Type$List with pages of {@code 1 << pageShift}
+	 * elements.
+	 * 
+	 * @param pageShift
+	 *            base two logarithm of the page size, between {@code 0} and
+	 *            {@link #MAX_PAGE_SHIFT}
+	 */
+	public Big$Type$List(int pageShift) {
+		if (pageShift < 0 || pageShift > MAX_PAGE_SHIFT) {
+			throw new IllegalArgumentException("" + pageShift);
+		}
+		shift = pageShift;
+		mask = (1 << pageShift) - 1;
+		pages = new $type$[16][];
+	}
+
+	/**
+	 * Appends a {@code $type$} to the end of the list.
+	 * 
+	 * @param e
+	 *            value to append to the list
+	 */
+	public void add($type$ e) {
+		final long s = size;
+		final int page = (int) (s >>> shift);
+		if (page == pageCount) {
+			addPage();
+		}
+		pages[page][(int) s & mask] = e;
+		size = s + 1;
+	}
+
+	/**
+	 * Appends {@code a[from, to)} to the end of the list, a page at a time.
+	 * 
+	 * @param a
+	 *            the values to append
+	 * @param from
+	 *            first index to append (inclusive)
+	 * @param to
+	 *            last index to append (exclusive)
+	 */
+	public void addAll($type$[] a, int from, int to) {
+		if (from < 0 || to > a.length || from > to) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					from, to));
+		}
+		while (from < to) {
+			final int page = (int) (size >>> shift);
+			if (page == pageCount) {
+				addPage();
+			}
+			final int offset = (int) size & mask;
+			final int n = Math.min(to - from, mask + 1 - offset);
+			System.arraycopy(a, from, pages[page], offset, n);
+			from += n;
+			size += n;
+		}
+	}
+
+	/**
+	 * Removes every element. The pages are kept for reuse.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns {@code true} if {@code value} is in the list.
+	 * 
+	 * @param value
+	 *            value to search for
+	 * 
+	 * @return {@code true} if the list contains {@code value}
+	 */
+	public boolean contains($type$ value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Performs {@code action} for each element of the list, in order.
+//#if Byte|Char|Short|Float
+	 * Elements are widened to {@code $wide$}.
+//#endif
+	 * 
+	 * @param action
+	 *            the action to perform
+	 */
+	public void forEach($Wide$Consumer action) {
+		long remaining = size;
+		for (int p = 0; remaining > 0; ++p) {
+			final $type$[] page = pages[p];
+			final int n = (int) Math.min(remaining, page.length);
+			for (int i = 0; i < n; ++i) {
+				action.accept(page[i]);
+			}
+			remaining -= n;
+		}
+	}
+
+	/**
+	 * Returns the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element to return
+	 * 
+	 * @return the element at {@code index}
+	 */
+	public $type$ get(long index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+
+		return pages[(int) (index >>> shift)][(int) index & mask];
+	}
+
+	/**
+	 * Copies {@code length} elements starting at {@code index} into
+	 * {@code dst}, a page at a time.
+	 * 
+	 * @param index
+	 *            index of the first element to copy
+	 * @param dst
+	 *            array to copy into
+	 * @param off
+	 *            first index of {@code dst} to fill
+	 * @param length
+	 *            number of elements to copy
+	 */
+	public void get(long index, $type$[] dst, int off, int length) {
+		if (index < 0 || length < 0 || index > size - length) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					index, index + length));
+		}
+		while (length > 0) {
+			final int offset = (int) index & mask;
+			final int n = Math.min(length, mask + 1 - offset);
+			System.arraycopy(pages[(int) (index >>> shift)], offset, dst, off,
+					n);
+			index += n;
+			off += n;
+			length -= n;
+		}
+	}
+
+	/**
+	 * Returns the index of the first occurrence of {@code value}.
+	 * 
+	 * @param value
+	 *            value to search for
+	 * 
+	 * @return index of the first {@code value}, or {@code -1} if there is
+	 *         none
+	 */
+	public long indexOf($type$ value) {
+		long remaining = size;
+		for (int p = 0; remaining > 0; ++p) {
+			final int n = (int) Math.min(remaining, mask + 1);
+			final int i = $Type$Search.indexOf(pages[p], 0, n, value);
+			if (i >= 0) {
+				return ((long) p << shift) + i;
+			}
+			remaining -= n;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if empty.
+	 * 
+	 * @return {@code true} if empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of {@code value}.
+	 * 
+	 * @param value
+	 *            value to search for
+	 * 
+	 * @return index of the last {@code value}, or {@code -1} if there is none
+	 */
+	public long lastIndexOf($type$ value) {
+		if (size == 0) {
+			return -1;
+		}
+		for (int p = (int) ((size - 1) >>> shift); p >= 0; --p) {
+			final int n = (int) Math.min(size - ((long) p << shift), mask + 1);
+			final int i = $Type$Search.lastIndexOf(pages[p], 0, n, value);
+			if (i >= 0) {
+				return ((long) p << shift) + i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns a parallel stream over the list, split along page boundaries.
+	 * 
+	 * @return a parallel stream over the list
+	 */
+	public $Wide$Stream parallelStream() {
+		return StreamSupport.$wide$Stream(new PageSpliterator(0, size), true);
+	}
+
+	/**
+	 * Removes and returns the last element.
+	 * 
+	 * @return the element that was last
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the list is empty
+	 */
+	public $type$ removeLast() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		final long last = --size;
+
+		return pages[(int) (last >>> shift)][(int) last & mask];
+	}
+
+	/**
+	 * Set the value at a specific index in the list.
+	 * 
+	 * @param index
+	 *            the index to set
+	 * @param element
+	 *            the value to set
+	 * 
+	 * @return the old value at index
+	 */
+	public $type$ set(long index, $type$ element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+		final $type$[] page = pages[(int) (index >>> shift)];
+		final int i = (int) index & mask;
+		final $type$ old = page[i];
+		page[i] = element;
+
+		return old;
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 * 
+	 * @return the number of elements in this list
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns a sequential stream over the list.
+	 * 
+	 * @return a stream over the list
+	 */
+	public $Wide$Stream stream() {
+		return StreamSupport.$wide$Stream(new PageSpliterator(0, size), false);
+	}
+
+	/**
+	 * Releases the pages past the end of the list.
+	 */
+	public void trimToSize() {
+		final int needed = (int) ((size + mask) >>> shift);
+		Arrays.fill(pages, needed, pageCount, null);
+		pageCount = needed;
+	}
+
+	private void addPage() {
+		if (pageCount == pages.length) {
+			if (pageCount == Integer.MAX_VALUE - 8) {
+				throw new OutOfMemoryError("Big$Type$List is full");
+			}
+			pages = Arrays.copyOf(pages,
+					(int) Math.min(Integer.MAX_VALUE - 8, pageCount * 2L));
+		}
+		pages[pageCount++] = new $type$[mask + 1];
+	}
+
+	/**
+	 * {@link Spliterator.Of$Wide$} over {@code [index, fence)} that splits on
+	 * page boundaries where it can.
+	 */
+	private final class PageSpliterator implements Spliterator.Of$Wide$ {
+		private long index;
+		private final long fence;
+
+		PageSpliterator(long origin, long fence) {
+			this.index = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public Spliterator.Of$Wide$ trySplit() {
+			final long lo = index;
+			long mid = (lo + fence) >>> 1;
+			if ((mid & ~(long) mask) > lo) {
+				mid &= ~(long) mask;
+			}
+			if (mid <= lo) {
+				return null;
+			}
+			index = mid;
+			return new PageSpliterator(lo, mid);
+		}
+
+		@Override
+		public boolean tryAdvance($Wide$Consumer action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (index < fence) {
+				final long i = index++;
+				action.accept(pages[(int) (i >>> shift)][(int) i & mask]);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining($Wide$Consumer action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			long i = index;
+			final long hi = fence;
+			index = hi;
+			while (i < hi) {
+				final $type$[] page = pages[(int) (i >>> shift)];
+				final int from = (int) i & mask;
+				final int to = (int) Math.min(mask + 1, from + (hi - i));
+				for (int j = from; j < to; ++j) {
+					action.accept(page[j]);
+				}
+				i += to - from;
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+	}
+}
@@ -0,0 +1,431 @@
+//#types Int|Long
+/*
+ * Concurrent$Type$AppendList.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.$Wide$Consumer;
+
+/**
+ * An append-only list of {@code $type$}s that many threads can add to at once
+ * without locking.
+ * 
+ * <p>
+ * {@link #add($type$)} reserves the next index with a single atomic
+ * increment, stores the value in the chunk holding that index and then flags
+ * the slot as published, so a writer never waits for another writer. The
+ * chunks double in size from {@link #FIRST_CHUNK_SIZE} and elements are never
+ * copied. Writers allocate the chunk they are about to reserve into, and the
+ * next one once the current chunk is half full, before reserving, so an
+ * allocation failure leaves the list as it was.
+ * 
+ * <p>
+ * Elements are read in index order. {@link #get(int)}, {@link #snapshot()}
+ * and {@link #forEach($Wide$Consumer)} see every element whose {@code add}
+ * returned before they were called, waiting for any index that has been
+ * reserved but not yet stored, so every snapshot is a prefix of every later
+ * one. A writer that fails between reserving and publishing marks its
+ * indices lost, and a reader reaching a lost index throws
+ * {@link IllegalStateException} rather than waiting for it. The publication
+ * flags of a chunk are dropped once a reader has seen all of it, leaving four
+ * bytes per element of overhead only in chunks that are still filling or
+ * have not been read.
+ * 
+ * <p>
+ * Elements cannot be removed or replaced; to start over, replace the list.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Concurrent$Type$AppendList {
+
+	/**
+	 * Base two logarithm of {@link #FIRST_CHUNK_SIZE}.
+	 */
+	private static final int FIRST_CHUNK_SHIFT = 10;
+
+	/**
+	 * Number of elements in the first chunk; each later chunk is twice the
+	 * size of the one before it.
+	 */
+	public static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_SHIFT;
+
+	/**
+	 * Largest number of elements the list can hold.
+	 */
+	public static final int MAX_SIZE = (int) ((1L << 31) - FIRST_CHUNK_SIZE);
+
+	/**
+	 * Number of chunks needed to hold {@link #MAX_SIZE} elements; the last
+	 * is {@code 1 << 30} elements long.
+	 */
+	private static final int MAX_CHUNKS = 31 - FIRST_CHUNK_SHIFT;
+
+	private final AtomicLong reserved = new AtomicLong();
+	private final AtomicReferenceArray<Chunk> chunks = new AtomicReferenceArray<Chunk>(
+			MAX_CHUNKS);
+
+	/**
+	 * {@code [from, to)} index ranges reserved by writers that failed before
+	 * publishing them.
+	 */
+	private final Queue<int[]> lost = new ConcurrentLinkedQueue<int[]>();
+
+	/**
+	 * Create an empty Concurrent$Type$AppendList.
+	 */
+	public Concurrent$Type$AppendList() {
+		chunks.set(0, new Chunk(0, FIRST_CHUNK_SIZE));
+	}
+
+	/**
+	 * Appends a {@code $type$} to the end of the list. Safe to call from
+	 * any number of threads at once.
+	 * 
+	 * @param value
+	 *            value to append to the list
+	 * 
+	 * @throws OutOfMemoryError
+	 *             if the list already holds {@link #MAX_SIZE} elements, or
+	 *             its next chunk can not be allocated
+	 */
+	public void add($type$ value) {
+		final long next = reserved.get();
+		if (next < MAX_SIZE) {
+			prepare((int) next + FIRST_CHUNK_SIZE);
+		}
+		final long index = reserved.getAndIncrement();
+		if (index >= MAX_SIZE) {
+			throw new OutOfMemoryError("Concurrent$Type$AppendList is full");
+		}
+		try {
+			beforeStore((int) index);
+			final int j = (int) index + FIRST_CHUNK_SIZE;
+			final int offset = j - Integer.highestOneBit(j);
+			// only allocates if other writers moved past next meanwhile
+			final Chunk chunk = chunk(chunkOf(j));
+			chunk.values[offset] = value;
+			chunk.flags.lazySet(offset, 1);
+		} catch (Throwable t) {
+			lost.add(new int[] { (int) index, (int) index + 1 });
+			throw t;
+		}
+	}
+
+	/**
+	 * Appends {@code a[from, to)} to the end of the list as one contiguous
+	 * run, which no other thread's elements are interleaved with. Safe to
+	 * call from any number of threads at once.
+	 * 
+	 * @param a
+	 *            the values to append
+	 * @param from
+	 *            first index to append (inclusive)
+	 * @param to
+	 *            last index to append (exclusive)
+	 * 
+	 * @throws OutOfMemoryError
+	 *             if the list cannot hold {@code to - from} more elements, or
+	 *             the chunks for them can not be allocated
+	 */
+	public void addAll($type$[] a, int from, int to) {
+		if (from < 0 || to > a.length || from > to) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					from, to));
+		}
+		final int n = to - from;
+		long start;
+		do {
+			start = reserved.get();
+			// reserving past MAX_SIZE would leave slots no one fills
+			if (start + n > MAX_SIZE) {
+				throw new OutOfMemoryError("Concurrent$Type$AppendList is full");
+			}
+			if (n > 0) {
+				// allocate before reserving, so a failure loses nothing
+				final int j = (int) start + FIRST_CHUNK_SIZE;
+				for (int k = chunkOf(j), last = chunkOf(j + n - 1); k <= last; ++k) {
+					chunk(k);
+				}
+			}
+		} while (!reserved.compareAndSet(start, start + n));
+
+		try {
+			beforeStore((int) start);
+			int j = (int) start + FIRST_CHUNK_SIZE;
+			while (from < to) {
+				final int offset = j - Integer.highestOneBit(j);
+				final Chunk chunk = chunk(chunkOf(j));
+				final int m = Math.min(to - from, chunk.values.length - offset);
+				System.arraycopy(a, from, chunk.values, offset, m);
+				final AtomicIntegerArray flags = chunk.flags;
+				for (int i = offset; i < offset + m; ++i) {
+					flags.lazySet(i, 1);
+				}
+				from += m;
+				j += m;
+			}
+		} catch (Throwable t) {
+			lost.add(new int[] { (int) start, (int) start + n });
+			throw t;
+		}
+	}
+
+	/**
+	 * Performs {@code action} for each element added before this call, in
+	 * order, without copying them.
+	 * 
+	 * @param action
+	 *            the action to perform
+	 * 
+	 * @throws IllegalStateException
+	 *             if an element was lost by a failed add
+	 */
+	public void forEach($Wide$Consumer action) {
+		final int n = size();
+		int done = 0;
+		for (int k = 0; done < n; ++k) {
+			final Chunk chunk = chunk(k);
+			final int m = Math.min(n - done, chunk.values.length);
+			awaitPublished(chunk, m);
+			final $type$[] values = chunk.values;
+			for (int i = 0; i < m; ++i) {
+				action.accept(values[i]);
+			}
+			done += m;
+		}
+	}
+
+	/**
+	 * Returns the element at {@code index}, waiting for it if its
+	 * {@code add} is still in progress.
+	 * 
+	 * @param index
+	 *            index of the element
+	 * 
+	 * @return the element at {@code index}
+	 * 
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or not less than
+	 *             {@link #size()}
+	 * @throws IllegalStateException
+	 *             if the element was lost by a failed add
+	 */
+	public $type$ get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+		final int j = index + FIRST_CHUNK_SIZE;
+		final int offset = j - Integer.highestOneBit(j);
+		final Chunk chunk = chunk(chunkOf(j));
+		if (offset >= chunk.published) {
+			final AtomicIntegerArray flags = chunk.flags;
+			if (flags != null) {
+				await(flags, offset, index);
+			}
+		}
+		return chunk.values[offset];
+	}
+
+	/**
+	 * Returns {@code true} if nothing has been added to the list.
+	 * 
+	 * @return {@code true} if the list is empty
+	 */
+	public boolean isEmpty() {
+		return reserved.get() == 0;
+	}
+
+	/**
+	 * Returns the number of elements, counting adds still in progress.
+	 * 
+	 * @return the number of elements in the list
+	 */
+	public int size() {
+		return (int) Math.min(reserved.get(), MAX_SIZE);
+	}
+
+	/**
+	 * Returns a copy of the elements added before this call.
+	 * 
+	 * @return a new list of the elements, in order
+	 * 
+	 * @throws IllegalStateException
+	 *             if an element was lost by a failed add
+	 */
+	public $Type$ArrayList snapshot() {
+		final int n = size();
+		final $Type$ArrayList out = new $Type$ArrayList(n);
+		int copied = 0;
+		for (int k = 0; copied < n; ++k) {
+			final Chunk chunk = chunk(k);
+			final int m = Math.min(n - copied, chunk.values.length);
+			awaitPublished(chunk, m);
+			System.arraycopy(chunk.values, 0, out.data, copied, m);
+			copied += m;
+		}
+		out.addPointer = n;
+		return out;
+	}
+
+	/**
+	 * Called by a writer after it has reserved {@code index}, the first of
+	 * its run, and before it stores to it. Does nothing; tests override it to
+	 * make a writer fail part way through an add.
+	 */
+	void beforeStore(int index) {
+	}
+
+	/**
+	 * Allocates the chunk of {@code j = index + FIRST_CHUNK_SIZE}, and the
+	 * chunk after it once {@code index} is half way through its chunk.
+	 */
+	private void prepare(int j) {
+		final int k = chunkOf(j);
+		final Chunk chunk = chunk(k);
+		if (j - Integer.highestOneBit(j) >= chunk.values.length >>> 1
+				&& k + 1 < MAX_CHUNKS && chunks.get(k + 1) == null) {
+			chunk(k + 1);
+		}
+	}
+
+	/**
+	 * Waits until the first {@code n} values of {@code chunk} are published.
+	 */
+	private void awaitPublished(Chunk chunk, int n) {
+		int i = chunk.published;
+		if (i >= n) {
+			return;
+		}
+		final AtomicIntegerArray flags = chunk.flags;
+		if (flags == null) {
+			return;
+		}
+		for (; i < n; ++i) {
+			await(flags, i, chunk.start + i);
+		}
+		if (n > chunk.published) {
+			chunk.published = n;
+		}
+		if (n == chunk.values.length) {
+			chunk.flags = null;
+		}
+	}
+
+	/**
+	 * Waits until {@code flags} marks {@code offset}, list index
+	 * {@code index}, published.
+	 * 
+	 * @throws IllegalStateException
+	 *             if {@code index} was lost
+	 */
+	private void await(AtomicIntegerArray flags, int offset, int index) {
+		while (flags.get(offset) == 0) {
+			for (final int[] range : lost) {
+				if (index >= range[0] && index < range[1]) {
+					throw new IllegalStateException("element " + index
+							+ " was lost by a failed add");
+				}
+			}
+			// the writer of index is between reserving and storing it
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Returns the chunk that {@code index + FIRST_CHUNK_SIZE} falls in.
+	 */
+	private static int chunkOf(int j) {
+		return 31 - Integer.numberOfLeadingZeros(j) - FIRST_CHUNK_SHIFT;
+	}
+
+	/**
+	 * Returns chunk {@code k}, allocating it if no thread has yet.
+	 */
+	private Chunk chunk(int k) {
+		final Chunk chunk = chunks.get(k);
+		if (chunk != null) {
+			return chunk;
+		}
+		final Chunk allocated = new Chunk((FIRST_CHUNK_SIZE << k)
+				- FIRST_CHUNK_SIZE, FIRST_CHUNK_SIZE << k);
+		// lose the race gracefully: the first chunk installed is used
+		return chunks.compareAndSet(k, null, allocated) ? allocated : chunks
+				.get(k);
+	}
+
+	/**
+	 * The values of one chunk and the flags marking which are published.
+	 */
+	private static final class Chunk {
+
+		/**
+		 * List index of the first value.
+		 */
+		final int start;
+
+		final $type$[] values;
+
+		/**
+		 * Nonzero for each published value; {@code null} once a reader has
+		 * seen every value published.
+		 */
+		volatile AtomicIntegerArray flags;
+
+		/**
+		 * Number of leading values a reader has seen published. Readers
+		 * race to raise it, so it may briefly go down, but never past a
+		 * value that is not published.
+		 */
+		volatile int published;
+
+		Chunk(int start, int length) {
+			this.start = start;
+			values = new $type$[length];
+			flags = new AtomicIntegerArray(length);
+		}
+	}
+}
@@ -0,0 +1,567 @@
+/*
+ * IPrimative$Type$List.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2011 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Sep 9, 2012 
+ */
+package us.rothmichaels.lists;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+//#if Int|Long|Double
+import java.util.PrimitiveIterator;
+//#endif
+//#if numeric
+import java.util.function.$Wide$Consumer;
+import java.util.function.$Wide$Predicate;
+import java.util.function.$Wide$UnaryOperator;
+import java.util.stream.$Wide$Stream;
+//#endif
+
+/**
+ * An interface for Lists of primative $type$s.
+ * 
+ * @see java.lang.List
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public interface IPrimative$Type$List {
+
+	/**
+	 * Appends a {@code $type$} to the end of the list.
+	 * 
+	 * @param e
+	 *            value to append to the list
+	 * 
+	 * @return {@code true} (as specified by {@link Collection#add})
+	 */
+	boolean add($type$ e);
+
+	/**
+	 * Adds an emelement to the list at the specified index.
+	 * 
+	 * @param index
+	 *            index to insert new element
+	 * @param element
+	 *            element to insert
+	 */
+	void add(int index, $type$ element);
+
+	/**
+	 * Appends the specified collection to the list.
+	 * 
+	 * @param c
+	 *            the collection to append
+	 * 
+	 * @return {@code true} if list was modified as a result of the call
+	 */
+	boolean addAll(Collection<$Boxed$> c);
+
+	/**
+	 * Insert the elements in the specified collection into the list at the
+	 * specified index.
+	 * 
+	 * @param index
+	 *            the index at which to insert new members
+	 * @param c
+	 *            the collection to insert
+	 * 
+	 * @return {@code true} if list was modified as a result of the call
+	 */
+	boolean addAll(int index, Collection<$Boxed$> c);
+
+	/**
+	 * Appends the specified list to the list.
+	 * 
+	 * @param l
+	 *            the list to append
+	 * 
+	 * @return {@code true} if list was modified as a result of the call
+	 */
+	boolean addAll(IPrimative$Type$List l);
+
+	/**
+	 * Insert the elements in the specified input into the list at the specified
+	 * index.
+	 * 
+	 * @param index
+	 *            the index at which to insert new members
+	 * @param l
+	 *            the list to insert
+	 * 
+	 * @return {@code true} if list was modified as a result of the call
+	 */
+	boolean addAll(int index, IPrimative$Type$List l);
+
+	/**
+	 * Removes all elements from the list.
+	 */
+	void clear();
+
+	/**
+	 * Returns true if the list contains the specified {@code $type$}.
+	 * 
+	 * @param value
+	 *            value to test presence in list
+	 * 
+	 * @return {@code true} if {@code value} is in list.
+	 */
+	boolean contains($type$ value);
+
+	/**
+	 * Returns true if the list contains at least one of the specified values.
+	 * 
+	 * @param values
+	 *            values to test presence in list
+	 * 
+	 * @return {@code true} if any of {@code values} is in the list.
+	 */
+	boolean containsAny($type$[] values);
+
+	/**
+	 * Returns true if list contains all the elements of the specified
+	 * collection.
+	 * 
+	 * @param c
+	 *            collection to compare with list
+	 * 
+	 * @return {@code true} if list contained all members of input collection
+	 */
+	boolean containsAll(Collection<$Boxed$> c);
+
+	/**
+	 * Returns true if list contains all the elements of the specified list.
+	 * 
+	 * @param c
+	 *            list to compare with list
+	 * 
+	 * @return {@code true} if list contained all members of input list
+	 */
+	boolean containsAll(IPrimative$Type$List c);
+
+	/**
+	 * Returns a new {@link $Type$Cursor} positioned before the first element
+	 * of the list. The cursor can be {@link $Type$Cursor#reset() reset} and
+	 * reused for further passes.
+	 * 
+	 * @return a cursor over the list
+	 */
+	$Type$Cursor cursor();
+//#if numeric
+
+	/**
+	 * Performs {@code action} for each element of the list, in order.
+//#if Byte|Char|Short|Float
+	 * Elements are widened to {@code $wide$}.
+//#endif
+	 * 
+	 * <p>
+	 * {@code action} must not modify the list.
+	 * 
+	 * @param action
+	 *            the action to perform
+	 */
+	void forEach($Wide$Consumer action);
+//#endif
+
+	/**
+	 * Returns the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element to return
+	 * 
+	 * @return the element at {@code index}
+	 */
+	$type$ get(int index);
+
+	/**
+	 * Returns the index of the first occurrence of the specified value in the
+	 * list.
+	 * 
+	 * @param i
+	 *            value to search for
+	 * 
+	 * @return index of first occurance of {@code i}
+	 */
+	int indexOf($type$ i);
+
+	/**
+	 * Returns the indices of every occurrence of the specified value in the
+	 * list, in ascending order.
+	 * 
+	 * @param value
+	 *            value to search for
+	 * 
+	 * @return indices of {@code value} (empty if it is not in the list)
+	 */
+	IPrimativeIntList indexOfAll($type$ value);
+
+	/**
+	 * Returns {@code true} if empty.
+	 * 
+	 * @return {@code true} if empty.
+	 */
+	boolean isEmpty();
+
+//#if Int|Long|Double
+	/**
+	 * Returns an iterator over the elements of the list, in order. The
+	 * iterator supports {@link PrimitiveIterator.Of$Type$#remove()}.
+	 * 
+	 * @return an iterator over the list
+	 */
+	PrimitiveIterator.Of$Type$ iterator();
+
+//#endif
+	/**
+	 * Returns the index of the last occurrence of the specified value in the
+	 * list.
+	 * 
+	 * @param value
+	 *            value to search for
+	 * 
+	 * @return index of last occurance of {@code i}
+	 */
+	int lastIndexOf($type$ value);
+//#if numeric
+
+	/**
+	 * Returns the largest element of the list, computed in parallel on the
+	 * common {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @return the largest element
+	 * 
+	 * @throws java.util.NoSuchElementException
+	 *             if the list is empty
+	 */
+	$type$ parallelMax();
+
+	/**
+	 * Returns the smallest element of the list, computed in parallel on the
+	 * common {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @return the smallest element
+	 * 
+	 * @throws java.util.NoSuchElementException
+	 *             if the list is empty
+	 */
+	$type$ parallelMin();
+
+	/**
+	 * Replaces each element of the list with the result of applying
+	 * {@code operator} to it, in parallel on the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+//#if Byte|Char|Short|Float
+	 * Elements are widened to {@code $wide$} and the results narrowed back to
+	 * {@code $type$}.
+//#endif
+	 * 
+	 * <p>
+	 * {@code operator} must be stateless and must not modify the list.
+	 * 
+	 * @param operator
+	 *            the operator to apply to each element
+	 */
+	void parallelReplaceAll($Wide$UnaryOperator operator);
+
+	/**
+	 * Sorts the list into ascending numerical order using
+	 * {@link java.util.Arrays#parallelSort}.
+	 */
+	void parallelSort();
+
+	/**
+	 * Returns a parallel {@link $Wide$Stream} over the elements of the list,
+	 * in order.
+	 * 
+	 * @return a parallel stream over the list
+	 * 
+	 * @see #stream()
+	 */
+	$Wide$Stream parallelStream();
+
+	/**
+	 * Returns the sum of the elements of the list, computed in parallel on
+	 * the common {@link java.util.concurrent.ForkJoinPool}.
+//#if integral
+	 * The sum is accumulated as a {@code long} and wraps on overflow.
+//#else
+	 * The sum is accumulated as a {@code double} with compensated summation,
+	 * so the result may differ slightly from a sequential sum.
+//#endif
+	 * 
+	 * @return the sum of the list, {@code 0} if the list is empty
+	 */
+//#if integral
+	long parallelSum();
+//#else
+	double parallelSum();
+//#endif
+//#endif
+
+	/**
+	 * Removes the first occurance of {@code value} in the list.
+	 * 
+	 * @param value
+	 *            the value to remove.
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	boolean removeValue($type$ value);
+
+	/**
+	 * Remove the element at the specified index.
+	 * 
+	 * @param index
+	 *            The index of the element to be reomved.
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	boolean remove(int index);
+
+	/**
+	 * Remove the items {@code c} from the list.
+	 * 
+	 * @param c
+	 *            items to remove
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	boolean removeAll(Collection<$Boxed$> c);
+
+	/**
+	 * Remove all items in the list except those contained in {@code c}
+	 * 
+	 * @param c
+	 *            items to keep
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	boolean retainAll(Collection<$Boxed$> c);
+
+	/**
+	 * Remove every occurrence of the items in {@code l} from the list.
+	 * 
+	 * @param l
+	 *            items to remove
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	boolean removeAll(IPrimative$Type$List l);
+
+	/**
+	 * Remove all items in the list except those contained in {@code l}
+	 * 
+	 * @param l
+	 *            items to keep
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	boolean retainAll(IPrimative$Type$List l);
+//#if numeric
+
+	/**
+	 * Remove every item that satisfies {@code filter}, keeping the order of
+	 * the rest. {@code filter} is called once per item, in order.
+	 * 
+	 * @param filter
+	 *            returns {@code true} for the items to remove
+	 * 
+	 * @return {@code true} if list was modified by this operation.
+	 */
+	boolean removeIf($Wide$Predicate filter);
+//#endif
+
+	/**
+	 * Set the value at a specific index in the list.
+	 * 
+	 * @param index
+	 *            the index to set
+	 * @param element
+	 *            the value to set
+	 * 
+	 * @return the old value at index (null if no value).
+	 */
+	$type$ set(int index, $type$ element);
+
+	/**
+	 * Returns the number of elements in this list. Does not overflow, but
+	 * returns {@code Integer.MAX_VALUE} if the result will ont fit in an
+	 * {@code int}
+	 * 
+	 * @return the number of elements in this list
+	 */
+	int size();
+//#if numeric
+
+	/**
+	 * Sorts the list into ascending numerical order. Large lists are radix
+	 * sorted, see {@link $Type$Sort}.
+//#if floating
+	 * The order is that of {@link java.util.Arrays#sort($type$[])}:
+	 * {@code -0.0} before {@code 0.0} and {@code NaN} last.
+//#endif
+	 */
+	void sort();
+
+	/**
+	 * Sorts the elements in {@code [fromIndex, toIndex)} into ascending
+	 * numerical order, leaving the rest of the list in place.
+	 *
+	 * @param fromIndex
+	 *            first index to sort (inclusive)
+	 * @param toIndex
+	 *            last index to sort (exclusive)
+	 *
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not within the list
+	 */
+	void sort(int fromIndex, int toIndex);
+
+	/**
+	 * Returns the permutation that would sort the list, without changing
+	 * the list: {@code get(p.get(0)) <= get(p.get(1)) <= ...}. Equal elements
+	 * keep their relative order.
+	 *
+	 * @return a new list of the indices in sorted order
+	 */
+	IntArrayList sortIndices();
+
+	/**
+	 * Returns a sequential {@link $Wide$Stream} over the elements of the list,
+	 * in order.
+//#if Byte|Char|Short|Float
+	 * Elements are widened to {@code $wide$}.
+//#endif
+	 * 
+	 * <p>
+	 * The stream's spliterator is {@link java.util.Spliterator#SIZED SIZED},
+	 * {@link java.util.Spliterator#SUBSIZED SUBSIZED} and
+	 * {@link java.util.Spliterator#ORDERED ORDERED}, so it splits evenly for
+	 * parallel execution. The list must not be structurally modified while
+	 * the stream is in use.
+	 * 
+	 * @return a stream over the list
+	 */
+	$Wide$Stream stream();
+//#endif
+
+	/**
+	 * Returns a sublist. Implementations may return a view that writes
+	 * through to this list; {@link $Type$ArrayList#copyOf} makes a detached
+	 * copy.
+	 * 
+	 * @param fromIndex
+	 *            starting index of the sublist (inclusive)
+	 * @param toIndex
+	 *            end index of the sublist (exclusive)
+	 * 
+	 * @return the sublist
+	 */
+	IPrimative$Type$List subList(int fromIndex, int toIndex);
+
+	/**
+	 * Returns an array containing all of the elements in this list in proper
+	 * sequence (from first to last element).
+	 * 
+	 * <p>
+	 * The returned array should be safe copy free to be modified by the caller
+	 * even if the internal datastructure of the implementing list is an array.
+	 * 
+	 * @return an array containing all of the elements in this list in proper
+	 *         sequence
+	 */
+	$type$[] toArray();
+
+	/**
+	 * Writes the list to {@code channel} in the compact binary list format: a
+	 * short versioned header with the element type and length, then the raw
+	 * little-endian elements. Read it back with
+	 * {@link $Type$ArrayList#readFrom} or, a chunk at a time, with a
+	 * {@link $Type$ListReader}.
+	 * 
+	 * @param channel
+	 *            channel to write to; it is not closed
+	 * 
+	 * @throws IOException
+	 *             if the channel cannot be written
+	 */
+	void writeTo(WritableByteChannel channel) throws IOException;
+
+	/**
+	 * Compares the specified object with this list for equality. Returns
+	 * <tt>true</tt> if and only if the specified object is also a list, both
+	 * lists have the same size, and all corresponding pairs of elements in the
+	 * two lists are <i>equal</i>. In other words, two lists are defined to be
+	 * equal if they contain the same elements in the same order. The type of
+	 * the list does not matter if both all elements satisfy numerical equality.
+	 * 
+	 * @param o
+	 *            the object to be compared for equality with this list
+	 * 
+	 * @return {@code true} if the specified object is equal to this list
+	 */
+	@Override
+	boolean equals(Object o);
+
+	/**
+	 * Returns the hash code value for this list. The hash code of a list is
+	 * defined to be the result of the following calculation:
+	 * 
+	 * <pre>
+	 * int hashCode = 1;
+	 * for (E e : list)
+	 * 	hashCode = 31 * hashCode + (e == null ? 0 : e.hashCode());
+	 * </pre>
+	 * 
+	 * This ensures that <tt>list1.equals(list2)</tt> implies that
+	 * <tt>list1.hashCode()==list2.hashCode()</tt> for any two lists,
+	 * <tt>list1</tt> and <tt>list2</tt>, as required by the general contract of
+	 * {@link Object#hashCode}.
+	 * 
+	 * @return the hash code value for this list
+	 * 
+	 * @see Object#equals(Object)
+	 * @see #equals(Object)
+	 */
+	@Override
+	int hashCode();
+
+}
@@ -0,0 +1,455 @@
+/*
+ * Immutable$Type$List.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collection;
+//#if numeric
+import java.util.function.$Wide$Consumer;
+import java.util.function.$Wide$Predicate;
+import java.util.function.$Wide$UnaryOperator;
+//#if Long|Double|Float
+import java.util.stream.$Wide$Stream;
+//#else
+import java.util.stream.IntStream;
+//#endif
+import java.util.stream.StreamSupport;
+//#endif
+
+/**
+ * An immutable list of $type$s.
+ * 
+ * <p>
+ * The elements are held in a final array that is never written after
+ * construction, so an instance can be shared between threads without
+ * locking and handed out without a defensive copy. Every method that would
+ * change the list throws {@link UnsupportedOperationException}, even when
+ * the change would be a no-op. {@link #subList(int, int)} shares the array.
+ * 
+ * <p>
+ * {@link $Type$ArrayList#freeze()} makes one from an existing list without
+ * copying the elements.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public final class Immutable$Type$List extends AbstractPrimative$Type$List {
+
+	private static final Immutable$Type$List EMPTY = new Immutable$Type$List(
+			new $type$[0], 0, 0);
+
+	private final $type$[] data;
+	private final int offset;
+	private final int size;
+
+	/**
+	 * Wraps {@code data[offset, offset + size)}, which must never be written
+	 * again.
+	 */
+	Immutable$Type$List($type$[] data, int offset, int size) {
+		this.data = data;
+		this.offset = offset;
+		this.size = size;
+	}
+
+	/**
+	 * Returns the empty list.
+	 * 
+	 * @return an immutable list with no elements
+	 */
+	public static Immutable$Type$List of() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns an immutable list of {@code values}.
+	 * 
+	 * @param values
+	 *            the elements; the array is copied
+	 * 
+	 * @return an immutable list of {@code values}
+	 */
+	public static Immutable$Type$List of($type$... values) {
+		if (values.length == 0) {
+			return EMPTY;
+		}
+		return new Immutable$Type$List(values.clone(), 0, values.length);
+	}
+
+	/**
+	 * Returns an immutable list with the elements of {@code l}; if it is
+	 * already immutable it is returned as is.
+	 * 
+	 * @param l
+	 *            list to copy
+	 * 
+	 * @return an immutable list with the elements of {@code l}
+	 */
+	public static Immutable$Type$List copyOf(IPrimative$Type$List l) {
+		if (l instanceof Immutable$Type$List) {
+			return (Immutable$Type$List) l;
+		}
+		final $type$[] a = l.toArray();
+
+		return a.length == 0 ? EMPTY : new Immutable$Type$List(a, 0,
+				a.length);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#get(int)
+	 */
+	@Override
+	public $type$ get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("" + index);
+		}
+
+		return data[offset + index];
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#size()
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimative$Type$List#indexOfRange($type$,
+	 *      int, int)
+	 */
+	@Override
+	protected int indexOfRange($type$ value, int from, int to) {
+		final int i = $Type$Search.indexOf(data, offset + from, offset + to,
+				value);
+
+		return i < 0 ? -1 : i - offset;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimative$Type$List#lastIndexOfRange($type$,
+	 *      int, int)
+	 */
+	@Override
+	protected int lastIndexOfRange($type$ value, int from, int to) {
+		final int i = $Type$Search.lastIndexOf(data, offset + from, offset
+				+ to, value);
+
+		return i < 0 ? -1 : i - offset;
+	}
+//#if numeric
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#forEach(java.util.function.$Wide$Consumer)
+	 */
+	@Override
+	public void forEach($Wide$Consumer action) {
+		final $type$[] a = data;
+		for (int i = offset, end = offset + size; i < end; ++i) {
+			action.accept(a[i]);
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#stream()
+	 */
+	@Override
+	public $Wide$Stream stream() {
+		return StreamSupport.$wide$Stream(new $Type$ArraySpliterator(data,
+				offset, offset + size), false);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sortIndices()
+	 */
+	@Override
+	public IntArrayList sortIndices() {
+		return $Type$Sort.sortIndexList(data, offset, offset + size);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelStream()
+	 */
+	@Override
+	public $Wide$Stream parallelStream() {
+		return StreamSupport.$wide$Stream(new $Type$ArraySpliterator(data,
+				offset, offset + size), true);
+	}
+//#endif
+
+	/**
+	 * Returns a view that shares this list's array.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#subList(int, int)
+	 */
+	@Override
+	public IPrimative$Type$List subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || toIndex < fromIndex) {
+			throw new IndexOutOfBoundsException(String.format("[%d %d)",
+					fromIndex, toIndex));
+		}
+
+		return new Immutable$Type$List(data, offset + fromIndex, toIndex
+				- fromIndex);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#toArray()
+	 */
+	@Override
+	public $type$[] toArray() {
+		return Arrays.copyOfRange(data, offset, offset + size);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#writeTo(java.nio.channels.WritableByteChannel)
+	 */
+	@Override
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		$Type$ListCodec.write(data, offset, offset + size, channel);
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add($type$)
+	 */
+	@Override
+	public boolean add($type$ e) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add(int, $type$)
+	 */
+	@Override
+	public void add(int index, $type$ element) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(java.util.Collection)
+	 */
+	@Override
+	public boolean addAll(Collection<$Boxed$> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(int,
+	 *      java.util.Collection)
+	 */
+	@Override
+	public boolean addAll(int index, Collection<$Boxed$> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean addAll(IPrimative$Type$List l) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#addAll(int,
+	 *      us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean addAll(int index, IPrimative$Type$List l) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#clear()
+	 */
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#remove(int)
+	 */
+	@Override
+	public boolean remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeValue($type$)
+	 */
+	@Override
+	public boolean removeValue($type$ value) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeAll(java.util.Collection)
+	 */
+	@Override
+	public boolean removeAll(Collection<$Boxed$> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#retainAll(java.util.Collection)
+	 */
+	@Override
+	public boolean retainAll(Collection<$Boxed$> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean removeAll(IPrimative$Type$List l) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#retainAll(us.rothmichaels.lists.IPrimative$Type$List)
+	 */
+	@Override
+	public boolean retainAll(IPrimative$Type$List l) {
+		throw new UnsupportedOperationException();
+	}
+//#if numeric
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#removeIf(java.util.function.$Wide$Predicate)
+	 */
+	@Override
+	public boolean removeIf($Wide$Predicate filter) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelReplaceAll(java.util.function.$Wide$UnaryOperator)
+	 */
+	@Override
+	public void parallelReplaceAll($Wide$UnaryOperator operator) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelSort()
+	 */
+	@Override
+	public void parallelSort() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sort()
+	 */
+	@Override
+	public void sort() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#sort(int, int)
+	 */
+	@Override
+	public void sort(int fromIndex, int toIndex) {
+		throw new UnsupportedOperationException();
+	}
+//#endif
+
+	/**
+	 * Always throws {@link UnsupportedOperationException}.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#set(int, $type$)
+	 */
+	@Override
+	public $type$ set(int index, $type$ element) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,580 @@
+//#types Int|Long|Double
+/*
+ * Mapped$Type$List.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.$Type$Buffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.$Type$Consumer;
+
+/**
+ * An {@link IPrimative$Type$List} stored in a memory-mapped file.
+ * 
+ * <p>
+ * The file starts with a {@link #HEADER_BYTES} byte header (magic number,
+ * format version, element type, chunk size and the list's size) followed by
+ * the elements in little-endian order. The elements are mapped in chunks of
+ * a fixed, power of two number of elements; {@link #add($type$)} maps (and so
+ * grows the file by) a new chunk whenever the last one fills. Reopening a
+ * list reads only the header and maps the existing chunks, so it costs the
+ * same however many elements the list holds, and the pages are shared
+ * through the operating system's page cache with every other process that
+ * maps the file.
+ * 
+ * <p>
+ * The size in the header is updated on every modification, but the
+ * operating system decides when dirty pages reach the disk; call
+ * {@link #force()} to write them out. A list opened with
+ * {@link #readOnly(Path)} throws {@link UnsupportedOperationException} from
+ * every modifying operation. Only one process should have a file open for
+ * writing at a time.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Mapped$Type$List extends AbstractPrimative$Type$List implements
+		Closeable {
+
+	/**
+	 * Number of elements per mapped chunk of a new file.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+	/**
+	 * Largest number of elements per mapped chunk; a chunk must fit in a
+	 * single {@link MappedByteBuffer}.
+	 */
+	public static final int MAX_CHUNK_SIZE = Integer.highestOneBit(Integer.MAX_VALUE
+			/ $Boxed$.BYTES);
+
+	/**
+	 * Length of the file header in bytes.
+	 */
+	public static final int HEADER_BYTES = 64;
+
+	/**
+	 * Most elements moved by one bulk transfer when {@link #add(int, $type$)}
+	 * or {@link #remove(int)} shifts the tail of the list.
+	 */
+	static final int SHIFT_BLOCK = 4096;
+
+	/**
+	 * First four bytes of every list file, {@code "RMPL"}.
+	 */
+	static final int MAGIC = 0x4C504D52;
+
+	/**
+	 * Version of the file format written by this class.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * JVM type descriptor of the element type, stored in the header.
+	 */
+	static final int TYPE = '$desc$';
+
+	private static final int MAGIC_OFFSET = 0;
+	private static final int VERSION_OFFSET = 4;
+	private static final int TYPE_OFFSET = 8;
+	private static final int SHIFT_OFFSET = 12;
+	private static final int SIZE_OFFSET = 16;
+
+	private final FileChannel channel;
+	private final boolean writable;
+	private final int shift;
+	private final int mask;
+
+	private MappedByteBuffer header;
+	private MappedByteBuffer[] mapped;
+	private $Type$Buffer[] chunks;
+	private int chunkCount;
+	private int size;
+
+	/**
+	 * Opens the list stored in {@code file} for reading and writing, creating
+	 * it with chunks of {@link #DEFAULT_CHUNK_SIZE} elements if the file does
+	 * not exist or is empty.
+	 * 
+	 * @param file
+	 *            the file to map
+	 * 
+	 * @throws IOException
+	 *             if the file cannot be opened or mapped, or is not a
+	 *             Mapped$Type$List file
+	 */
+	public Mapped$Type$List(Path file) throws IOException {
+		this(file, DEFAULT_CHUNK_SIZE, true);
+	}
+
+	/**
+	 * Opens the list stored in {@code file} for reading and writing, creating
+	 * it with chunks of {@code chunkSize} elements if the file does not exist
+	 * or is empty. An existing file keeps the chunk size it was created with.
+	 * 
+	 * @param file
+	 *            the file to map
+	 * @param chunkSize
+	 *            elements per mapped chunk, a power of two no greater than
+	 *            {@link #MAX_CHUNK_SIZE}
+	 * 
+	 * @throws IOException
+	 *             if the file cannot be opened or mapped, or is not a
+	 *             Mapped$Type$List file
+	 */
+	public Mapped$Type$List(Path file, int chunkSize) throws IOException {
+		this(file, chunkSize, true);
+	}
+
+	/**
+	 * Opens an existing list file for reading only.
+	 * 
+	 * @param file
+	 *            the file to map
+	 * 
+	 * @return the list stored in {@code file}
+	 * 
+	 * @throws IOException
+	 *             if the file cannot be opened or mapped, or is not a
+	 *             Mapped$Type$List file
+	 */
+	public static Mapped$Type$List readOnly(Path file) throws IOException {
+		return new Mapped$Type$List(file, DEFAULT_CHUNK_SIZE, false);
+	}
+
+	private Mapped$Type$List(Path file, int chunkSize, boolean writable)
+			throws IOException {
+		if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE
+				|| Integer.bitCount(chunkSize) != 1) {
+			throw new IllegalArgumentException("" + chunkSize);
+		}
+		this.writable = writable;
+		channel = writable ? FileChannel.open(file, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.CREATE)
+				: FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			final boolean created = channel.size() == 0 && writable;
+			if (!created && channel.size() < HEADER_BYTES) {
+				throw new IOException(file + " is not a Mapped$Type$List file");
+			}
+			header = channel.map(mode(), 0, HEADER_BYTES);
+			header.order(ByteOrder.LITTLE_ENDIAN);
+			if (created) {
+				header.putInt(MAGIC_OFFSET, MAGIC);
+				header.putInt(VERSION_OFFSET, VERSION);
+				header.putInt(TYPE_OFFSET, TYPE);
+				header.putInt(SHIFT_OFFSET,
+						Integer.numberOfTrailingZeros(chunkSize));
+				header.putLong(SIZE_OFFSET, 0);
+			} else {
+				checkHeader(file);
+			}
+			shift = header.getInt(SHIFT_OFFSET);
+			mask = (1 << shift) - 1;
+			size = (int) header.getLong(SIZE_OFFSET);
+			mapped = new MappedByteBuffer[4];
+			chunks = new $Type$Buffer[4];
+			while (((long) chunkCount << shift) < size) {
+				mapChunk();
+			}
+		} catch (final IOException e) {
+			channel.close();
+			throw e;
+		} catch (final RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add($type$)
+	 */
+	@Override
+	public boolean add($type$ e) {
+		checkWritable();
+		if (size == Integer.MAX_VALUE) {
+			throw new IllegalStateException("list is full");
+		}
+		if (((long) chunkCount << shift) == size) {
+			mapChunk();
+		}
+		chunks[size >>> shift].put(size & mask, e);
+		setSize(size + 1);
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add(int, $type$)
+	 */
+	@Override
+	public void add(int index, $type$ element) {
+		checkPosition(index);
+		add(element);
+		if (index < size - 1) {
+			shiftRight(index, size - 1);
+		}
+		write(index, element);
+	}
+
+	/**
+	 * Empties the list. The file keeps its mapped chunks for reuse.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#clear()
+	 */
+	@Override
+	public void clear() {
+		checkWritable();
+		setSize(0);
+	}
+
+	/**
+	 * Writes any changes to the storage device and unmaps and closes the
+	 * file. Further operations on the elements throw
+	 * {@link IllegalStateException}; closing a closed list has no effect.
+	 * 
+	 * @throws IOException
+	 *             if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (chunks == null) {
+			return;
+		}
+		try {
+			if (writable) {
+				force();
+			}
+		} finally {
+			final MappedByteBuffer[] m = mapped;
+			final int n = chunkCount;
+			final MappedByteBuffer h = header;
+			chunks = null;
+			mapped = null;
+			header = null;
+			chunkCount = 0;
+			size = 0;
+			for (int k = 0; k < n; ++k) {
+				DirectBuffers.free(m[k]);
+			}
+			DirectBuffers.free(h);
+			channel.close();
+		}
+	}
+
+	/**
+	 * Writes any changes to the mapped elements and header to the storage
+	 * device.
+	 */
+	public void force() {
+		checkOpen();
+		for (int k = 0; k < chunkCount; ++k) {
+			mapped[k].force();
+		}
+		header.force();
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#forEach(java.util.function.$Type$Consumer)
+	 */
+	@Override
+	public void forEach($Type$Consumer action) {
+		checkOpen();
+		final int n = size;
+		for (int i = 0; i < n; ++i) {
+			action.accept(read(i));
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#get(int)
+	 */
+	@Override
+	public $type$ get(int index) {
+		checkOpen();
+		checkIndex(index);
+
+		return read(index);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimative$Type$List#indexOfRange($type$,
+	 *      int, int)
+	 */
+	@Override
+	protected int indexOfRange($type$ value, int from, int to) {
+		checkOpen();
+		for (int i = from; i < to; ++i) {
+			if (read(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if the list was opened with {@link #readOnly(Path)}.
+	 * 
+	 * @return {@code true} if the list cannot be modified
+	 */
+	public boolean isReadOnly() {
+		return !writable;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimative$Type$List#lastIndexOfRange($type$,
+	 *      int, int)
+	 */
+	@Override
+	protected int lastIndexOfRange($type$ value, int from, int to) {
+		checkOpen();
+		for (int i = to - 1; i >= from; --i) {
+			if (read(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelSort()
+	 */
+	@Override
+	public void parallelSort() {
+		checkWritable();
+		final $type$[] a = toArray();
+		Arrays.parallelSort(a);
+		for (int i = 0; i < a.length; ++i) {
+			write(i, a[i]);
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#remove(int)
+	 */
+	@Override
+	public boolean remove(int index) {
+		checkWritable();
+		checkIndex(index);
+		final int last = size - 1;
+		if (index < last) {
+			shiftLeft(index + 1, size);
+		}
+		setSize(last);
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#set(int, $type$)
+	 */
+	@Override
+	public $type$ set(int index, $type$ element) {
+		checkWritable();
+		checkIndex(index);
+		final $type$ old = read(index);
+		write(index, element);
+
+		return old;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#size()
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Copies a chunk at a time.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#toArray()
+	 */
+	@Override
+	public $type$[] toArray() {
+		checkOpen();
+		final $type$[] out = new $type$[size];
+		for (int from = 0; from < out.length; from += mask + 1) {
+			final $Type$Buffer chunk = chunks[from >>> shift].duplicate();
+			chunk.clear();
+			chunk.get(out, from, Math.min(mask + 1, out.length - from));
+		}
+
+		return out;
+	}
+
+	/**
+	 * Moves {@code [from, to)} up one place in bulk transfers through an
+	 * array, last block first. A block never spans chunks; the element it
+	 * moves past the end of its chunk is written to the start of the next.
+	 */
+	private void shiftRight(int from, int to) {
+		final $type$[] block = new $type$[Math.min(to - from,
+				Math.min(SHIFT_BLOCK, mask + 1))];
+		for (int end = to; end > from;) {
+			final int n = Math.min(Math.min(end - from, block.length),
+					((end - 1) & mask) + 1);
+			final int start = end - n;
+			final $Type$Buffer chunk = chunks[start >>> shift].duplicate();
+			chunk.position(start & mask);
+			chunk.get(block, 0, n);
+			chunk.position((start & mask) + 1);
+			if (((end - 1) & mask) == mask) {
+				write(end, block[n - 1]);
+				chunk.put(block, 0, n - 1);
+			} else {
+				chunk.put(block, 0, n);
+			}
+			end = start;
+		}
+	}
+
+	/**
+	 * Moves {@code [from, to)} down one place in bulk transfers through an
+	 * array, first block first. A block never spans chunks; the element it
+	 * moves before the start of its chunk is written to the end of the
+	 * previous one.
+	 */
+	private void shiftLeft(int from, int to) {
+		final $type$[] block = new $type$[Math.min(to - from,
+				Math.min(SHIFT_BLOCK, mask + 1))];
+		for (int start = from; start < to;) {
+			final int offset = start & mask;
+			final int n = Math.min(Math.min(to - start, block.length), mask
+					+ 1 - offset);
+			final $Type$Buffer chunk = chunks[start >>> shift].duplicate();
+			chunk.position(offset);
+			chunk.get(block, 0, n);
+			if (offset == 0) {
+				write(start - 1, block[0]);
+				chunk.position(0);
+				chunk.put(block, 1, n - 1);
+			} else {
+				chunk.position(offset - 1);
+				chunk.put(block, 0, n);
+			}
+			start += n;
+		}
+	}
+
+	private $type$ read(int index) {
+		return chunks[index >>> shift].get(index & mask);
+	}
+
+	private void write(int index, $type$ value) {
+		chunks[index >>> shift].put(index & mask, value);
+	}
+
+	private void setSize(int newSize) {
+		size = newSize;
+		header.putLong(SIZE_OFFSET, newSize);
+	}
+
+	private MapMode mode() {
+		return writable ? MapMode.READ_WRITE : MapMode.READ_ONLY;
+	}
+
+	/**
+	 * Maps the next chunk of the file, growing the file if it is shorter.
+	 */
+	private void mapChunk() {
+		final long length = (long) $Boxed$.BYTES << shift;
+		final long position = HEADER_BYTES + chunkCount * length;
+		final MappedByteBuffer m;
+		try {
+			if (!writable && channel.size() < position + length) {
+				throw new IOException("file is truncated");
+			}
+			m = channel.map(mode(), position, length);
+		} catch (final IOException e) {
+			throw new IllegalStateException("cannot map chunk " + chunkCount, e);
+		}
+		m.order(ByteOrder.LITTLE_ENDIAN);
+		if (chunkCount == chunks.length) {
+			mapped = Arrays.copyOf(mapped, chunkCount * 2);
+			chunks = Arrays.copyOf(chunks, chunkCount * 2);
+		}
+		mapped[chunkCount] = m;
+		chunks[chunkCount++] = m.as$Type$Buffer();
+	}
+
+	private void checkHeader(Path file) throws IOException {
+		if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+			throw new IOException(file + " is not a Mapped$Type$List file");
+		}
+		if (header.getInt(VERSION_OFFSET) != VERSION) {
+			throw new IOException(file + " has unsupported version "
+					+ header.getInt(VERSION_OFFSET));
+		}
+		if (header.getInt(TYPE_OFFSET) != TYPE) {
+			throw new IOException(file + " holds elements of type "
+					+ (char) header.getInt(TYPE_OFFSET) + ", not " + (char) TYPE);
+		}
+		final int s = header.getInt(SHIFT_OFFSET);
+		final long n = header.getLong(SIZE_OFFSET);
+		if (s < 0 || (1L << s) > MAX_CHUNK_SIZE || n < 0
+				|| n > Integer.MAX_VALUE) {
+			throw new IOException(file + " has a corrupt header");
+		}
+	}
+
+	private void checkOpen() {
+		if (chunks == null) {
+			throw new IllegalStateException("closed");
+		}
+	}
+
+	private void checkWritable() {
+		checkOpen();
+		if (!writable) {
+			throw new UnsupportedOperationException("read only");
+		}
+	}
+}
@@ -0,0 +1,344 @@
+//#types Int|Long|Double
+/*
+ * OffHeap$Type$List.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.$Type$Buffer;
+import java.util.Arrays;
+import java.util.function.$Type$Consumer;
+
+/**
+ * An {@link IPrimative$Type$List} that stores its elements off the Java heap,
+ * in a direct {@link ByteBuffer} in native byte order.
+ * 
+ * <p>
+ * Large lists kept on the heap are scanned and copied by the garbage
+ * collector; an off-heap list is a single small object no matter how many
+ * elements it holds. The memory is released by {@link #close()}, after which
+ * every operation that touches the elements throws
+ * {@link IllegalStateException}. A list that is never closed is freed when
+ * it is garbage collected.
+ * 
+ * <p>
+ * A list holds at most {@link #MAX_CAPACITY} elements, the most a direct
+ * buffer can address. Streams over the list read it through
+ * {@link #get(int)}, so a stream that outlives the list fails rather than
+ * reading released memory.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class OffHeap$Type$List extends AbstractPrimative$Type$List implements
+		Closeable {
+
+	/**
+	 * The largest number of elements an {@code OffHeap$Type$List} can hold.
+	 */
+	public static final int MAX_CAPACITY = Integer.MAX_VALUE / $Boxed$.BYTES;
+
+	/**
+	 * Most elements moved by one bulk transfer when {@link #add(int, $type$)}
+	 * shifts the tail of the list.
+	 */
+	static final int SHIFT_BLOCK = 4096;
+
+	private ByteBuffer bytes;
+	private $Type$Buffer values;
+	private int size;
+
+	/**
+	 * Create an empty OffHeap$Type$List with capacity 10.
+	 */
+	public OffHeap$Type$List() {
+		this(10);
+	}
+
+	/**
+	 * Create an empty OffHeap$Type$List with arbitrary capacity.
+	 * 
+	 * @param initialCapacity
+	 *            Initial capacity
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code initialCapacity} is negative or greater than
+	 *             {@link #MAX_CAPACITY}
+	 */
+	public OffHeap$Type$List(int initialCapacity) {
+		if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("" + initialCapacity);
+		}
+		allocate(Math.max(1, initialCapacity));
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add($type$)
+	 */
+	@Override
+	public boolean add($type$ e) {
+		ensureCapacity();
+		values.put(size++, e);
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#add(int, $type$)
+	 */
+	@Override
+	public void add(int index, $type$ element) {
+		checkPosition(index);
+		ensureCapacity();
+		final $Type$Buffer v = values;
+		if (index < size) {
+			shiftRight(v, index, size);
+		}
+		v.put(index, element);
+		++size;
+	}
+
+	/**
+	 * Empties the list without releasing its memory.
+	 * 
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#clear()
+	 */
+	@Override
+	public void clear() {
+		values();
+		size = 0;
+	}
+
+	/**
+	 * Releases the off-heap memory of the list. Further operations on the
+	 * elements throw {@link IllegalStateException}; closing a closed list has
+	 * no effect.
+	 */
+	@Override
+	public void close() {
+		if (bytes != null) {
+			final ByteBuffer b = bytes;
+			bytes = null;
+			values = null;
+			size = 0;
+			DirectBuffers.free(b);
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#forEach(java.util.function.$Type$Consumer)
+	 */
+	@Override
+	public void forEach($Type$Consumer action) {
+		final $Type$Buffer v = values();
+		final int n = size;
+		for (int i = 0; i < n; ++i) {
+			action.accept(v.get(i));
+		}
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#get(int)
+	 */
+	@Override
+	public $type$ get(int index) {
+		final $Type$Buffer v = values();
+		checkIndex(index);
+
+		return v.get(index);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimative$Type$List#indexOfRange($type$,
+	 *      int, int)
+	 */
+	@Override
+	protected int indexOfRange($type$ value, int from, int to) {
+		final $Type$Buffer v = values();
+		for (int i = from; i < to; ++i) {
+			if (v.get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.AbstractPrimative$Type$List#lastIndexOfRange($type$,
+	 *      int, int)
+	 */
+	@Override
+	protected int lastIndexOfRange($type$ value, int from, int to) {
+		final $Type$Buffer v = values();
+		for (int i = to - 1; i >= from; --i) {
+			if (v.get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#parallelSort()
+	 */
+	@Override
+	public void parallelSort() {
+		final $type$[] a = toArray();
+		Arrays.parallelSort(a);
+		final $Type$Buffer v = values.duplicate();
+		v.clear();
+		v.put(a);
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#remove(int)
+	 */
+	@Override
+	public boolean remove(int index) {
+		final $Type$Buffer v = values();
+		checkIndex(index);
+		if (index < size - 1) {
+			// compact() is specified to move the overlapping tail down
+			final $Type$Buffer tail = v.duplicate();
+			tail.position(index);
+			tail.limit(size);
+			final $Type$Buffer slice = tail.slice();
+			slice.position(1);
+			slice.compact();
+		}
+		--size;
+
+		return true;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#set(int, $type$)
+	 */
+	@Override
+	public $type$ set(int index, $type$ element) {
+		final $Type$Buffer v = values();
+		checkIndex(index);
+		final $type$ old = v.get(index);
+		v.put(index, element);
+
+		return old;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#size()
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @see us.rothmichaels.lists.IPrimative$Type$List#toArray()
+	 */
+	@Override
+	public $type$[] toArray() {
+		final $Type$Buffer v = values().duplicate();
+		final $type$[] out = new $type$[size];
+		v.clear();
+		v.get(out);
+
+		return out;
+	}
+
+	/**
+	 * Returns the element buffer.
+	 * 
+	 * @throws IllegalStateException
+	 *             if the list has been closed
+	 */
+	private $Type$Buffer values() {
+		final $Type$Buffer v = values;
+		if (v == null) {
+			throw new IllegalStateException("closed");
+		}
+		return v;
+	}
+
+	/**
+	 * Makes room for one more element, doubling the capacity if the list is
+	 * full.
+	 */
+	private void ensureCapacity() {
+		final int capacity = values().capacity();
+		if (size < capacity) {
+			return;
+		}
+		if (capacity == MAX_CAPACITY) {
+			throw new OutOfMemoryError("OffHeap$Type$List is full");
+		}
+		final ByteBuffer old = bytes;
+		final $Type$Buffer src = values.duplicate();
+		allocate((int) Math.min(MAX_CAPACITY, capacity * 2L));
+		src.clear();
+		values.put(src);
+		DirectBuffers.free(old);
+	}
+
+	/**
+	 * Moves {@code v[from, to)} up one place in bulk transfers through an
+	 * array, last block first; NIO does not promise that a bulk put between
+	 * overlapping views of one buffer copies correctly.
+	 */
+	private static void shiftRight($Type$Buffer v, int from, int to) {
+		final $type$[] block = new $type$[Math.min(to - from, SHIFT_BLOCK)];
+		final $Type$Buffer src = v.duplicate();
+		final $Type$Buffer dst = v.duplicate();
+		for (int end = to; end > from;) {
+			final int start = Math.max(from, end - block.length);
+			src.position(start);
+			src.get(block, 0, end - start);
+			dst.position(start + 1);
+			dst.put(block, 0, end - start);
+			end = start;
+		}
+	}
+
+	private void allocate(int capacity) {
+		bytes = DirectBuffers.allocate(capacity * $Boxed$.BYTES);
+		values = bytes.as$Type$Buffer();
+	}
+}
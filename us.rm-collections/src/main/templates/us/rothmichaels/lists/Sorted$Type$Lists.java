@@ -0,0 +1,400 @@
+//#types numeric
+/*
+ * Sorted$Type$Lists.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import us.rothmichaels.queues.Indexed$Type$Heap;
+
+/**
+ * Searches and set operations over {@link $Type$ArrayList}s sorted into
+ * ascending order, such as the output of {@link $Type$ArrayList#sort()}.
+ * 
+ * <p>
+ * The operations read the lists' backing arrays directly and append their
+ * results to a destination list, so nothing is boxed and no intermediate
+ * list is built. The inputs are not checked for order; the results for an
+ * unsorted list are undefined. Lists may hold duplicates: the set
+ * operations match equal elements pairwise, so an element that is
+ * {@code m} times in one list and {@code n} times in the other is
+ * {@code min(m, n)} times in the intersection, {@code max(m, n)} times in
+ * the union and {@code max(m - n, 0)} times in the difference.
+//#if floating
+ * Elements are compared with {@link $Boxed$#compare($type$, $type$)}, the
+ * order {@link $Type$ArrayList#sort()} produces.
+//#endif
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public final class Sorted$Type$Lists {
+
+	/**
+	 * {@link #intersect} gallops through the longer list when it is at
+	 * least this many times longer than the shorter one; otherwise it walks
+	 * both lists in step.
+	 */
+	static final int GALLOP_RATIO = 8;
+
+	/**
+	 * Searches {@code list} for {@code key}, like
+	 * {@link Arrays#binarySearch($type$[], int, int, $type$)}.
+	 * 
+	 * @param list
+	 *            a sorted list
+	 * @param key
+	 *            value to find
+	 * 
+	 * @return the index of {@code key}, or
+	 *         {@code -(insertion point) - 1} if it is not in the list
+	 */
+	public static int binarySearch($Type$ArrayList list, $type$ key) {
+		return Arrays.binarySearch(list.data, 0, list.addPointer, key);
+	}
+
+	/**
+	 * Returns the index of the first element not less than {@code key}.
+	 * 
+	 * @param list
+	 *            a sorted list
+	 * @param key
+	 *            value to find
+	 * 
+	 * @return the first index {@code i} with {@code list.get(i) >= key}, or
+	 *         {@code list.size()} if there is none
+	 */
+	public static int lowerBound($Type$ArrayList list, $type$ key) {
+		return lowerBound(list.data, 0, list.addPointer, key);
+	}
+
+	/**
+	 * Returns the index of the first element greater than {@code key}.
+	 * 
+	 * @param list
+	 *            a sorted list
+	 * @param key
+	 *            value to find
+	 * 
+	 * @return the first index {@code i} with {@code list.get(i) > key}, or
+	 *         {@code list.size()} if there is none
+	 */
+	public static int upperBound($Type$ArrayList list, $type$ key) {
+		final $type$[] a = list.data;
+		int lo = 0;
+		int hi = list.addPointer;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if ($Boxed$.compare(a[mid], key) <= 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Appends the elements of both {@code a} and {@code b} to {@code dest},
+	 * in order. When one list is much longer, each element of the shorter
+	 * one is found by galloping: an exponential search forward from the
+	 * last match, so the cost grows with the shorter list and only
+	 * logarithmically with the longer one.
+	 * 
+	 * @param a
+	 *            a sorted list
+	 * @param b
+	 *            a sorted list
+	 * @param dest
+	 *            list to append to, other than {@code a} and {@code b}
+	 * 
+	 * @return {@code dest}
+	 */
+	public static $Type$ArrayList intersect($Type$ArrayList a,
+			$Type$ArrayList b, $Type$ArrayList dest) {
+		checkDestination(dest, a, b);
+		final $Type$ArrayList small = a.addPointer <= b.addPointer ? a : b;
+		final $Type$ArrayList large = small == a ? b : a;
+		final $type$[] s = small.data;
+		final $type$[] l = large.data;
+		final int sn = small.addPointer;
+		final int ln = large.addPointer;
+		dest.ensureCapacity(dest.addPointer + sn);
+		if ((long) sn * GALLOP_RATIO <= ln) {
+			for (int i = 0, j = 0; i < sn && j < ln; ++i) {
+				final $type$ v = s[i];
+				j = gallop(l, j, ln, v);
+				if (j < ln && $Boxed$.compare(l[j], v) == 0) {
+					dest.add(v);
+					++j;
+				}
+			}
+		} else {
+			for (int i = 0, j = 0; i < sn && j < ln;) {
+				final int c = $Boxed$.compare(s[i], l[j]);
+				if (c < 0) {
+					++i;
+				} else if (c > 0) {
+					++j;
+				} else {
+					dest.add(s[i]);
+					++i;
+					++j;
+				}
+			}
+		}
+		return dest;
+	}
+
+	/**
+	 * Appends the elements of either {@code a} or {@code b} to
+	 * {@code dest}, in order.
+	 * 
+	 * @param a
+	 *            a sorted list
+	 * @param b
+	 *            a sorted list
+	 * @param dest
+	 *            list to append to, other than {@code a} and {@code b}
+	 * 
+	 * @return {@code dest}
+	 */
+	public static $Type$ArrayList union($Type$ArrayList a, $Type$ArrayList b,
+			$Type$ArrayList dest) {
+		checkDestination(dest, a, b);
+		final $type$[] x = a.data;
+		final $type$[] y = b.data;
+		final int xn = a.addPointer;
+		final int yn = b.addPointer;
+		dest.ensureCapacity(dest.addPointer + xn + yn);
+		int i = 0;
+		int j = 0;
+		while (i < xn && j < yn) {
+			final int c = $Boxed$.compare(x[i], y[j]);
+			if (c < 0) {
+				dest.add(x[i++]);
+			} else if (c > 0) {
+				dest.add(y[j++]);
+			} else {
+				dest.add(x[i++]);
+				++j;
+			}
+		}
+		dest.addAll(x, i, xn);
+		dest.addAll(y, j, yn);
+		return dest;
+	}
+
+	/**
+	 * Appends the elements of {@code a} that are not in {@code b} to
+	 * {@code dest}, in order.
+	 * 
+	 * @param a
+	 *            a sorted list
+	 * @param b
+	 *            a sorted list
+	 * @param dest
+	 *            list to append to, other than {@code a} and {@code b}
+	 * 
+	 * @return {@code dest}
+	 */
+	public static $Type$ArrayList difference($Type$ArrayList a,
+			$Type$ArrayList b, $Type$ArrayList dest) {
+		checkDestination(dest, a, b);
+		final $type$[] x = a.data;
+		final $type$[] y = b.data;
+		final int xn = a.addPointer;
+		final int yn = b.addPointer;
+		dest.ensureCapacity(dest.addPointer + xn);
+		int i = 0;
+		int j = 0;
+		while (i < xn && j < yn) {
+			final int c = $Boxed$.compare(x[i], y[j]);
+			if (c < 0) {
+				dest.add(x[i++]);
+			} else if (c > 0) {
+				j = gallop(y, j + 1, yn, x[i]);
+			} else {
+				++i;
+				++j;
+			}
+		}
+		dest.addAll(x, i, xn);
+		return dest;
+	}
+
+	/**
+	 * Appends every element of every list in {@code sources} to
+	 * {@code dest}, in order, keeping duplicates. The lists are merged
+	 * together in one pass with a heap of their next elements, so the cost
+	 * is {@code O(n log k)} for {@code n} elements in {@code k} lists.
+	 * 
+	 * @param sources
+	 *            sorted lists
+	 * @param dest
+	 *            list to append to, not one of {@code sources}
+	 * 
+	 * @return {@code dest}
+	 */
+	public static $Type$ArrayList merge(
+			Collection<? extends $Type$ArrayList> sources, $Type$ArrayList dest) {
+		final $Type$ArrayList[] lists = sources
+				.toArray(new $Type$ArrayList[sources.size()]);
+		long total = dest.addPointer;
+		for (final $Type$ArrayList list : lists) {
+			checkDestination(dest, list, list);
+			total += list.addPointer;
+		}
+		if (total > GrowthPolicy.MAX_CAPACITY) {
+			throw new OutOfMemoryError("merged size " + total);
+		}
+		dest.ensureCapacity((int) total);
+		if (lists.length == 1) {
+			dest.addAll(lists[0].data, 0, lists[0].addPointer);
+			return dest;
+		}
+		if (lists.length == 2) {
+			return mergeTwo(lists[0], lists[1], dest);
+		}
+
+		final Indexed$Type$Heap heads = new Indexed$Type$Heap(lists.length);
+		final int[] next = new int[lists.length];
+		for (int id = 0; id < lists.length; ++id) {
+			if (lists[id].addPointer > 0) {
+				heads.add(id, lists[id].data[0]);
+				next[id] = 1;
+			}
+		}
+		while (!heads.isEmpty()) {
+			final int id = heads.peek();
+			dest.add(heads.peekKey());
+			final $Type$ArrayList list = lists[id];
+			if (next[id] < list.addPointer) {
+				heads.changeKey(id, list.data[next[id]++]);
+			} else {
+				heads.poll();
+			}
+		}
+		return dest;
+	}
+
+	/**
+	 * Two-way {@link #merge}, without the heap.
+	 */
+	private static $Type$ArrayList mergeTwo($Type$ArrayList a,
+			$Type$ArrayList b, $Type$ArrayList dest) {
+		final $type$[] x = a.data;
+		final $type$[] y = b.data;
+		final int xn = a.addPointer;
+		final int yn = b.addPointer;
+		int i = 0;
+		int j = 0;
+		while (i < xn && j < yn) {
+			if ($Boxed$.compare(y[j], x[i]) < 0) {
+				dest.add(y[j++]);
+			} else {
+				dest.add(x[i++]);
+			}
+		}
+		dest.addAll(x, i, xn);
+		dest.addAll(y, j, yn);
+		return dest;
+	}
+
+	/**
+	 * Returns the first index in {@code a[from, to)} whose element is not
+	 * less than {@code key}.
+	 */
+	static int lowerBound($type$[] a, int from, int to, $type$ key) {
+		int lo = from;
+		int hi = to;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if ($Boxed$.compare(a[mid], key) < 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * {@link #lowerBound($type$[], int, int, $type$)} for a key expected near
+	 * {@code from}: probes {@code from + 1, from + 2, from + 4, ...} until it
+	 * passes {@code key}, then binary searches the last step.
+	 */
+	static int gallop($type$[] a, int from, int to, $type$ key) {
+		if (from >= to || $Boxed$.compare(a[from], key) >= 0) {
+			return from;
+		}
+		// a[lo] < key throughout
+		int lo = from;
+		int step = 1;
+		int hi = from + 1;
+		while (hi < to && $Boxed$.compare(a[hi], key) < 0) {
+			lo = hi;
+			step <<= 1;
+			hi = to - lo > step ? lo + step : to;
+		}
+		return lowerBound(a, lo + 1, hi, key);
+	}
+
+	private static void checkDestination($Type$ArrayList dest,
+			$Type$ArrayList a, $Type$ArrayList b) {
+		if (dest == a || dest == b) {
+			throw new IllegalArgumentException(
+					"destination must not be a source");
+		}
+	}
+
+	/**
+	 * Do not instantiate this class
+	 * 
+	 * @deprecated
+	 */
+	@Deprecated
+	private Sorted$Type$Lists() {
+		throw new AssertionError();
+	}
+}
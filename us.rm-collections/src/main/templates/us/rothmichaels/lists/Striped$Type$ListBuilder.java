@@ -0,0 +1,196 @@
+//#types Int|Long|Double
+/*
+ * Striped$Type$ListBuilder.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Collects {@code $type$}s from many threads without contention, each
+ * thread appending to its own {@link $Type$ArrayList} stripe.
+ * 
+ * <p>
+ * A thread's first {@link #add($type$)} creates its stripe in the builder's
+ * map of stripes by thread id; after that adding is a lock-free lookup and
+ * touches only memory the thread owns. The stripes belong to the builder,
+ * not to the threads, so they are garbage with it even when the producers
+ * are pool threads that outlive it, and the builder never keeps a finished
+ * thread reachable.
+ * {@link #build()} concatenates the stripes into one list with a single
+ * allocation of the total size and one {@code System.arraycopy} per stripe,
+ * copying the stripes in parallel when the result is large. Hot loops can
+ * fetch their stripe once with {@link #stripe()} and skip the lookup on
+ * every add.
+ * 
+ * <p>
+ * Stripes are kept per thread, so a builder fed by many short-lived threads
+ * holds many small stripes until it is dropped; batch with
+ * {@link #addAll($type$[], int, int)} where that matters. {@link #build()},
+ * {@link #size()} and {@link #clear()} read every stripe without
+ * synchronizing with their writers, so call them once the producing threads
+ * or tasks have finished, for example after {@code join()}.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Striped$Type$ListBuilder {
+
+	// keyed by id, which the VM never reuses, rather than by the Thread
+	private final Map<Long, $Type$ArrayList> stripes =
+			new ConcurrentHashMap<Long, $Type$ArrayList>();
+
+	/**
+	 * Appends a {@code $type$} to the calling thread's stripe.
+	 * 
+	 * @param value
+	 *            value to append
+	 */
+	public void add($type$ value) {
+		stripe().add(value);
+	}
+
+	/**
+	 * Appends {@code a[from, to)} to the calling thread's stripe.
+	 * 
+	 * @param a
+	 *            the values to append
+	 * @param from
+	 *            first index to append (inclusive)
+	 * @param to
+	 *            last index to append (exclusive)
+	 */
+	public void addAll($type$[] a, int from, int to) {
+		stripe().addAll(a, from, to);
+	}
+
+	/**
+	 * Returns the calling thread's stripe, creating it if needed. Only the
+	 * calling thread may modify it.
+	 * 
+	 * @return the calling thread's stripe
+	 */
+	public $Type$ArrayList stripe() {
+		final Long id = Thread.currentThread().getId();
+		$Type$ArrayList stripe = stripes.get(id);
+		if (stripe == null) {
+			// only this thread adds its own key
+			stripe = new $Type$ArrayList();
+			stripes.put(id, stripe);
+		}
+		return stripe;
+	}
+
+	/**
+	 * Returns the concatenation of every stripe in a new list. The stripes
+	 * are in no particular order, but each keeps its own order. The stripes
+	 * are left unchanged.
+	 * 
+	 * @return a new list of every element added
+	 * 
+	 * @throws OutOfMemoryError
+	 *             if the stripes hold more than {@code Integer.MAX_VALUE}
+	 *             elements
+	 */
+	public $Type$ArrayList build() {
+		final List<$Type$ArrayList> sources = new ArrayList<$Type$ArrayList>();
+		long total = 0;
+		for (final $Type$ArrayList stripe : stripes.values()) {
+			if (stripe.addPointer > 0) {
+				sources.add(stripe);
+				total += stripe.addPointer;
+			}
+		}
+		if (total > Integer.MAX_VALUE) {
+			throw new OutOfMemoryError("built size " + total);
+		}
+
+		final int n = sources.size();
+		final int[] offsets = new int[n];
+		for (int i = 1; i < n; ++i) {
+			offsets[i] = offsets[i - 1] + sources.get(i - 1).addPointer;
+		}
+		final $Type$ArrayList out = new $Type$ArrayList((int) total);
+		final $type$[] dest = out.data;
+		if (total < $Type$ArrayList.PARALLEL_THRESHOLD || n == 1) {
+			for (int i = 0; i < n; ++i) {
+				final $Type$ArrayList stripe = sources.get(i);
+				System.arraycopy(stripe.data, 0, dest, offsets[i],
+						stripe.addPointer);
+			}
+		} else {
+			// each stripe lands in its own range of dest
+			IntStream.range(0, n).parallel().forEach(i -> {
+				final $Type$ArrayList stripe = sources.get(i);
+				System.arraycopy(stripe.data, 0, dest, offsets[i],
+						stripe.addPointer);
+			});
+		}
+		out.addPointer = (int) total;
+		return out;
+	}
+
+	/**
+	 * Empties every stripe, as {@link $Type$ArrayList#clear()} does.
+	 */
+	public void clear() {
+		for (final $Type$ArrayList stripe : stripes.values()) {
+			stripe.clear();
+		}
+	}
+
+	/**
+	 * Returns the total number of elements in the stripes.
+	 * 
+	 * @return the number of elements added
+	 */
+	public long size() {
+		long total = 0;
+		for (final $Type$ArrayList stripe : stripes.values()) {
+			total += stripe.addPointer;
+		}
+		return total;
+	}
+}
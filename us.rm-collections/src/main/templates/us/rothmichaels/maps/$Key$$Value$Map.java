@@ -0,0 +1,448 @@
+//#pairs Int:Int Int:Long Long:Long
+/*
+ * $Key$$Value$Map.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.maps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A map from primative $key$ keys to $value$ values using open addressing with
+ * linear probing.
+ * 
+ * <p>
+ * Keys and values are stored in two parallel power-of-two arrays, so there
+ * is no entry object or boxed key or value per mapping. The zero key marks
+ * an empty slot and its mapping is kept in separate fields. Removal shifts
+ * the following keys of the probe run back instead of leaving tombstones.
+ * {@link #addTo($key$, $value$)} updates a counter with a single probe.
+ * 
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Key$$Value$Map {
+
+	/**
+	 * Iterates over the mappings of a map, in no particular order, without
+	 * allocating an entry per mapping. The map must not be structurally
+	 * modified while a cursor is in use.
+	 */
+	public interface Cursor {
+		/**
+		 * Moves to the next mapping.
+		 * 
+		 * @return {@code true} if there is one
+		 */
+		boolean next();
+
+		/**
+		 * Returns the key of the current mapping.
+		 * 
+		 * @return the key
+		 */
+		$key$ key();
+
+		/**
+		 * Returns the value of the current mapping.
+		 * 
+		 * @return the value
+		 */
+		$value$ value();
+
+		/**
+		 * Replaces the value of the current mapping.
+		 * 
+		 * @param value
+		 *            the new value
+		 */
+		void setValue($value$ value);
+	}
+
+	private final float loadFactor;
+	private $key$[] keys;
+	private $value$[] values;
+	private int mask;
+	private int maxFill;
+	private boolean hasZero;
+	private $value$ zeroValue;
+	private int size;
+
+	/**
+	 * Create an empty map with the default expected size and load factor.
+	 */
+	public $Key$$Value$Map() {
+		this(MapTables.DEFAULT_EXPECTED_SIZE, MapTables.DEFAULT_LOAD_FACTOR);
+	}
+
+	/**
+	 * Create an empty map that holds {@code expectedSize} mappings without
+	 * growing.
+	 * 
+	 * @param expectedSize
+	 *            number of mappings expected
+	 */
+	public $Key$$Value$Map(int expectedSize) {
+		this(expectedSize, MapTables.DEFAULT_LOAD_FACTOR);
+	}
+
+	/**
+	 * Create an empty map that holds {@code expectedSize} mappings without
+	 * growing, and grows when more than {@code loadFactor} of its slots are
+	 * used.
+	 * 
+	 * @param expectedSize
+	 *            number of mappings expected
+	 * @param loadFactor
+	 *            largest fraction of slots used before the table doubles
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code expectedSize} is negative or {@code loadFactor}
+	 *             is not in {@code (0, 1)}
+	 */
+	public $Key$$Value$Map(int expectedSize, float loadFactor) {
+		MapTables.checkArguments(expectedSize, loadFactor);
+		this.loadFactor = loadFactor;
+		allocate(MapTables.tableSize(expectedSize, loadFactor));
+	}
+
+	/**
+	 * Adds {@code increment} to the value of {@code key}, which is taken to
+	 * be {@code 0} if {@code key} is not in the map.
+	 * 
+	 * @param key
+	 *            key to update
+	 * @param increment
+	 *            amount to add
+	 * 
+	 * @return the new value
+	 */
+	public $value$ addTo($key$ key, $value$ increment) {
+		if (key == 0) {
+			if (!hasZero) {
+				hasZero = true;
+				++size;
+			}
+			return zeroValue += increment;
+		}
+		final int i = slot(key);
+		if (keys[i] == key) {
+			return values[i] += increment;
+		}
+		insert(i, key, increment);
+		return increment;
+	}
+
+	/**
+	 * Removes every mapping.
+	 */
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(keys, 0);
+			hasZero = false;
+			zeroValue = 0;
+			size = 0;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if {@code key} is in the map.
+	 * 
+	 * @param key
+	 *            key to look up
+	 * 
+	 * @return {@code true} if {@code key} is in the map
+	 */
+	public boolean containsKey($key$ key) {
+		return key == 0 ? hasZero : keys[slot(key)] == key;
+	}
+
+	/**
+	 * Returns a cursor over the mappings.
+	 * 
+	 * @return a cursor positioned before the first mapping
+	 */
+	public Cursor cursor() {
+		return new MapCursor();
+	}
+
+	/**
+	 * Grows the table, if needed, so it holds {@code expectedSize} mappings
+	 * without growing again.
+	 * 
+	 * @param expectedSize
+	 *            number of mappings the map must hold
+	 */
+	public void ensureCapacity(int expectedSize) {
+		final int capacity = MapTables.tableSize(expectedSize, loadFactor);
+		if (capacity > keys.length) {
+			rehash(capacity);
+		}
+	}
+
+	/**
+	 * Returns the value of {@code key}, or {@code defaultValue} if
+	 * {@code key} is not in the map.
+	 * 
+	 * @param key
+	 *            key to look up
+	 * @param defaultValue
+	 *            value to return if {@code key} is not in the map
+	 * 
+	 * @return the value of {@code key}, or {@code defaultValue}
+	 */
+	public $value$ getOrDefault($key$ key, $value$ defaultValue) {
+		if (key == 0) {
+			return hasZero ? zeroValue : defaultValue;
+		}
+		final int i = slot(key);
+		return keys[i] == key ? values[i] : defaultValue;
+	}
+
+	/**
+	 * Returns {@code true} if the map is empty.
+	 * 
+	 * @return {@code true} if the map is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Maps {@code key} to {@code value}.
+	 * 
+	 * @param key
+	 *            key to set
+	 * @param value
+	 *            value to set
+	 * 
+	 * @return the previous value of {@code key}, or {@code 0} if it was not
+	 *         in the map
+	 */
+	public $value$ put($key$ key, $value$ value) {
+		if (key == 0) {
+			final $value$ old = zeroValue;
+			if (!hasZero) {
+				hasZero = true;
+				++size;
+			}
+			zeroValue = value;
+			return old;
+		}
+		final int i = slot(key);
+		if (keys[i] == key) {
+			final $value$ old = values[i];
+			values[i] = value;
+			return old;
+		}
+		insert(i, key, value);
+		return 0;
+	}
+
+	/**
+	 * Removes the mapping of {@code key}.
+	 * 
+	 * @param key
+	 *            key to remove
+	 * 
+	 * @return the value {@code key} had, or {@code 0} if it was not in the
+	 *         map
+	 */
+	public $value$ remove($key$ key) {
+		if (key == 0) {
+			if (!hasZero) {
+				return 0;
+			}
+			final $value$ old = zeroValue;
+			hasZero = false;
+			zeroValue = 0;
+			--size;
+			return old;
+		}
+		final int i = slot(key);
+		if (keys[i] != key) {
+			return 0;
+		}
+		final $value$ old = values[i];
+		shiftKeys(i);
+		--size;
+		return old;
+	}
+
+	/**
+	 * Returns the number of mappings in the map.
+	 * 
+	 * @return the number of mappings
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the slot holding {@code key}, or the empty slot that ends its
+	 * probe run. {@code key} must not be zero.
+	 */
+	private int slot($key$ key) {
+		final $key$[] k = keys;
+		int i = MapTables.mix(key) & mask;
+		for ($key$ cur; (cur = k[i]) != 0 && cur != key; i = (i + 1) & mask) {
+		}
+		return i;
+	}
+
+	/**
+	 * Stores a new mapping in the empty slot {@code i}.
+	 */
+	private void insert(int i, $key$ key, $value$ value) {
+		keys[i] = key;
+		values[i] = value;
+		if (++size > maxFill) {
+			rehash(MapTables.grow(keys.length));
+		}
+	}
+
+	/**
+	 * Removes the mapping at {@code pos} by moving back each following
+	 * mapping of the probe run that may occupy the freed slot.
+	 */
+	private void shiftKeys(int pos) {
+		final $key$[] k = keys;
+		final $value$[] v = values;
+		for (;;) {
+			final int last = pos;
+			$key$ cur;
+			for (pos = (pos + 1) & mask;; pos = (pos + 1) & mask) {
+				cur = k[pos];
+				if (cur == 0) {
+					k[last] = 0;
+					return;
+				}
+				final int slot = MapTables.mix(cur) & mask;
+				// cur may move to last unless its home slot lies in (last, pos]
+				if (last <= pos ? (last >= slot || slot > pos)
+						: (last >= slot && slot > pos)) {
+					break;
+				}
+			}
+			k[last] = cur;
+			v[last] = v[pos];
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new $key$[capacity];
+		values = new $value$[capacity];
+		mask = capacity - 1;
+		maxFill = MapTables.maxFill(capacity, loadFactor);
+	}
+
+	private void rehash(int capacity) {
+		final $key$[] oldKeys = keys;
+		final $value$[] oldValues = values;
+		allocate(capacity);
+		final $key$[] k = keys;
+		for (int j = 0; j < oldKeys.length; ++j) {
+			final $key$ key = oldKeys[j];
+			if (key != 0) {
+				int i = MapTables.mix(key) & mask;
+				while (k[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				k[i] = key;
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+	/**
+	 * {@link Cursor} over the zero mapping and then the table.
+	 */
+	private final class MapCursor implements Cursor {
+		private int index = hasZero ? -2 : -1;
+
+		@Override
+		public boolean next() {
+			final $key$[] k = keys;
+			if (index < -1) {
+				index = -1;
+				return true;
+			}
+			while (++index < k.length) {
+				if (k[index] != 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public $key$ key() {
+			check();
+			return index < 0 ? 0 : keys[index];
+		}
+
+		@Override
+		public $value$ value() {
+			check();
+			return index < 0 ? zeroValue : values[index];
+		}
+
+		@Override
+		public void setValue($value$ value) {
+			check();
+			if (index < 0) {
+				zeroValue = value;
+			} else {
+				values[index] = value;
+			}
+		}
+
+		private void check() {
+			if (index < -1 || index >= keys.length
+					|| (index == -1 && !hasZero)) {
+				throw new NoSuchElementException();
+			}
+		}
+	}
+}
@@ -0,0 +1,355 @@
+//#types numeric
+/*
+ * $Type$Heap.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import us.rothmichaels.lists.GrowthPolicy;
+
+/**
+ * A binary heap of primative $type$s, the unboxed counterpart of
+ * {@code PriorityQueue<$Boxed$>}.
+ * 
+ * <p>
+ * Elements are kept in heap order in a single backing array that grows like
+ * the one in {@link us.rothmichaels.lists.$Type$ArrayList}, so adding and
+ * polling allocate nothing once the array is large enough.
+//#if floating
+ * Elements are ordered by {@link $Boxed$#compare($type$, $type$)}, so
+ * {@code NaN} is larger than every other value.
+//#endif
+ * 
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$Heap {
+
+	private final HeapOrder order;
+	private $type$[] data;
+	private int size;
+
+	/**
+	 * Create an empty min-heap with capacity 10.
+	 */
+	public $Type$Heap() {
+		this(10, HeapOrder.MIN);
+	}
+
+	/**
+	 * Create an empty heap with capacity 10.
+	 * 
+	 * @param order
+	 *            which element is kept on top
+	 */
+	public $Type$Heap(HeapOrder order) {
+		this(10, order);
+	}
+
+	/**
+	 * Create an empty heap with arbitrary capacity.
+	 * 
+	 * @param initialCapacity
+	 *            initial size of the backing array
+	 * @param order
+	 *            which element is kept on top
+	 */
+	public $Type$Heap(int initialCapacity, HeapOrder order) {
+		if (order == null) {
+			throw new NullPointerException("order");
+		}
+		data = new $type$[initialCapacity];
+		this.order = order;
+	}
+
+	/**
+	 * Adds {@code value} to the heap.
+	 * 
+	 * @param value
+	 *            value to add
+	 */
+	public void add($type$ value) {
+		if (size == data.length) {
+			grow(size + 1);
+		}
+		siftUp(size++, value);
+	}
+
+	/**
+	 * Adds {@code a[from]} to {@code a[to - 1]} to the heap. When the batch
+	 * is large compared to the heap, the whole array is re-heapified bottom
+	 * up, which is linear rather than a sift per element.
+	 * 
+	 * @param a
+	 *            source array
+	 * @param from
+	 *            first index to add, inclusive
+	 * @param to
+	 *            last index to add, exclusive
+	 */
+	public void addAll($type$[] a, int from, int to) {
+		if (from < 0 || from > to || to > a.length) {
+			throw new IndexOutOfBoundsException(from + ", " + to);
+		}
+		final int n = to - from;
+		if (n > data.length - size) {
+			grow(size + n);
+		}
+		if (n > size) {
+			System.arraycopy(a, from, data, size, n);
+			size += n;
+			heapify();
+		} else {
+			for (int i = from; i < to; ++i) {
+				siftUp(size++, a[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the size of the backing array.
+	 * 
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return data.length;
+	}
+
+	/**
+	 * Removes every element.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Grows the backing array, if needed, to hold {@code minCapacity}
+	 * elements.
+	 * 
+	 * @param minCapacity
+	 *            number of elements the heap must hold
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > data.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the heap is empty.
+	 * 
+	 * @return {@code true} if the heap is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns which element the heap keeps on top.
+	 * 
+	 * @return the order
+	 */
+	public HeapOrder order() {
+		return order;
+	}
+
+	/**
+	 * Returns the top element without removing it.
+	 * 
+	 * @return the smallest element of a min-heap, or the largest of a
+	 *         max-heap
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the heap is empty
+	 */
+	public $type$ peek() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return data[0];
+	}
+
+	/**
+	 * Removes and returns the top element.
+	 * 
+	 * @return the smallest element of a min-heap, or the largest of a
+	 *         max-heap
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the heap is empty
+	 */
+	public $type$ poll() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		final $type$ top = data[0];
+		if (--size > 0) {
+			siftDown(0, data[size]);
+		}
+		return top;
+	}
+
+	/**
+	 * Replaces the top element with {@code value} and restores heap order,
+	 * with one sift instead of the two a {@link #poll()} and
+	 * {@link #add($type$)} would take. A bounded top-k selection keeps a
+	 * heap of the k best so far and calls this whenever a better candidate
+	 * than the top arrives.
+	 * 
+	 * @param value
+	 *            value to add
+	 * 
+	 * @return the previous top element
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the heap is empty
+	 */
+	public $type$ replaceTop($type$ value) {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		final $type$ top = data[0];
+		siftDown(0, value);
+		return top;
+	}
+
+	/**
+	 * Returns the number of elements in the heap.
+	 * 
+	 * @return the number of elements
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the elements in heap order, which is not sorted order.
+	 * 
+	 * @return a new array holding the elements
+	 */
+	public $type$[] toArray() {
+		return Arrays.copyOf(data, size);
+	}
+
+	/**
+	 * Removes every element and returns them in the order they would be
+	 * polled.
+	 * 
+	 * @return a new array holding the elements from top to bottom
+	 */
+	public $type$[] drainSorted() {
+		final $type$[] out = new $type$[size];
+		for (int i = 0; i < out.length; ++i) {
+			out[i] = poll();
+		}
+		return out;
+	}
+
+	/**
+	 * Returns {@code true} if {@code a} belongs above {@code b}.
+	 */
+	private boolean above($type$ a, $type$ b) {
+//#if floating
+		final int c = $Boxed$.compare(a, b);
+		return order == HeapOrder.MIN ? c < 0 : c > 0;
+//#else
+		return order == HeapOrder.MIN ? a < b : a > b;
+//#endif
+	}
+
+	/**
+	 * Moves {@code value} up from the free slot {@code i} to its place.
+	 */
+	private void siftUp(int i, $type$ value) {
+		final $type$[] d = data;
+		while (i > 0) {
+			final int parent = (i - 1) >>> 1;
+			final $type$ p = d[parent];
+			if (!above(value, p)) {
+				break;
+			}
+			d[i] = p;
+			i = parent;
+		}
+		d[i] = value;
+	}
+
+	/**
+	 * Moves {@code value} down from the free slot {@code i} to its place.
+	 */
+	private void siftDown(int i, $type$ value) {
+		final $type$[] d = data;
+		final int half = size >>> 1;
+		while (i < half) {
+			int child = 2 * i + 1;
+			$type$ c = d[child];
+			final int right = child + 1;
+			if (right < size && above(d[right], c)) {
+				c = d[child = right];
+			}
+			if (!above(c, value)) {
+				break;
+			}
+			d[i] = c;
+			i = child;
+		}
+		d[i] = value;
+	}
+
+	/**
+	 * Restores heap order over the whole array, bottom up.
+	 */
+	private void heapify() {
+		for (int i = (size >>> 1) - 1; i >= 0; --i) {
+			siftDown(i, data[i]);
+		}
+	}
+
+	private void grow(int minCapacity) {
+		data = Arrays.copyOf(data,
+				GrowthPolicy.DOUBLING.grow(data.length, minCapacity));
+	}
+}
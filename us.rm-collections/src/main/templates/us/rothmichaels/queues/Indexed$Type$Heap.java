@@ -0,0 +1,389 @@
+//#types numeric
+/*
+ * Indexed$Type$Heap.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import us.rothmichaels.lists.GrowthPolicy;
+
+/**
+ * A binary heap of non-negative {@code int} ids ordered by a primative
+ * $type$ key, whose keys can be changed while queued.
+ * 
+ * <p>
+ * {@link #changeKey(int, $type$)} is the decrease-key step of Dijkstra's
+ * and Prim's algorithms: instead of queueing a duplicate entry and skipping
+ * stale ones later, the id is moved to its new place in {@code O(log n)}.
+ * Ids index the key and position arrays directly, so they should be dense,
+ * such as vertex or task numbers; the arrays grow to fit the largest id
+ * added.
+//#if floating
+ * Keys are ordered by {@link $Boxed$#compare($type$, $type$)}, so
+ * {@code NaN} is larger than every other value.
+//#endif
+ * 
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Indexed$Type$Heap {
+
+	private final HeapOrder order;
+
+	/**
+	 * Ids in heap order.
+	 */
+	private int[] heap;
+
+	/**
+	 * Position of each id in {@link #heap} plus one, or zero if the id is
+	 * not queued.
+	 */
+	private int[] positions;
+
+	/**
+	 * Key of each queued id.
+	 */
+	private $type$[] keys;
+
+	private int size;
+
+	/**
+	 * Create an empty min-heap for ids below {@code idCapacity}.
+	 * 
+	 * @param idCapacity
+	 *            ids expected, larger ids grow the heap
+	 */
+	public Indexed$Type$Heap(int idCapacity) {
+		this(idCapacity, HeapOrder.MIN);
+	}
+
+	/**
+	 * Create an empty heap for ids below {@code idCapacity}.
+	 * 
+	 * @param idCapacity
+	 *            ids expected, larger ids grow the heap
+	 * @param order
+	 *            which key is kept on top
+	 */
+	public Indexed$Type$Heap(int idCapacity, HeapOrder order) {
+		if (order == null) {
+			throw new NullPointerException("order");
+		}
+		heap = new int[idCapacity];
+		positions = new int[idCapacity];
+		keys = new $type$[idCapacity];
+		this.order = order;
+	}
+
+	/**
+	 * Queues {@code id} with {@code key}.
+	 * 
+	 * @param id
+	 *            id to queue
+	 * @param key
+	 *            its key
+	 * 
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code id} is negative
+	 * @throws IllegalArgumentException
+	 *             if {@code id} is already queued
+	 */
+	public void add(int id, $type$ key) {
+		if (id < 0) {
+			throw new IndexOutOfBoundsException("" + id);
+		}
+		if (id >= positions.length) {
+			grow(id + 1);
+		} else if (positions[id] != 0) {
+			throw new IllegalArgumentException("already queued: " + id);
+		}
+		if (size == heap.length) {
+			heap = Arrays.copyOf(heap,
+					GrowthPolicy.DOUBLING.grow(heap.length, size + 1));
+		}
+		keys[id] = key;
+		siftUp(size++, id);
+	}
+
+	/**
+	 * Sets the key of the queued {@code id} and moves it to its new place.
+	 * 
+	 * @param id
+	 *            queued id
+	 * @param key
+	 *            its new key
+	 * 
+	 * @throws NoSuchElementException
+	 *             if {@code id} is not queued
+	 */
+	public void changeKey(int id, $type$ key) {
+		final int i = position(id);
+		final $type$ old = keys[id];
+		keys[id] = key;
+		if (above(key, old)) {
+			siftUp(i, id);
+		} else {
+			siftDown(i, id);
+		}
+	}
+
+	/**
+	 * Removes every id.
+	 */
+	public void clear() {
+		for (int i = 0; i < size; ++i) {
+			positions[heap[i]] = 0;
+		}
+		size = 0;
+	}
+
+	/**
+	 * Returns {@code true} if {@code id} is queued.
+	 * 
+	 * @param id
+	 *            id to look up
+	 * 
+	 * @return {@code true} if {@code id} is queued
+	 */
+	public boolean contains(int id) {
+		return id >= 0 && id < positions.length && positions[id] != 0;
+	}
+
+	/**
+	 * Returns {@code true} if the heap is empty.
+	 * 
+	 * @return {@code true} if the heap is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the key of the queued {@code id}.
+	 * 
+	 * @param id
+	 *            queued id
+	 * 
+	 * @return its key
+	 * 
+	 * @throws NoSuchElementException
+	 *             if {@code id} is not queued
+	 */
+	public $type$ keyOf(int id) {
+		position(id);
+		return keys[id];
+	}
+
+	/**
+	 * Returns which key the heap keeps on top.
+	 * 
+	 * @return the order
+	 */
+	public HeapOrder order() {
+		return order;
+	}
+
+	/**
+	 * Returns the id on top without removing it.
+	 * 
+	 * @return the id with the smallest key of a min-heap, or the largest of
+	 *         a max-heap
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the heap is empty
+	 */
+	public int peek() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return heap[0];
+	}
+
+	/**
+	 * Returns the key of the id on top.
+	 * 
+	 * @return the smallest key of a min-heap, or the largest of a max-heap
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the heap is empty
+	 */
+	public $type$ peekKey() {
+		return keys[peek()];
+	}
+
+	/**
+	 * Removes and returns the id on top.
+	 * 
+	 * @return the id with the smallest key of a min-heap, or the largest of
+	 *         a max-heap
+	 * 
+	 * @throws NoSuchElementException
+	 *             if the heap is empty
+	 */
+	public int poll() {
+		final int top = peek();
+		removeAt(0);
+		return top;
+	}
+
+	/**
+	 * Removes {@code id} if it is queued.
+	 * 
+	 * @param id
+	 *            id to remove
+	 * 
+	 * @return {@code true} if {@code id} was queued
+	 */
+	public boolean remove(int id) {
+		if (!contains(id)) {
+			return false;
+		}
+		removeAt(positions[id] - 1);
+		return true;
+	}
+
+	/**
+	 * Returns the number of queued ids.
+	 * 
+	 * @return the number of ids
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the heap position of the queued {@code id}.
+	 */
+	private int position(int id) {
+		if (!contains(id)) {
+			throw new NoSuchElementException("" + id);
+		}
+		return positions[id] - 1;
+	}
+
+	/**
+	 * Removes the id at heap position {@code i}.
+	 */
+	private void removeAt(int i) {
+		positions[heap[i]] = 0;
+		if (--size > i) {
+			final int last = heap[size];
+			if (i > 0 && above(keys[last], keys[heap[(i - 1) >>> 1]])) {
+				siftUp(i, last);
+			} else {
+				siftDown(i, last);
+			}
+		}
+	}
+
+	/**
+	 * Returns {@code true} if {@code a} belongs above {@code b}.
+	 */
+	private boolean above($type$ a, $type$ b) {
+//#if floating
+		final int c = $Boxed$.compare(a, b);
+		return order == HeapOrder.MIN ? c < 0 : c > 0;
+//#else
+		return order == HeapOrder.MIN ? a < b : a > b;
+//#endif
+	}
+
+	/**
+	 * Moves {@code id} up from heap position {@code i} to its place.
+	 */
+	private void siftUp(int i, int id) {
+		final int[] h = heap;
+		final $type$ key = keys[id];
+		while (i > 0) {
+			final int parent = (i - 1) >>> 1;
+			final int p = h[parent];
+			if (!above(key, keys[p])) {
+				break;
+			}
+			h[i] = p;
+			positions[p] = i + 1;
+			i = parent;
+		}
+		h[i] = id;
+		positions[id] = i + 1;
+	}
+
+	/**
+	 * Moves {@code id} down from heap position {@code i} to its place.
+	 */
+	private void siftDown(int i, int id) {
+		final int[] h = heap;
+		final $type$ key = keys[id];
+		final int half = size >>> 1;
+		while (i < half) {
+			int child = 2 * i + 1;
+			int c = h[child];
+			final int right = child + 1;
+			if (right < size && above(keys[h[right]], keys[c])) {
+				c = h[child = right];
+			}
+			if (!above(keys[c], key)) {
+				break;
+			}
+			h[i] = c;
+			positions[c] = i + 1;
+			i = child;
+		}
+		h[i] = id;
+		positions[id] = i + 1;
+	}
+
+	/**
+	 * Grows the id-indexed arrays to hold {@code minIds} ids.
+	 */
+	private void grow(int minIds) {
+		final int capacity = GrowthPolicy.DOUBLING.grow(positions.length,
+				minIds);
+		positions = Arrays.copyOf(positions, capacity);
+		keys = Arrays.copyOf(keys, capacity);
+	}
+}
@@ -0,0 +1,583 @@
+//#types numeric
+/*
+ * $Type$HashSet.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.sets;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.$Wide$Consumer;
+
+import us.rothmichaels.lists.$Type$ArrayList;
+import us.rothmichaels.lists.$Type$Cursor;
+import us.rothmichaels.lists.IPrimative$Type$List;
+
+/**
+ * A set of primative $type$s using open addressing with linear probing.
+ * 
+ * <p>
+ * Keys are stored directly in one power-of-two sized array, so there is no
+ * entry object or boxed key per element and a lookup is usually a single
+ * cache line. The zero key marks an empty slot and is tracked separately.
+ * Removal shifts the following keys of the probe run back instead of
+ * leaving tombstones, so lookups do not slow down as the set churns.
+//#if floating
+ * 
+ * <p>
+ * Keys are compared as {@link $Boxed$#equals(Object)} does: {@code NaN}
+ * matches {@code NaN}, and {@code 0.0} and {@code -0.0} are different keys.
+//#endif
+ * 
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$HashSet {
+
+	/**
+	 * Load factor used when none is given.
+	 */
+	public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * Expected size used when none is given.
+	 */
+	public static final int DEFAULT_EXPECTED_SIZE = 16;
+
+	static final int MIN_CAPACITY = 4;
+	static final int MAX_CAPACITY = 1 << 30;
+
+	private final float loadFactor;
+	private $type$[] keys;
+	private int mask;
+	private int maxFill;
+	private boolean hasZero;
+	private int size;
+
+	/**
+	 * Create an empty set with the default expected size and load factor.
+	 */
+	public $Type$HashSet() {
+		this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+	}
+
+	/**
+	 * Create an empty set that holds {@code expectedSize} keys without
+	 * growing.
+	 * 
+	 * @param expectedSize
+	 *            number of keys expected
+	 */
+	public $Type$HashSet(int expectedSize) {
+		this(expectedSize, DEFAULT_LOAD_FACTOR);
+	}
+
+	/**
+	 * Create an empty set that holds {@code expectedSize} keys without
+	 * growing, and grows when more than {@code loadFactor} of its slots are
+	 * used.
+	 * 
+	 * @param expectedSize
+	 *            number of keys expected
+	 * @param loadFactor
+	 *            largest fraction of slots used before the table doubles;
+	 *            lower values trade memory for shorter probe runs
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if {@code expectedSize} is negative or {@code loadFactor}
+	 *             is not in {@code (0, 1)}
+	 */
+	public $Type$HashSet(int expectedSize, float loadFactor) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("" + expectedSize);
+		}
+		if (!(loadFactor > 0 && loadFactor < 1)) {
+			throw new IllegalArgumentException("" + loadFactor);
+		}
+		this.loadFactor = loadFactor;
+		allocate(tableSize(expectedSize, loadFactor));
+	}
+
+	/**
+	 * Adds {@code key} to the set.
+	 * 
+	 * @param key
+	 *            key to add
+	 * 
+	 * @return {@code true} if the set did not already contain {@code key}
+	 */
+	public boolean add($type$ key) {
+		if (isZero(key)) {
+			if (hasZero) {
+				return false;
+			}
+			hasZero = true;
+			++size;
+			return true;
+		}
+		final $type$[] k = keys;
+		int i = hash(key) & mask;
+		for ($type$ cur; !isZero(cur = k[i]); i = (i + 1) & mask) {
+			if (same(cur, key)) {
+				return false;
+			}
+		}
+		k[i] = key;
+		if (++size > maxFill) {
+			rehash(keys.length * 2);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds every element of {@code values}.
+	 * 
+	 * @param values
+	 *            keys to add
+	 * 
+	 * @return {@code true} if the set changed
+	 */
+	public boolean addAll($type$[] values) {
+		ensureCapacity(size + values.length);
+		boolean modified = false;
+		for (final $type$ value : values) {
+			modified |= add(value);
+		}
+		return modified;
+	}
+
+	/**
+	 * Adds every element of {@code l}.
+	 * 
+	 * @param l
+	 *            list of keys to add
+	 * 
+	 * @return {@code true} if the set changed
+	 */
+	public boolean addAll(IPrimative$Type$List l) {
+		ensureCapacity(size + l.size());
+		boolean modified = false;
+		for (final $Type$Cursor c = l.cursor(); c.next();) {
+			modified |= add(c.value());
+		}
+		return modified;
+	}
+
+	/**
+	 * Adds every key of {@code s}.
+	 * 
+	 * @param s
+	 *            set of keys to add
+	 * 
+	 * @return {@code true} if the set changed
+	 */
+	public boolean addAll($Type$HashSet s) {
+		ensureCapacity(size + s.size);
+		boolean modified = s.hasZero && add($zero$);
+		for (final $type$ key : s.keys) {
+			if (!isZero(key)) {
+				modified |= add(key);
+			}
+		}
+		return modified;
+	}
+
+	/**
+	 * Removes every key.
+	 */
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(keys, $zero$);
+			hasZero = false;
+			size = 0;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if {@code key} is in the set.
+	 * 
+	 * @param key
+	 *            key to look up
+	 * 
+	 * @return {@code true} if {@code key} is in the set
+	 */
+	public boolean contains($type$ key) {
+		if (isZero(key)) {
+			return hasZero;
+		}
+		final $type$[] k = keys;
+		for (int i = hash(key) & mask;; i = (i + 1) & mask) {
+			final $type$ cur = k[i];
+			if (isZero(cur)) {
+				return false;
+			}
+			if (same(cur, key)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Grows the table, if needed, so it holds {@code expectedSize} keys
+	 * without growing again.
+	 * 
+	 * @param expectedSize
+	 *            number of keys the set must hold
+	 */
+	public void ensureCapacity(int expectedSize) {
+		final int capacity = tableSize(expectedSize, loadFactor);
+		if (capacity > keys.length) {
+			rehash(capacity);
+		}
+	}
+
+	/**
+	 * Calls {@code action} with each key, in no particular order.
+	 * 
+	 * @param action
+	 *            action to call
+	 */
+	public void forEach($Wide$Consumer action) {
+		if (hasZero) {
+			action.accept($zero$);
+		}
+		for (final $type$ key : keys) {
+			if (!isZero(key)) {
+				action.accept(key);
+			}
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the set is empty.
+	 * 
+	 * @return {@code true} if the set is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns an iterator over the keys, in no particular order. The set
+	 * must not be modified while it is in use.
+	 * 
+	 * @return an iterator over the keys
+	 */
+	public PrimitiveIterator.Of$Wide$ iterator() {
+		return new Itr();
+	}
+
+	/**
+	 * Removes {@code key} from the set.
+	 * 
+	 * @param key
+	 *            key to remove
+	 * 
+	 * @return {@code true} if the set contained {@code key}
+	 */
+	public boolean remove($type$ key) {
+		if (isZero(key)) {
+			if (!hasZero) {
+				return false;
+			}
+			hasZero = false;
+			--size;
+			return true;
+		}
+		final $type$[] k = keys;
+		for (int i = hash(key) & mask;; i = (i + 1) & mask) {
+			final $type$ cur = k[i];
+			if (isZero(cur)) {
+				return false;
+			}
+			if (same(cur, key)) {
+				shiftKeys(i);
+				--size;
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of keys in the set.
+	 * 
+	 * @return the number of keys
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the keys in a new array, in no particular order.
+	 * 
+	 * @return the keys
+	 */
+	public $type$[] toArray() {
+		final $type$[] out = new $type$[size];
+		int j = 0;
+		if (hasZero) {
+			out[j++] = $zero$;
+		}
+		for (final $type$ key : keys) {
+			if (!isZero(key)) {
+				out[j++] = key;
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Returns the keys in a new list, in no particular order.
+	 * 
+	 * @return a list of the keys
+	 */
+	public $Type$ArrayList toList() {
+		final $Type$ArrayList out = new $Type$ArrayList(size);
+		final $type$[] a = toArray();
+		out.addAll(a, 0, a.length);
+		return out;
+	}
+
+	/**
+	 * Returns {@code true} if {@code o} is a $Type$HashSet with the same
+	 * keys.
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof $Type$HashSet)) {
+			return false;
+		}
+		final $Type$HashSet other = ($Type$HashSet) o;
+		if (other.size != size || other.hasZero != hasZero) {
+			return false;
+		}
+		for (final $type$ key : keys) {
+			if (!isZero(key) && !other.contains(key)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the same hash code as a {@link java.util.Set} of the boxed
+	 * keys.
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int h = hasZero ? $Boxed$.hashCode($zero$) : 0;
+		for (final $type$ key : keys) {
+			if (!isZero(key)) {
+				h += $Boxed$.hashCode(key);
+			}
+		}
+		return h;
+	}
+
+	/**
+	 * Removes the key at {@code pos} by moving back each following key of
+	 * the probe run that may occupy the freed slot.
+	 */
+	private void shiftKeys(int pos) {
+		final $type$[] k = keys;
+		for (;;) {
+			final int last = pos;
+			$type$ cur;
+			for (pos = (pos + 1) & mask;; pos = (pos + 1) & mask) {
+				cur = k[pos];
+				if (isZero(cur)) {
+					k[last] = $zero$;
+					return;
+				}
+				final int slot = hash(cur) & mask;
+				// cur may move to last unless its home slot lies in (last, pos]
+				if (last <= pos ? (last >= slot || slot > pos)
+						: (last >= slot && slot > pos)) {
+					break;
+				}
+			}
+			k[last] = cur;
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new $type$[capacity];
+		mask = capacity - 1;
+		maxFill = Math.min((int) (capacity * loadFactor), capacity - 1);
+	}
+
+	private void rehash(int capacity) {
+		if (capacity > MAX_CAPACITY) {
+			if (keys.length == MAX_CAPACITY) {
+				throw new IllegalStateException("set is full");
+			}
+			capacity = MAX_CAPACITY;
+		}
+		final $type$[] old = keys;
+		allocate(capacity);
+		final $type$[] k = keys;
+		for (final $type$ key : old) {
+			if (!isZero(key)) {
+				int i = hash(key) & mask;
+				while (!isZero(k[i])) {
+					i = (i + 1) & mask;
+				}
+				k[i] = key;
+			}
+		}
+	}
+
+	/**
+	 * Returns the power-of-two table size that holds {@code expectedSize}
+	 * keys at {@code loadFactor}.
+	 */
+	static int tableSize(int expectedSize, float loadFactor) {
+		final long needed = (long) Math.ceil(expectedSize
+				/ (double) loadFactor);
+		if (needed >= MAX_CAPACITY) {
+			return MAX_CAPACITY;
+		}
+		return Math.max(MIN_CAPACITY,
+				Integer.highestOneBit((int) needed - 1) << 1);
+	}
+//#if floating
+
+	private static boolean isZero($type$ key) {
+		return bits(key) == 0;
+	}
+
+	private static boolean same($type$ a, $type$ b) {
+		return bits(a) == bits(b);
+	}
+
+	private static int hash($type$ key) {
+		return mix(bits(key));
+	}
+
+//#if Float
+	private static int bits(float key) {
+		return Float.floatToIntBits(key);
+	}
+//#else
+	private static long bits(double key) {
+		return Double.doubleToLongBits(key);
+	}
+//#endif
+//#else
+
+	private static boolean isZero($type$ key) {
+		return key == 0;
+	}
+
+	private static boolean same($type$ a, $type$ b) {
+		return a == b;
+	}
+
+	private static int hash($type$ key) {
+		return mix(key);
+	}
+//#endif
+
+//#if Long|Double
+	/**
+	 * Spreads the bits of {@code x} so keys that differ only in their high
+	 * bits land in different slots.
+	 */
+	private static int mix(long x) {
+		final long h = x * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+//#else
+	/**
+	 * Spreads the bits of {@code x} so keys that differ only in their high
+	 * bits land in different slots.
+	 */
+	private static int mix(int x) {
+		final int h = x * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+//#endif
+
+	/**
+	 * {@link PrimitiveIterator.Of$Wide$} over the table.
+	 */
+	private final class Itr implements PrimitiveIterator.Of$Wide$ {
+		private boolean zeroPending = hasZero;
+		private int next = advance(0);
+
+		@Override
+		public boolean hasNext() {
+			return zeroPending || next < keys.length;
+		}
+
+		@Override
+		public $wide$ next$Wide$() {
+			if (zeroPending) {
+				zeroPending = false;
+				return $zero$;
+			}
+			if (next >= keys.length) {
+				throw new NoSuchElementException();
+			}
+			final $type$ key = keys[next];
+			next = advance(next + 1);
+			return key;
+		}
+
+		private int advance(int i) {
+			final $type$[] k = keys;
+			while (i < k.length && isZero(k[i])) {
+				++i;
+			}
+			return i;
+		}
+	}
+}
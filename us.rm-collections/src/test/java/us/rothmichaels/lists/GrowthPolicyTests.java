@@ -0,0 +1,122 @@
+/*
+ * GrowthPolicyTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link GrowthPolicy}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class GrowthPolicyTests {
+
+	@Test
+	public void doubling() {
+		assertEquals(20, GrowthPolicy.DOUBLING.grow(10, 11));
+		assertEquals(1, GrowthPolicy.DOUBLING.grow(0, 1));
+		assertEquals(50, GrowthPolicy.DOUBLING.grow(10, 50));
+	}
+
+	@Test
+	public void factor() {
+		final GrowthPolicy policy = GrowthPolicy.factor(1.5);
+
+		assertEquals(15, policy.grow(10, 11));
+		assertEquals(2, policy.grow(1, 2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void factorTooSmall() {
+		GrowthPolicy.factor(1.0);
+	}
+
+	@Test
+	public void additive() {
+		final GrowthPolicy policy = GrowthPolicy.additive(100);
+
+		assertEquals(110, policy.grow(10, 11));
+		assertEquals(500, policy.grow(10, 500));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void additiveNotPositive() {
+		GrowthPolicy.additive(0);
+	}
+
+	@Test
+	public void capped() {
+		final GrowthPolicy policy = GrowthPolicy.DOUBLING.capped(1000);
+
+		assertEquals(20, policy.grow(10, 11));
+		assertEquals(11000, policy.grow(10000, 10001));
+		assertEquals(20000, policy.grow(10000, 20000));
+	}
+
+	@Test
+	public void alignedTo() {
+		final GrowthPolicy policy = GrowthPolicy.factor(1.5).alignedTo(1024);
+
+		assertEquals(1024, policy.grow(10, 11));
+		assertEquals(2048, policy.grow(1024, 1025));
+		assertEquals(3072, policy.grow(2048, 2049));
+	}
+
+	@Test
+	public void maxCapacity() {
+		assertEquals(GrowthPolicy.MAX_CAPACITY,
+				GrowthPolicy.DOUBLING.grow(Integer.MAX_VALUE / 2 + 1,
+						Integer.MAX_VALUE / 2 + 2));
+		assertEquals(GrowthPolicy.MAX_CAPACITY, GrowthPolicy.DOUBLING
+				.alignedTo(1 << 20).grow(1 << 30, (1 << 30) + 1));
+	}
+
+	@Test(expected = OutOfMemoryError.class)
+	public void overflow() {
+		GrowthPolicy.DOUBLING.grow(GrowthPolicy.MAX_CAPACITY,
+				GrowthPolicy.MAX_CAPACITY + 1);
+	}
+
+	@Test(expected = OutOfMemoryError.class)
+	public void negativeMinCapacity() {
+		GrowthPolicy.additive(10).grow(Integer.MAX_VALUE, Integer.MIN_VALUE);
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * PackedBooleanListTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link PackedBooleanList}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class PackedBooleanListTests {
+	static final int SIZE = 200;
+
+	PackedBooleanList testList;
+	BooleanArrayList reference;
+	Random random;
+
+	@Before
+	public void setUp() {
+		testList = new PackedBooleanList(1);
+		reference = new BooleanArrayList();
+		random = new Random(7);
+	}
+
+	@Test
+	public void addGet() {
+		fill(SIZE);
+
+		assertEquals(SIZE, testList.size());
+		for (int i = 0; i < SIZE; ++i) {
+			assertEquals(reference.get(i), testList.get(i));
+		}
+		assertTrue(Arrays.equals(reference.toArray(), testList.toArray()));
+	}
+
+	@Test
+	public void insertAndRemoveAcrossWords() {
+		fill(SIZE);
+		for (int n = 0; n < 300; ++n) {
+			if (random.nextBoolean() || testList.isEmpty()) {
+				final int index = random.nextInt(testList.size() + 1);
+				final boolean value = random.nextBoolean();
+				testList.add(index, value);
+				reference.add(index, value);
+			} else {
+				final int index = random.nextInt(testList.size());
+				testList.remove(index);
+				reference.remove(index);
+			}
+			assertTrue(Arrays.equals(reference.toArray(), testList.toArray()));
+			assertEquals(count(reference.toArray()), testList.countTrue());
+		}
+	}
+
+	@Test
+	public void insertAtWordBoundary() {
+		for (int i = 0; i < 64; ++i) {
+			testList.add(true);
+		}
+		testList.add(64, false);
+		testList.add(0, false);
+
+		assertEquals(66, testList.size());
+		assertFalse(testList.get(0));
+		assertTrue(testList.get(64));
+		assertFalse(testList.get(65));
+		assertEquals(64, testList.countTrue());
+	}
+
+	@Test
+	public void set() {
+		fill(SIZE);
+
+		assertEquals(reference.get(70), testList.set(70, !reference.get(70)));
+		assertEquals(!reference.get(70), testList.get(70));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getAbove() {
+		fill(10);
+		testList.get(10);
+	}
+
+	@Test
+	public void nextAndPreviousBits() {
+		for (int i = 0; i < SIZE; ++i) {
+			testList.add(i == 3 || i == 64 || i == 130);
+		}
+
+		assertEquals(3, testList.nextSetBit(0));
+		assertEquals(64, testList.nextSetBit(4));
+		assertEquals(130, testList.nextSetBit(65));
+		assertEquals(-1, testList.nextSetBit(131));
+		assertEquals(-1, testList.nextSetBit(SIZE));
+		assertEquals(0, testList.nextClearBit(0));
+		assertEquals(65, testList.nextClearBit(64));
+		assertEquals(130, testList.previousSetBit(SIZE - 1));
+		assertEquals(64, testList.previousSetBit(129));
+		assertEquals(-1, testList.previousSetBit(2));
+		assertEquals(63, testList.previousClearBit(64));
+		assertEquals(130, testList.lastIndexOf(true));
+		assertEquals(SIZE - 1, testList.lastIndexOf(false));
+		assertTrue(Arrays.equals(new int[] { 3, 64, 130 }, testList
+				.indexOfAll(true).toArray()));
+	}
+
+	@Test
+	public void nextClearBitPastEnd() {
+		for (int i = 0; i < 70; ++i) {
+			testList.add(true);
+		}
+
+		assertEquals(-1, testList.nextClearBit(0));
+		assertFalse(testList.contains(false));
+		assertTrue(testList.contains(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void indexOfNotFound() {
+		testList.add(false);
+		testList.indexOf(true);
+	}
+
+	@Test
+	public void clear() {
+		fill(SIZE);
+		testList.clear();
+
+		assertTrue(testList.isEmpty());
+		assertEquals(0, testList.countTrue());
+		testList.add(false);
+		assertFalse(testList.contains(true));
+	}
+
+	@Test
+	public void bulkOperations() {
+		fill(SIZE);
+		final boolean[] a = testList.toArray();
+		final PackedBooleanList other = new PackedBooleanList();
+		for (int i = 0; i < 150; ++i) {
+			other.add(random.nextBoolean());
+		}
+		final boolean[] b = other.toArray();
+
+		final PackedBooleanList and = copy(testList);
+		and.and(other);
+		final PackedBooleanList or = copy(testList);
+		or.or(other);
+		final PackedBooleanList xor = copy(testList);
+		xor.xor(other);
+		final PackedBooleanList andNot = copy(testList);
+		andNot.andNot(other);
+
+		for (int i = 0; i < SIZE; ++i) {
+			final boolean bi = i < b.length && b[i];
+			assertEquals(a[i] & bi, and.get(i));
+			assertEquals(a[i] | bi, or.get(i));
+			assertEquals(a[i] ^ bi, xor.get(i));
+			assertEquals(a[i] & !bi, andNot.get(i));
+		}
+		assertEquals(SIZE, and.size());
+	}
+
+	@Test
+	public void bulkOperationsKeepSize() {
+		testList.add(false);
+		final PackedBooleanList other = new PackedBooleanList();
+		for (int i = 0; i < 64; ++i) {
+			other.add(true);
+		}
+		testList.or(other);
+
+		assertEquals(1, testList.size());
+		assertEquals(1, testList.countTrue());
+		testList.add(false);
+		assertEquals(1, testList.countTrue());
+	}
+
+	private void fill(int size) {
+		for (int i = 0; i < size; ++i) {
+			final boolean value = random.nextInt(3) == 0;
+			testList.add(value);
+			reference.add(value);
+		}
+	}
+
+	private static PackedBooleanList copy(PackedBooleanList list) {
+		final PackedBooleanList out = new PackedBooleanList();
+		out.addAll(list);
+		return out;
+	}
+
+	private static int count(boolean[] a) {
+		int n = 0;
+		for (final boolean b : a) {
+			if (b) {
+				++n;
+			}
+		}
+		return n;
+	}
+}
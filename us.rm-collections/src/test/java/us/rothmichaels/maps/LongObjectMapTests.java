@@ -0,0 +1,157 @@
+/*
+ * LongObjectMapTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.maps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link LongObjectMap}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class LongObjectMapTests {
+
+	LongObjectMap<String> testMap;
+
+	@Before
+	public void setUp() {
+		testMap = new LongObjectMap<String>();
+	}
+
+	@Test
+	public void putGetRemove() {
+		assertNull(testMap.put(3, "a"));
+		assertEquals("a", testMap.put(3, "b"));
+		assertNull(testMap.put(0, "z"));
+
+		assertEquals(2, testMap.size());
+		assertEquals("b", testMap.get(3));
+		assertEquals("z", testMap.get(0));
+		assertNull(testMap.get(4));
+		assertEquals("d", testMap.getOrDefault(4, "d"));
+
+		assertEquals("z", testMap.remove(0));
+		assertNull(testMap.remove(0));
+		assertEquals("b", testMap.remove(3));
+		assertTrue(testMap.isEmpty());
+	}
+
+	@Test
+	public void computeIfAbsent() {
+		final String five = testMap.computeIfAbsent(5, k -> "five");
+		assertEquals("five", five);
+		assertSame(five, testMap.computeIfAbsent(5, k -> "other"));
+		assertEquals("0", testMap.computeIfAbsent(0, Long::toString));
+		assertEquals("0", testMap.computeIfAbsent(0, k -> "other"));
+		assertEquals(2, testMap.size());
+	}
+
+	@Test
+	public void matchesHashMap() {
+		final Random random = new Random(17);
+		final Map<Long, String> reference = new HashMap<Long, String>();
+		testMap = new LongObjectMap<String>(0);
+
+		for (int i = 0; i < 20000; ++i) {
+			final long key = random.nextInt(600) - 100;
+			if (random.nextInt(3) == 0) {
+				assertEquals(reference.remove(key), testMap.remove(key));
+			} else {
+				final String value = Integer.toString(i);
+				assertEquals(reference.put(key, value), testMap.put(key, value));
+			}
+			assertEquals(reference.size(), testMap.size());
+		}
+		for (long key = -100; key < 500; ++key) {
+			assertEquals(reference.containsKey(key), testMap.containsKey(key));
+			assertEquals(reference.get(key), testMap.get(key));
+		}
+	}
+
+	@Test
+	public void removeKeepsProbeRuns() {
+		testMap = new LongObjectMap<String>(2, 0.9f);
+		for (long i = 1; i <= 60; ++i) {
+			testMap.put(i, Long.toString(i));
+		}
+		for (long i = 1; i <= 60; i += 2) {
+			assertEquals(Long.toString(i), testMap.remove(i));
+		}
+		for (long i = 1; i <= 60; ++i) {
+			assertEquals(i % 2 == 0 ? Long.toString(i) : null, testMap.get(i));
+		}
+	}
+
+	@Test
+	public void cursor() {
+		testMap.put(0, "0");
+		testMap.put(1, "1");
+		int count = 0;
+		final LongObjectMap.Cursor<String> cursor = testMap.cursor();
+		while (cursor.next()) {
+			assertEquals(Long.toString(cursor.key()), cursor.value());
+			cursor.setValue(cursor.value() + "!");
+			++count;
+		}
+		assertEquals(2, count);
+		assertEquals("0!", testMap.get(0));
+		assertEquals("1!", testMap.get(1));
+	}
+
+	@Test
+	public void clear() {
+		testMap.put(0, "0");
+		testMap.put(1, "1");
+		testMap.clear();
+		assertTrue(testMap.isEmpty());
+		assertFalse(testMap.containsKey(0));
+		assertNull(testMap.get(1));
+	}
+}
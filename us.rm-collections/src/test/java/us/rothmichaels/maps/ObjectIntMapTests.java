@@ -0,0 +1,144 @@
+/*
+ * ObjectIntMapTests.java
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.maps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ObjectIntMap}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class ObjectIntMapTests {
+
+	ObjectIntMap<String> testMap;
+
+	@Before
+	public void setUp() {
+		testMap = new ObjectIntMap<String>();
+	}
+
+	@Test
+	public void putGetRemove() {
+		assertEquals(0, testMap.put("a", 1));
+		assertEquals(1, testMap.put("a", 2));
+		assertEquals(0, testMap.put("", 3));
+
+		assertEquals(2, testMap.size());
+		// equal but not identical keys must match
+		assertEquals(2, testMap.getOrDefault(new String("a"), -1));
+		assertEquals(-1, testMap.getOrDefault("b", -1));
+		assertTrue(testMap.containsKey(""));
+
+		assertEquals(3, testMap.remove(""));
+		assertEquals(0, testMap.remove(""));
+		assertEquals(2, testMap.remove("a"));
+		assertTrue(testMap.isEmpty());
+	}
+
+	@Test
+	public void addTo() {
+		assertEquals(1, testMap.addTo("x", 1));
+		assertEquals(3, testMap.addTo("x", 2));
+		assertEquals(3, testMap.getOrDefault("x", 0));
+	}
+
+	@Test
+	public void matchesHashMap() {
+		final Random random = new Random(17);
+		final Map<String, Integer> reference = new HashMap<String, Integer>();
+		testMap = new ObjectIntMap<String>(0);
+
+		for (int i = 0; i < 20000; ++i) {
+			final String key = Integer.toString(random.nextInt(600));
+			final int value = random.nextInt(1000);
+			final Integer old;
+			switch (random.nextInt(3)) {
+			case 0:
+				old = reference.remove(key);
+				assertEquals(old == null ? 0 : old, testMap.remove(key));
+				break;
+			case 1:
+				old = reference.put(key, value);
+				assertEquals(old == null ? 0 : old, testMap.put(key, value));
+				break;
+			default:
+				assertEquals(reference.merge(key, value, Integer::sum)
+						.intValue(), testMap.addTo(key, value));
+			}
+			assertEquals(reference.size(), testMap.size());
+		}
+		for (int i = 0; i < 600; ++i) {
+			final String key = Integer.toString(i);
+			final Integer expected = reference.get(key);
+			assertEquals(expected != null, testMap.containsKey(key));
+			assertEquals(expected == null ? -1 : expected,
+					testMap.getOrDefault(key, -1));
+		}
+	}
+
+	@Test
+	public void cursor() {
+		testMap.put("a", 1);
+		testMap.put("bb", 2);
+		int count = 0;
+		final ObjectIntMap.Cursor<String> cursor = testMap.cursor();
+		while (cursor.next()) {
+			assertEquals(cursor.key().length(), cursor.value());
+			cursor.setValue(-cursor.value());
+			++count;
+		}
+		assertEquals(2, count);
+		assertEquals(-2, testMap.getOrDefault("bb", 0));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullKey() {
+		testMap.put(null, 1);
+	}
+}
@@ -0,0 +1,1766 @@
+/*
+ * $Type$ArrayListTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2011 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Dec 13, 2011 
+ */
+package us.rothmichaels.lists;
+
+//#if !Boolean
+import static org.junit.Assert.assertArrayEquals;
+//#endif
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+//#if numeric
+import java.util.HashSet;
+//#endif
+import java.util.NoSuchElementException;
+//#if Int|Long|Double
+import java.util.PrimitiveIterator;
+//#endif
+//#if numeric
+import java.util.Spliterator;
+import java.util.function.$Wide$Consumer;
+//#endif
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link $Type$ArrayList}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$ArrayListTests {
+	static final int INITIAL_SIZE = 10;
+	static final int TEST_ADD_POINTER_LOC = 11;
+	static final int EXPANDED_INTERNAL_SIZE = 20;
+	static final $type$[] TEST_ARRAY = { $lit:0$, $lit:1$, $lit:2$, $lit:3$,
+			$lit:4$, $lit:5$, $lit:6$, $lit:7$, $lit:8$, $lit:9$, $lit:10$ };
+	static final $type$[] INTERNAL_TEST_ARRAY = new $type$[EXPANDED_INTERNAL_SIZE];
+	static {
+		System.arraycopy(TEST_ARRAY, 0, INTERNAL_TEST_ARRAY, 0,
+				TEST_ARRAY.length);
+	}
+
+	$Type$ArrayList testList;
+
+	$Type$ArrayList exceptionList;
+
+	@Before
+	public void setUp() {
+		testList = new $Type$ArrayList();
+		exceptionList = new $Type$ArrayList();
+		exceptionList.add($lit:1$);
+		exceptionList.add($lit:2$);
+		exceptionList.add($lit:3$);
+		exceptionList.add($lit:4$);
+		exceptionList.add($lit:5$);
+	}
+
+	@After
+	public void tearDown() {
+	}
+
+	@Test
+	public void defaultConstructor() {
+		// test initial internal array
+		assertEquals("internal addPointer", 0, testList.addPointer);
+		assertArrayEquals("internal array", new $type$[INITIAL_SIZE],
+				testList.data$delta$);
+
+		// test initial output
+		// TODO move to other tests
+		assertEquals("output size", 0, testList.size());
+		assertArrayEquals("output array", new $type$[0], testList.toArray()$delta$);
+	}
+
+	@Test
+	public void initialSizeConstructor() {
+		final int initialSize = 13;
+		@SuppressWarnings("hiding")
+		final $Type$ArrayList testList = new $Type$ArrayList(initialSize);
+
+		// test initial internal array
+		assertEquals("internal addPointer", 0, testList.addPointer);
+		assertArrayEquals("internal array", new $type$[initialSize],
+				testList.data$delta$);
+
+		// test initial output
+		// TODO move to other tests
+		assertEquals("output size", 0, testList.size());
+		assertArrayEquals("output array", new $type$[0], testList.toArray()$delta$);
+	}
+
+	@Test
+	public void add() {
+		final $type$ testValue = $lit:7$;
+		final $type$[] expectedInternal = new $type$[INITIAL_SIZE];
+		expectedInternal[0] = testValue;
+
+		testList.add(testValue);
+
+		// test internal
+		assertEquals("internal addPointer", 1, testList.addPointer);
+		assertArrayEquals("internal array", expectedInternal, testList.data$delta$);
+
+		// test output
+		assertEquals("output size", 1, testList.size());
+		assertArrayEquals("output array", new $type$[] { testValue },
+				testList.toArray()$delta$);
+	}
+
+	@Test
+	public void addExpand() {
+		testFill(testList);
+
+		// test internal
+		assertEquals("internal addPointer", TEST_ADD_POINTER_LOC,
+				testList.addPointer);
+		assertArrayEquals("internal array", INTERNAL_TEST_ARRAY,
+				testList.data$delta$);
+
+		// test output
+		assertEquals("output size", TEST_ADD_POINTER_LOC, testList.size());
+		assertArrayEquals("output array", TEST_ARRAY, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void insert() {
+		final $type$[] testArray = { $lit:0$, $lit:1$, $lit:23$, $lit:2$,
+				$lit:3$, $lit:4$, $lit:5$, $lit:6$, $lit:7$, $lit:8$, $lit:9$,
+				$lit:10$ };
+		final $type$[] internalTestArray = new $type$[EXPANDED_INTERNAL_SIZE];
+		System.arraycopy(testArray, 0, internalTestArray, 0, testArray.length);
+
+		testFill(testList);
+		testList.add(2, $lit:23$);
+
+		// test internal
+		assertEquals("internal addPointer", TEST_ADD_POINTER_LOC + 1,
+				testList.addPointer);
+		assertArrayEquals("internal array", internalTestArray,
+				testList.data$delta$);
+
+		// test output
+		assertEquals("output size", TEST_ADD_POINTER_LOC + 1, testList.size());
+		assertArrayEquals("output array", testArray, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void clear() {
+		testFill(testList);
+
+		final $type$[] prevInternalArray = testList.data;
+		testList.clear();
+
+		// test internal
+		assertEquals("internal addPointer", 0, testList.addPointer);
+		assertArrayEquals("internal array",
+				new $type$[EXPANDED_INTERNAL_SIZE], testList.data$delta$);
+		assertSame(prevInternalArray, testList.data);
+
+		// test external
+		assertEquals("output size", 0, testList.size());
+		assertArrayEquals("output array", new $type$[0], testList.toArray()$delta$);
+	}
+
+	@Test
+	public void clearOnlyZeroesUsedPrefix() {
+		testList.ensureCapacity(1000);
+		testFill(testList);
+		final $type$[] prevInternalArray = testList.data;
+		testList.clear();
+
+		assertSame(prevInternalArray, testList.data);
+		assertArrayEquals(new $type$[1000], testList.data$delta$);
+	}
+
+	@Test
+	public void shrinkOnClear() {
+		testList.setShrinkOnClear(15);
+		testFill(testList);
+		testList.clear();
+
+		assertEquals(INITIAL_SIZE, testList.capacity());
+		assertEquals(0, testList.size());
+
+		// at or below the threshold the array is kept
+		testList.setShrinkOnClear(INITIAL_SIZE);
+		testList.add($lit:1$);
+		final $type$[] prevInternalArray = testList.data;
+		testList.clear();
+		assertSame(prevInternalArray, testList.data);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shrinkOnClearNegative() {
+		testList.setShrinkOnClear(-1);
+	}
+
+	@Test
+	public void ensureCapacity() {
+		testList.add($lit:3$);
+		testList.ensureCapacity(5);
+		assertEquals(INITIAL_SIZE, testList.capacity());
+
+		testList.ensureCapacity(15);
+		assertEquals(EXPANDED_INTERNAL_SIZE, testList.capacity());
+
+		testList.ensureCapacity(100);
+		assertEquals(100, testList.capacity());
+		assertEquals($lit:3$, testList.get(0)$delta$);
+	}
+
+	@Test
+	public void trimToSize() {
+		testFill(testList);
+		testList.trimToSize();
+
+		assertEquals(TEST_ARRAY.length, testList.capacity());
+		assertArrayEquals(TEST_ARRAY, testList.toArray()$delta$);
+
+		// a trimmed list still grows
+		testList.add($lit:11$);
+		assertEquals(TEST_ARRAY.length + 1, testList.size());
+	}
+
+	@Test
+	public void growFromZeroCapacity() {
+		@SuppressWarnings("hiding")
+		final $Type$ArrayList testList = new $Type$ArrayList(0);
+		testFill(testList);
+
+		assertArrayEquals(TEST_ARRAY, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void growthPolicy() {
+		@SuppressWarnings("hiding")
+		final $Type$ArrayList testList = new $Type$ArrayList(4,
+				GrowthPolicy.additive(3));
+		testFill(testList);
+
+		assertEquals(13, testList.capacity());
+		assertArrayEquals(TEST_ARRAY, testList.toArray()$delta$);
+
+		testList.setGrowthPolicy(GrowthPolicy.DOUBLING.alignedTo(16));
+		testList.add($lit:11$);
+		testList.add($lit:12$);
+		testList.add($lit:13$);
+		assertEquals(32, testList.capacity());
+	}
+
+	@Test
+	public void shortGrowthPolicy() {
+		testList.setGrowthPolicy((capacity, minCapacity) -> capacity);
+		testFill(testList);
+
+		assertEquals(11, testList.capacity());
+		assertArrayEquals(TEST_ARRAY, testList.toArray()$delta$);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullGrowthPolicy() {
+		testList.setGrowthPolicy(null);
+	}
+
+	@Test
+	public void size() {
+		// new list size
+		assertEquals(0, testList.size());
+
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+
+		// test size
+		assertEquals(2, testList.size());
+	}
+
+	@Test
+	public void toArray() {
+		// test initial array
+		assertArrayEquals("output array", new $type$[0], testList.toArray()$delta$);
+
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+
+		assertArrayEquals(new $type$[] { $lit:2$, $lit:3$ },
+				testList.toArray()$delta$);
+	}
+
+	@Test
+	public void addAllCollection() {
+		testList.add($lit:1$);
+
+		assertTrue(testList.addAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:2$, $lit:3$, $lit:4$ }))));
+
+		assertEquals($lit:1$, testList.data[0]$delta$);
+		assertEquals($lit:2$, testList.data[1]$delta$);
+		assertEquals($lit:3$, testList.data[2]$delta$);
+		assertEquals($lit:4$, testList.data[3]$delta$);
+	}
+
+	@Test
+	public void addAllCollectionAtIndex() {
+		testList.add($lit:10$);
+		testList.add($lit:10$);
+		testList.add($lit:10$);
+
+		assertTrue(testList.addAll(
+				1,
+				Collections.unmodifiableList(Arrays.asList(new $Boxed$[] {
+						$lit:2$, $lit:3$, $lit:4$ }))));
+
+		assertEquals($lit:10$, testList.data[0]$delta$);
+		assertEquals($lit:2$, testList.data[1]$delta$);
+		assertEquals($lit:3$, testList.data[2]$delta$);
+		assertEquals($lit:4$, testList.data[3]$delta$);
+		assertEquals($lit:10$, testList.data[4]$delta$);
+		assertEquals($lit:10$, testList.data[5]$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addAllCollectionAtIndexBelow() {
+		try {
+			exceptionList.addAll(
+					-1,
+					Collections.unmodifiableList(Arrays.asList(new $Boxed$[] {
+							$lit:2$, $lit:3$, $lit:4$ })));
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addAllCollectionAtIndexAbove() {
+		try {
+			exceptionList.addAll(
+					6,
+					Collections.unmodifiableList(Arrays.asList(new $Boxed$[] {
+							$lit:2$, $lit:3$, $lit:4$ })));
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test
+	public void addAll() {
+		final IPrimative$Type$List list = new $Type$ArrayList();
+		list.addAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:2$, $lit:3$, $lit:4$ })));
+
+		testList.add($lit:1$);
+		assertTrue(testList.addAll(list));
+
+		assertEquals($lit:1$, testList.data[0]$delta$);
+		assertEquals($lit:2$, testList.data[1]$delta$);
+		assertEquals($lit:3$, testList.data[2]$delta$);
+		assertEquals($lit:4$, testList.data[3]$delta$);
+	}
+
+	@Test
+	public void addAllAtIndex() {
+		final IPrimative$Type$List list = new $Type$ArrayList();
+		list.addAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:2$, $lit:3$, $lit:4$ })));
+
+		testList.add($lit:10$);
+		testList.add($lit:10$);
+		testList.add($lit:10$);
+		assertTrue(testList.addAll(1, list));
+
+		assertEquals($lit:10$, testList.data[0]$delta$);
+		assertEquals($lit:2$, testList.data[1]$delta$);
+		assertEquals($lit:3$, testList.data[2]$delta$);
+		assertEquals($lit:4$, testList.data[3]$delta$);
+		assertEquals($lit:10$, testList.data[4]$delta$);
+		assertEquals($lit:10$, testList.data[5]$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addAllAtIndexBelow() {
+		final IPrimative$Type$List list = new $Type$ArrayList();
+		list.addAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:2$, $lit:3$, $lit:4$ })));
+
+		try {
+			exceptionList.addAll(-1, list);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addAllAtIndexAbove() {
+		final IPrimative$Type$List list = new $Type$ArrayList();
+		list.addAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:2$, $lit:3$, $lit:4$ })));
+
+		try {
+			exceptionList.addAll(6, list);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test
+	public void addAllAtEnd() {
+		testFill(exceptionList);
+		final int size = exceptionList.size();
+		testList.add($lit:1$);
+
+		assertTrue(testList.addAll(1, exceptionList));
+		assertEquals(size + 1, testList.size());
+		assertEquals($lit:1$, testList.get(0)$delta$);
+		assertEquals($lit:10$, testList.get(size)$delta$);
+
+		testList.add(testList.size(), $lit:7$);
+		assertEquals($lit:7$, testList.get(size + 1)$delta$);
+	}
+
+	@Test
+	public void addAllGrowsOnce() {
+		testFill(testList);
+		testFill(exceptionList);
+
+		testList.addAll(3, exceptionList);
+		final $type$[] expected = new $type$[27];
+		System.arraycopy(TEST_ARRAY, 0, expected, 0, 3);
+		System.arraycopy(exceptionList.toArray(), 0, expected, 3, 16);
+		System.arraycopy(TEST_ARRAY, 3, expected, 19, 8);
+
+		assertArrayEquals(expected, testList.toArray()$delta$);
+		assertEquals(EXPANDED_INTERNAL_SIZE * 2, testList.capacity());
+	}
+
+	@Test
+	public void addAllSelf() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.addAll(1, testList);
+		testList.addAll(testList);
+
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:1$, $lit:2$, $lit:2$,
+				$lit:1$, $lit:1$, $lit:2$, $lit:2$ }, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void addAllArrayRange() {
+		testList.add($lit:20$);
+		testList.addAll(TEST_ARRAY, 2, 5);
+
+		assertArrayEquals(new $type$[] { $lit:20$, $lit:2$, $lit:3$, $lit:4$ },
+				testList.toArray()$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addAllArrayRangeOutOfBounds() {
+		testList.addAll(TEST_ARRAY, 5, TEST_ARRAY.length + 1);
+	}
+
+	@Test
+	public void insertAll() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.insertAll(new int[] { 0, 1, 1, 3 }, new $type$[] { $lit:10$,
+				$lit:11$, $lit:12$, $lit:13$ });
+
+		assertArrayEquals(new $type$[] { $lit:10$, $lit:1$, $lit:11$, $lit:12$,
+				$lit:2$, $lit:3$, $lit:13$ }, testList.toArray()$delta$);
+
+		testList.insertAll(new int[0], new $type$[0]);
+		assertEquals(7, testList.size());
+	}
+
+	@Test
+	public void insertAllMatchesRepeatedAdd() {
+		testFill(testList);
+		testFill(exceptionList);
+		final int[] positions = { 0, 0, 4, 5, 5, 9, 11, 11 };
+		final $type$[] values = { $lit:20$, $lit:21$, $lit:22$, $lit:23$,
+				$lit:24$, $lit:25$, $lit:26$, $lit:27$ };
+
+		testList.insertAll(positions, values);
+		for (int k = 0; k < positions.length; ++k) {
+			// earlier insertions shift the later positions
+			exceptionList.add(positions[k] + 5 + k, values[k]);
+		}
+
+		final $type$[] expected = exceptionList.toArray();
+		assertArrayEquals(Arrays.copyOfRange(expected, 5, expected.length),
+				testList.toArray()$delta$);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAllNotAscending() {
+		testFill(testList);
+		testList.insertAll(new int[] { 2, 1 }, new $type$[] { $lit:1$, $lit:2$ });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAllLengthMismatch() {
+		testList.insertAll(new int[] { 0 }, new $type$[0]);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insertAllAbove() {
+		testFill(testList);
+		try {
+			testList.insertAll(new int[] { 12 }, new $type$[] { $lit:1$ });
+		} finally {
+			assertEquals(TEST_ARRAY.length, testList.size());
+		}
+	}
+
+	@Test
+	public void contains() {
+//#if Boolean
+		testList.add(true);
+		testList.add(true);
+
+		assertTrue("contains true", testList.contains(true));
+		assertFalse("contains false", testList.contains(false));
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertTrue("contains true", testList.contains($lit:2$));
+		assertFalse("contains false", testList.contains($lit:-14$));
+//#endif
+	}
+
+	@Test
+	public void containsIgnoresUnusedCapacity() {
+		testList.add($lit:1$);
+		testList.add($lit:1$);
+
+		assertFalse(testList.contains($zero$));
+		assertFalse(testList.containsAny(new $type$[] { $zero$ }));
+		assertEquals(0, testList.indexOfAll($zero$).size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void indexOfIgnoresUnusedCapacity() {
+		testList.add($lit:1$);
+
+		testList.indexOf($zero$);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void lastIndexOfIgnoresUnusedCapacity() {
+		testList.add($lit:1$);
+
+		testList.lastIndexOf($zero$);
+	}
+
+	@Test
+	public void containsAny() {
+//#if Boolean
+		testList.add(true);
+		testList.add(true);
+
+		assertTrue(testList.containsAny(new boolean[] { false, true }));
+		assertFalse(testList.containsAny(new boolean[] { false }));
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertTrue(testList.containsAny(new $type$[] { $lit:7$, $lit:3$ }));
+		assertFalse(testList.containsAny(new $type$[] { $lit:7$, $lit:-14$ }));
+//#endif
+		assertFalse(testList.containsAny(new $type$[0]));
+	}
+
+	@Test
+	public void indexOfAll() {
+		testFill(testList);
+		testList.add($lit:3$);
+
+//#if Boolean
+		assertArrayEquals(new int[] { 1, 3, 5, 7, 9, 11 }, testList
+				.indexOfAll(true).toArray());
+//#else
+		assertArrayEquals(new int[] { 3, 11 }, testList.indexOfAll($lit:3$)
+				.toArray());
+		assertEquals(0, testList.indexOfAll($lit:-14$).size());
+//#endif
+	}
+
+	@Test
+	public void searchPastFirstBlock() {
+		testFill(testList);
+		testFill(testList);
+
+//#if Boolean
+		assertEquals(20, testList.indexOfAll(true).get(9));
+		assertEquals(1, testList.indexOf(true));
+		assertEquals(20, testList.lastIndexOf(true));
+		assertEquals(21, testList.lastIndexOf(false));
+//#else
+		assertEquals(9, testList.indexOf($lit:9$));
+		assertEquals(12, testList.lastIndexOf($lit:1$));
+		assertEquals(21, testList.lastIndexOf($lit:10$));
+		assertEquals(0, testList.indexOf($lit:0$));
+//#endif
+	}
+
+	@Test
+	public void containsAllColleciton() {
+//#if Boolean
+		testList.add(true);
+		testList.add(true);
+
+		assertTrue("contains true", testList.containsAll(Collections
+				.unmodifiableList(Arrays.asList(new Boolean[] { true, true }))));
+
+		assertFalse("contains false", testList.containsAll(Collections
+				.unmodifiableList(Arrays.asList(new Boolean[] { true, false }))));
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertTrue("contains true", testList.containsAll(Collections
+				.unmodifiableList(Arrays.asList(new $Boxed$[] { $lit:3$,
+						$lit:2$, $lit:4$ }))));
+
+		assertFalse("contains false", testList.containsAll(Collections
+				.unmodifiableList(Arrays.asList(new $Boxed$[] { $lit:7$,
+						$lit:3$, $lit:4$ }))));
+//#endif
+	}
+
+	@Test
+	public void containsAll() {
+//#if Boolean
+		testList.add(true);
+		testList.add(true);
+
+		final IPrimativeBooleanList expectTrue = new BooleanArrayList();
+		expectTrue.add(true);
+		assertTrue("contains true", testList.containsAll(expectTrue));
+
+		final IPrimativeBooleanList expectFalse = new BooleanArrayList();
+		expectFalse.add(true);
+		expectFalse.add(false);
+		assertFalse("contains false", testList.containsAll(expectFalse));
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		final IPrimative$Type$List expectTrue = new $Type$ArrayList();
+		expectTrue.addAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:3$, $lit:2$, $lit:4$ })));
+		assertTrue("contains true", testList.containsAll(expectTrue));
+
+		final IPrimative$Type$List expectFalse = new $Type$ArrayList();
+		expectFalse.addAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:7$, $lit:2$, $lit:4$ })));
+		assertFalse("contains false", testList.containsAll(expectFalse));
+//#endif
+	}
+
+	@Test
+	public void cursor() {
+		testFill(testList);
+
+		final $Type$Cursor c = testList.cursor();
+		for (int pass = 0; pass < 2; ++pass) {
+			int i = 0;
+			while (c.next()) {
+				assertEquals(i, c.index());
+				assertEquals(TEST_ARRAY[i], c.value()$delta$);
+				++i;
+			}
+			assertEquals(TEST_ARRAY.length, i);
+			assertFalse(c.next());
+			c.reset();
+		}
+	}
+
+	@Test
+	public void cursorEmpty() {
+		final $Type$Cursor c = testList.cursor();
+
+		assertEquals(-1, c.index());
+		assertFalse(c.next());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void cursorBeforeFirst() {
+		testList.add($lit:1$);
+
+		testList.cursor().value();
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void cursorPastEnd() {
+		testList.add($lit:1$);
+
+		final $Type$Cursor c = testList.cursor();
+		while (c.next()) {
+			c.value();
+		}
+		c.value();
+	}
+//#if numeric
+
+	@Test
+	public void forEach() {
+		testFill(testList);
+
+		final $Type$ArrayList copy = new $Type$ArrayList();
+		testList.forEach(v -> copy.add(($type$) v));
+
+		assertArrayEquals(TEST_ARRAY, copy.toArray()$delta$);
+	}
+//#endif
+
+	@Test
+	public void get() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertEquals($lit:3$, testList.get(2)$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetBelow() {
+		try {
+			exceptionList.get(-1);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetAbove() {
+		try {
+			exceptionList.get(6);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test
+	public void indexOf() {
+//#if Boolean
+		testList.add(false);
+		testList.add(false);
+		testList.add(true);
+		testList.add(true);
+		testList.add(false);
+
+		assertEquals(2, testList.indexOf(true));
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:3$);
+		testList.add($lit:5$);
+
+		assertEquals(2, testList.indexOf($lit:3$));
+//#endif
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void indexOfNotFound() {
+//#if Boolean
+		testList.add(false);
+		testList.add(false);
+
+		testList.indexOf(true);
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:3$);
+		testList.add($lit:5$);
+
+		testList.indexOf($lit:7$);
+//#endif
+	}
+
+	@Test
+	public void isEmpty() {
+		assertTrue(testList.isEmpty());
+
+		testList.add($lit:1$);
+		assertFalse(testList.isEmpty());
+
+		testList.clear();
+		assertTrue(testList.isEmpty());
+	}
+
+//#if Int|Long|Double
+	@Test
+	public void iterator() {
+		testFill(testList);
+
+		final PrimitiveIterator.Of$Type$ it = testList.iterator();
+		for (final $type$ expected : TEST_ARRAY) {
+			assertTrue(it.hasNext());
+			assertEquals(expected, it.next$Type$()$delta$);
+		}
+		assertFalse(it.hasNext());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iteratorPastEnd() {
+		testList.add($lit:1$);
+
+		final PrimitiveIterator.Of$Type$ it = testList.iterator();
+		it.next$Type$();
+		it.next$Type$();
+	}
+
+	@Test
+	public void iteratorRemove() {
+		testFill(testList);
+
+		final PrimitiveIterator.Of$Type$ it = testList.iterator();
+		while (it.hasNext()) {
+			if (it.next$Type$() % 2 != 0) {
+				it.remove();
+			}
+		}
+
+		assertArrayEquals(new $type$[] { $lit:0$, $lit:2$, $lit:4$, $lit:6$,
+				$lit:8$, $lit:10$ }, testList.toArray()$delta$);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iteratorRemoveTwice() {
+		testFill(testList);
+
+		final PrimitiveIterator.Of$Type$ it = testList.iterator();
+		it.next$Type$();
+		it.remove();
+		it.remove();
+	}
+
+	@Test
+	public void iteratorForEachRemaining() {
+		testFill(testList);
+
+		final PrimitiveIterator.Of$Type$ it = testList.iterator();
+		it.next$Type$();
+		it.next$Type$();
+		final $Type$ArrayList rest = new $Type$ArrayList();
+		it.forEachRemaining(($Wide$Consumer) v -> rest.add(v));
+
+		assertFalse(it.hasNext());
+		assertArrayEquals(Arrays.copyOfRange(TEST_ARRAY, 2, TEST_ARRAY.length),
+				rest.toArray()$delta$);
+	}
+
+//#endif
+	@Test
+	public void lastIndexOf() {
+//#if Boolean
+		testList.add(false);
+		testList.add(false);
+		testList.add(true);
+		testList.add(true);
+		testList.add(false);
+
+		assertEquals(3, testList.lastIndexOf(true));
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:3$);
+		testList.add($lit:5$);
+
+		assertEquals(3, testList.lastIndexOf($lit:3$));
+//#endif
+	}
+
+//#if numeric
+	@Test
+	public void parallelMinMax() {
+		testFill(testList);
+
+		assertEquals($lit:0$, testList.parallelMin()$delta$);
+		assertEquals($lit:10$, testList.parallelMax()$delta$);
+
+		final $Type$ArrayList big = bigList();
+		big.set(1234, ($type$) 0);
+		big.set(big.size() - 5, ($type$) 120);
+
+		assertEquals(($type$) 0, big.parallelMin()$delta$);
+		assertEquals(($type$) 120, big.parallelMax()$delta$);
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void parallelMinEmpty() {
+		testList.parallelMin();
+	}
+
+	@Test
+	public void parallelReplaceAll() {
+		testFill(testList);
+		testList.parallelReplaceAll(v -> v + 1);
+
+		for (int i = 0; i < testList.size(); ++i) {
+			assertEquals(($type$) (TEST_ARRAY[i] + 1), testList.get(i)$delta$);
+		}
+
+		final $Type$ArrayList big = bigList();
+		big.parallelReplaceAll(v -> v * 2);
+
+		for (int i = 0; i < big.size(); ++i) {
+			assertEquals(($type$) ((i % 100 + 1) * 2), big.get(i)$delta$);
+		}
+	}
+
+	@Test
+	public void parallelSort() {
+		final $Type$ArrayList big = new $Type$ArrayList();
+		final int size = $Type$ArrayList.PARALLEL_THRESHOLD * 2 + 3;
+		for (int i = 0; i < size; ++i) {
+			big.add(($type$) ((size - i) * 7 % 100));
+		}
+		final $type$[] expected = big.toArray();
+		Arrays.sort(expected);
+		big.parallelSort();
+
+		assertArrayEquals(expected, big.toArray()$delta$);
+	}
+
+	@Test
+	public void parallelSortIgnoresUnusedCapacity() {
+		testList.add($lit:3$);
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.parallelSort();
+
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:2$, $lit:3$ },
+				testList.toArray()$delta$);
+	}
+
+	@Test
+	public void sort() {
+		final $Type$ArrayList big = new $Type$ArrayList();
+		for (int i = 0; i < 10000; ++i) {
+			big.add(($type$) ((10000 - i) * 7 % 1000));
+		}
+		final $type$[] expected = big.toArray();
+		Arrays.sort(expected);
+		big.sort();
+
+		assertArrayEquals(expected, big.toArray()$delta$);
+	}
+
+	@Test
+	public void sortRange() {
+		for (int i = 5; i > 0; --i) {
+			testList.add(($type$) i);
+		}
+		testList.sort(1, 4);
+
+		assertArrayEquals(new $type$[] { $lit:5$, $lit:2$, $lit:3$, $lit:4$,
+				$lit:1$ }, testList.toArray()$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void sortRangePastEnd() {
+		testList.add($lit:1$);
+		testList.sort(0, 2);
+	}
+
+	@Test
+	public void sortIndices() {
+		testList.add($lit:3$);
+		testList.add($lit:1$);
+		testList.add($lit:3$);
+		testList.add($lit:0$);
+		final IntArrayList indices = testList.sortIndices();
+
+		assertArrayEquals(new int[] { 3, 1, 0, 2 }, indices.toArray());
+		assertArrayEquals(new $type$[] { $lit:3$, $lit:1$, $lit:3$, $lit:0$ },
+				testList.toArray()$delta$);
+	}
+//#if integral
+
+	@Test
+	public void reductions() {
+		for (int i = 1; i <= 6; ++i) {
+			testList.add(($type$) (i % 4));
+		}
+
+		assertEquals(9, testList.sum());
+		assertEquals($lit:0$, testList.min());
+		assertEquals($lit:3$, testList.max());
+		assertEquals(2, testList.count($lit:1$));
+		assertEquals(0, testList.count($lit:7$));
+		assertEquals(4, testList.countInRange($lit:1$, $lit:2$));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void maxOfEmptyList() {
+		testList.max();
+	}
+
+	@Test
+	public void histogram() {
+		testFill(testList);
+		final int[] counts = new int[3];
+
+		assertSame(counts, testList.histogram(1, 4, counts));
+		assertArrayEquals(new int[] { 5, 4, 2 }, counts);
+		assertSame(counts, testList.histogram(v -> (int) (v % 3), counts));
+		assertArrayEquals(new int[] { 9, 8, 5 }, counts);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void histogramWidthNotPositive() {
+		testList.histogram(0, 0, new int[1]);
+	}
+//#endif
+//#if floating
+
+	@Test
+	public void reductions() {
+		for (int i = 1; i <= 4; ++i) {
+			testList.add(($type$) i);
+		}
+
+		assertEquals(10, testList.sum(), 0);
+		assertEquals(10, testList.kahanSum(), 0);
+		assertEquals(2.5, testList.mean(), 0);
+		assertEquals(1.25, testList.variance(), 0);
+		assertEquals($lit:1$, testList.min(), 0);
+		assertEquals($lit:4$, testList.max(), 0);
+		assertEquals(30, testList.dot(testList), 0);
+	}
+
+	@Test
+	public void reductionsOfEmptyList() {
+		assertEquals(0, testList.sum(), 0);
+		assertTrue(Double.isNaN(testList.mean()));
+		assertTrue(Double.isNaN(testList.variance()));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void minOfEmptyList() {
+		testList.min();
+	}
+
+	@Test
+	public void elementwise() {
+		final $Type$ArrayList other = new $Type$ArrayList();
+		for (int i = 1; i <= 3; ++i) {
+			testList.add(($type$) i);
+			other.add(($type$) (10 * i));
+		}
+		testList.axpy($lit:2$, other);
+		testList.add(other);
+		testList.scale($lit:2$);
+
+		assertEquals(3, testList.size());
+		assertArrayEquals(new $type$[] { $lit:62$, $lit:124$, $lit:186$ },
+				testList.toArray()$delta$);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dotSizesDiffer() {
+		testList.add($lit:1$);
+		testList.dot(new $Type$ArrayList());
+	}
+//#endif
+
+	@Test
+	public void parallelSum() {
+		testFill(testList);
+		final $Type$ArrayList big = bigList();
+
+//#if integral
+		long expected = 0;
+//#else
+		double expected = 0;
+//#endif
+		for (final $type$ v : big.toArray()) {
+			expected += v;
+		}
+
+		assertEquals(55, testList.parallelSum()$delta$);
+		assertEquals(expected, big.parallelSum()$delta$);
+		assertEquals(0, exceptionList.subList(0, 0).parallelSum()$delta$);
+	}
+
+	@Test
+	public void parallelStream() {
+		final $Type$ArrayList big = bigList();
+		final $Type$ArrayList copy = new $Type$ArrayList();
+		big.parallelStream().forEachOrdered(v -> copy.add(($type$) v));
+
+		assertTrue(big.parallelStream().isParallel());
+		assertArrayEquals(big.toArray(), copy.toArray()$delta$);
+		assertEquals(big.parallelSum(), big.parallelStream().sum()$delta$);
+	}
+
+//#endif
+	@Test
+	public void removeValue() {
+//#if Boolean
+		testList.add(false);
+		testList.add(true);
+		testList.add(false);
+		testList.add(true);
+
+		assertTrue(testList.removeValue(true));
+		assertTrue(testList.removeValue(true));
+		assertFalse(testList.removeValue(true));
+
+		assertArrayEquals(new boolean[] { false, false }, testList.toArray());
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:3$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:5$);
+
+		assertFalse(testList.removeValue($lit:-4$));
+		assertTrue(testList.removeValue($lit:3$));
+
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:2$, $lit:3$, $lit:5$ },
+				testList.toArray()$delta$);
+//#endif
+	}
+
+	@Test
+	public void remove() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:3$);
+		testList.add($lit:5$);
+
+		assertTrue(testList.remove(2));
+
+		assertEquals(4, testList.addPointer);
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:2$, $lit:3$, $lit:5$ },
+				testList.toArray()$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testRemoveBelow() {
+		try {
+			exceptionList.remove(-1);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testRemoveAbove() {
+		try {
+			exceptionList.remove(6);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+	}
+
+	@Test
+	public void removeAllCollection() {
+//#if Boolean
+		testList.add(true);
+		testList.add(true);
+
+		assertFalse(testList.removeAll(Collections.unmodifiableList(Arrays
+				.asList(new Boolean[] { false }))));
+
+		assertTrue(testList.removeAll(Collections.unmodifiableList(Arrays
+				.asList(new Boolean[] { true }))));
+
+		// every occurrence is removed, as in java.util.List
+		assertArrayEquals(new boolean[0], testList.toArray());
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertFalse(testList.removeAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:20$, $lit:30$, $lit:40$ }))));
+
+		assertTrue(testList.removeAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:2$, $lit:3$, $lit:4$ }))));
+
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:5$ },
+				testList.toArray()$delta$);
+//#endif
+	}
+
+	@Test
+	public void retainAllCollection() {
+//#if Boolean
+		testList.add(false);
+		testList.add(true);
+		testList.add(true);
+
+		assertTrue(testList.retainAll(Collections.unmodifiableList(Arrays
+				.asList(new Boolean[] { true }))));
+
+		assertArrayEquals(new boolean[] { true, true }, testList.toArray());
+//#else
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertTrue(testList.retainAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:2$, $lit:3$, $lit:4$ }))));
+
+		assertArrayEquals(new $type$[] { $lit:2$, $lit:3$, $lit:4$ },
+				testList.toArray()$delta$);
+//#endif
+	}
+
+//#if Boolean
+	@Test
+	public void removeAllList() {
+		testList.add(true);
+		testList.add(false);
+		testList.add(true);
+		final BooleanArrayList remove = new BooleanArrayList();
+		remove.add(false);
+
+		assertFalse(testList.retainAll(testList));
+		assertTrue(testList.removeAll(remove));
+		assertArrayEquals(new boolean[] { true, true }, testList.toArray());
+		assertTrue(testList.retainAll(remove));
+		assertTrue(testList.isEmpty());
+		assertUnusedZeroed(testList);
+	}
+//#else
+	@Test
+	public void removeAllEveryOccurrence() {
+		testFill(testList);
+		testFill(testList);
+
+		assertTrue(testList.removeAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { TEST_ARRAY[1], TEST_ARRAY[3] }))));
+		assertFalse(testList.contains(TEST_ARRAY[1]));
+		assertFalse(testList.contains(TEST_ARRAY[3]));
+		assertEquals(2 * TEST_ARRAY.length - 4, testList.size());
+		assertUnusedZeroed(testList);
+	}
+
+	@Test
+	public void retainAllAdjacent() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:4$);
+
+		assertTrue(testList.retainAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:1$, $lit:3$ }))));
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:3$ },
+				testList.toArray()$delta$);
+		assertFalse(testList.retainAll(Collections.unmodifiableList(Arrays
+				.asList(new $Boxed$[] { $lit:1$, $lit:3$ }))));
+		assertUnusedZeroed(testList);
+	}
+
+	@Test
+	public void removeAllList() {
+		testFill(testList);
+		final $Type$ArrayList remove = new $Type$ArrayList();
+		remove.add(TEST_ARRAY[0]);
+		remove.add(TEST_ARRAY[10]);
+
+		assertTrue(testList.removeAll(remove));
+		assertEquals(TEST_ARRAY.length - 2, testList.size());
+		assertFalse(testList.contains(TEST_ARRAY[10]));
+		assertFalse(testList.removeAll(remove));
+		assertTrue(testList.removeAll(testList));
+		assertTrue(testList.isEmpty());
+	}
+
+	@Test
+	public void retainAllList() {
+		testFill(testList);
+		testFill(testList);
+		final $Type$ArrayList keep = new $Type$ArrayList();
+		keep.add(TEST_ARRAY[1]);
+
+		assertTrue(testList.retainAll(keep));
+		assertArrayEquals(new $type$[] { TEST_ARRAY[1], TEST_ARRAY[1] },
+				testList.toArray()$delta$);
+		assertFalse(testList.retainAll(testList));
+		assertUnusedZeroed(testList);
+	}
+//#endif
+//#if numeric
+
+	@Test
+	public void membershipSorted() {
+		final $Type$ArrayList big = bigList();
+		final $Type$ArrayList keep = new $Type$ArrayList();
+		for (int i = 50; i >= 1; i -= 2) {
+			keep.add(($type$) i);
+		}
+
+		assertTrue(big.retainAll(keep));
+		assertFalse(big.isEmpty());
+		big.forEach(v -> assertTrue(v <= 50 && v % 2 == 0));
+		assertTrue(big.removeAll(keep));
+		assertTrue(big.isEmpty());
+	}
+
+	@Test
+	public void removeIf() {
+		testFill(testList);
+
+		assertTrue(testList.removeIf(v -> v % 2 == 1));
+		assertArrayEquals(new $type$[] { $lit:0$, $lit:2$, $lit:4$, $lit:6$,
+				$lit:8$, $lit:10$ }, testList.toArray()$delta$);
+		assertFalse(testList.removeIf(v -> v < 0));
+		assertUnusedZeroed(testList);
+	}
+
+	@Test
+	public void removeIfThrowingLeavesListUnchanged() {
+		testFill(testList);
+		final $type$[] before = testList.toArray();
+
+		try {
+			testList.removeIf(v -> {
+				if (v == 8) {
+					throw new IllegalStateException();
+				}
+				return v % 2 == 0;
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertArrayEquals(before, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void retainAllThrowingLeavesListUnchanged() {
+		testFill(testList);
+		final $type$[] before = testList.toArray();
+
+		final HashSet<$Boxed$> keep = new HashSet<$Boxed$>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean contains(Object o) {
+				if (o.equals(TEST_ARRAY[8])) {
+					throw new IllegalStateException();
+				}
+				return super.contains(o);
+			}
+		};
+		keep.add(TEST_ARRAY[1]);
+
+		try {
+			testList.retainAll(keep);
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertArrayEquals(before, testList.toArray()$delta$);
+	}
+//#endif
+//#if floating
+
+	@Test
+	public void membershipMatchesEquals() {
+		testList.add(($type$) -0.0);
+		testList.add($Boxed$.NaN);
+		testList.add($lit:1$);
+		final $Type$ArrayList remove = new $Type$ArrayList();
+		for (int i = 0; i < 20; ++i) {
+			remove.add(($type$) (i + 10));
+		}
+		remove.add($zero$);
+		remove.add($Boxed$.NaN);
+
+		// -0.0 == 0.0 and NaN never matches, as with contains
+		assertTrue(testList.removeAll(remove));
+		assertEquals(2, testList.size());
+		assertTrue($Boxed$.isNaN(testList.get(0)));
+	}
+//#endif
+
+	private static void assertUnusedZeroed($Type$ArrayList l) {
+		for (int i = l.size(); i < l.data.length; ++i) {
+			assertEquals($zero$, l.data[i]$delta$);
+		}
+	}
+
+	@Test
+	public void set() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertEquals($lit:3$, testList.set(2, $lit:10$)$delta$);
+
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:2$, $lit:10$, $lit:4$,
+				$lit:5$ }, testList.toArray()$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testSetBelow() {
+		try {
+			exceptionList.set(-1, $lit:6$);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testSetAbove() {
+		try {
+			exceptionList.set(6, $lit:100$);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+//#if numeric
+	@Test
+	public void stream() {
+		testFill(testList);
+
+		final $Type$ArrayList copy = new $Type$ArrayList();
+		testList.stream().forEach(v -> copy.add(($type$) v));
+
+		assertFalse(testList.stream().isParallel());
+		assertEquals(TEST_ARRAY.length, testList.stream().count());
+		assertArrayEquals(TEST_ARRAY, copy.toArray()$delta$);
+	}
+
+	@Test
+	public void streamIgnoresUnusedCapacity() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+
+		assertEquals(2, testList.stream().count());
+	}
+
+	@Test
+	public void spliterator() {
+		final Spliterator.Of$Wide$ s = new $Type$ArraySpliterator(TEST_ARRAY, 0,
+				TEST_ARRAY.length);
+
+		assertTrue(s.hasCharacteristics(Spliterator.SIZED
+				| Spliterator.SUBSIZED | Spliterator.ORDERED));
+		assertEquals(TEST_ARRAY.length, s.getExactSizeIfKnown());
+
+		final Spliterator.Of$Wide$ prefix = s.trySplit();
+
+		assertEquals(5, prefix.estimateSize());
+		assertEquals(6, s.estimateSize());
+		assertTrue(prefix.tryAdvance(($Wide$Consumer) v -> assertEquals(
+				TEST_ARRAY[0], v$delta$)));
+
+		assertEquals(4, prefix.estimateSize());
+	}
+
+	@Test
+	public void spliteratorSplitsToSingletons() {
+		final Spliterator.Of$Wide$ s = new $Type$ArraySpliterator(TEST_ARRAY, 3,
+				4);
+
+		assertTrue(s.trySplit() == null);
+		assertEquals(1, s.estimateSize());
+	}
+
+//#endif
+	@Test
+	public void subList() {
+		testList.add($lit:1$);
+		testList.add($lit:2$);
+		testList.add($lit:3$);
+		testList.add($lit:4$);
+		testList.add($lit:5$);
+
+		assertArrayEquals(new $type$[] { $lit:2$, $lit:3$, $lit:4$ }, testList
+				.subList(1, 4).toArray()$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subListBelow() {
+		try {
+			exceptionList.subList(-1, 3);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subListOutOfRange() {
+		try {
+			exceptionList.subList(0, 6);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subListToLessThanFrom() {
+		try {
+			exceptionList.subList(4, 2);
+		} catch (final ArrayIndexOutOfBoundsException e) {
+			fail(e.toString());
+		}
+
+	}
+
+	@Test
+	public void subListLargerThanDefaultCapacity() {
+		testFill(testList);
+		testFill(testList);
+
+		final $type$[] expected = Arrays.copyOfRange(testList.toArray(), 2, 20);
+		assertArrayEquals(expected, testList.subList(2, 20).toArray()$delta$);
+	}
+
+	@Test
+	public void subListWritesThrough() {
+		testFill(testList);
+		final IPrimative$Type$List view = testList.subList(2, 6);
+
+		assertEquals(4, view.size());
+		assertEquals(TEST_ARRAY[3], view.set(1, TEST_ARRAY[9])$delta$);
+		assertEquals(TEST_ARRAY[9], testList.get(3)$delta$);
+		testList.set(5, TEST_ARRAY[0]);
+		assertEquals(TEST_ARRAY[0], view.get(3)$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subListGetAbove() {
+		testFill(testList);
+		testList.subList(2, 6).get(4);
+	}
+
+	@Test
+	public void subListStructuralChanges() {
+		testFill(testList);
+		final IPrimative$Type$List view = testList.subList(2, 6);
+		final IPrimative$Type$List inner = view.subList(1, 3);
+
+		inner.add(0, TEST_ARRAY[10]);
+		assertEquals(3, inner.size());
+		assertEquals(5, view.size());
+		assertEquals(TEST_ARRAY.length + 1, testList.size());
+		assertEquals(TEST_ARRAY[10], testList.get(3)$delta$);
+		assertEquals(TEST_ARRAY[10], view.get(1)$delta$);
+
+		view.remove(0);
+		assertEquals(4, view.size());
+		assertEquals(TEST_ARRAY[10], testList.get(2)$delta$);
+
+		view.add(TEST_ARRAY[0]);
+		view.addAll(testList.subList(0, 2));
+		assertEquals(7, view.size());
+		assertEquals(TEST_ARRAY.length + 3, testList.size());
+		assertEquals(TEST_ARRAY[1], testList.get(8)$delta$);
+		assertEquals(TEST_ARRAY[6], testList.get(9)$delta$);
+	}
+
+	@Test
+	public void subListClear() {
+		testFill(testList);
+		testList.subList(1, 10).clear();
+
+		assertArrayEquals(new $type$[] { TEST_ARRAY[0], TEST_ARRAY[10] },
+				testList.toArray()$delta$);
+		assertUnusedZeroed(testList);
+	}
+//#if numeric
+
+	@Test
+	public void subListBulkRemoval() {
+		testFill(testList);
+		final IPrimative$Type$List view = testList.subList(1, 9);
+
+		assertTrue(view.removeIf(v -> v % 2 == 0));
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:3$, $lit:5$, $lit:7$ },
+				view.toArray()$delta$);
+		assertArrayEquals(new $type$[] { $lit:0$, $lit:1$, $lit:3$, $lit:5$,
+				$lit:7$, $lit:9$, $lit:10$ }, testList.toArray()$delta$);
+		assertUnusedZeroed(testList);
+	}
+
+	@Test
+	public void subListSearchAndSort() {
+		testFill(testList);
+		final IPrimative$Type$List view = testList.subList(3, 8);
+
+		assertEquals(2, view.indexOf($lit:5$));
+		assertEquals(2, view.lastIndexOf($lit:5$));
+		assertFalse(view.contains($lit:1$));
+		view.set(0, $lit:9$);
+		view.parallelSort();
+		assertArrayEquals(new $type$[] { $lit:4$, $lit:5$, $lit:6$, $lit:7$,
+				$lit:9$ }, view.toArray()$delta$);
+		assertEquals($lit:8$, testList.get(8)$delta$);
+
+		view.set(0, $lit:8$);
+		assertArrayEquals(new int[] { 1, 2, 3, 0, 4 }, view.sortIndices()
+				.toArray());
+		view.sort();
+		assertArrayEquals(new $type$[] { $lit:5$, $lit:6$, $lit:7$, $lit:8$,
+				$lit:9$ }, view.toArray()$delta$);
+		assertEquals($lit:2$, testList.get(2)$delta$);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void subListIndexOfOutsideView() {
+		testFill(testList);
+		testList.subList(3, 8).indexOf($lit:1$);
+	}
+//#endif
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void subListFailFast() {
+		testFill(testList);
+		final IPrimative$Type$List view = testList.subList(2, 6);
+		testList.add(TEST_ARRAY[0]);
+
+		view.get(0);
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void subListSiblingFailFast() {
+		testFill(testList);
+		final IPrimative$Type$List view = testList.subList(2, 6);
+		final IPrimative$Type$List sibling = testList.subList(0, 2);
+		view.remove(0);
+
+		sibling.size();
+	}
+
+	@Test
+	public void copyOfIsDetached() {
+		testFill(testList);
+		final $Type$ArrayList copy = $Type$ArrayList.copyOf(testList.subList(2,
+				6));
+		testList.clear();
+
+		assertEquals(4, copy.size());
+		assertEquals(TEST_ARRAY[2], copy.get(0)$delta$);
+		copy.add(TEST_ARRAY[0]);
+		assertEquals(5, copy.size());
+	}
+
+	private void testFill($Type$ArrayList al) {
+		for (int i = 0; i < 11; ++i) {
+			al.add(TEST_ARRAY[i]);
+		}
+	}
+//#if numeric
+
+	private static $Type$ArrayList bigList() {
+		final $Type$ArrayList big = new $Type$ArrayList();
+		for (int i = 0; i < $Type$ArrayList.PARALLEL_THRESHOLD * 2 + 3; ++i) {
+			big.add(($type$) (i % 100 + 1));
+		}
+
+		return big;
+	}
+//#endif
+//#if Boolean
+
+	// org.junit.Assert has no boolean[] overloads before JUnit 4.12, and
+	// declaring them here hides all of its assertArrayEquals overloads
+	private static void assertArrayEquals(boolean[] expected, boolean[] actual) {
+		assertArrayEquals(null, expected, actual);
+	}
+
+	private static void assertArrayEquals(String message, boolean[] expected,
+			boolean[] actual) {
+		assertTrue(message, Arrays.equals(expected, actual));
+	}
+
+	private static void assertArrayEquals(int[] expected, int[] actual) {
+		assertTrue(Arrays.equals(expected, actual));
+	}
+//#endif
+}
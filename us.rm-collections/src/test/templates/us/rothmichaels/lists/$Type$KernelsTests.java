@@ -0,0 +1,296 @@
+//#types numeric
+/*
+ * $Type$KernelsTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+//#if floating
+import static org.junit.Assert.assertTrue;
+//#endif
+
+//#if floating
+import java.math.BigDecimal;
+//#endif
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link $Type$Kernels}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$KernelsTests {
+
+	private static final int[] SIZES = { 0, 1, 3, 4, 5, 127, 128, 129, 1000 };
+//#if integral
+
+	@Test
+	public void sumMatchesLoop() {
+		final Random random = new Random(17);
+		for (final int size : SIZES) {
+			final $type$[] a = randomArray(random, size + 2);
+			long expected = 0;
+			for (int i = 1; i <= size; ++i) {
+				expected += a[i];
+			}
+
+			assertEquals(expected, $Type$Kernels.sum(a, 1, size + 1));
+		}
+	}
+//#if Long
+
+	@Test
+	public void sumWraps() {
+		final long[] a = { Long.MAX_VALUE, 1, 1, 1, 1 };
+
+		assertEquals(Long.MIN_VALUE + 3, LongKernels.sum(a, 0, a.length));
+	}
+//#else
+
+	@Test
+	public void sumDoesNotOverflow() {
+		final $type$[] a = new $type$[1000];
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = $Boxed$.MAX_VALUE;
+		}
+
+		assertEquals(1000L * $Boxed$.MAX_VALUE,
+				$Type$Kernels.sum(a, 0, a.length));
+	}
+//#endif
+
+	@Test
+	public void minMax() {
+		final Random random = new Random(5);
+		for (final int size : SIZES) {
+			if (size == 0) {
+				continue;
+			}
+			final $type$[] a = randomArray(random, size);
+			$type$ min = a[0];
+			$type$ max = a[0];
+			for (final $type$ v : a) {
+				min = v < min ? v : min;
+				max = v > max ? v : max;
+			}
+			assertEquals(min, $Type$Kernels.min(a, 0, size));
+			assertEquals(max, $Type$Kernels.max(a, 0, size));
+		}
+	}
+
+	@Test
+	public void counts() {
+		final Random random = new Random(9);
+		for (final int size : SIZES) {
+			final $type$[] a = new $type$[size];
+			for (int i = 0; i < size; ++i) {
+				a[i] = ($type$) random.nextInt(10);
+			}
+			int threes = 0;
+			int inRange = 0;
+			for (final $type$ v : a) {
+				threes += v == 3 ? 1 : 0;
+				inRange += v >= 2 && v <= 5 ? 1 : 0;
+			}
+
+			assertEquals(threes, $Type$Kernels.count(a, 0, size, $lit:3$));
+			assertEquals(inRange,
+					$Type$Kernels.countInRange(a, 0, size, $lit:2$, $lit:5$));
+		}
+	}
+
+	@Test
+	public void histogramClampsToEnds() {
+		final $type$[] a = new $type$[10];
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = ($type$) i;
+		}
+		final int[] counts = { 0, 0, 100 };
+
+		$Type$Kernels.histogram(a, 0, a.length, 2, 3, counts);
+		// 0 and 1 below the first bucket, 8 and 9 past the last
+		assertArrayEquals(new int[] { 5, 3, 102 }, counts);
+	}
+//#if Long
+
+	@Test
+	public void histogramSpansWholeRange() {
+		final long[] a = { Long.MIN_VALUE, -1, 0, Long.MAX_VALUE };
+		final int[] counts = new int[4];
+
+		LongKernels.histogram(a, 0, a.length, Long.MIN_VALUE, 1L << 62,
+				counts);
+		assertArrayEquals(new int[] { 1, 1, 1, 1 }, counts);
+	}
+//#endif
+
+	@Test
+	public void histogramWithBucketing() {
+		final Random random = new Random(3);
+		final $type$[] a = randomArray(random, 1000);
+		final int[] expected = new int[4];
+		for (final $type$ v : a) {
+			++expected[(int) (v & 3)];
+		}
+
+		final int[] counts = new int[4];
+		$Type$Kernels.histogram(a, 0, a.length, v -> (int) (v & 3), counts);
+		assertArrayEquals(expected, counts);
+	}
+
+	private static $type$[] randomArray(Random random, int size) {
+		final $type$[] a = new $type$[size];
+		for (int i = 0; i < size; ++i) {
+			a[i] = ($type$) random.nextLong();
+		}
+		return a;
+	}
+//#else
+
+	@Test
+	public void sumsMatchExact() {
+		final Random random = new Random(17);
+		for (final int size : SIZES) {
+			final $type$[] a = randomArray(random, size + 2);
+			final double exact = exactSum(a, 1, size + 1);
+
+			assertEquals(exact, $Type$Kernels.sum(a, 1, size + 1), 1e-9);
+			assertEquals(exact, $Type$Kernels.compensatedSum(a, 1, size + 1),
+					1e-12);
+		}
+	}
+
+	@Test
+	public void compensatedSumKeepsSmallTerms() {
+		// each 1 is lost when added to 1e16 one at a time
+		final $type$[] a = new $type$[10001];
+		a[0] = ($type$) 1e16;
+		for (int i = 1; i < a.length; ++i) {
+			a[i] = $lit:1$;
+		}
+
+		assertEquals(exactSum(a, 0, a.length),
+				$Type$Kernels.compensatedSum(a, 0, a.length), 0);
+	}
+
+	@Test
+	public void sumOfSquares() {
+		final $type$[] a = { $lit:1$, $lit:2$, $lit:3$, $lit:4$, $lit:5$ };
+
+		assertEquals(10, $Type$Kernels.sumOfSquares(a, 0, a.length, 3), 0);
+	}
+
+	@Test
+	public void minMax() {
+		final Random random = new Random(5);
+		for (final int size : SIZES) {
+			if (size == 0) {
+				continue;
+			}
+			final $type$[] a = randomArray(random, size);
+			$type$ min = a[0];
+			$type$ max = a[0];
+			for (final $type$ v : a) {
+				min = Math.min(min, v);
+				max = Math.max(max, v);
+			}
+			assertEquals(min, $Type$Kernels.min(a, 0, size), 0);
+			assertEquals(max, $Type$Kernels.max(a, 0, size), 0);
+		}
+		final $type$[] withNaN = { $lit:1$, $Boxed$.NaN, $lit:2$ };
+		assertTrue($Boxed$.isNaN($Type$Kernels.min(withNaN, 0, 3)));
+		assertTrue($Boxed$.isNaN($Type$Kernels.max(withNaN, 0, 3)));
+	}
+
+	@Test
+	public void dot() {
+		final Random random = new Random(9);
+		for (final int size : SIZES) {
+			final $type$[] x = randomArray(random, size + 1);
+			final $type$[] y = randomArray(random, size + 3);
+			double expected = 0;
+			for (int i = 0; i < size; ++i) {
+				expected += (double) x[1 + i] * y[3 + i];
+			}
+
+			assertEquals(expected, $Type$Kernels.dot(x, 1, y, 3, size), 1e-9);
+		}
+	}
+
+	@Test
+	public void elementwise() {
+		final $type$[] x = { $lit:1$, $lit:2$, $lit:3$, $lit:4$, $lit:5$ };
+		final $type$[] y = { $lit:10$, $lit:20$, $lit:30$, $lit:40$ };
+
+		$Type$Kernels.axpy($lit:2$, x, 1, y, 0, 3);
+		assertArrayEquals(new $type$[] { $lit:14$, $lit:26$, $lit:38$,
+				$lit:40$ }, y$delta$);
+
+		$Type$Kernels.add(x, 0, y, 1, 3);
+		assertArrayEquals(new $type$[] { $lit:14$, $lit:27$, $lit:40$,
+				$lit:43$ }, y$delta$);
+
+		$Type$Kernels.scale(y, 2, 4, $lit:2$);
+		assertArrayEquals(new $type$[] { $lit:14$, $lit:27$, $lit:80$,
+				$lit:86$ }, y$delta$);
+	}
+
+	private static $type$[] randomArray(Random random, int size) {
+		final $type$[] a = new $type$[size];
+		for (int i = 0; i < size; ++i) {
+			a[i] = ($type$) random.nextGaussian();
+		}
+		return a;
+	}
+
+	private static double exactSum($type$[] a, int from, int to) {
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int i = from; i < to; ++i) {
+			sum = sum.add(new BigDecimal(a[i]));
+		}
+		return sum.doubleValue();
+	}
+//#endif
+}
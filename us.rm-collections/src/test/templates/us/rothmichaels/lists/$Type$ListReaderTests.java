@@ -0,0 +1,244 @@
+/*
+ * $Type$ListReaderTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link $Type$ListReader} and the binary list format written
+ * by {@link $Type$ArrayList#writeTo}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$ListReaderTests {
+	/**
+	 * Enough elements to span several codec chunks.
+	 */
+	static final int LARGE = ListCodec.CHUNK_BYTES / $Type$ListCodec.BYTES * 2 + 3;
+
+	@Test
+	public void roundTrip() throws IOException {
+		final $Type$ArrayList list = list(LARGE);
+
+		final $Type$ArrayList read = $Type$ArrayList.readFrom(in(bytes(list)));
+
+		assertEquals(LARGE, read.size());
+		assertTrue(Arrays.equals(list.toArray(), read.toArray()));
+	}
+
+	@Test
+	public void roundTripEmpty() throws IOException {
+		final $Type$ArrayList read = $Type$ArrayList.readFrom(in(bytes(new $Type$ArrayList())));
+
+		assertTrue(read.isEmpty());
+		read.add($lit:1$);
+		assertEquals(1, read.size());
+	}
+
+	@Test
+	public void layout() throws IOException {
+		final $Type$ArrayList list = new $Type$ArrayList();
+		list.add($lit:1$);
+		final ByteBuffer b = ByteBuffer.wrap(bytes(list)).order(
+				ByteOrder.LITTLE_ENDIAN);
+
+		assertEquals(ListCodec.HEADER_BYTES + $Type$ListCodec.BYTES, b.remaining());
+		assertEquals('R', b.get());
+		assertEquals('M', b.get());
+		assertEquals('P', b.get());
+		assertEquals('A', b.get());
+		assertEquals(ListCodec.VERSION, b.getShort());
+		assertEquals('$desc$', b.getShort());
+		assertEquals(1L, b.getLong());
+//#if Boolean
+		assertEquals(1, b.get());
+//#else
+//#if Byte
+		assertEquals($lit:1$, b.get());
+//#else
+		assertEquals($lit:1$, b.get$Type$()$delta$);
+//#endif
+//#endif
+	}
+
+	@Test
+	public void backToBack() throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final WritableByteChannel out = Channels.newChannel(bytes);
+		list(5).writeTo(out);
+		list(7).writeTo(out);
+		final ReadableByteChannel in = in(bytes.toByteArray());
+
+		assertEquals(5, $Type$ArrayList.readFrom(in).size());
+		assertEquals(7, $Type$ArrayList.readFrom(in).size());
+	}
+
+	@Test
+	public void readInChunks() throws IOException {
+		final $Type$ArrayList list = list(LARGE);
+		final $Type$ListReader reader = new $Type$ListReader(in(bytes(list)));
+		final $type$[] chunk = new $type$[1000];
+		final $Type$ArrayList read = new $Type$ArrayList();
+
+		assertEquals(LARGE, reader.length());
+		for (int n; (n = reader.read(chunk)) >= 0;) {
+			for (int i = 0; i < n; ++i) {
+				read.add(chunk[i]);
+			}
+			assertEquals(LARGE - read.size(), reader.remaining());
+		}
+
+		assertEquals(-1, reader.read(chunk));
+		assertEquals(0, reader.read(chunk, 0, 0));
+		assertTrue(Arrays.equals(list.toArray(), read.toArray()));
+	}
+
+	@Test
+	public void readPartialChunk() throws IOException {
+		final $Type$ListReader reader = new $Type$ListReader(in(bytes(list(10))));
+		final $type$[] chunk = new $type$[8];
+
+		assertEquals(3, reader.read(chunk, 5, 3));
+		assertEquals(value(2), chunk[7]$delta$);
+		assertEquals(7, reader.read(chunk, 0, 8));
+		assertEquals(value(9), chunk[6]$delta$);
+	}
+
+	@Test
+	public void offHeapListsWrite() throws IOException {
+		final AbstractPrimative$Type$List list = new AbstractPrimative$Type$List() {
+			@Override
+			public $type$ get(int index) {
+				return value(index);
+			}
+
+			@Override
+			public int size() {
+				return 4;
+			}
+		};
+
+		assertTrue(Arrays.equals(list(4).toArray(),
+				$Type$ArrayList.readFrom(in(bytes(list))).toArray()));
+	}
+
+	@Test(expected = EOFException.class)
+	public void truncated() throws IOException {
+		final byte[] b = bytes(list(10));
+		$Type$ArrayList.readFrom(in(Arrays.copyOf(b, b.length - 1)));
+	}
+
+	@Test(expected = EOFException.class)
+	public void truncatedWithHugeLength() throws IOException {
+		final ByteBuffer b = ByteBuffer.wrap(bytes(list(10))).order(
+				ByteOrder.LITTLE_ENDIAN);
+		b.putLong(8, Integer.MAX_VALUE - 8);
+		$Type$ArrayList.readFrom(in(b.array()));
+	}
+
+	@Test
+	public void readsPastFirstChunk() throws IOException {
+		final $Type$ArrayList list = list($Type$ArrayList.READ_CHUNK * 2 + 5);
+
+		assertTrue(Arrays.equals(list.toArray(),
+				$Type$ArrayList.readFrom(in(bytes(list))).toArray()));
+	}
+
+	@Test(expected = IOException.class)
+	public void notAList() throws IOException {
+		$Type$ArrayList.readFrom(in(new byte[ListCodec.HEADER_BYTES]));
+	}
+
+	@Test(expected = IOException.class)
+	public void wrongType() throws IOException {
+//#if Int
+		final LongArrayList other = new LongArrayList();
+//#else
+		final IntArrayList other = new IntArrayList();
+//#endif
+		other.add(1);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		other.writeTo(Channels.newChannel(out));
+		$Type$ArrayList.readFrom(in(out.toByteArray()));
+	}
+
+	private static $type$ value(int i) {
+//#if Boolean
+		return i % 3 == 0;
+//#else
+		return ($type$) i;
+//#endif
+	}
+
+	private static $Type$ArrayList list(int size) {
+		final $Type$ArrayList list = new $Type$ArrayList();
+		for (int i = 0; i < size; ++i) {
+			list.add(value(i));
+		}
+		return list;
+	}
+
+	private static byte[] bytes(IPrimative$Type$List list) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		list.writeTo(Channels.newChannel(out));
+		return out.toByteArray();
+	}
+
+	private static ReadableByteChannel in(byte[] bytes) {
+		return Channels.newChannel(new ByteArrayInputStream(bytes));
+	}
+}
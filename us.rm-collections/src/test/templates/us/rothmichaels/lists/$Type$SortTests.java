@@ -0,0 +1,157 @@
+//#types numeric
+/*
+ * $Type$SortTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link $Type$Sort}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$SortTests {
+
+	private static final int[] SIZES = { 0, 1, 2, 63, 64, 65, 1000, 5000 };
+
+	@Test
+	public void radixSortMatchesArraysSort() {
+		final Random random = new Random(17);
+		for (final int size : SIZES) {
+			final $type$[] a = randomArray(random, size + 6);
+			final $type$[] expected = a.clone();
+			Arrays.sort(expected, 3, size + 3);
+			$Type$Sort.radixSort(a, 3, size + 3);
+
+			assertArrayEquals(expected, a$delta$);
+		}
+	}
+
+	@Test
+	public void radixSortNarrowRange() {
+		// only the low digit varies, so the other passes are skipped
+		final $type$[] a = new $type$[500];
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = ($type$) ((a.length - i) % 50);
+		}
+		final $type$[] expected = a.clone();
+		Arrays.sort(expected);
+		$Type$Sort.radixSort(a, 0, a.length);
+
+		assertArrayEquals(expected, a$delta$);
+	}
+//#if floating
+
+	@Test
+	public void radixSortSpecialValues() {
+		final $type$[] a = new $type$[200];
+		final $type$[] specials = { $Boxed$.NaN, -$lit:0$, $lit:0$,
+				$Boxed$.NEGATIVE_INFINITY, $Boxed$.POSITIVE_INFINITY,
+				$Boxed$.MIN_VALUE, -$Boxed$.MIN_VALUE, $Boxed$.MAX_VALUE,
+				-$Boxed$.MAX_VALUE, $lit:1$, -$lit:1$ };
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = specials[(i * 7) % specials.length];
+		}
+		final $type$[] expected = a.clone();
+		Arrays.sort(expected);
+		$Type$Sort.radixSort(a, 0, a.length);
+
+		for (int i = 0; i < a.length; ++i) {
+			assertTrue(i + ": " + expected[i] + " != " + a[i],
+					$Boxed$.compare(expected[i], a[i]) == 0);
+		}
+	}
+//#endif
+
+	@Test
+	public void sortIndicesIsStable() {
+		final Random random = new Random(23);
+		for (final int size : SIZES) {
+			final $type$[] a = randomArray(random, size + 2);
+			final $type$[] before = a.clone();
+			final int[] indices = $Type$Sort.sortIndices(a, 1, size + 1);
+
+			assertArrayEquals(before, a$delta$);
+			assertTrue(indices.length == size);
+			for (int i = 1; i < size; ++i) {
+				final $type$ prev = a[1 + indices[i - 1]];
+				final $type$ cur = a[1 + indices[i]];
+				final int c = $Boxed$.compare(prev, cur);
+				assertTrue(c < 0 || (c == 0 && indices[i - 1] < indices[i]));
+			}
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void radixSortBadRange() {
+		$Type$Sort.radixSort(new $type$[4], 2, 5);
+	}
+
+	private static $type$[] randomArray(Random random, int size) {
+		final $type$[] a = new $type$[size];
+		for (int i = 0; i < size; ++i) {
+//#if Long
+			a[i] = random.nextInt(4) == 0 ? random.nextInt(100)
+					: random.nextLong();
+//#endif
+//#if Int
+			a[i] = random.nextInt(4) == 0 ? random.nextInt(100) : random
+					.nextInt();
+//#endif
+//#if Byte|Char|Short
+			a[i] = ($type$) random.nextInt();
+//#endif
+//#if floating
+			a[i] = random.nextInt(4) == 0 ? random.nextInt(100)
+					: ($type$) ((random.nextDouble() - 0.5) * 1e30);
+//#endif
+		}
+		return a;
+	}
+}
@@ -0,0 +1,211 @@
+//#types Int|Long
+/*
+ * $Type$VarintCodecTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link $Type$VarintCodec}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$VarintCodecTests {
+	static final $type$[] EDGES = { 0, 1, -1, 63, -64, 64, 127, 128, 300,
+			$Boxed$.MAX_VALUE, $Boxed$.MIN_VALUE, $Boxed$.MAX_VALUE - 1,
+			$Boxed$.MIN_VALUE + 1 };
+
+	@Test
+	public void roundTripEdges() {
+		for (final VarintEncoding encoding : VarintEncoding.values()) {
+			assertRoundTrip(list(EDGES), encoding);
+		}
+	}
+
+	@Test
+	public void roundTripRandom() {
+		final Random random = new Random(42);
+		final $Type$ArrayList list = new $Type$ArrayList();
+		for (int i = 0; i < 10000; ++i) {
+			list.add(random.next$Type$() >> random.nextInt(32));
+		}
+		for (final VarintEncoding encoding : VarintEncoding.values()) {
+			assertRoundTrip(list, encoding);
+		}
+	}
+
+	@Test
+	public void roundTripEmpty() {
+		for (final VarintEncoding encoding : VarintEncoding.values()) {
+			final byte[] bytes = $Type$VarintCodec.encode(new $Type$ArrayList(),
+					encoding);
+
+			assertEquals($Type$VarintCodec.HEADER_BYTES, bytes.length);
+			assertTrue($Type$VarintCodec.decode(bytes).isEmpty());
+		}
+	}
+
+	@Test
+	public void roundTripOtherList() {
+		final AbstractPrimative$Type$List list = new AbstractPrimative$Type$List() {
+			@Override
+			public $type$ get(int index) {
+				return index * 3;
+			}
+
+			@Override
+			public int size() {
+				return 100;
+			}
+		};
+
+		assertArrayEquals(list.toArray(), $Type$VarintCodec.decode(
+				$Type$VarintCodec.encode(list, VarintEncoding.DELTA)).toArray());
+	}
+
+	@Test
+	public void varintLengths() {
+		assertEquals(1, payload(list(0, 1, 127), VarintEncoding.VARINT) / 3);
+		assertEquals(2, payload(list(128), VarintEncoding.VARINT));
+		assertEquals($Type$VarintCodec.MAX_BYTES,
+				payload(list(-1), VarintEncoding.VARINT));
+		assertEquals(1, payload(list(-1), VarintEncoding.ZIGZAG));
+		assertEquals(1, payload(list(-64), VarintEncoding.ZIGZAG));
+		assertEquals(2, payload(list(-65), VarintEncoding.ZIGZAG));
+	}
+
+	@Test
+	public void deltaSortedIds() {
+		final $Type$ArrayList ids = new $Type$ArrayList();
+		for (int i = 0; i < 1000; ++i) {
+			ids.add(1000000 + i * 5);
+		}
+
+		// the first element takes three bytes, every delta one
+		assertEquals(3 + 999, payload(ids, VarintEncoding.DELTA));
+		assertRoundTrip(ids, VarintEncoding.DELTA);
+	}
+
+	@Test
+	public void deltaOfDeltaTimestamps() {
+		final $Type$ArrayList times = new $Type$ArrayList();
+		for (int i = 0; i < 1000; ++i) {
+			times.add(1000000 + i * 1000 + (i % 7 == 0 ? 3 : 0));
+		}
+
+		assertTrue(payload(times, VarintEncoding.DELTA_OF_DELTA) < 1010);
+		assertTrue(payload(times, VarintEncoding.DELTA) > 1900);
+		assertRoundTrip(times, VarintEncoding.DELTA_OF_DELTA);
+	}
+
+	@Test
+	public void bareRuns() {
+		final $type$[] a = { 5, 7, 9, 1000 };
+		final byte[] out = new byte[2 + a.length * $Type$VarintCodec.MAX_BYTES];
+		final int end = $Type$VarintCodec.encode(a, 1, 4, VarintEncoding.DELTA,
+				out, 2);
+		final $type$[] decoded = new $type$[5];
+
+		assertEquals(end, $Type$VarintCodec.decode(out, 2, VarintEncoding.DELTA,
+				decoded, 2, 5));
+		assertArrayEquals(new $type$[] { 0, 0, 7, 9, 1000 }, decoded);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void truncated() {
+		final byte[] bytes = $Type$VarintCodec.encode(list(EDGES),
+				VarintEncoding.ZIGZAG);
+		$Type$VarintCodec.decode(Arrays.copyOf(bytes, bytes.length - 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void trailingBytes() {
+		final byte[] bytes = $Type$VarintCodec.encode(list(EDGES),
+				VarintEncoding.ZIGZAG);
+		$Type$VarintCodec.decode(Arrays.copyOf(bytes, bytes.length + 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void overlongVarint() {
+		final byte[] bytes = new byte[$Type$VarintCodec.HEADER_BYTES
+				+ $Type$VarintCodec.MAX_BYTES + 1];
+		bytes[1] = 1;
+		for (int i = $Type$VarintCodec.HEADER_BYTES; i < bytes.length - 1; ++i) {
+			bytes[i] = (byte) 0x80;
+		}
+		$Type$VarintCodec.decode(bytes);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unknownEncoding() {
+		$Type$VarintCodec.decode(new byte[] { 9, 0, 0, 0, 0 });
+	}
+
+	private static void assertRoundTrip($Type$ArrayList list,
+			VarintEncoding encoding) {
+		final byte[] bytes = $Type$VarintCodec.encode(list, encoding);
+
+		assertArrayEquals(encoding.toString(), list.toArray(),
+				$Type$VarintCodec.decode(bytes).toArray());
+	}
+
+	private static int payload($Type$ArrayList list, VarintEncoding encoding) {
+		return $Type$VarintCodec.encode(list, encoding).length
+				- $Type$VarintCodec.HEADER_BYTES;
+	}
+
+	private static $Type$ArrayList list($type$... values) {
+		final $Type$ArrayList list = new $Type$ArrayList();
+		for (final $type$ v : values) {
+			list.add(v);
+		}
+		return list;
+	}
+}
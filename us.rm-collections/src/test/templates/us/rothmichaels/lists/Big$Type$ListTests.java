@@ -0,0 +1,223 @@
+//#types numeric
+/*
+ * Big$Type$ListTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Big$Type$List}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Big$Type$ListTests {
+	/**
+	 * Four elements per page, so the tests cross many page boundaries.
+	 */
+	static final int PAGE_SHIFT = 2;
+	static final $type$[] TEST_ARRAY = { $lit:0$, $lit:1$, $lit:2$, $lit:3$,
+			$lit:4$, $lit:5$, $lit:6$, $lit:7$, $lit:8$, $lit:9$, $lit:10$ };
+
+	Big$Type$List testList;
+
+	@Before
+	public void setUp() {
+		testList = new Big$Type$List(PAGE_SHIFT);
+	}
+
+	@Test
+	public void addGet() {
+		testFill();
+
+		assertEquals(TEST_ARRAY.length, testList.size());
+		for (int i = 0; i < TEST_ARRAY.length; ++i) {
+			assertEquals(TEST_ARRAY[i], testList.get(i)$delta$);
+		}
+	}
+
+	@Test
+	public void addAll() {
+		testList.add($lit:20$);
+		testList.addAll(TEST_ARRAY, 1, TEST_ARRAY.length);
+
+		final $type$[] out = new $type$[TEST_ARRAY.length];
+		testList.get(0, out, 0, out.length);
+		assertEquals($lit:20$, out[0]$delta$);
+		assertEquals($lit:10$, out[10]$delta$);
+		assertEquals($lit:5$, out[5]$delta$);
+	}
+
+	@Test
+	public void getRange() {
+		testFill();
+		final $type$[] out = new $type$[7];
+		testList.get(3, out, 1, 6);
+
+		assertArrayEquals(new $type$[] { $lit:0$, $lit:3$, $lit:4$, $lit:5$,
+				$lit:6$, $lit:7$, $lit:8$ }, out$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getRangeAbove() {
+		testFill();
+		testList.get(8, new $type$[4], 0, 4);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getAbove() {
+		testFill();
+		testList.get(TEST_ARRAY.length);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getBelow() {
+		testFill();
+		testList.get(-1L);
+	}
+
+	@Test
+	public void set() {
+		testFill();
+
+		assertEquals($lit:9$, testList.set(9L, $lit:30$)$delta$);
+		assertEquals($lit:30$, testList.get(9L)$delta$);
+	}
+
+	@Test
+	public void search() {
+		testFill();
+		testFill();
+
+		assertTrue(testList.contains($lit:9$));
+		assertFalse(testList.contains($lit:11$));
+		assertEquals(9L, testList.indexOf($lit:9$));
+		assertEquals(20L, testList.lastIndexOf($lit:9$));
+		assertEquals(-1L, testList.indexOf($lit:11$));
+		assertEquals(-1L, testList.lastIndexOf($lit:11$));
+	}
+
+	@Test
+	public void removeLastAndClear() {
+		testFill();
+
+		assertEquals($lit:10$, testList.removeLast()$delta$);
+		assertEquals(TEST_ARRAY.length - 1, testList.size());
+		testList.clear();
+		assertTrue(testList.isEmpty());
+		assertEquals(-1L, testList.lastIndexOf($lit:1$));
+		testList.add($lit:5$);
+		assertEquals($lit:5$, testList.get(0)$delta$);
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeLastEmpty() {
+		testList.removeLast();
+	}
+
+	@Test
+	public void trimToSize() {
+		testFill();
+		testList.clear();
+		testList.trimToSize();
+		testFill();
+
+		assertEquals(TEST_ARRAY.length, testList.size());
+		assertEquals($lit:10$, testList.get(10)$delta$);
+	}
+
+	@Test
+	public void streams() {
+		testFill();
+		final $Type$ArrayList copy = new $Type$ArrayList();
+		testList.forEach(v -> copy.add(($type$) v));
+
+		assertArrayEquals(TEST_ARRAY, copy.toArray()$delta$);
+		assertEquals(TEST_ARRAY.length, testList.stream().count());
+		assertEquals(55, testList.parallelStream().sum()$delta$);
+		assertTrue(testList.parallelStream().isParallel());
+	}
+
+	@Test
+	public void spliteratorSplitsOnPages() {
+		testFill();
+		final Spliterator.Of$Wide$ s = testList.stream().spliterator();
+		final Spliterator.Of$Wide$ prefix = s.trySplit();
+
+		assertEquals(4, prefix.estimateSize());
+		assertEquals(7, s.estimateSize());
+		assertTrue(s.hasCharacteristics(Spliterator.SIZED
+				| Spliterator.SUBSIZED));
+	}
+
+	@Test
+	public void manyPages() {
+		final Big$Type$List list = new Big$Type$List(0);
+		for (int i = 0; i < 1000; ++i) {
+			list.add(($type$) (i % 100));
+		}
+
+		assertEquals(1000, list.size());
+		assertEquals(($type$) 99, list.get(999)$delta$);
+		assertEquals(1000, list.parallelStream().count());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void pageShiftTooLarge() {
+		new Big$Type$List(Big$Type$List.MAX_PAGE_SHIFT + 1);
+	}
+
+	private void testFill() {
+		for (final $type$ value : TEST_ARRAY) {
+			testList.add(value);
+		}
+	}
+}
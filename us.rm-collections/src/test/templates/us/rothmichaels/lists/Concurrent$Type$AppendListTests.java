@@ -0,0 +1,331 @@
+//#types Int|Long
+/*
+ * Concurrent$Type$AppendListTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Concurrent$Type$AppendList}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Concurrent$Type$AppendListTests {
+
+	/**
+	 * Spans the first four chunks.
+	 */
+	private static final int SIZE = Concurrent$Type$AppendList.FIRST_CHUNK_SIZE * 12;
+
+	private static final int THREADS = 8;
+	private static final int PER_THREAD = 50000;
+
+	private Concurrent$Type$AppendList testList;
+
+	@Before
+	public void setUp() {
+		testList = new Concurrent$Type$AppendList();
+	}
+
+	@Test
+	public void empty() {
+		assertTrue(testList.isEmpty());
+		assertEquals(0, testList.size());
+		assertEquals(0, testList.snapshot().size());
+	}
+
+	@Test
+	public void addAcrossChunks() {
+		for (int i = 0; i < SIZE; ++i) {
+			testList.add(i);
+		}
+
+		assertFalse(testList.isEmpty());
+		assertEquals(SIZE, testList.size());
+		for (int i = 0; i < SIZE; ++i) {
+			assertEquals(i, testList.get(i));
+		}
+		assertArrayEquals(expected(SIZE), testList.snapshot().toArray());
+	}
+
+	@Test
+	public void addAllAcrossChunks() {
+		final $type$[] values = expected(SIZE);
+		testList.add(values[0]);
+		testList.addAll(values, 1, 1000);
+		testList.addAll(values, 1000, 1000);
+		testList.addAll(values, 1000, SIZE);
+
+		assertArrayEquals(values, testList.snapshot().toArray());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addAllBadRange() {
+		testList.addAll(new $type$[2], 1, 3);
+	}
+
+	@Test
+	public void forEach() {
+		for (int i = 0; i < SIZE; ++i) {
+			testList.add(i);
+		}
+		final $Type$ArrayList seen = new $Type$ArrayList();
+		testList.forEach(seen::add);
+
+		assertArrayEquals(expected(SIZE), seen.toArray());
+	}
+
+	@Test
+	public void snapshotIsACopy() {
+		testList.add($lit:1$);
+		final $Type$ArrayList snapshot = testList.snapshot();
+		testList.add($lit:2$);
+
+		assertEquals(1, snapshot.size());
+		assertEquals(2, testList.snapshot().size());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getPastEnd() {
+		testList.add($lit:1$);
+		testList.get(1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getNegative() {
+		testList.get(-1);
+	}
+
+	@Test(timeout = 60000)
+	public void failedWriterFailsReaders() {
+		testList = new Concurrent$Type$AppendList() {
+			@Override
+			void beforeStore(int index) {
+				if (index == 5) {
+					throw new IllegalArgumentException("writer died");
+				}
+			}
+		};
+		for (int i = 0; i < 10; ++i) {
+			try {
+				testList.add(i);
+			} catch (IllegalArgumentException e) {
+				assertEquals(5, i);
+			}
+		}
+
+		assertEquals(10, testList.size());
+		assertEquals(4, testList.get(4));
+		assertEquals(6, testList.get(6));
+		assertLost(() -> testList.get(5));
+		assertLost(() -> testList.snapshot());
+		assertLost(() -> testList.forEach(v -> {
+		}));
+	}
+
+	@Test(timeout = 60000)
+	public void failedAddAllFailsReaders() {
+		testList = new Concurrent$Type$AppendList() {
+			@Override
+			void beforeStore(int index) {
+				if (index == 1) {
+					throw new IllegalArgumentException("writer died");
+				}
+			}
+		};
+		testList.add($lit:1$);
+		try {
+			testList.addAll(expected(SIZE), 0, SIZE);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		testList.add($lit:2$);
+
+		assertEquals(SIZE + 2, testList.size());
+		assertEquals(2, testList.get(SIZE + 1));
+		assertLost(() -> testList.get(SIZE));
+		assertLost(() -> testList.snapshot());
+	}
+
+	@Test(timeout = 60000)
+	public void concurrentAdds() throws InterruptedException {
+		runConcurrently(t -> {
+			for (int i = 0; i < PER_THREAD; ++i) {
+				testList.add(($type$) (t * PER_THREAD + i));
+			}
+		});
+
+		assertEquals(THREADS * PER_THREAD, testList.size());
+		assertEachThreadInOrder(testList.snapshot());
+	}
+
+	@Test(timeout = 60000)
+	public void concurrentAddAlls() throws InterruptedException {
+		// divides PER_THREAD, so every run is the same length
+		final int run = 8;
+		runConcurrently(t -> {
+			final $type$[] values = new $type$[PER_THREAD];
+			for (int i = 0; i < PER_THREAD; ++i) {
+				values[i] = ($type$) (t * PER_THREAD + i);
+			}
+			for (int i = 0; i < PER_THREAD; i += run) {
+				testList.addAll(values, i, i + run);
+			}
+		});
+
+		final $type$[] all = testList.snapshot().toArray();
+		assertEquals(THREADS * PER_THREAD, all.length);
+		// runs are never interleaved
+		for (int i = 0; i < all.length; i += run) {
+			for (int j = i + 1; j < i + run; ++j) {
+				assertEquals(all[j - 1] + 1, all[j]);
+			}
+		}
+		assertEachThreadInOrder(testList.snapshot());
+	}
+
+	@Test(timeout = 60000)
+	public void snapshotsWhileAdding() throws InterruptedException {
+		final List<$type$[]> snapshots = new ArrayList<$type$[]>();
+		runConcurrently(t -> {
+			for (int i = 0; i < PER_THREAD; ++i) {
+				testList.add(($type$) (t * PER_THREAD + i));
+			}
+		}, () -> {
+			// at least one snapshot, however late the reader is scheduled
+			do {
+				snapshots.add(testList.snapshot().toArray());
+			} while (testList.size() < THREADS * PER_THREAD);
+		});
+
+		// every snapshot is a prefix of the final list
+		final $type$[] all = testList.snapshot().toArray();
+		assertTrue(snapshots.size() > 0);
+		int previous = 0;
+		for (final $type$[] snapshot : snapshots) {
+			assertTrue(snapshot.length >= previous);
+			previous = snapshot.length;
+			for (int i = 0; i < snapshot.length; ++i) {
+				assertEquals(all[i], snapshot[i]);
+			}
+		}
+	}
+
+	private static void assertLost(Runnable read) {
+		try {
+			read.run();
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	private interface Writer {
+		void write(int thread);
+	}
+
+	private static void runConcurrently(Writer writer)
+			throws InterruptedException {
+		runConcurrently(writer, null);
+	}
+
+	/**
+	 * Runs {@link #THREADS} writers and, unless it is {@code null},
+	 * {@code reader} on their own threads, failing if any of them throws.
+	 */
+	private static void runConcurrently(Writer writer, Runnable reader)
+			throws InterruptedException {
+		final Thread[] threads = new Thread[THREADS + 1];
+		final Throwable[] failure = new Throwable[1];
+		threads[THREADS] = new Thread(reader);
+		for (int t = 0; t < THREADS; ++t) {
+			final int thread = t;
+			threads[t] = new Thread(() -> writer.write(thread));
+		}
+		for (final Thread thread : threads) {
+			thread.setUncaughtExceptionHandler((th, e) -> failure[0] = e);
+			thread.start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		if (failure[0] != null) {
+			throw new AssertionError(failure[0]);
+		}
+	}
+
+	/**
+	 * Checks that every value was added once and that each thread's values
+	 * are in the order it added them.
+	 */
+	private static void assertEachThreadInOrder($Type$ArrayList list) {
+		final int[] next = new int[THREADS];
+		for (final $type$ v : list.toArray()) {
+			final int thread = (int) (v / PER_THREAD);
+			assertEquals(thread * PER_THREAD + next[thread], v);
+			++next[thread];
+		}
+		for (final int n : next) {
+			assertEquals(PER_THREAD, n);
+		}
+	}
+
+	private static $type$[] expected(int size) {
+		final $type$[] a = new $type$[size];
+		for (int i = 0; i < size; ++i) {
+			a[i] = i;
+		}
+		return a;
+	}
+}
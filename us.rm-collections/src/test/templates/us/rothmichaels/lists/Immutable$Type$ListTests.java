@@ -0,0 +1,232 @@
+/*
+ * Immutable$Type$ListTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+//#if !Boolean
+import static org.junit.Assert.assertArrayEquals;
+//#endif
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+//#if Boolean
+import java.util.Arrays;
+//#endif
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Immutable$Type$List}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Immutable$Type$ListTests {
+	static final $type$[] TEST_ARRAY = { $lit:0$, $lit:1$, $lit:2$, $lit:3$,
+			$lit:4$, $lit:5$, $lit:6$, $lit:7$ };
+
+	@Test
+	public void of() {
+		final $type$[] values = TEST_ARRAY.clone();
+		final Immutable$Type$List list = Immutable$Type$List.of(values);
+		values[0] = $lit:9$;
+
+		assertEquals(TEST_ARRAY.length, list.size());
+		assertArrayEquals(TEST_ARRAY, list.toArray()$delta$);
+		assertSame(Immutable$Type$List.of(), Immutable$Type$List.of(new $type$[0]));
+		assertTrue(Immutable$Type$List.of().isEmpty());
+	}
+
+	@Test
+	public void copyOf() {
+		final Immutable$Type$List list = Immutable$Type$List.of(TEST_ARRAY);
+
+		assertSame(list, Immutable$Type$List.copyOf(list));
+		assertArrayEquals(TEST_ARRAY, Immutable$Type$List.copyOf(
+				$Type$ArrayList.copyOf(list)).toArray()$delta$);
+	}
+
+	@Test
+	public void toArrayIsCopy() {
+		final Immutable$Type$List list = Immutable$Type$List.of(TEST_ARRAY);
+		list.toArray()[1] = $lit:9$;
+
+		assertEquals(TEST_ARRAY[1], list.get(1)$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getAbove() {
+		Immutable$Type$List.of(TEST_ARRAY).get(TEST_ARRAY.length);
+	}
+
+	@Test
+	public void subList() {
+		final IPrimative$Type$List view = Immutable$Type$List.of(TEST_ARRAY)
+				.subList(2, 7).subList(1, 4);
+
+		assertTrue(view instanceof Immutable$Type$List);
+		assertArrayEquals(new $type$[] { TEST_ARRAY[3], TEST_ARRAY[4],
+				TEST_ARRAY[5] }, view.toArray()$delta$);
+		assertEquals(TEST_ARRAY[5], view.get(2)$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subListOutOfRange() {
+		Immutable$Type$List.of(TEST_ARRAY).subList(3, TEST_ARRAY.length + 1);
+	}
+//#if !Boolean
+
+	@Test
+	public void search() {
+		final IPrimative$Type$List view = Immutable$Type$List.of(TEST_ARRAY)
+				.subList(2, 6);
+
+		assertEquals(1, view.indexOf($lit:3$));
+		assertEquals(3, view.lastIndexOf($lit:5$));
+		assertTrue(view.contains($lit:2$));
+		assertTrue(!view.contains($lit:6$));
+	}
+//#endif
+//#if numeric
+
+	@Test
+	public void streams() {
+		final Immutable$Type$List list = Immutable$Type$List.of(TEST_ARRAY);
+		final long[] sum = new long[1];
+		list.forEach(v -> sum[0] += v);
+
+		assertEquals(28, sum[0]);
+		assertEquals(28, list.parallelStream().sum()$delta$);
+		assertEquals(4, list.subList(4, 8).stream().count());
+		assertEquals(28, list.parallelSum()$delta$);
+	}
+
+	@Test
+	public void sortIndices() {
+		final Immutable$Type$List list = Immutable$Type$List.of($lit:9$,
+				$lit:4$, $lit:7$, $lit:5$, $lit:1$);
+
+		assertArrayEquals(new int[] { 0, 2, 1 }, list.subList(1, 4)
+				.sortIndices().toArray());
+		assertArrayEquals(new int[] { 4, 1, 3, 2, 0 }, list.sortIndices()
+				.toArray());
+	}
+//#endif
+
+	@Test
+	public void writeTo() throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Immutable$Type$List.of(TEST_ARRAY).subList(1, 5)
+				.writeTo(Channels.newChannel(bytes));
+		final $Type$ArrayList read = $Type$ArrayList.readFrom(Channels
+				.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertArrayEquals(new $type$[] { TEST_ARRAY[1], TEST_ARRAY[2],
+				TEST_ARRAY[3], TEST_ARRAY[4] }, read.toArray()$delta$);
+	}
+
+	@Test
+	public void mutatorsThrow() {
+		final Immutable$Type$List list = Immutable$Type$List.of(TEST_ARRAY);
+		final Runnable[] mutators = { () -> list.add($lit:1$),
+				() -> list.add(0, $lit:1$), () -> list.set(0, $lit:1$),
+				() -> list.remove(0), () -> list.removeValue($lit:1$),
+				() -> list.clear(),
+				() -> list.addAll(Collections.<$Boxed$> emptyList()),
+				() -> list.addAll(Immutable$Type$List.of()),
+				() -> list.removeAll(Immutable$Type$List.of()),
+				() -> list.retainAll(list),
+//#if numeric
+				() -> list.removeIf(v -> false),
+				() -> list.parallelSort(),
+				() -> list.sort(),
+				() -> list.sort(0, 1),
+				() -> list.parallelReplaceAll(v -> v),
+//#endif
+				() -> Immutable$Type$List.of().clear() };
+
+		for (final Runnable mutator : mutators) {
+			try {
+				mutator.run();
+				throw new AssertionError("expected UnsupportedOperationException");
+			} catch (final UnsupportedOperationException e) {
+				// expected
+			}
+		}
+		assertArrayEquals(TEST_ARRAY, list.toArray()$delta$);
+	}
+
+	@Test
+	public void freeze() {
+		final $Type$ArrayList source = $Type$ArrayList.copyOf(Immutable$Type$List
+				.of(TEST_ARRAY));
+		final Immutable$Type$List frozen = source.freeze();
+
+		assertArrayEquals(TEST_ARRAY, frozen.toArray()$delta$);
+		assertTrue(source.isEmpty());
+		source.add(TEST_ARRAY[3]);
+		assertArrayEquals(TEST_ARRAY, frozen.toArray()$delta$);
+		assertSame(Immutable$Type$List.of(), new $Type$ArrayList().freeze());
+	}
+
+	@Test
+	public void toImmutable() {
+		final $Type$ArrayList source = $Type$ArrayList.copyOf(Immutable$Type$List
+				.of(TEST_ARRAY));
+		final Immutable$Type$List copy = source.toImmutable();
+		source.set(0, TEST_ARRAY[5]);
+
+		assertArrayEquals(TEST_ARRAY, copy.toArray()$delta$);
+		assertEquals(TEST_ARRAY.length, source.size());
+	}
+//#if Boolean
+
+	private static void assertArrayEquals(boolean[] expected, boolean[] actual) {
+		assertTrue(Arrays.equals(expected, actual));
+	}
+//#endif
+}
@@ -0,0 +1,245 @@
+//#types Int|Long|Double
+/*
+ * Mapped$Type$ListTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Mapped$Type$List}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Mapped$Type$ListTests {
+	static final int CHUNK_SIZE = 4;
+	static final $type$[] TEST_ARRAY = { $lit:0$, $lit:1$, $lit:2$, $lit:3$,
+			$lit:4$, $lit:5$, $lit:6$, $lit:7$, $lit:8$, $lit:9$, $lit:10$ };
+
+	Path file;
+	Mapped$Type$List testList;
+
+	@Before
+	public void setUp() throws IOException {
+		file = Files.createTempFile("Mapped$Type$ListTests", ".bin");
+		testList = new Mapped$Type$List(file, CHUNK_SIZE);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		testList.close();
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void addAcrossChunks() {
+		testFill();
+
+		assertEquals(TEST_ARRAY.length, testList.size());
+		assertEquals($lit:9$, testList.get(9)$delta$);
+		assertArrayEquals(TEST_ARRAY, testList.toArray()$delta$);
+		assertEquals(Mapped$Type$List.HEADER_BYTES + 3 * CHUNK_SIZE
+				* $Boxed$.BYTES, file.toFile().length());
+	}
+
+	@Test
+	public void shiftsAcrossChunks() {
+		assertShiftsMatch(testList, CHUNK_SIZE * 5 + 1);
+	}
+
+	@Test
+	public void shiftsSpanningBlocks() throws IOException {
+		final Path big = Files.createTempFile("Mapped$Type$ListTests", ".bin");
+		try (Mapped$Type$List list = new Mapped$Type$List(big,
+				Mapped$Type$List.SHIFT_BLOCK * 2)) {
+			assertShiftsMatch(list, Mapped$Type$List.SHIFT_BLOCK * 5 + 3);
+		} finally {
+			Files.deleteIfExists(big);
+		}
+	}
+
+	@Test
+	public void reopen() throws IOException {
+		testFill();
+		testList.close();
+
+		try (Mapped$Type$List reopened = new Mapped$Type$List(file)) {
+			assertArrayEquals(TEST_ARRAY, reopened.toArray()$delta$);
+			reopened.add($lit:11$);
+			reopened.add($lit:12$);
+		}
+
+		testList = new Mapped$Type$List(file);
+		assertEquals(TEST_ARRAY.length + 2, testList.size());
+		assertEquals($lit:12$, testList.get(12)$delta$);
+	}
+
+	@Test
+	public void readOnly() throws IOException {
+		testFill();
+		testList.force();
+
+		try (Mapped$Type$List shared = Mapped$Type$List.readOnly(file)) {
+			assertTrue(shared.isReadOnly());
+			assertArrayEquals(TEST_ARRAY, shared.toArray()$delta$);
+			assertTrue(shared.contains($lit:10$));
+			try {
+				shared.add($lit:11$);
+				fail();
+			} catch (final UnsupportedOperationException e) {
+				assertEquals(TEST_ARRAY.length, shared.size());
+			}
+		}
+	}
+
+	@Test
+	public void insertAndRemoveAcrossChunks() {
+		testFill();
+		testList.add(2, $lit:20$);
+
+		assertEquals($lit:20$, testList.get(2)$delta$);
+		assertEquals($lit:3$, testList.get(4)$delta$);
+		assertEquals($lit:10$, testList.get(11)$delta$);
+
+		assertTrue(testList.remove(2));
+		assertTrue(testList.remove(0));
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:2$, $lit:3$, $lit:4$,
+				$lit:5$, $lit:6$, $lit:7$, $lit:8$, $lit:9$, $lit:10$ },
+				testList.toArray()$delta$);
+	}
+
+	@Test
+	public void searchAndSort() {
+		testFill();
+		testList.set(0, $lit:10$);
+
+		assertEquals(0, testList.indexOf($lit:10$));
+		assertEquals(10, testList.lastIndexOf($lit:10$));
+		assertFalse(testList.contains($lit:0$));
+
+		testList.parallelSort();
+		assertEquals($lit:1$, testList.get(0)$delta$);
+		assertEquals($lit:10$, testList.get(9)$delta$);
+		assertEquals(65, testList.parallelSum()$delta$);
+	}
+
+	@Test
+	public void clearPersists() throws IOException {
+		testFill();
+		testList.clear();
+		testList.close();
+
+		testList = new Mapped$Type$List(file);
+		assertTrue(testList.isEmpty());
+	}
+
+	@Test(expected = IOException.class)
+	public void notAListFile() throws IOException {
+		final Path other = Files.createTempFile("Mapped$Type$ListTests", ".txt");
+		try {
+			Files.write(other, new byte[Mapped$Type$List.HEADER_BYTES]);
+			new Mapped$Type$List(other).close();
+		} finally {
+			Files.delete(other);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void chunkSizeNotPowerOfTwo() throws IOException {
+		new Mapped$Type$List(file, 3);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getAfterClose() throws IOException {
+		testFill();
+		testList.close();
+		testList.get(0);
+	}
+
+	/**
+	 * Inserts and removes at chunk and block boundaries of a list of
+	 * {@code size} distinct elements, checking it against a
+	 * {@link $Type$ArrayList}.
+	 */
+	private static void assertShiftsMatch(Mapped$Type$List list, int size) {
+		final $Type$ArrayList reference = new $Type$ArrayList();
+		for (int i = 0; i < size; ++i) {
+			list.add(($type$) i);
+			reference.add(($type$) i);
+		}
+		final int[] positions = { 0, 1, CHUNK_SIZE - 1, CHUNK_SIZE,
+				CHUNK_SIZE + 1, Mapped$Type$List.SHIFT_BLOCK - 1,
+				Mapped$Type$List.SHIFT_BLOCK, size / 2, size - 1, size };
+		for (final int index : positions) {
+			if (index <= list.size()) {
+				list.add(index, $lit:-1$);
+				reference.add(index, $lit:-1$);
+				assertArrayEquals(reference.toArray(), list.toArray()$delta$);
+			}
+		}
+		for (final int index : positions) {
+			if (index < list.size()) {
+				list.remove(index);
+				reference.remove(index);
+				assertArrayEquals(reference.toArray(), list.toArray()$delta$);
+			}
+		}
+	}
+
+	private void testFill() {
+		for (final $type$ value : TEST_ARRAY) {
+			testList.add(value);
+		}
+	}
+}
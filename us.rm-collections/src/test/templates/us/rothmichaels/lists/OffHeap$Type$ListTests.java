@@ -0,0 +1,320 @@
+//#types Int|Long|Double
+/*
+ * OffHeap$Type$ListTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link OffHeap$Type$List}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class OffHeap$Type$ListTests {
+	static final $type$[] TEST_ARRAY = { $lit:0$, $lit:1$, $lit:2$, $lit:3$,
+			$lit:4$, $lit:5$, $lit:6$, $lit:7$, $lit:8$, $lit:9$, $lit:10$ };
+
+	OffHeap$Type$List testList;
+
+	@Before
+	public void setUp() {
+		testList = new OffHeap$Type$List(4);
+	}
+
+	@After
+	public void tearDown() {
+		testList.close();
+	}
+
+	@Test
+	public void addGrows() {
+		testFill();
+
+		assertEquals(TEST_ARRAY.length, testList.size());
+		assertArrayEquals(TEST_ARRAY, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void zeroCapacity() {
+		try (OffHeap$Type$List list = new OffHeap$Type$List(0)) {
+			list.add($lit:1$);
+			list.add($lit:2$);
+
+			assertArrayEquals(new $type$[] { $lit:1$, $lit:2$ }, list.toArray()$delta$);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeCapacity() {
+		new OffHeap$Type$List(-1);
+	}
+
+	@Test
+	public void addAtIndex() {
+		testFill();
+		testList.add(0, $lit:20$);
+		testList.add(5, $lit:21$);
+		testList.add(testList.size(), $lit:22$);
+
+		assertEquals(TEST_ARRAY.length + 3, testList.size());
+		assertEquals($lit:20$, testList.get(0)$delta$);
+		assertEquals($lit:3$, testList.get(4)$delta$);
+		assertEquals($lit:21$, testList.get(5)$delta$);
+		assertEquals($lit:4$, testList.get(6)$delta$);
+		assertEquals($lit:22$, testList.get(testList.size() - 1)$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addAtIndexAbove() {
+		testList.add(1, $lit:1$);
+	}
+
+	@Test
+	public void getSet() {
+		testFill();
+
+		assertEquals($lit:3$, testList.set(3, $lit:30$)$delta$);
+		assertEquals($lit:30$, testList.get(3)$delta$);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getAbove() {
+		testFill();
+		testList.get(TEST_ARRAY.length);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getBelow() {
+		testFill();
+		testList.get(-1);
+	}
+
+	@Test
+	public void remove() {
+		testFill();
+
+		assertTrue(testList.remove(0));
+		assertTrue(testList.remove(4));
+		assertTrue(testList.removeValue($lit:10$));
+		assertFalse(testList.removeValue($lit:10$));
+
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:2$, $lit:3$, $lit:4$,
+				$lit:6$, $lit:7$, $lit:8$, $lit:9$ }, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void shiftsSpanningBlocks() {
+		final int size = OffHeap$Type$List.SHIFT_BLOCK * 2 + 5;
+		final $Type$ArrayList reference = new $Type$ArrayList();
+		for (int i = 0; i < size; ++i) {
+			testList.add(($type$) i);
+			reference.add(($type$) i);
+		}
+		final int[] positions = { 0, 1, 7, OffHeap$Type$List.SHIFT_BLOCK,
+				size - 1, size };
+		for (final int index : positions) {
+			testList.add(index, $lit:-1$);
+			reference.add(index, $lit:-1$);
+		}
+		for (final int index : positions) {
+			testList.remove(index);
+			reference.remove(index);
+		}
+		testList.remove(testList.size() - 1);
+		reference.remove(reference.size() - 1);
+
+		assertArrayEquals(reference.toArray(), testList.toArray()$delta$);
+	}
+
+	@Test
+	public void removeAllRetainAll() {
+		testFill();
+		testFill();
+
+		assertTrue(testList.removeAll(Arrays.asList(($Boxed$) $lit:1$, $lit:2$)));
+		assertEquals(18, testList.size());
+		assertFalse(testList.contains($lit:1$));
+		assertTrue(testList.retainAll(Arrays.asList(($Boxed$) $lit:3$, $lit:4$)));
+		assertArrayEquals(new $type$[] { $lit:3$, $lit:4$, $lit:3$, $lit:4$ },
+				testList.toArray()$delta$);
+		assertFalse(testList.retainAll(Arrays.asList(($Boxed$) $lit:3$, $lit:4$)));
+	}
+
+	@Test
+	public void removeIfAndLists() {
+		testFill();
+		final $Type$ArrayList other = new $Type$ArrayList();
+		other.add($lit:2$);
+		other.add($lit:4$);
+
+		assertTrue(testList.removeIf(v -> v > 6));
+		assertTrue(testList.removeAll(other));
+		assertArrayEquals(new $type$[] { $lit:0$, $lit:1$, $lit:3$, $lit:5$,
+				$lit:6$ }, testList.toArray()$delta$);
+		other.add($lit:5$);
+		assertTrue(testList.retainAll(other));
+		assertArrayEquals(new $type$[] { $lit:5$ }, testList.toArray()$delta$);
+		assertFalse(testList.removeIf(v -> v < 0));
+	}
+
+	@Test
+	public void search() {
+		testFill();
+		testFill();
+
+		assertTrue(testList.contains($lit:7$));
+		assertFalse(testList.contains($lit:11$));
+		assertTrue(testList.containsAny(new $type$[] { $lit:12$, $lit:7$ }));
+		assertEquals(7, testList.indexOf($lit:7$));
+		assertEquals(18, testList.lastIndexOf($lit:7$));
+		assertArrayEquals(new int[] { 7, 18 }, testList.indexOfAll($lit:7$)
+				.toArray());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void indexOfNotFound() {
+		testFill();
+		testList.indexOf($lit:11$);
+	}
+
+	@Test
+	public void clear() {
+		testFill();
+		testList.clear();
+
+		assertTrue(testList.isEmpty());
+		assertFalse(testList.contains($lit:1$));
+		testList.add($lit:5$);
+		assertArrayEquals(new $type$[] { $lit:5$ }, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void cursorAndIterator() {
+		testFill();
+
+		final $Type$Cursor c = testList.cursor();
+		int i = 0;
+		while (c.next()) {
+			assertEquals(TEST_ARRAY[i++], c.value()$delta$);
+		}
+		assertEquals(TEST_ARRAY.length, i);
+
+		final PrimitiveIterator.Of$Type$ it = testList.iterator();
+		while (it.hasNext()) {
+			if (it.next$Type$() % 2 == 0) {
+				it.remove();
+			}
+		}
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:3$, $lit:5$, $lit:7$,
+				$lit:9$ }, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void streams() {
+		testFill();
+
+		final $Type$ArrayList copy = new $Type$ArrayList();
+		testList.forEach(v -> copy.add(v));
+
+		assertArrayEquals(TEST_ARRAY, copy.toArray()$delta$);
+		assertArrayEquals(TEST_ARRAY, testList.stream().toArray()$delta$);
+		assertEquals(55, testList.parallelSum()$delta$);
+		assertEquals($lit:0$, testList.parallelMin()$delta$);
+		assertEquals($lit:10$, testList.parallelMax()$delta$);
+	}
+
+	@Test
+	public void parallelReplaceAllAndSort() {
+		testFill();
+		testList.parallelReplaceAll(v -> $lit:10$ - v);
+
+		assertEquals($lit:10$, testList.get(0)$delta$);
+		testList.parallelSort();
+		assertArrayEquals(TEST_ARRAY, testList.toArray()$delta$);
+	}
+
+	@Test
+	public void subList() {
+		testFill();
+
+		assertArrayEquals(new $type$[] { $lit:2$, $lit:3$ },
+				testList.subList(2, 4).toArray()$delta$);
+	}
+
+	@Test
+	public void closeTwice() {
+		testList.close();
+		testList.close();
+
+		assertEquals(0, testList.size());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void addAfterClose() {
+		testList.close();
+		testList.add($lit:1$);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getAfterClose() {
+		testFill();
+		testList.close();
+		testList.get(0);
+	}
+
+	private void testFill() {
+		for (final $type$ value : TEST_ARRAY) {
+			testList.add(value);
+		}
+	}
+}
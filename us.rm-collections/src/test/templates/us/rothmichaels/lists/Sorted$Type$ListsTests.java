@@ -0,0 +1,195 @@
+//#types numeric
+/*
+ * Sorted$Type$ListsTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Sorted$Type$Lists}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Sorted$Type$ListsTests {
+
+	private final Random random = new Random(17);
+
+	@Test
+	public void searches() {
+		final $Type$ArrayList list = sortedList(200, 50);
+		for (int k = -1; k <= 51; ++k) {
+			final $type$ key = ($type$) k;
+			int lower = 0;
+			while (lower < list.size() && list.get(lower) < key) {
+				++lower;
+			}
+			int upper = lower;
+			while (upper < list.size() && list.get(upper) == key) {
+				++upper;
+			}
+			assertEquals(lower, Sorted$Type$Lists.lowerBound(list, key));
+			assertEquals(upper, Sorted$Type$Lists.upperBound(list, key));
+			final int found = Sorted$Type$Lists.binarySearch(list, key);
+			if (lower == upper) {
+				assertEquals(-lower - 1, found);
+			} else {
+				assertEquals(key, list.get(found)$delta$);
+			}
+		}
+	}
+
+	@Test
+	public void setOperationsMatchCounts() {
+		// equal sizes walk both lists, skewed sizes gallop
+		final int[][] sizes = { { 0, 0 }, { 0, 30 }, { 100, 120 },
+				{ 20, 1000 }, { 1000, 20 }, { 3, 5000 } };
+		for (final int[] size : sizes) {
+			final $Type$ArrayList a = sortedList(size[0], 60);
+			final $Type$ArrayList b = sortedList(size[1], 60);
+			final Map<$Boxed$, Integer> ca = counts(a);
+			final Map<$Boxed$, Integer> cb = counts(b);
+			final Map<$Boxed$, Integer> inter = new TreeMap<$Boxed$, Integer>();
+			final Map<$Boxed$, Integer> union = new TreeMap<$Boxed$, Integer>(
+					ca);
+			final Map<$Boxed$, Integer> diff = new TreeMap<$Boxed$, Integer>();
+			for (final Map.Entry<$Boxed$, Integer> e : cb.entrySet()) {
+				union.merge(e.getKey(), e.getValue(), Math::max);
+			}
+			for (final Map.Entry<$Boxed$, Integer> e : ca.entrySet()) {
+				final int m = e.getValue();
+				final int n = cb.getOrDefault(e.getKey(), 0);
+				inter.put(e.getKey(), Math.min(m, n));
+				diff.put(e.getKey(), Math.max(m - n, 0));
+			}
+
+			assertArrayEquals(expand(inter), Sorted$Type$Lists.intersect(a, b,
+					new $Type$ArrayList()).toArray()$delta$);
+			assertArrayEquals(expand(union), Sorted$Type$Lists.union(a, b,
+					new $Type$ArrayList()).toArray()$delta$);
+			assertArrayEquals(expand(diff), Sorted$Type$Lists.difference(a,
+					b, new $Type$ArrayList()).toArray()$delta$);
+		}
+	}
+
+	@Test
+	public void resultsAreAppended() {
+		final $Type$ArrayList dest = new $Type$ArrayList();
+		dest.add($lit:9$);
+		final $Type$ArrayList a = $Type$ArrayList.copyOf(Immutable$Type$List
+				.of($lit:1$, $lit:2$, $lit:3$));
+		final $Type$ArrayList b = $Type$ArrayList.copyOf(Immutable$Type$List
+				.of($lit:2$, $lit:3$, $lit:4$));
+		Sorted$Type$Lists.intersect(a, b, dest);
+
+		assertArrayEquals(new $type$[] { $lit:9$, $lit:2$, $lit:3$ },
+				dest.toArray()$delta$);
+	}
+
+	@Test
+	public void merge() {
+		for (final int k : new int[] { 0, 1, 2, 5 }) {
+			final List<$Type$ArrayList> sources = new ArrayList<$Type$ArrayList>();
+			final $Type$ArrayList all = new $Type$ArrayList();
+			for (int i = 0; i < k; ++i) {
+				final $Type$ArrayList list = sortedList(i * 40, 30);
+				sources.add(list);
+				all.addAll(list);
+			}
+			final $type$[] expected = all.toArray();
+			Arrays.sort(expected);
+
+			assertArrayEquals(expected, Sorted$Type$Lists.merge(sources,
+					new $Type$ArrayList()).toArray()$delta$);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void destinationIsSource() {
+		final $Type$ArrayList a = sortedList(10, 10);
+		Sorted$Type$Lists.union(a, sortedList(10, 10), a);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void mergeDestinationIsSource() {
+		final $Type$ArrayList a = sortedList(10, 10);
+		Sorted$Type$Lists.merge(Collections.singletonList(a), a);
+	}
+
+	private $Type$ArrayList sortedList(int size, int range) {
+		final $Type$ArrayList list = new $Type$ArrayList(Math.max(size, 1));
+		for (int i = 0; i < size; ++i) {
+			list.add(($type$) random.nextInt(range));
+		}
+		list.sort();
+		return list;
+	}
+
+	private static Map<$Boxed$, Integer> counts($Type$ArrayList list) {
+		final Map<$Boxed$, Integer> counts = new TreeMap<$Boxed$, Integer>();
+		for (int i = 0; i < list.size(); ++i) {
+			counts.merge(list.get(i), 1, Integer::sum);
+		}
+		return counts;
+	}
+
+	private static $type$[] expand(Map<$Boxed$, Integer> counts) {
+		final $Type$ArrayList out = new $Type$ArrayList();
+		for (final Map.Entry<$Boxed$, Integer> e : counts.entrySet()) {
+			for (int i = 0; i < e.getValue(); ++i) {
+				out.add(e.getKey());
+			}
+		}
+		return out.toArray();
+	}
+}
@@ -0,0 +1,194 @@
+//#types Int|Long|Double
+/*
+ * Striped$Type$ListBuilderTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.lists;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Striped$Type$ListBuilder}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Striped$Type$ListBuilderTests {
+
+	private static final int THREADS = 8;
+	private static final int PER_THREAD = 5000;
+
+	private Striped$Type$ListBuilder builder;
+
+	@Before
+	public void setUp() {
+		builder = new Striped$Type$ListBuilder();
+	}
+
+	@Test
+	public void empty() {
+		assertEquals(0, builder.size());
+		assertEquals(0, builder.build().size());
+	}
+
+	@Test
+	public void singleThread() {
+		builder.add($lit:1$);
+		builder.addAll(new $type$[] { $lit:2$, $lit:3$, $lit:4$ }, 1, 3);
+		builder.stripe().add($lit:5$);
+
+		assertSame(builder.stripe(), builder.stripe());
+		assertEquals(4, builder.size());
+		assertArrayEquals(new $type$[] { $lit:1$, $lit:3$, $lit:4$, $lit:5$ },
+				builder.build().toArray()$delta$);
+	}
+
+	@Test
+	public void buildLeavesStripes() {
+		builder.add($lit:1$);
+		builder.build();
+		builder.add($lit:2$);
+
+		assertEquals(2, builder.build().size());
+	}
+
+	@Test
+	public void clear() {
+		builder.add($lit:1$);
+		builder.clear();
+		builder.add($lit:2$);
+
+		assertArrayEquals(new $type$[] { $lit:2$ },
+				builder.build().toArray()$delta$);
+	}
+
+	@Test(timeout = 60000)
+	public void threads() throws InterruptedException {
+		final Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; ++t) {
+			final int thread = t;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < PER_THREAD; ++i) {
+					builder.add(thread * PER_THREAD + i);
+				}
+			});
+			threads[t].start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+
+		final $type$[] built = builder.build().toArray();
+		// each stripe is contiguous and in order
+		for (int i = 0; i < built.length; i += PER_THREAD) {
+			for (int j = 1; j < PER_THREAD; ++j) {
+				assertEquals(built[i] + j, built[i + j]$delta$);
+			}
+		}
+		Arrays.sort(built);
+		assertArrayEquals(expected(THREADS * PER_THREAD), built$delta$);
+	}
+
+	@Test
+	public void forkJoinTasks() {
+		final int size = 100000;
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			pool.submit(
+					() -> IntStream.range(0, size).parallel()
+							.forEach(builder::add)).join();
+		} finally {
+			pool.shutdown();
+		}
+
+		assertEquals(size, builder.size());
+		final $type$[] built = builder.build().toArray();
+		Arrays.sort(built);
+		assertArrayEquals(expected(size), built$delta$);
+	}
+
+	@Test
+	public void stripesDieWithBuilder() {
+		// the test thread outlives the builder, like a pool thread would
+		builder.addAll(new $type$[1 << 16], 0, 1 << 16);
+		final WeakReference<$Type$ArrayList> stripe = new WeakReference<$Type$ArrayList>(
+				builder.stripe());
+		builder = null;
+
+		for (int i = 0; i < 100 && stripe.get() != null; ++i) {
+			System.gc();
+		}
+		assertNull(stripe.get());
+	}
+
+	@Test
+	public void finishedThreadsDieBeforeBuilder() throws InterruptedException {
+		Thread producer = new Thread(() -> builder.add($lit:1$));
+		producer.start();
+		producer.join();
+		final WeakReference<Thread> thread = new WeakReference<Thread>(producer);
+		producer = null;
+
+		for (int i = 0; i < 100 && thread.get() != null; ++i) {
+			System.gc();
+		}
+		assertNull(thread.get());
+		assertEquals(1, builder.build().size());
+	}
+
+	private static $type$[] expected(int size) {
+		final $type$[] a = new $type$[size];
+		for (int i = 0; i < size; ++i) {
+			a[i] = i;
+		}
+		return a;
+	}
+}
@@ -0,0 +1,203 @@
+//#pairs Int:Int Int:Long Long:Long
+/*
+ * $Key$$Value$MapTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.maps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link $Key$$Value$Map}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Key$$Value$MapTests {
+
+	$Key$$Value$Map testMap;
+
+	@Before
+	public void setUp() {
+		testMap = new $Key$$Value$Map();
+	}
+
+	@Test
+	public void putGetRemove() {
+		assertEquals(0, testMap.put(3, 30));
+		assertEquals(30, testMap.put(3, 31));
+		assertEquals(0, testMap.put(0, 5));
+		assertEquals(5, testMap.put(0, 6));
+
+		assertEquals(2, testMap.size());
+		assertEquals(31, testMap.getOrDefault(3, -1));
+		assertEquals(6, testMap.getOrDefault(0, -1));
+		assertEquals(-1, testMap.getOrDefault(4, -1));
+		assertTrue(testMap.containsKey(0));
+		assertFalse(testMap.containsKey(4));
+
+		assertEquals(6, testMap.remove(0));
+		assertFalse(testMap.containsKey(0));
+		assertEquals(0, testMap.remove(0));
+		assertEquals(31, testMap.remove(3));
+		assertEquals(0, testMap.remove(3));
+		assertTrue(testMap.isEmpty());
+	}
+
+	@Test
+	public void addTo() {
+		assertEquals(2, testMap.addTo(7, 2));
+		assertEquals(5, testMap.addTo(7, 3));
+		assertEquals(-1, testMap.addTo(0, -1));
+		assertEquals(-3, testMap.addTo(0, -2));
+		assertEquals(2, testMap.size());
+		assertEquals(5, testMap.getOrDefault(7, 0));
+	}
+
+	@Test
+	public void matchesHashMap() {
+		final Random random = new Random(17);
+		final Map<$KeyBoxed$, $ValueBoxed$> reference =
+				new HashMap<$KeyBoxed$, $ValueBoxed$>();
+		testMap = new $Key$$Value$Map(0);
+
+		for (int i = 0; i < 20000; ++i) {
+			final $key$ key = ($key$) (random.nextInt(600) - 100);
+			final $value$ value = ($value$) random.nextInt(1000);
+			final $ValueBoxed$ old;
+			switch (random.nextInt(3)) {
+			case 0:
+				old = reference.remove(key);
+				assertEquals(old == null ? 0 : old, testMap.remove(key));
+				break;
+			case 1:
+				old = reference.put(key, value);
+				assertEquals(old == null ? 0 : old, testMap.put(key, value));
+				break;
+			default:
+				assertEquals(reference.merge(key, value, $ValueBoxed$::sum)
+						.$value$Value(), testMap.addTo(key, value));
+			}
+			assertEquals(reference.size(), testMap.size());
+		}
+		for (int key = -100; key < 500; ++key) {
+			final $ValueBoxed$ expected = reference.get(($key$) key);
+			assertEquals(expected != null, testMap.containsKey(($key$) key));
+			assertEquals(expected == null ? -1 : expected,
+					testMap.getOrDefault(($key$) key, -1));
+		}
+	}
+
+	@Test
+	public void removeKeepsProbeRuns() {
+		// a tiny table forces long runs that wrap around the end
+		testMap = new $Key$$Value$Map(2, 0.9f);
+		for (int i = 1; i <= 60; ++i) {
+			testMap.put(i, i * 10);
+		}
+		for (int i = 1; i <= 60; i += 2) {
+			assertEquals(i * 10, testMap.remove(i));
+		}
+		for (int i = 1; i <= 60; ++i) {
+			assertEquals(i % 2 == 0 ? i * 10 : -1, testMap.getOrDefault(i, -1));
+		}
+		assertEquals(30, testMap.size());
+	}
+
+	@Test
+	public void cursor() {
+		testMap.put(0, 1);
+		testMap.put(1, 2);
+		testMap.put(2, 3);
+		long keySum = 0;
+		int count = 0;
+		final $Key$$Value$Map.Cursor cursor = testMap.cursor();
+		while (cursor.next()) {
+			assertEquals(cursor.key() + 1, cursor.value());
+			keySum += cursor.key();
+			cursor.setValue(cursor.value() * 10);
+			++count;
+		}
+		assertEquals(3, count);
+		assertEquals(3, keySum);
+		assertEquals(10, testMap.getOrDefault(0, 0));
+		assertEquals(30, testMap.getOrDefault(2, 0));
+		assertFalse(cursor.next());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void cursorBeforeNext() {
+		testMap.put(1, 1);
+		testMap.cursor().key();
+	}
+
+	@Test
+	public void clearAndEnsureCapacity() {
+		for (int i = 0; i < 100; ++i) {
+			testMap.put(i, i);
+		}
+		testMap.clear();
+		assertTrue(testMap.isEmpty());
+		assertFalse(testMap.containsKey(0));
+		assertFalse(testMap.containsKey(50));
+
+		testMap.ensureCapacity(1000);
+		for (int i = 0; i < 1000; ++i) {
+			testMap.addTo(i, 1);
+		}
+		assertEquals(1000, testMap.size());
+		assertEquals(1, testMap.getOrDefault(999, 0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void badLoadFactor() {
+		new $Key$$Value$Map(4, 1f);
+	}
+}
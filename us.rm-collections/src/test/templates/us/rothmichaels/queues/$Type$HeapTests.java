@@ -0,0 +1,140 @@
+//#types numeric
+/*
+ * $Type$HeapTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.queues;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link $Type$Heap}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$HeapTests {
+
+	@Test
+	public void pollsInOrder() {
+		final $Type$Heap heap = new $Type$Heap(0, HeapOrder.MIN);
+		heap.add($lit:5$);
+		heap.add($lit:1$);
+		heap.add($lit:4$);
+		heap.add($lit:1$);
+		heap.add($lit:3$);
+		assertEquals(5, heap.size());
+		assertEquals($lit:1$, heap.peek()$delta$);
+		assertEquals($lit:1$, heap.poll()$delta$);
+		assertEquals($lit:1$, heap.poll()$delta$);
+		assertEquals($lit:3$, heap.poll()$delta$);
+		assertEquals($lit:4$, heap.poll()$delta$);
+		assertEquals($lit:5$, heap.poll()$delta$);
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	public void matchesPriorityQueue() {
+		for (final HeapOrder order : HeapOrder.values()) {
+			final Random random = new Random(17);
+			final $Type$Heap heap = new $Type$Heap(order);
+			final PriorityQueue<$Boxed$> reference = new PriorityQueue<$Boxed$>(
+					order == HeapOrder.MIN ? Comparator.<$Boxed$> naturalOrder()
+							: Collections.<$Boxed$> reverseOrder());
+			for (int i = 0; i < 10000; ++i) {
+				if (reference.isEmpty() || random.nextInt(3) != 0) {
+					final $type$ value = ($type$) random.nextInt(200);
+					reference.add(value);
+					heap.add(value);
+				} else if (random.nextBoolean()) {
+					assertEquals(($type$) reference.poll(), heap.poll()$delta$);
+				} else {
+					final $type$ value = ($type$) random.nextInt(200);
+					assertEquals(($type$) reference.poll(), heap.replaceTop(value)$delta$);
+					reference.add(value);
+				}
+				assertEquals(reference.size(), heap.size());
+			}
+			while (!reference.isEmpty()) {
+				assertEquals(($type$) reference.poll(), heap.poll()$delta$);
+			}
+		}
+	}
+
+	@Test
+	public void addAllHeapifies() {
+		final Random random = new Random(3);
+		final $type$[] values = new $type$[1000];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = ($type$) random.nextInt(100);
+		}
+		final $Type$Heap heap = new $Type$Heap(HeapOrder.MAX);
+		heap.add($lit:50$);
+		// small batch sifts each element, large batch re-heapifies
+		heap.addAll(values, 0, 1);
+		heap.addAll(values, 1, values.length);
+		assertEquals(values.length + 1, heap.size());
+
+		final PriorityQueue<$Boxed$> reference = new PriorityQueue<$Boxed$>(
+				Collections.reverseOrder());
+		reference.add($lit:50$);
+		for (final $type$ value : values) {
+			reference.add(value);
+		}
+		for (final $type$ value : heap.drainSorted()) {
+			assertEquals(($type$) reference.poll(), value$delta$);
+		}
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void pollEmpty() {
+		new $Type$Heap().poll();
+	}
+}
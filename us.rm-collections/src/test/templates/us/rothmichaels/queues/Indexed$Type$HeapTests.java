@@ -0,0 +1,170 @@
+//#types numeric
+/*
+ * Indexed$Type$HeapTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.queues;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Indexed$Type$Heap}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class Indexed$Type$HeapTests {
+
+	private static final int IDS = 64;
+
+	@Test
+	public void changeKeyReorders() {
+		final Indexed$Type$Heap heap = new Indexed$Type$Heap(4);
+		heap.add(0, $lit:10$);
+		heap.add(1, $lit:20$);
+		heap.add(2, $lit:30$);
+		assertEquals(0, heap.peek());
+
+		heap.changeKey(2, $lit:5$);
+		assertEquals(2, heap.peek());
+		assertEquals($lit:5$, heap.peekKey()$delta$);
+
+		heap.changeKey(2, $lit:25$);
+		assertEquals(0, heap.poll());
+		assertEquals(1, heap.poll());
+		assertEquals(2, heap.poll());
+		assertTrue(heap.isEmpty());
+		assertFalse(heap.contains(2));
+	}
+
+	@Test
+	public void matchesLinearScan() {
+		for (final HeapOrder order : HeapOrder.values()) {
+			final Random random = new Random(17);
+			final Indexed$Type$Heap heap = new Indexed$Type$Heap(8, order);
+			final $type$[] keys = new $type$[IDS];
+			final boolean[] queued = new boolean[IDS];
+			for (int i = 0; i < 20000; ++i) {
+				final int id = random.nextInt(IDS);
+				final $type$ key = ($type$) random.nextInt(100);
+				switch (random.nextInt(4)) {
+				case 0:
+					if (!queued[id]) {
+						heap.add(id, key);
+						queued[id] = true;
+					} else {
+						heap.changeKey(id, key);
+					}
+					keys[id] = key;
+					break;
+				case 1:
+					assertEquals(queued[id], heap.remove(id));
+					queued[id] = false;
+					break;
+				case 2:
+					if (!heap.isEmpty()) {
+						final $type$ expected = top(keys, queued, order);
+						assertEquals(expected, heap.peekKey()$delta$);
+						final int polled = heap.poll();
+						assertTrue(queued[polled]);
+						assertEquals(expected, keys[polled]$delta$);
+						queued[polled] = false;
+					}
+					break;
+				default:
+					if (queued[id]) {
+						heap.changeKey(id, key);
+						keys[id] = key;
+					}
+				}
+				for (int j = 0; j < IDS; ++j) {
+					assertEquals(queued[j], heap.contains(j));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void growsForLargeIds() {
+		final Indexed$Type$Heap heap = new Indexed$Type$Heap(0);
+		heap.add(100, $lit:1$);
+		heap.add(3, $lit:2$);
+		assertEquals(2, heap.size());
+		assertEquals($lit:1$, heap.keyOf(100)$delta$);
+		assertEquals(100, heap.poll());
+		heap.clear();
+		assertFalse(heap.contains(3));
+		heap.add(3, $lit:4$);
+		assertEquals($lit:4$, heap.peekKey()$delta$);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addTwice() {
+		final Indexed$Type$Heap heap = new Indexed$Type$Heap(4);
+		heap.add(1, $lit:1$);
+		heap.add(1, $lit:2$);
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void changeKeyNotQueued() {
+		new Indexed$Type$Heap(4).changeKey(1, $lit:1$);
+	}
+
+	private static $type$ top($type$[] keys, boolean[] queued, HeapOrder order) {
+		boolean found = false;
+		$type$ top = $zero$;
+		for (int id = 0; id < keys.length; ++id) {
+			if (queued[id]
+					&& (!found || (order == HeapOrder.MIN ? keys[id] < top
+							: keys[id] > top))) {
+				top = keys[id];
+				found = true;
+			}
+		}
+		return top;
+	}
+}
@@ -0,0 +1,265 @@
+//#types numeric
+/*
+ * $Type$HashSetTests.java
+ *
+ * Generated from $template$ by
+ * us.rothmichaels.build.PrimitiveTemplateGenerator, edit the template
+ * instead of this file.
+ *
+ * Copyright (c) 2026 Roth Michaels. All rights reserved.
+ *
+ * The use and distribution terms for this software are covered by the
+ * Eclipse Public License 1.0 (http://opensource.org/licenses/eclipse-1.0.php) 
+ * which can be found in the file epl-v10.html at the root of this
+ * distribution. By using this software in any fashion, you are agreeing
+ * to be bound by the terms of this license.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, THE PROGRAM IS
+ * PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, EITHER EXPRESS OR IMPLIED INCLUDING, WITHOUT LIMITATION, ANY
+ * WARRANTIES OR CONDITIONS OF TITLE, NON-INFRINGEMENT, MERCHANTABILITY
+ * OR FITNESS FOR A PARTICULAR PURPOSE. Each Recipient is solely
+ * responsible for determining the appropriateness of using and
+ * distributing the Program and assumes all risks associated with its
+ * exercise of rights under this Agreement , including but not limited
+ * to the risks and costs of program errors, compliance with applicable
+ * laws, damage to or loss of data, programs or equipment, and
+ * unavailability or interruption of operations.
+ *
+ * EXCEPT AS EXPRESSLY SET FORTH IN THIS AGREEMENT, NEITHER RECIPIENT
+ * NOR ANY CONTRIBUTORS SHALL HAVE ANY LIABILITY FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING WITHOUT LIMITATION LOST PROFITS), HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OR DISTRIBUTION OF THE PROGRAM OR THE EXERCISE OF ANY RIGHTS
+ * GRANTED HEREUNDER, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGES.
+ *
+ * You must not remove this notice, or any other, from this software.
+ *
+ * Oct 18, 2026 
+ */
+package us.rothmichaels.sets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import us.rothmichaels.lists.$Type$ArrayList;
+
+/**
+ * Unit Tests for {@link $Type$HashSet}
+ * 
+ * @author Roth Michaels (<i><a
+ *         href="mailto:roth@rothmichaels.us">roth@rothmichaels.us</a></i>)
+ */
+public class $Type$HashSetTests {
+
+	$Type$HashSet testSet;
+
+	@Before
+	public void setUp() {
+		testSet = new $Type$HashSet();
+	}
+
+	@Test
+	public void addContainsRemove() {
+		assertTrue(testSet.add($lit:3$));
+		assertFalse(testSet.add($lit:3$));
+		assertTrue(testSet.add($zero$));
+		assertFalse(testSet.add($zero$));
+
+		assertEquals(2, testSet.size());
+		assertTrue(testSet.contains($lit:3$));
+		assertTrue(testSet.contains($zero$));
+		assertFalse(testSet.contains($lit:4$));
+
+		assertTrue(testSet.remove($zero$));
+		assertFalse(testSet.remove($zero$));
+		assertTrue(testSet.remove($lit:3$));
+		assertFalse(testSet.remove($lit:3$));
+		assertTrue(testSet.isEmpty());
+	}
+
+	@Test
+	public void matchesHashSet() {
+		final Random random = new Random(17);
+		final Set<$Boxed$> reference = new HashSet<$Boxed$>();
+		testSet = new $Type$HashSet(0);
+
+		for (int i = 0; i < 20000; ++i) {
+			final $type$ key = ($type$) (random.nextInt(600) - 100);
+			if (random.nextInt(3) == 0) {
+				assertEquals(reference.remove(key), testSet.remove(key));
+			} else {
+				assertEquals(reference.add(key), testSet.add(key));
+			}
+			assertEquals(reference.size(), testSet.size());
+		}
+		for (int key = -100; key < 500; ++key) {
+			assertEquals(reference.contains(($type$) key),
+					testSet.contains(($type$) key));
+		}
+		assertEquals(reference.hashCode(), testSet.hashCode());
+		assertEquals(reference.size(), testSet.toArray().length);
+	}
+
+	@Test
+	public void removeKeepsProbeRuns() {
+		// a tiny table forces long runs that wrap around the end
+		testSet = new $Type$HashSet(2, 0.9f);
+		for (int i = 1; i <= 60; ++i) {
+			testSet.add(($type$) i);
+		}
+		for (int i = 1; i <= 60; i += 2) {
+			assertTrue(testSet.remove(($type$) i));
+		}
+		for (int i = 1; i <= 60; ++i) {
+			assertEquals(i % 2 == 0, testSet.contains(($type$) i));
+		}
+		assertEquals(30, testSet.size());
+	}
+
+	@Test
+	public void iterator() {
+		testSet.add($zero$);
+		testSet.add($lit:1$);
+		testSet.add($lit:2$);
+		final $Type$ArrayList seen = new $Type$ArrayList();
+		for (final PrimitiveIterator.Of$Wide$ it = testSet.iterator(); it
+				.hasNext();) {
+			seen.add(($type$) it.next$Wide$());
+		}
+		final $type$[] a = seen.toArray();
+		Arrays.sort(a);
+
+		assertArrayEquals(new $type$[] { $zero$, $lit:1$, $lit:2$ }, a$delta$);
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iteratorPastEnd() {
+		testSet.iterator().next$Wide$();
+	}
+
+	@Test
+	public void forEach() {
+		testSet.add($lit:5$);
+		testSet.add($lit:6$);
+		testSet.add($zero$);
+		final double[] sum = new double[1];
+		testSet.forEach(v -> sum[0] += v);
+
+		assertEquals(11, sum[0], 0);
+	}
+
+	@Test
+	public void listInterop() {
+		final $Type$ArrayList list = new $Type$ArrayList();
+		list.add($lit:4$);
+		list.add($lit:2$);
+		list.add($lit:4$);
+		list.add($lit:7$);
+
+		assertTrue(testSet.addAll(list));
+		assertFalse(testSet.addAll(list));
+		assertEquals(3, testSet.size());
+
+		final $type$[] a = testSet.toList().toArray();
+		Arrays.sort(a);
+		assertArrayEquals(new $type$[] { $lit:2$, $lit:4$, $lit:7$ }, a$delta$);
+
+		testSet.remove($lit:7$);
+		assertTrue(list.removeAll(testSet));
+		assertArrayEquals(new $type$[] { $lit:7$ }, list.toArray()$delta$);
+		list.add($lit:2$);
+		assertTrue(list.retainAll(testSet));
+		assertArrayEquals(new $type$[] { $lit:2$ }, list.toArray()$delta$);
+	}
+
+	@Test
+	public void addAllArrayAndSet() {
+		assertTrue(testSet.addAll(new $type$[] { $lit:1$, $zero$, $lit:1$ }));
+		final $Type$HashSet other = new $Type$HashSet();
+		assertTrue(other.addAll(testSet));
+		other.add($lit:9$);
+
+		assertEquals(2, testSet.size());
+		assertEquals(3, other.size());
+		assertFalse(other.equals(testSet));
+		other.remove($lit:9$);
+		assertEquals(testSet, other);
+		assertEquals(testSet.hashCode(), other.hashCode());
+	}
+
+	@Test
+	public void clear() {
+		testSet.add($lit:1$);
+		testSet.add($zero$);
+		testSet.clear();
+
+		assertTrue(testSet.isEmpty());
+		assertFalse(testSet.contains($zero$));
+		assertFalse(testSet.contains($lit:1$));
+		assertFalse(testSet.iterator().hasNext());
+	}
+
+	@Test
+	public void ensureCapacity() {
+		testSet.add($lit:3$);
+		testSet.ensureCapacity(1000);
+		for (int i = 0; i < 100; ++i) {
+			testSet.add(($type$) i);
+		}
+
+		assertEquals(100, testSet.size());
+		assertTrue(testSet.contains($lit:3$));
+	}
+
+	@Test
+	public void tableSize() {
+		assertEquals($Type$HashSet.MIN_CAPACITY, $Type$HashSet.tableSize(0,
+				0.75f));
+		assertEquals(8, $Type$HashSet.tableSize(5, 0.75f));
+		assertEquals(16, $Type$HashSet.tableSize(12, 0.75f));
+		assertEquals($Type$HashSet.MAX_CAPACITY, $Type$HashSet.tableSize(
+				Integer.MAX_VALUE, 0.5f));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void loadFactorTooLarge() {
+		new $Type$HashSet(10, 1f);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeExpectedSize() {
+		new $Type$HashSet(-1);
+	}
+//#if floating
+
+	@Test
+	public void floatingKeys() {
+		assertTrue(testSet.add($Boxed$.NaN));
+		assertFalse(testSet.add($Boxed$.NaN));
+		assertTrue(testSet.add(($type$) -0.0));
+		assertTrue(testSet.add(($type$) 0.0));
+
+		assertEquals(3, testSet.size());
+		assertTrue(testSet.contains($Boxed$.NaN));
+		assertTrue(testSet.remove(($type$) -0.0));
+		assertTrue(testSet.contains(($type$) 0.0));
+		assertFalse(testSet.contains(($type$) -0.0));
+	}
+//#endif
+}